@@ -0,0 +1,15 @@
+package com.saucelabs.saucerest;
+
+public class BuildUtils
+{
+    // ------------------------------------------------------------------------------------------------------- Constants
+
+    private static final String version = "2.0.3-SNAPSHOT";
+
+    // -------------------------------------------------------------------------------------------------- Public Methods
+    public static String getCurrentVersion()
+    {
+        return version;
+    }
+}
+
@@ -0,0 +1,18 @@
+package com.saucelabs.saucerest;
+
+/**
+ * Groups the endpoints in {@link com.saucelabs.saucerest.api} by the Sauce Labs API they call.
+ * Client side limits such as {@link RateLimiter} are configured per family.
+ */
+public enum EndpointFamily {
+    JOBS,
+    RDC,
+    STORAGE,
+    ACCOUNTS,
+    BUILDS,
+    INSIGHTS,
+    PLATFORM,
+    SAUCE_CONNECT,
+    PERFORMANCE,
+    OTHER
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.saucelabs.saucerest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Computes checksums of local files in the format used by Sauce Labs app storage.
+ */
+public final class FileDigest {
+    private static final int BUFFER_SIZE = 256 * 1024;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private FileDigest() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Streams the file through a SHA-256 digest with a fixed size buffer, so files of any size are hashed
+     * without loading them into memory.
+     *
+     * @param path The file to hash
+     * @return The lower case hex encoded SHA-256 checksum, as in {@link com.saucelabs.saucerest.model.storage.Item#sha256}
+     * @throws IOException If the file cannot be read
+     */
+    public static String sha256(Path path) throws IOException {
+        MessageDigest digest = newSha256();
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * @return A new SHA-256 {@link MessageDigest}
+     */
+    public static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by this JVM", e);
+        }
+    }
+
+    /**
+     * @param bytes The bytes to encode
+     * @return The bytes as lower case hex string
+     */
+    public static String toHex(byte[] bytes) {
+        char[] hex = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            hex[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0xf];
+            hex[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0xf];
+        }
+        return new String(hex);
+    }
+}
\ No newline at end of file
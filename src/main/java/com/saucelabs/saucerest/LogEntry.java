@@ -1,6 +1,11 @@
 package com.saucelabs.saucerest;
 
+import java.io.IOException;
+import java.io.Writer;
+
 public class LogEntry {
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
     private final String time;
     private final String level;
     private final String message;
@@ -23,8 +28,31 @@ public class LogEntry {
         return message;
     }
 
+    /**
+     * @return {@code true} if time, level and message are all present
+     */
+    public boolean isComplete() {
+        return time != null && level != null && message != null;
+    }
+
+    /**
+     * Writes the entry as one line of text, the same as {@link #toString()} followed by a line separator, without
+     * building an intermediate string.
+     *
+     * @param writer Writer to append the line to
+     * @throws IOException If the writer fails
+     */
+    public void writeLine(Writer writer) throws IOException {
+        writer.write(String.valueOf(time));
+        writer.write(' ');
+        writer.write(String.valueOf(level));
+        writer.write(' ');
+        writer.write(String.valueOf(message));
+        writer.write(LINE_SEPARATOR);
+    }
+
     @Override
     public String toString() {
-        return String.format("%s %s %s", time, level, message);
+        return time + " " + level + " " + message;
     }
 }
\ No newline at end of file
@@ -0,0 +1,117 @@
+package com.saucelabs.saucerest;
+
+import com.squareup.moshi.JsonReader;
+import okio.BufferedSource;
+
+import java.io.IOException;
+import java.util.function.Predicate;
+
+/**
+ * Reads the JSON log arrays of real device jobs, e.g. the Appium and device logs, entry by entry.
+ * <br>
+ * Some of these logs are malformed and contain noise. Array elements that are not objects, and entries without time,
+ * level or message are skipped. Only the current entry is held in memory, so logs of any size can be streamed.
+ */
+public final class LogNormalizer {
+    private static final JsonReader.Options NAMES = JsonReader.Options.of("time", "level", "message");
+
+    private LogNormalizer() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Streams every complete entry of the log to the sink. The sink is not closed.
+     *
+     * @param source The JSON array of log entries
+     * @param sink   Receives the entries
+     * @return Number of entries passed to the sink
+     * @throws IOException If the log cannot be read or the sink fails
+     */
+    public static long normalize(BufferedSource source, LogSink sink) throws IOException {
+        JsonReader reader = JsonReader.of(source);
+        long entries = 0;
+
+        reader.beginArray();
+        while (reader.hasNext()) {
+            LogEntry entry = readEntry(reader);
+            if (entry != null) {
+                sink.accept(entry);
+                entries++;
+            }
+        }
+        reader.endArray();
+        return entries;
+    }
+
+    /**
+     * Reads the log until the first complete entry accepted by the predicate. The rest of the log is not read,
+     * so closing the source right after this call avoids downloading it.
+     *
+     * @param source    The JSON array of log entries
+     * @param predicate Tested with every complete entry in order
+     * @return The first matching entry, or null if no entry matches
+     * @throws IOException If the log cannot be read
+     */
+    public static LogEntry find(BufferedSource source, Predicate<LogEntry> predicate) throws IOException {
+        JsonReader reader = JsonReader.of(source);
+
+        reader.beginArray();
+        while (reader.hasNext()) {
+            LogEntry entry = readEntry(reader);
+            if (entry != null && predicate.test(entry)) {
+                return entry;
+            }
+        }
+        reader.endArray();
+        return null;
+    }
+
+    /**
+     * Reads the next element of a log array.
+     *
+     * @param reader Reader positioned inside the log array
+     * @return The entry, or null if the element is not a complete entry
+     * @throws IOException If the log cannot be read
+     */
+    static LogEntry readEntry(JsonReader reader) throws IOException {
+        if (reader.peek() != JsonReader.Token.BEGIN_OBJECT) {
+            reader.skipValue();
+            return null;
+        }
+
+        String time = null;
+        String level = null;
+        String message = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(NAMES)) {
+                case 0:
+                    time = readString(reader);
+                    break;
+                case 1:
+                    level = readString(reader);
+                    break;
+                case 2:
+                    message = readString(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+
+        LogEntry entry = new LogEntry(time, level, message);
+        return entry.isComplete() ? entry : null;
+    }
+
+    private static String readString(JsonReader reader) throws IOException {
+        JsonReader.Token token = reader.peek();
+        if (token == JsonReader.Token.STRING || token == JsonReader.Token.NUMBER || token == JsonReader.Token.BOOLEAN) {
+            return token == JsonReader.Token.BOOLEAN ? String.valueOf(reader.nextBoolean()) : reader.nextString();
+        }
+        reader.skipValue();
+        return null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,108 @@
+package com.saucelabs.saucerest;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Receives the entries of a log while it is being read, see {@link LogNormalizer}.
+ * <br>
+ * Text sinks write each entry as one line of {@code time level message}, optionally gzip compressed.
+ */
+public interface LogSink extends Closeable {
+
+    /**
+     * @param entry The next complete entry of the log
+     * @throws IOException If the entry cannot be written
+     */
+    void accept(LogEntry entry) throws IOException;
+
+    /**
+     * Flushes and releases the sink. The default does nothing.
+     */
+    @Override
+    default void close() throws IOException {
+    }
+
+    /**
+     * Sink writing text lines to a file. Missing parent directories are created.
+     *
+     * @param path The file to write, gzip compressed if its name ends with {@code .gz}
+     * @return The sink, closing the file when closed
+     * @throws IOException If the file cannot be created
+     */
+    static LogSink toFile(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        boolean gzip = path.getFileName().toString().endsWith(".gz");
+        return new TextLogSink(Files.newOutputStream(path), gzip, true);
+    }
+
+    /**
+     * Sink writing text lines to a stream. The stream is flushed but not closed when the sink is closed.
+     *
+     * @param out  The stream to write to
+     * @param gzip true to write gzip compressed lines
+     * @return The sink
+     * @throws IOException If the gzip header cannot be written
+     */
+    static LogSink toOutputStream(OutputStream out, boolean gzip) throws IOException {
+        return new TextLogSink(Objects.requireNonNull(out, "Output stream cannot be null"), gzip, false);
+    }
+
+    /**
+     * @param consumer Called with every entry, e.g. to index it without writing a file
+     * @return Sink handing the entries to the consumer
+     */
+    static LogSink toConsumer(Consumer<LogEntry> consumer) {
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
+        return consumer::accept;
+    }
+
+    /**
+     * Writes entries as text lines through one buffered writer.
+     */
+    final class TextLogSink implements LogSink {
+        private static final int BUFFER_SIZE = 64 * 1024;
+        private final OutputStream target;
+        private final GZIPOutputStream gzip;
+        private final Writer writer;
+        private final boolean closeTarget;
+
+        private TextLogSink(OutputStream target, boolean gzip, boolean closeTarget) throws IOException {
+            this.target = target;
+            this.gzip = gzip ? new GZIPOutputStream(target, BUFFER_SIZE) : null;
+            this.writer = new BufferedWriter(new OutputStreamWriter(gzip ? this.gzip : target, StandardCharsets.UTF_8), BUFFER_SIZE);
+            this.closeTarget = closeTarget;
+        }
+
+        @Override
+        public void accept(LogEntry entry) throws IOException {
+            entry.writeLine(writer);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closeTarget) {
+                writer.close();
+                return;
+            }
+            writer.flush();
+            if (gzip != null) {
+                gzip.finish();
+            }
+            target.flush();
+        }
+    }
+}
\ No newline at end of file
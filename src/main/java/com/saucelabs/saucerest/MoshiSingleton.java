@@ -1,18 +1,67 @@
 package com.saucelabs.saucerest;
 
+import com.saucelabs.saucerest.model.GeneratedJsonAdapters;
+import com.squareup.moshi.JsonAdapter;
 import com.squareup.moshi.Moshi;
+import com.squareup.moshi.Types;
 
+import java.util.List;
+
+/**
+ * Shared {@link Moshi} instance and cache of the adapters resolved from it.
+ * <br>
+ * The instance is created lazily by the class loader on first use, so reading it needs no locking. Resolved
+ * adapters are cached per class in a {@link ClassValue}, which avoids the lookup and locking inside
+ * {@link Moshi#adapter(java.lang.reflect.Type)} on every request.
+ * <br>
+ * Models with a generated adapter (see {@link GeneratedJsonAdapters}) are read and written without reflection.
+ */
 public class MoshiSingleton {
 
-    private static Moshi moshi;
+    private static final ClassValue<JsonAdapter<?>> ADAPTERS = new ClassValue<JsonAdapter<?>>() {
+        @Override
+        protected JsonAdapter<?> computeValue(Class<?> type) {
+            return getInstance().adapter(type);
+        }
+    };
+
+    private static final ClassValue<JsonAdapter<?>> LIST_ADAPTERS = new ClassValue<JsonAdapter<?>>() {
+        @Override
+        protected JsonAdapter<?> computeValue(Class<?> type) {
+            return getInstance().adapter(Types.newParameterizedType(List.class, type));
+        }
+    };
 
     private MoshiSingleton() {
     }
 
-    public static synchronized Moshi getInstance() {
-        if (moshi == null) {
-            moshi = new Moshi.Builder().build();
-        }
-        return moshi;
+    public static Moshi getInstance() {
+        return Holder.MOSHI;
+    }
+
+    /**
+     * @param clazz The class to (de)serialize
+     * @param <T>   The type of the class
+     * @return Cached adapter for the class
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> JsonAdapter<T> adapter(Class<T> clazz) {
+        return (JsonAdapter<T>) ADAPTERS.get(clazz);
+    }
+
+    /**
+     * @param clazz The class of the list elements, or of a subtype of them
+     * @param <T>   The type of the list elements
+     * @return Cached adapter for a {@code List<T>}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> JsonAdapter<List<T>> listAdapter(Class<? extends T> clazz) {
+        return (JsonAdapter<List<T>>) LIST_ADAPTERS.get(clazz);
+    }
+
+    private static final class Holder {
+        private static final Moshi MOSHI = new Moshi.Builder()
+            .add(GeneratedJsonAdapters.FACTORY)
+            .build();
     }
 }
\ No newline at end of file
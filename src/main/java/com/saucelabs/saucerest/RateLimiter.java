@@ -0,0 +1,36 @@
+package com.saucelabs.saucerest;
+
+import okhttp3.Response;
+
+/**
+ * Client side rate limiter consulted by every endpoint before it sends a request.
+ * <br>
+ * Implementations hand out permits per {@link EndpointFamily}. Instead of blocking, {@link #reserve(EndpointFamily)}
+ * returns how long the caller has to wait, so synchronous requests can sleep and asynchronous requests can be
+ * scheduled without holding a thread.
+ *
+ * @see TokenBucketRateLimiter
+ */
+public interface RateLimiter {
+    /**
+     * Rate limiter that never delays a request.
+     */
+    RateLimiter NONE = family -> 0;
+
+    /**
+     * Reserves a permit for one request.
+     *
+     * @param family The endpoint family the request belongs to
+     * @return Time in nanoseconds the caller has to wait before sending the request, 0 if it can be sent immediately
+     */
+    long reserve(EndpointFamily family);
+
+    /**
+     * Called with every response so the limiter can adapt to the limits reported by the server.
+     *
+     * @param family   The endpoint family the request belonged to
+     * @param response The response received for the request
+     */
+    default void update(EndpointFamily family, Response response) {
+    }
+}
\ No newline at end of file
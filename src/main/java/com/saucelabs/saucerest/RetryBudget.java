@@ -0,0 +1,104 @@
+package com.saucelabs.saucerest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caps the number of retries relative to the number of requests.
+ * <br>
+ * Every request deposits a fraction of a retry into the budget and every retry withdraws a whole one. On top of that
+ * the budget refills with a small number of retries per second so that a client sending few requests can still
+ * retry. When the API is failing, retries therefore add at most {@code retryRatio} extra load instead of
+ * multiplying it by the number of retries per request.
+ * <br>
+ * {@link #GLOBAL} is shared by every {@link SauceRESTConfig} in the JVM unless another budget is configured.
+ */
+public final class RetryBudget {
+    /**
+     * Budget shared by the whole JVM: retries may add 20% to the request load, with at least 10 retries per second.
+     */
+    public static final RetryBudget GLOBAL = new RetryBudget(0.2, 10, 100);
+
+    /**
+     * Budget that never denies a retry.
+     */
+    public static final RetryBudget UNLIMITED = new RetryBudget(0, 0, 0);
+
+    private static final long SCALE = 1_000_000;
+
+    private final long depositPerRequest;
+    private final double minRetriesPerSecond;
+    private final long maxBalance;
+    // Balance in millionths of a retry, so it can be updated with compare-and-set instead of a lock
+    private final AtomicLong balance;
+    private final AtomicLong lastRefill;
+
+    /**
+     * @param retryRatio          Retries allowed per request, for example 0.2 for 20%
+     * @param minRetriesPerSecond Retries allowed per second regardless of the number of requests
+     * @param maxBalance          Largest number of retries that can be saved up
+     */
+    public RetryBudget(double retryRatio, double minRetriesPerSecond, int maxBalance) {
+        if (retryRatio < 0 || minRetriesPerSecond < 0 || maxBalance < 0) {
+            throw new IllegalArgumentException(String.format("Retry budget values must not be negative, got %s, %s and %s",
+                retryRatio, minRetriesPerSecond, maxBalance));
+        }
+        this.depositPerRequest = Math.round(retryRatio * SCALE);
+        this.minRetriesPerSecond = minRetriesPerSecond;
+        this.maxBalance = maxBalance * SCALE;
+        this.balance = new AtomicLong(this.maxBalance);
+        this.lastRefill = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Records a request, which earns a fraction of a retry.
+     */
+    public void deposit() {
+        if (this == UNLIMITED || depositPerRequest == 0) {
+            return;
+        }
+        add(depositPerRequest);
+    }
+
+    /**
+     * @return true if a retry may be sent, in which case it is taken from the budget
+     */
+    public boolean tryWithdraw() {
+        if (this == UNLIMITED) {
+            return true;
+        }
+        refill(System.nanoTime());
+        for (;;) {
+            long current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - SCALE)) {
+                return true;
+            }
+        }
+    }
+
+    private void refill(long now) {
+        long last = lastRefill.get();
+        // Only the thread that moves lastRefill forward credits the elapsed time, so it is never counted twice
+        if (now - last <= 0 || !lastRefill.compareAndSet(last, now)) {
+            return;
+        }
+        long earned = (long) ((now - last) / (double) TimeUnit.SECONDS.toNanos(1) * minRetriesPerSecond * SCALE);
+        if (earned > 0) {
+            add(earned);
+        }
+    }
+
+    private void add(long amount) {
+        long capped = Math.min(amount, maxBalance);
+        for (;;) {
+            long current = balance.get();
+            long next = Math.min(maxBalance, current + capped);
+            if (next == current || balance.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.saucelabs.saucerest;
+
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Serializable;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides if and when a failed request is retried.
+ * <br>
+ * Requests failing with an {@link IOException}, HTTP 429 or a 5xx response are retried up to {@link #getMaxRetries()}
+ * times. Only idempotent requests (GET, HEAD and PUT) are retried after any of these failures. Other requests, such as
+ * uploads or stopping a tunnel, may already have been processed by the server, so they are only retried when they
+ * provably were not: the connection could not be established or the server answered HTTP 429. Use
+ * {@link Builder#setRetryNonIdempotent(boolean)} to retry them like idempotent requests.
+ * <br>
+ * If the response carries a {@code Retry-After} header the retry waits as long as the server asked for.
+ * Otherwise the delay uses decorrelated jitter: every delay is picked at random between the base delay and three
+ * times the previous delay, capped at the maximum delay. This spreads retries of many clients over time instead
+ * of sending them all at once.
+ * <br>
+ * Retries are also limited by the {@link RetryBudget} of the {@link SauceRESTConfig}.
+ */
+public final class RetryPolicy implements Serializable {
+    /**
+     * Policy used when none is configured. It matches the retry limits this library always used.
+     */
+    public static final RetryPolicy DEFAULT = new Builder().build();
+
+    /**
+     * Policy that never retries.
+     */
+    public static final RetryPolicy NONE = new Builder().setMaxRetries(0).build();
+
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+    private static final int HTTP_SERVER_ERROR_MIN = 500;
+    private static final int HTTP_SERVER_ERROR_MAX = 599;
+    private static final String HEADER_RETRY_AFTER = "Retry-After";
+
+    private final int maxRetries;
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+    private final Duration maxRetryAfter;
+    private final boolean retryNonIdempotent;
+
+    private RetryPolicy(Builder builder) {
+        maxRetries = builder.maxRetries;
+        baseDelay = builder.baseDelay;
+        maxDelay = builder.maxDelay;
+        maxRetryAfter = builder.maxRetryAfter;
+        retryNonIdempotent = builder.retryNonIdempotent;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public Duration getBaseDelay() {
+        return baseDelay;
+    }
+
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    public Duration getMaxRetryAfter() {
+        return maxRetryAfter;
+    }
+
+    public boolean isRetryNonIdempotent() {
+        return retryNonIdempotent;
+    }
+
+    /**
+     * @return A builder starting from the settings of this policy
+     */
+    public Builder toBuilder() {
+        return new Builder()
+            .setMaxRetries(maxRetries)
+            .setBaseDelay(baseDelay)
+            .setMaxDelay(maxDelay)
+            .setMaxRetryAfter(maxRetryAfter)
+            .setRetryNonIdempotent(retryNonIdempotent);
+    }
+
+    /**
+     * @param request  The request of the last attempt
+     * @param response The response of the last attempt
+     * @return true if the response status is worth retrying. A request that is not idempotent is only retried after
+     * HTTP 429, because a 5xx response does not tell whether the server processed it.
+     */
+    public boolean isRetryable(Request request, Response response) {
+        int code = response.code();
+        if (code == HTTP_TOO_MANY_REQUESTS) {
+            return true;
+        }
+        return code >= HTTP_SERVER_ERROR_MIN && code <= HTTP_SERVER_ERROR_MAX && mayReplay(request);
+    }
+
+    /**
+     * @param request The request of the last attempt
+     * @param failure The exception of the last attempt
+     * @return true if the exception is worth retrying. An interrupted thread is never retried, and a request that is
+     * not idempotent is only retried if the connection could not be established.
+     */
+    public boolean isRetryable(Request request, IOException failure) {
+        if (Thread.currentThread().isInterrupted()) {
+            return false;
+        }
+        if (failure instanceof InterruptedIOException && !(failure instanceof SocketTimeoutException)) {
+            return false;
+        }
+        return mayReplay(request) || isConnectFailure(failure);
+    }
+
+    private boolean mayReplay(Request request) {
+        if (retryNonIdempotent) {
+            return true;
+        }
+        switch (request.method()) {
+            case "GET":
+            case "HEAD":
+            case "PUT":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * @return true if the request failed before anything was sent to the server
+     */
+    private static boolean isConnectFailure(IOException failure) {
+        return failure instanceof ConnectException || failure instanceof NoRouteToHostException
+            || failure instanceof UnknownHostException;
+    }
+
+    /**
+     * Computes how long to wait before the next attempt.
+     *
+     * @param previousDelayMillis The delay before the last attempt, 0 for the first retry
+     * @param response            The response of the last attempt, or null if it failed with an exception
+     * @return The delay in milliseconds, or -1 if the server asked to wait longer than {@link #getMaxRetryAfter()}
+     */
+    public long nextDelayMillis(long previousDelayMillis, Response response) {
+        long base = baseDelay.toMillis();
+        long jitter = jitterMillis(previousDelayMillis);
+
+        long retryAfter = response == null ? -1 : parseRetryAfterMillis(response.header(HEADER_RETRY_AFTER));
+        if (retryAfter < 0) {
+            return jitter;
+        }
+        if (retryAfter > maxRetryAfter.toMillis()) {
+            return -1;
+        }
+        // A little jitter on top keeps clients told the same Retry-After from coming back at the same instant
+        return retryAfter + ThreadLocalRandom.current().nextLong(base + 1);
+    }
+
+    private long jitterMillis(long previousDelayMillis) {
+        long base = baseDelay.toMillis();
+        long cap = maxDelay.toMillis();
+        long upper = Math.max(base, Math.min(cap, Math.max(previousDelayMillis, base) * 3));
+        return upper == base ? base : ThreadLocalRandom.current().nextLong(base, upper + 1);
+    }
+
+    /**
+     * @param value Value of a {@code Retry-After} header, either delay seconds or an HTTP date
+     * @return The delay in milliseconds, or -1 if the header is missing or invalid
+     */
+    static long parseRetryAfterMillis(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return -1;
+        }
+        String trimmed = value.trim();
+        try {
+            long seconds = Long.parseLong(trimmed);
+            return seconds < 0 ? -1 : Duration.ofSeconds(seconds).toMillis();
+        } catch (NumberFormatException e) {
+            // Not delay seconds, try an HTTP date
+        }
+        try {
+            ZonedDateTime date = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, date.toInstant().toEpochMilli() - System.currentTimeMillis());
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+
+    public static final class Builder {
+        private int maxRetries = 2;
+        private Duration baseDelay = Duration.ofMillis(30);
+        private Duration maxDelay = Duration.ofMillis(500);
+        private Duration maxRetryAfter = Duration.ofMinutes(1);
+        private boolean retryNonIdempotent;
+
+        /**
+         * @param val Maximum number of retries after the first attempt. Default is 2.
+         */
+        public Builder setMaxRetries(int val) {
+            if (val < 0) {
+                throw new IllegalArgumentException("maxRetries must not be negative: " + val);
+            }
+            maxRetries = val;
+            return this;
+        }
+
+        /**
+         * @param val Smallest delay between two attempts. Default is 30 milliseconds.
+         */
+        public Builder setBaseDelay(Duration val) {
+            baseDelay = requireNonNegative(val, "baseDelay");
+            return this;
+        }
+
+        /**
+         * @param val Largest delay between two attempts when the server gives no {@code Retry-After}. Default is 500 milliseconds.
+         */
+        public Builder setMaxDelay(Duration val) {
+            maxDelay = requireNonNegative(val, "maxDelay");
+            return this;
+        }
+
+        /**
+         * @param val Longest {@code Retry-After} the client is willing to wait. If the server asks for more,
+         *            the request fails instead. Default is 1 minute.
+         */
+        public Builder setMaxRetryAfter(Duration val) {
+            maxRetryAfter = requireNonNegative(val, "maxRetryAfter");
+            return this;
+        }
+
+        /**
+         * @param val true to also retry POST, PATCH and DELETE requests after timeouts, connection resets and 5xx
+         *            responses, which may send them to the server twice. Default is false.
+         */
+        public Builder setRetryNonIdempotent(boolean val) {
+            retryNonIdempotent = val;
+            return this;
+        }
+
+        public RetryPolicy build() {
+            if (maxDelay.compareTo(baseDelay) < 0) {
+                throw new IllegalArgumentException("maxDelay must not be shorter than baseDelay: " + maxDelay);
+            }
+            return new RetryPolicy(this);
+        }
+
+        private static Duration requireNonNegative(Duration duration, String name) {
+            if (duration == null || duration.isNegative()) {
+                throw new IllegalArgumentException(name + " must not be null or negative: " + duration);
+            }
+            return duration;
+        }
+    }
+}
\ No newline at end of file
@@ -2,29 +2,65 @@ package com.saucelabs.saucerest;
 
 import com.saucelabs.saucerest.api.*;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * This class provides a simple interface to the Sauce REST API. <br>
  * It will contain methods to make it easier to do the most used frequent tasks like downloading log files.
  * Accessing the public API is done by using the methods in {@link com.saucelabs.saucerest.api}.
  * They are modelled after this documentation: <a href="https://docs.saucelabs.com/dev/api/">here</a>
+ * <br>
+ * Endpoints are created once per endpoint type and API server and then reused, so repeated calls to the getters
+ * are cheap. All endpoints share the HTTP client of the {@link SauceRESTConfig}. Without a configuration, the instance
+ * builds its own and {@link #close()} releases its connections and threads. A configuration passed by the caller may
+ * be shared with other instances, so {@link #close()} leaves it open.
  */
-public class SauceREST implements Serializable {
+public class SauceREST implements Serializable, Closeable {
     private final String server;
     private final String apiServer;
     private final String edsServer;
     private final String appServer;
+    private final SauceRESTConfig config;
+    private final boolean ownsConfig;
     protected String username;
     protected String accessKey;
+    private transient ConcurrentMap<Map.Entry<Class<?>, String>, AbstractEndpoint> endpoints = new ConcurrentHashMap<>();
 
     public SauceREST(DataCenter dataCenter) {
         this(System.getenv("SAUCE_USERNAME"), System.getenv("SAUCE_ACCESS_KEY"), dataCenter);
     }
 
+    public SauceREST(DataCenter dataCenter, SauceRESTConfig config) {
+        this(System.getenv("SAUCE_USERNAME"), System.getenv("SAUCE_ACCESS_KEY"), dataCenter, config);
+    }
+
     public SauceREST(String username, String accessKey, DataCenter dataCenter) {
+        this(username, accessKey, dataCenter, new SauceRESTConfig.Builder().build(), true);
+    }
+
+    /**
+     * @param username   Sauce Labs username
+     * @param accessKey  Sauce Labs access key
+     * @param dataCenter Data center to use
+     * @param config     HTTP client configuration shared by all endpoints returned by this instance
+     */
+    public SauceREST(String username, String accessKey, DataCenter dataCenter, SauceRESTConfig config) {
+        this(username, accessKey, dataCenter, config, false);
+    }
+
+    private SauceREST(String username, String accessKey, DataCenter dataCenter, SauceRESTConfig config, boolean ownsConfig) {
+        this.ownsConfig = ownsConfig;
         this.username = username;
         this.accessKey = accessKey;
+        this.config = Objects.requireNonNull(config, "Config cannot be null");
         this.server = buildUrl(dataCenter.server(), "SAUCE_REST_ENDPOINT", "saucerest-java.base_url");
         this.appServer = buildUrl(dataCenter.appServer(), "SAUCE_REST_APP_ENDPOINT", "saucerest-java.base_app_url");
         this.apiServer = buildUrl(dataCenter.apiServer(), "SAUCE_API_ENDPOINT", "saucerest-java.base_api_url");
@@ -51,6 +87,10 @@ public class SauceREST implements Serializable {
         return edsServer;
     }
 
+    public SauceRESTConfig getConfig() {
+        return config;
+    }
+
     /**
      * Build URL with environment variable, or system property, or default URL.
      *
@@ -64,111 +104,143 @@ public class SauceREST implements Serializable {
         return envVar != null ? envVar : System.getProperty(systemPropertyName, defaultUrl);
     }
 
+    /**
+     * Returns the cached endpoint of the given type for the API server, creating it on first use.
+     */
+    private <T extends AbstractEndpoint> T getEndpoint(Class<T> type, String apiServer, EndpointFactory<T> factory) {
+        return type.cast(endpoints.computeIfAbsent(new AbstractMap.SimpleImmutableEntry<>(type, apiServer),
+            key -> factory.create(this.username, this.accessKey, apiServer, this.config)));
+    }
+
+    /**
+     * Drops the endpoints cached by this instance; the getters of this class return new endpoints afterwards.
+     * A configuration built by this instance is closed, releasing its connections and threads. A configuration
+     * passed by the caller is not closed because other instances and endpoints may share it. Call
+     * {@link SauceRESTConfig#close()} once nothing uses it anymore.
+     */
+    @Override
+    public void close() {
+        endpoints.clear();
+        if (ownsConfig) {
+            config.close();
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        endpoints = new ConcurrentHashMap<>();
+    }
+
+    @FunctionalInterface
+    private interface EndpointFactory<T extends AbstractEndpoint> {
+        T create(String username, String accessKey, String apiServer, SauceRESTConfig config);
+    }
+
     public JobsEndpoint getJobsEndpoint() {
-        return new JobsEndpoint(this.username, this.accessKey, this.apiServer);
+        return getEndpoint(JobsEndpoint.class, this.apiServer, JobsEndpoint::new);
     }
 
     public JobsEndpoint getJobsEndpoint(DataCenter dataCenter) {
-        return new JobsEndpoint(this.username, this.accessKey, dataCenter);
+        return getEndpoint(JobsEndpoint.class, dataCenter.apiServer(), JobsEndpoint::new);
     }
 
     public JobsEndpoint getJobsEndpoint(String apiServer) {
-        return new JobsEndpoint(this.username, this.accessKey, apiServer);
+        return getEndpoint(JobsEndpoint.class, apiServer, JobsEndpoint::new);
     }
 
     public StorageEndpoint getStorageEndpoint() {
-        return new StorageEndpoint(this.username, this.accessKey, this.apiServer);
+        return getEndpoint(StorageEndpoint.class, this.apiServer, StorageEndpoint::new);
     }
 
     public StorageEndpoint getStorageEndpoint(DataCenter dataCenter) {
-        return new StorageEndpoint(this.username, this.accessKey, dataCenter);
+        return getEndpoint(StorageEndpoint.class, dataCenter.apiServer(), StorageEndpoint::new);
     }
 
     public StorageEndpoint getStorageEndpoint(String apiServer) {
-        return new StorageEndpoint(this.username, this.accessKey, apiServer);
+        return getEndpoint(StorageEndpoint.class, apiServer, StorageEndpoint::new);
     }
 
     public PlatformEndpoint getPlatformEndpoint() {
-        return new PlatformEndpoint(this.username, this.accessKey, this.apiServer);
+        return getEndpoint(PlatformEndpoint.class, this.apiServer, PlatformEndpoint::new);
     }
 
     public PlatformEndpoint getPlatformEndpoint(DataCenter dataCenter) {
-        return new PlatformEndpoint(this.username, this.accessKey, dataCenter);
+        return getEndpoint(PlatformEndpoint.class, dataCenter.apiServer(), PlatformEndpoint::new);
     }
 
     public PlatformEndpoint getPlatformEndpoint(String apiServer) {
-        return new PlatformEndpoint(this.username, this.accessKey, apiServer);
+        return getEndpoint(PlatformEndpoint.class, apiServer, PlatformEndpoint::new);
     }
 
     public RealDevicesEndpoint getRealDevicesEndpoint(DataCenter dataCenter) {
-        return new RealDevicesEndpoint(this.username, this.accessKey, dataCenter);
+        return getEndpoint(RealDevicesEndpoint.class, dataCenter.apiServer(), RealDevicesEndpoint::new);
     }
 
     public RealDevicesEndpoint getRealDevicesEndpoint() {
-        return new RealDevicesEndpoint(this.username, this.accessKey, this.apiServer);
+        return getEndpoint(RealDevicesEndpoint.class, this.apiServer, RealDevicesEndpoint::new);
     }
 
     public RealDevicesEndpoint getRealDevicesEndpoint(String apiServer) {
-        return new RealDevicesEndpoint(this.username, this.accessKey, apiServer);
+        return getEndpoint(RealDevicesEndpoint.class, apiServer, RealDevicesEndpoint::new);
     }
 
     public SauceConnectEndpoint getSauceConnectEndpoint() {
-        return new SauceConnectEndpoint(this.username, this.accessKey, this.apiServer);
+        return getEndpoint(SauceConnectEndpoint.class, this.apiServer, SauceConnectEndpoint::new);
     }
 
     public SauceConnectEndpoint getSauceConnectEndpoint(String apiServer) {
-        return new SauceConnectEndpoint(this.username, this.accessKey, apiServer);
+        return getEndpoint(SauceConnectEndpoint.class, apiServer, SauceConnectEndpoint::new);
     }
 
     public SauceConnectEndpoint getSauceConnectEndpoint(DataCenter dataCenter) {
-        return new SauceConnectEndpoint(this.username, this.accessKey, dataCenter);
+        return getEndpoint(SauceConnectEndpoint.class, dataCenter.apiServer(), SauceConnectEndpoint::new);
     }
 
     public AccountsEndpoint getAccountsEndpoint() {
-        return new AccountsEndpoint(this.username, this.accessKey, this.apiServer);
+        return getEndpoint(AccountsEndpoint.class, this.apiServer, AccountsEndpoint::new);
     }
 
     public AccountsEndpoint getAccountsEndpoint(String apiServer) {
-        return new AccountsEndpoint(this.username, this.accessKey, apiServer);
+        return getEndpoint(AccountsEndpoint.class, apiServer, AccountsEndpoint::new);
     }
 
     public AccountsEndpoint getAccountsEndpoint(DataCenter dataCenter) {
-        return new AccountsEndpoint(this.username, this.accessKey, dataCenter);
+        return getEndpoint(AccountsEndpoint.class, dataCenter.apiServer(), AccountsEndpoint::new);
     }
 
     public BuildsEndpoint getBuildsEndpoint() {
-        return new BuildsEndpoint(this.username, this.accessKey, this.apiServer);
+        return getEndpoint(BuildsEndpoint.class, this.apiServer, BuildsEndpoint::new);
     }
 
     public BuildsEndpoint getBuildsEndpoint(String apiServer) {
-        return new BuildsEndpoint(this.username, this.accessKey, apiServer);
+        return getEndpoint(BuildsEndpoint.class, apiServer, BuildsEndpoint::new);
     }
 
     public BuildsEndpoint getBuildsEndpoint(DataCenter dataCenter) {
-        return new BuildsEndpoint(this.username, this.accessKey, dataCenter);
+        return getEndpoint(BuildsEndpoint.class, dataCenter.apiServer(), BuildsEndpoint::new);
     }
 
     public InsightsEndpoint getInsightsEndpoint() {
-        return new InsightsEndpoint(this.username, this.accessKey, this.apiServer);
+        return getEndpoint(InsightsEndpoint.class, this.apiServer, InsightsEndpoint::new);
     }
 
     public InsightsEndpoint getInsightsEndpoint(String apiServer) {
-        return new InsightsEndpoint(this.username, this.accessKey, apiServer);
+        return getEndpoint(InsightsEndpoint.class, apiServer, InsightsEndpoint::new);
     }
 
     public InsightsEndpoint getInsightsEndpoint(DataCenter dataCenter) {
-        return new InsightsEndpoint(this.username, this.accessKey, dataCenter);
+        return getEndpoint(InsightsEndpoint.class, dataCenter.apiServer(), InsightsEndpoint::new);
     }
 
     public PerformanceEndpoint getPerformanceEndpoint() {
-        return new PerformanceEndpoint(this.username, this.accessKey, this.apiServer);
+        return getEndpoint(PerformanceEndpoint.class, this.apiServer, PerformanceEndpoint::new);
     }
 
     public PerformanceEndpoint getPerformanceEndpoint(String apiServer) {
-        return new PerformanceEndpoint(this.username, this.accessKey, apiServer);
+        return getEndpoint(PerformanceEndpoint.class, apiServer, PerformanceEndpoint::new);
     }
 
     public PerformanceEndpoint getPerformanceEndpoint(DataCenter dataCenter) {
-        return new PerformanceEndpoint(this.username, this.accessKey, dataCenter);
+        return getEndpoint(PerformanceEndpoint.class, dataCenter.apiServer(), PerformanceEndpoint::new);
     }
 }
\ No newline at end of file
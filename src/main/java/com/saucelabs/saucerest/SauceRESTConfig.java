@@ -0,0 +1,363 @@
+package com.saucelabs.saucerest;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+import java.io.Closeable;
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration of the HTTP client used by {@link SauceREST} and the endpoints in {@link com.saucelabs.saucerest.api}.
+ * <br>
+ * A configuration lazily builds a single {@link OkHttpClient} which is shared by every endpoint created with it,
+ * so connections, TLS sessions and dispatcher threads are reused across endpoints. Use {@link Builder} to tune
+ * the connection pool, dispatcher limits, timeouts and protocols, or to inject an already configured client.
+ */
+public class SauceRESTConfig implements Serializable, Closeable {
+    /**
+     * Configuration used when none is given. It matches the client settings this library always used.
+     */
+    public static final SauceRESTConfig DEFAULT = new Builder().build();
+
+    private final int maxIdleConnections;
+    private final Duration keepAliveDuration;
+    private final int maxRequests;
+    private final int maxRequestsPerHost;
+    private final Duration connectTimeout;
+    private final Duration readTimeout;
+    private final Duration writeTimeout;
+    private final Duration callTimeout;
+    private final ArrayList<Protocol> protocols;
+    private final boolean ownsHttpClient;
+    private transient volatile OkHttpClient httpClient;
+    private final transient RateLimiter rateLimiter;
+    private final RetryPolicy retryPolicy;
+    private final EnumMap<EndpointFamily, RetryPolicy> retryPolicies;
+    private final transient RetryBudget retryBudget;
+    private final transient Executor callbackExecutor;
+
+    private SauceRESTConfig(Builder builder) {
+        maxIdleConnections = builder.maxIdleConnections;
+        keepAliveDuration = builder.keepAliveDuration;
+        maxRequests = builder.maxRequests;
+        maxRequestsPerHost = builder.maxRequestsPerHost;
+        connectTimeout = builder.connectTimeout;
+        readTimeout = builder.readTimeout;
+        writeTimeout = builder.writeTimeout;
+        callTimeout = builder.callTimeout;
+        protocols = builder.protocols == null ? null : new ArrayList<>(builder.protocols);
+        httpClient = builder.httpClient;
+        ownsHttpClient = builder.httpClient == null;
+        rateLimiter = builder.rateLimiter;
+        retryPolicy = builder.retryPolicy;
+        retryPolicies = new EnumMap<>(builder.retryPolicies);
+        retryBudget = builder.retryBudget;
+        callbackExecutor = builder.callbackExecutor;
+    }
+
+    public int getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    public Duration getKeepAliveDuration() {
+        return keepAliveDuration;
+    }
+
+    public int getMaxRequests() {
+        return maxRequests;
+    }
+
+    public int getMaxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    public Duration getWriteTimeout() {
+        return writeTimeout;
+    }
+
+    public Duration getCallTimeout() {
+        return callTimeout;
+    }
+
+    public List<Protocol> getProtocols() {
+        return protocols;
+    }
+
+    /**
+     * @return The client side rate limiter. A deserialized configuration does not limit requests.
+     */
+    public RateLimiter getRateLimiter() {
+        return rateLimiter == null ? RateLimiter.NONE : rateLimiter;
+    }
+
+    /**
+     * @param family The endpoint family
+     * @return The retry policy configured for the family, or the default retry policy
+     */
+    public RetryPolicy getRetryPolicy(EndpointFamily family) {
+        return retryPolicies.getOrDefault(family, retryPolicy);
+    }
+
+    /**
+     * @return The budget limiting retries. A deserialized configuration uses {@link RetryBudget#GLOBAL}.
+     */
+    public RetryBudget getRetryBudget() {
+        return retryBudget == null ? RetryBudget.GLOBAL : retryBudget;
+    }
+
+    /**
+     * Returns the executor running the continuations of asynchronous requests, such as deserializing a response or
+     * writing it to a file. These read from the socket and may write to disk, so they never run on
+     * {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+     *
+     * @return The configured executor, or the executor of the HTTP client's dispatcher if none is configured
+     */
+    public Executor getCallbackExecutor() {
+        return callbackExecutor == null ? getHttpClient().dispatcher().executorService() : callbackExecutor;
+    }
+
+    /**
+     * Returns the HTTP client for this configuration. The client is created on first use and then shared.
+     * An injected client (see {@link Builder#setHttpClient(OkHttpClient)}) is returned as is. It is not serialized,
+     * so a deserialized configuration builds a new client from its settings.
+     *
+     * @return {@link OkHttpClient} shared by all endpoints using this configuration
+     */
+    public OkHttpClient getHttpClient() {
+        OkHttpClient client = httpClient;
+        if (client == null) {
+            synchronized (this) {
+                client = httpClient;
+                if (client == null) {
+                    client = buildHttpClient();
+                    httpClient = client;
+                }
+            }
+        }
+        return client;
+    }
+
+    /**
+     * Shuts down the dispatcher threads and evicts the pooled connections of the HTTP client built by this
+     * configuration. The next call to {@link #getHttpClient()} builds a new client. This does nothing for
+     * {@link #DEFAULT}, which is shared by the whole JVM, and for an injected client, which is owned by the caller.
+     */
+    @Override
+    public void close() {
+        if (this == DEFAULT || !ownsHttpClient) {
+            return;
+        }
+
+        OkHttpClient client;
+        synchronized (this) {
+            client = httpClient;
+            httpClient = null;
+        }
+
+        if (client != null) {
+            client.dispatcher().executorService().shutdown();
+            client.connectionPool().evictAll();
+        }
+    }
+
+    private OkHttpClient buildHttpClient() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxRequests);
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+
+        OkHttpClient.Builder builder = new OkHttpClient.Builder()
+            .connectionPool(new ConnectionPool(maxIdleConnections, keepAliveDuration.toMillis(), TimeUnit.MILLISECONDS))
+            .dispatcher(dispatcher)
+            .connectTimeout(connectTimeout)
+            .readTimeout(readTimeout)
+            .writeTimeout(writeTimeout)
+            .callTimeout(callTimeout);
+
+        if (protocols != null) {
+            builder.protocols(protocols);
+        }
+
+        return builder.build();
+    }
+
+    public static final class Builder {
+        private int maxIdleConnections = 5;
+        private Duration keepAliveDuration = Duration.ofMinutes(5);
+        private int maxRequests = 64;
+        private int maxRequestsPerHost = 5;
+        private Duration connectTimeout = Duration.ofSeconds(300);
+        private Duration readTimeout = Duration.ofSeconds(300);
+        private Duration writeTimeout = Duration.ofSeconds(300);
+        private Duration callTimeout = Duration.ZERO;
+        private List<Protocol> protocols;
+        private OkHttpClient httpClient;
+        private RateLimiter rateLimiter = RateLimiter.NONE;
+        private RetryPolicy retryPolicy = RetryPolicy.DEFAULT;
+        private final Map<EndpointFamily, RetryPolicy> retryPolicies = new EnumMap<>(EndpointFamily.class);
+        private RetryBudget retryBudget = RetryBudget.GLOBAL;
+        private Executor callbackExecutor;
+
+        /**
+         * @param val Maximum number of idle connections kept in the connection pool. Default is 5.
+         */
+        public Builder setMaxIdleConnections(int val) {
+            if (val < 0) {
+                throw new IllegalArgumentException("maxIdleConnections must not be negative: " + val);
+            }
+            maxIdleConnections = val;
+            return this;
+        }
+
+        /**
+         * @param val How long an idle connection is kept alive in the pool. Default is 5 minutes.
+         */
+        public Builder setKeepAliveDuration(Duration val) {
+            keepAliveDuration = requirePositive(val, "keepAliveDuration");
+            return this;
+        }
+
+        /**
+         * @param val Maximum number of requests executed concurrently by the dispatcher. Default is 64.
+         */
+        public Builder setMaxRequests(int val) {
+            if (val < 1) {
+                throw new IllegalArgumentException("maxRequests must be at least 1: " + val);
+            }
+            maxRequests = val;
+            return this;
+        }
+
+        /**
+         * @param val Maximum number of requests executed concurrently per host. Default is 5.
+         */
+        public Builder setMaxRequestsPerHost(int val) {
+            if (val < 1) {
+                throw new IllegalArgumentException("maxRequestsPerHost must be at least 1: " + val);
+            }
+            maxRequestsPerHost = val;
+            return this;
+        }
+
+        public Builder setConnectTimeout(Duration val) {
+            connectTimeout = requireNonNegative(val, "connectTimeout");
+            return this;
+        }
+
+        public Builder setReadTimeout(Duration val) {
+            readTimeout = requireNonNegative(val, "readTimeout");
+            return this;
+        }
+
+        public Builder setWriteTimeout(Duration val) {
+            writeTimeout = requireNonNegative(val, "writeTimeout");
+            return this;
+        }
+
+        /**
+         * @param val Timeout for a complete call including redirects and retries. Default is {@link Duration#ZERO}, which means no timeout.
+         */
+        public Builder setCallTimeout(Duration val) {
+            callTimeout = requireNonNegative(val, "callTimeout");
+            return this;
+        }
+
+        /**
+         * @param val Protocols the client may use, for example {@link Protocol#HTTP_2} and {@link Protocol#HTTP_1_1}. Default is OkHttp's default.
+         */
+        public Builder setProtocols(List<Protocol> val) {
+            protocols = val;
+            return this;
+        }
+
+        /**
+         * Use an already configured client instead of building one. All other client settings of this builder are ignored.
+         *
+         * @param val The HTTP client to use
+         */
+        public Builder setHttpClient(OkHttpClient val) {
+            httpClient = val;
+            return this;
+        }
+
+        /**
+         * @param val Client side rate limiter applied before each request, for example a {@link TokenBucketRateLimiter}.
+         *            Default is {@link RateLimiter#NONE}.
+         */
+        public Builder setRateLimiter(RateLimiter val) {
+            rateLimiter = Objects.requireNonNull(val, "Rate limiter cannot be null");
+            return this;
+        }
+
+        /**
+         * @param val Retry policy of all endpoint families without a policy of their own. Default is {@link RetryPolicy#DEFAULT}.
+         */
+        public Builder setRetryPolicy(RetryPolicy val) {
+            retryPolicy = Objects.requireNonNull(val, "Retry policy cannot be null");
+            return this;
+        }
+
+        /**
+         * @param family The endpoint family
+         * @param val    Retry policy of the endpoint family, for example {@link RetryPolicy#NONE} for endpoints that must not be retried
+         */
+        public Builder setRetryPolicy(EndpointFamily family, RetryPolicy val) {
+            retryPolicies.put(Objects.requireNonNull(family, "Endpoint family cannot be null"),
+                Objects.requireNonNull(val, "Retry policy cannot be null"));
+            return this;
+        }
+
+        /**
+         * @param val Budget limiting retries across all requests using this configuration. Default is {@link RetryBudget#GLOBAL},
+         *            which is shared by the whole JVM.
+         */
+        public Builder setRetryBudget(RetryBudget val) {
+            retryBudget = Objects.requireNonNull(val, "Retry budget cannot be null");
+            return this;
+        }
+
+        /**
+         * @param val Executor running the continuations of asynchronous requests. Default is the executor of the
+         *            HTTP client's dispatcher. The executor is owned by the caller and never shut down.
+         */
+        public Builder setCallbackExecutor(Executor val) {
+            callbackExecutor = Objects.requireNonNull(val, "Callback executor cannot be null");
+            return this;
+        }
+
+        public SauceRESTConfig build() {
+            return new SauceRESTConfig(this);
+        }
+
+        private static Duration requireNonNegative(Duration duration, String name) {
+            if (duration == null || duration.isNegative()) {
+                throw new IllegalArgumentException(name + " must not be null or negative: " + duration);
+            }
+            return duration;
+        }
+
+        private static Duration requirePositive(Duration duration, String name) {
+            if (duration == null || duration.isNegative() || duration.isZero()) {
+                throw new IllegalArgumentException(name + " must be positive: " + duration);
+            }
+            return duration;
+        }
+    }
+}
\ No newline at end of file
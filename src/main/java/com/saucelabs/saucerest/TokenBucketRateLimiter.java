@@ -0,0 +1,193 @@
+package com.saucelabs.saucerest;
+
+import okhttp3.Response;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RateLimiter} with one token bucket per {@link EndpointFamily}.
+ * <br>
+ * Every bucket refills at a steady rate up to its burst size. Requests that find the bucket empty are not rejected,
+ * they are given a wait time in the order they arrived, so a burst of requests is spread out instead of running
+ * into HTTP 429 responses.
+ * <br>
+ * The limiter also re-tunes itself from the {@code X-Ratelimit-Remaining} and {@code X-Ratelimit-Reset} response
+ * headers. It never allows more requests than the server reports as remaining, and it slows down to spread the
+ * remaining requests over the time left in the server's window. A {@code Retry-After} header on a 429 response,
+ * given as delay seconds or as an HTTP date, pauses the bucket until then.
+ */
+public class TokenBucketRateLimiter implements RateLimiter {
+    private static final String HEADER_REMAINING = "X-Ratelimit-Remaining";
+    private static final String HEADER_RESET = "X-Ratelimit-Reset";
+    private static final String HEADER_RETRY_AFTER = "Retry-After";
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+    private static final long EPOCH_SECONDS_THRESHOLD = 1_000_000_000L;
+
+    private final Map<EndpointFamily, Bucket> buckets = new EnumMap<>(EndpointFamily.class);
+
+    private TokenBucketRateLimiter(Builder builder) {
+        for (EndpointFamily family : EndpointFamily.values()) {
+            Limit limit = builder.limits.getOrDefault(family, builder.defaultLimit);
+            if (limit != null) {
+                buckets.put(family, new Bucket(limit.permitsPerSecond, limit.burst));
+            }
+        }
+    }
+
+    @Override
+    public long reserve(EndpointFamily family) {
+        Bucket bucket = buckets.get(family);
+        return bucket == null ? 0 : bucket.reserve(System.nanoTime());
+    }
+
+    @Override
+    public void update(EndpointFamily family, Response response) {
+        Bucket bucket = buckets.get(family);
+        if (bucket == null) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        if (response.code() == HTTP_TOO_MANY_REQUESTS) {
+            long retryAfterMillis = RetryPolicy.parseRetryAfterMillis(response.header(HEADER_RETRY_AFTER));
+            if (retryAfterMillis > 0) {
+                bucket.pause(now, TimeUnit.MILLISECONDS.toNanos(retryAfterMillis));
+            }
+        }
+
+        long remaining = parseLong(response.header(HEADER_REMAINING));
+        if (remaining < 0) {
+            return;
+        }
+
+        long resetSeconds = parseLong(response.header(HEADER_RESET));
+        if (resetSeconds >= EPOCH_SECONDS_THRESHOLD) {
+            resetSeconds -= System.currentTimeMillis() / 1000;
+        }
+        bucket.tune(now, remaining, resetSeconds > 0 ? TimeUnit.SECONDS.toNanos(resetSeconds) : 0);
+    }
+
+    /**
+     * @param family The endpoint family
+     * @return The number of permits per second currently granted for the family, or -1 if it is not limited
+     */
+    public double getRate(EndpointFamily family) {
+        Bucket bucket = buckets.get(family);
+        return bucket == null ? -1 : bucket.currentRate(System.nanoTime());
+    }
+
+    private static long parseLong(String value) {
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return (long) Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static final class Bucket {
+        private final double configuredRate;
+        private final double burst;
+        private double rate;
+        private double tokens;
+        private long lastRefill;
+        private long tunedUntil;
+
+        Bucket(double permitsPerSecond, int burst) {
+            this.configuredRate = permitsPerSecond;
+            this.rate = permitsPerSecond;
+            this.burst = burst;
+            this.tokens = burst;
+            this.lastRefill = System.nanoTime();
+        }
+
+        synchronized long reserve(long now) {
+            refill(now);
+            tokens -= 1;
+            return tokens >= 0 ? 0 : (long) (-tokens / rate * TimeUnit.SECONDS.toNanos(1));
+        }
+
+        synchronized void pause(long now, long nanos) {
+            refill(now);
+            tokens = Math.min(tokens, -nanos / (double) TimeUnit.SECONDS.toNanos(1) * rate);
+        }
+
+        synchronized void tune(long now, long remaining, long resetNanos) {
+            refill(now);
+            tokens = Math.min(tokens, remaining);
+            if (resetNanos > 0) {
+                double sustainable = remaining / (resetNanos / (double) TimeUnit.SECONDS.toNanos(1));
+                rate = Math.max(Math.min(configuredRate, sustainable), configuredRate / 100);
+                tunedUntil = now + resetNanos;
+            }
+        }
+
+        synchronized double currentRate(long now) {
+            refill(now);
+            return rate;
+        }
+
+        private void refill(long now) {
+            if (tunedUntil != 0 && now - tunedUntil >= 0) {
+                rate = configuredRate;
+                tunedUntil = 0;
+            }
+            long elapsed = now - lastRefill;
+            if (elapsed > 0) {
+                tokens = Math.min(burst, tokens + elapsed / (double) TimeUnit.SECONDS.toNanos(1) * rate);
+                lastRefill = now;
+            }
+        }
+    }
+
+    private static final class Limit {
+        private final double permitsPerSecond;
+        private final int burst;
+
+        Limit(double permitsPerSecond, int burst) {
+            if (permitsPerSecond <= 0 || burst < 1) {
+                throw new IllegalArgumentException(
+                    String.format("Rate must be positive and burst at least 1, got %s and %s", permitsPerSecond, burst));
+            }
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = burst;
+        }
+    }
+
+    public static final class Builder {
+        private final Map<EndpointFamily, Limit> limits = new EnumMap<>(EndpointFamily.class);
+        private Limit defaultLimit;
+
+        /**
+         * Limit requests of one endpoint family.
+         *
+         * @param family           The endpoint family
+         * @param permitsPerSecond Steady number of requests per second
+         * @param burst            Number of requests that may be sent at once after a quiet period
+         */
+        public Builder setLimit(EndpointFamily family, double permitsPerSecond, int burst) {
+            limits.put(family, new Limit(permitsPerSecond, burst));
+            return this;
+        }
+
+        /**
+         * Limit requests of every endpoint family that has no limit of its own. Without a default,
+         * such families are not limited.
+         *
+         * @param permitsPerSecond Steady number of requests per second
+         * @param burst            Number of requests that may be sent at once after a quiet period
+         */
+        public Builder setDefaultLimit(double permitsPerSecond, int burst) {
+            defaultLimit = new Limit(permitsPerSecond, burst);
+            return this;
+        }
+
+        public TokenBucketRateLimiter build() {
+            return new TokenBucketRateLimiter(this);
+        }
+    }
+}
\ No newline at end of file
@@ -3,24 +3,30 @@ package com.saucelabs.saucerest.api;
 import com.saucelabs.saucerest.*;
 import com.saucelabs.saucerest.model.AbstractModel;
 import com.squareup.moshi.*;
-import net.jodah.failsafe.Failsafe;
-import net.jodah.failsafe.RetryPolicy;
 import okhttp3.*;
+import okio.Buffer;
 import okio.BufferedSink;
 import okio.Okio;
 import org.json.JSONObject;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.lang.reflect.Type;
+import java.io.InterruptedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -29,46 +35,46 @@ import static com.saucelabs.saucerest.api.ResponseHandler.responseHandler;
 public abstract class AbstractEndpoint extends AbstractModel {
     private static final Logger logger = Logger.getLogger(AbstractEndpoint.class.getName());
     private static final String JSON_MEDIA_TYPE = "application/json";
-    private static final int MAX_RETRIES = 2;
-    private static final int BACKOFF_INITIAL_DELAY = 30;
-    private static final int BACKOFF_MULTIPLIER = 500;
-    private static final OkHttpClient CLIENT = new OkHttpClient.Builder()
-        .connectTimeout(300, TimeUnit.SECONDS)
-        .readTimeout(300, TimeUnit.SECONDS)
-        .writeTimeout(300, TimeUnit.SECONDS)
-        .build();
-    protected final String userAgent = "SauceREST/" + BuildUtils.getCurrentVersion();
+    private static final String USER_AGENT = "SauceREST/" + BuildUtils.getCurrentVersion();
+    protected final String userAgent = USER_AGENT;
     protected final String baseURL;
     protected final String username;
     protected final String accessKey;
     protected final String credentials;
+    protected final OkHttpClient httpClient;
+    private final RateLimiter rateLimiter;
+    private final SauceRESTConfig config;
+    private final Executor callbackExecutor;
 
     protected AbstractEndpoint(DataCenter dataCenter) {
-        this.username = System.getenv("SAUCE_USERNAME");
-        this.accessKey = System.getenv("SAUCE_ACCESS_KEY");
-        this.credentials = initializeCredentials();
-        this.baseURL = dataCenter.apiServer;
+        this(System.getenv("SAUCE_USERNAME"), System.getenv("SAUCE_ACCESS_KEY"), dataCenter.apiServer, SauceRESTConfig.DEFAULT);
     }
 
     protected AbstractEndpoint(String apiServer) {
-        this.username = System.getenv("SAUCE_USERNAME");
-        this.accessKey = System.getenv("SAUCE_ACCESS_KEY");
-        this.credentials = initializeCredentials();
-        this.baseURL = apiServer;
+        this(System.getenv("SAUCE_USERNAME"), System.getenv("SAUCE_ACCESS_KEY"), apiServer, SauceRESTConfig.DEFAULT);
     }
 
     protected AbstractEndpoint(String username, String accessKey, DataCenter dataCenter) {
-        this.username = username;
-        this.accessKey = accessKey;
-        this.credentials = initializeCredentials();
-        this.baseURL = dataCenter.apiServer;
+        this(username, accessKey, dataCenter.apiServer, SauceRESTConfig.DEFAULT);
     }
 
     protected AbstractEndpoint(String username, String accessKey, String apiServer) {
+        this(username, accessKey, apiServer, SauceRESTConfig.DEFAULT);
+    }
+
+    protected AbstractEndpoint(String username, String accessKey, DataCenter dataCenter, SauceRESTConfig config) {
+        this(username, accessKey, dataCenter.apiServer, config);
+    }
+
+    protected AbstractEndpoint(String username, String accessKey, String apiServer, SauceRESTConfig config) {
         this.username = username;
         this.accessKey = accessKey;
         this.credentials = initializeCredentials();
         this.baseURL = apiServer;
+        this.httpClient = Objects.requireNonNull(config, "Config cannot be null").getHttpClient();
+        this.rateLimiter = config.getRateLimiter();
+        this.config = config;
+        this.callbackExecutor = config.getCallbackExecutor();
     }
 
     private String initializeCredentials() {
@@ -83,6 +89,13 @@ public abstract class AbstractEndpoint extends AbstractModel {
         return baseURL;
     }
 
+    /**
+     * @return The family this endpoint belongs to. The configured {@link RateLimiter} keeps a separate budget per family.
+     */
+    protected EndpointFamily getEndpointFamily() {
+        return EndpointFamily.OTHER;
+    }
+
     /**
      * Build a URL with query parameters.
      *
@@ -140,6 +153,23 @@ public abstract class AbstractEndpoint extends AbstractModel {
         return request(buildUrl(url, params), httpMethod);
     }
 
+    public CompletableFuture<Response> requestAsync(String url, HttpMethod httpMethod) {
+        return requestAsync(url, httpMethod, (String) null);
+    }
+
+    public CompletableFuture<Response> requestAsync(String url, HttpMethod httpMethod, Map<String, Object> body) {
+        return requestAsync(url, httpMethod, new JSONObject(body).toString());
+    }
+
+    public CompletableFuture<Response> requestAsync(String url, HttpMethod httpMethod, String body) {
+        Request request = createRequest(url, httpMethod, body);
+        return makeRequestAsync(request);
+    }
+
+    public CompletableFuture<Response> requestWithQueryParametersAsync(String url, HttpMethod httpMethod, Map<String, Object> params) {
+        return requestAsync(buildUrl(url, params), httpMethod);
+    }
+
     private Request createRequest(String url, HttpMethod httpMethod, String body) {
         Request.Builder chain = new Request.Builder()
                 .url(url)
@@ -170,17 +200,172 @@ public abstract class AbstractEndpoint extends AbstractModel {
         return chain.build();
     }
 
+    /**
+     * @return The executor running the continuations of asynchronous requests, see {@link SauceRESTConfig#getCallbackExecutor()}
+     */
+    protected Executor getCallbackExecutor() {
+        return callbackExecutor;
+    }
+
+    /**
+     * @return The retry policy configured for the family of this endpoint
+     */
+    protected RetryPolicy getRetryPolicy() {
+        return config.getRetryPolicy(getEndpointFamily());
+    }
+
+    /**
+     * Executes the request and retries it according to the {@link RetryPolicy} of this endpoint's family, as long
+     * as the {@link RetryBudget} allows. Responses of failed attempts are closed before retrying.
+     *
+     * @param request The HTTP request to execute.
+     * @return The successful HTTP response.
+     * @throws IOException If the request cannot be executed or the thread is interrupted while waiting to retry.
+     */
     protected Response makeRequest(Request request) throws IOException {
-        Response response;
-        try {
-            response = CLIENT.newCall(request).execute();
-        } catch (IOException e) {
-            logger.log(Level.SEVERE, "Error executing request", e);
-            throw new IOException(String.format("Error executing request: %s", e.getMessage()), e);
+        return makeRequest(request, getRetryPolicy());
+    }
+
+    /**
+     * Executes the request like {@link #makeRequest(Request)}, but retries it according to the given policy.
+     *
+     * @param request     The HTTP request to execute.
+     * @param retryPolicy The retry policy for this request only
+     * @return The successful HTTP response.
+     * @throws IOException If the request cannot be executed or the thread is interrupted while waiting to retry.
+     */
+    protected Response makeRequest(Request request, RetryPolicy retryPolicy) throws IOException {
+        RetryBudget retryBudget = config.getRetryBudget();
+        retryBudget.deposit();
+
+        long delay = 0;
+        for (int attempt = 0; ; attempt++) {
+            Response response = null;
+            IOException failure = null;
+            try {
+                response = execute(request);
+            } catch (IOException e) {
+                failure = e;
+            }
+
+            delay = nextRetryDelay(request, retryPolicy, retryBudget, attempt, delay, response, failure);
+            if (delay < 0) {
+                return handleResponse(request, response, failure, attempt);
+            }
+
+            logRetry(request, response, failure, delay);
+            if (response != null) {
+                response.close();
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting to retry request");
+            }
+        }
+    }
+
+    /**
+     * Non-blocking counterpart of {@link #makeRequest(Request)}. The request is handed to OkHttp's dispatcher with
+     * {@link Call#enqueue(Callback)} so no caller thread is blocked while waiting for the response.
+     *
+     * @param request The HTTP request to execute.
+     * @return A future completing with the successful HTTP response, or exceptionally with the same exceptions
+     * {@link #makeRequest(Request)} would throw.
+     */
+    protected CompletableFuture<Response> makeRequestAsync(Request request) {
+        return makeRequestAsync(request, getRetryPolicy());
+    }
+
+    /**
+     * Non-blocking counterpart of {@link #makeRequest(Request, RetryPolicy)}.
+     *
+     * @param request     The HTTP request to execute.
+     * @param retryPolicy The retry policy for this request only
+     * @return A future completing with the successful HTTP response.
+     */
+    protected CompletableFuture<Response> makeRequestAsync(Request request, RetryPolicy retryPolicy) {
+        RetryBudget retryBudget = config.getRetryBudget();
+        retryBudget.deposit();
+
+        CompletableFuture<Response> future = new CompletableFuture<>();
+        attemptAsync(request, retryPolicy, retryBudget, 0, 0, future);
+        return future;
+    }
+
+    private void attemptAsync(Request request, RetryPolicy retryPolicy, RetryBudget retryBudget, int attempt, long previousDelay,
+                              CompletableFuture<Response> future) {
+        CompletableFuture<Response> call = enqueue(request);
+        future.whenComplete((r, t) -> {
+            if (future.isCancelled()) {
+                call.cancel(true);
+            }
+        });
+
+        call.whenComplete((response, throwable) -> {
+            IOException failure = null;
+            if (throwable != null) {
+                failure = throwable instanceof IOException ? (IOException) throwable : new IOException(throwable);
+            }
+
+            long delay = nextRetryDelay(request, retryPolicy, retryBudget, attempt, previousDelay, response, failure);
+            if (delay < 0) {
+                try {
+                    future.complete(handleResponse(request, response, failure, attempt));
+                } catch (Exception e) {
+                    future.completeExceptionally(e);
+                }
+                return;
+            }
+
+            logRetry(request, response, failure, delay);
+            if (response != null) {
+                response.close();
+            }
+            CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS, callbackExecutor).execute(() -> {
+                if (!future.isDone()) {
+                    attemptAsync(request, retryPolicy, retryBudget, attempt + 1, delay, future);
+                }
+            });
+        });
+    }
+
+    /**
+     * @return The delay in milliseconds before the next attempt, or -1 if the request must not be retried
+     */
+    private long nextRetryDelay(Request request, RetryPolicy retryPolicy, RetryBudget retryBudget, int attempt, long previousDelay,
+                                Response response, IOException failure) {
+        if (attempt >= retryPolicy.getMaxRetries()) {
+            return -1;
+        }
+        boolean retryable = failure != null ? retryPolicy.isRetryable(request, failure) : retryPolicy.isRetryable(request, response);
+        if (!retryable) {
+            return -1;
+        }
+        long delay = retryPolicy.nextDelayMillis(previousDelay, response);
+        if (delay < 0) {
+            logger.log(Level.WARNING, "Not retrying, the server asked to retry after more than {0}", retryPolicy.getMaxRetryAfter());
+            return -1;
+        }
+        if (!retryBudget.tryWithdraw()) {
+            logger.log(Level.WARNING, "Not retrying, the retry budget is exhausted");
+            return -1;
         }
+        return delay;
+    }
+
+    private void logRetry(Request request, Response response, IOException failure, long delay) {
+        String reason = failure != null ? failure.getClass().getSimpleName() : "response code " + response.code();
+        logger.log(Level.WARNING, "Retrying {0} {1} in {2} ms because of: {3}",
+            new Object[]{request.method(), request.url(), delay, reason});
+    }
 
-        if (shouldRetryOnHttpError(response)) {
-            response = retryRequest(request);
+    private Response handleResponse(Request request, Response response, IOException failure, int attempt) throws IOException {
+        if (failure != null) {
+            String message = attempt == 0 ? "Error executing request" : "Error retrying request";
+            logger.log(Level.SEVERE, message, failure);
+            throw new IOException(String.format("%s: %s", message, failure.getMessage()), failure);
         }
 
         if (!response.isSuccessful()) {
@@ -188,50 +373,73 @@ public abstract class AbstractEndpoint extends AbstractModel {
                 new Object[]{request.method(), request.url(), response.code(), response.message()});
             responseHandler(this, response);
         }
-
         return response;
     }
 
-    private boolean shouldRetryOnHttpError(Response response) {
-        final int HTTP_TOO_MANY_REQUESTS = 429;
-        final int HTTP_SERVER_ERROR_MIN = 500;
-        final int HTTP_SERVER_ERROR_MAX = 599;
-        int responseCode = response.code();
-        boolean isHttpError = responseCode >= HTTP_SERVER_ERROR_MIN && responseCode <= HTTP_SERVER_ERROR_MAX;
-        boolean isTooManyRequests = responseCode == HTTP_TOO_MANY_REQUESTS;
-        return isHttpError || isTooManyRequests;
-    }
-
     /**
-     * Executes the given HTTP request and retries it if it fails due to a runtime exception, IOException,
-     * or IllegalStateException.
+     * Waits for a permit of the configured {@link RateLimiter} and executes the request.
      *
      * @param request The HTTP request to execute.
      * @return The HTTP response.
-     * @throws IOException If an I/O error occurs while executing the request.
+     * @throws IOException If an I/O error occurs or the thread is interrupted while waiting for a permit.
      */
-    private Response retryRequest(Request request) throws IOException {
-        Response response;
-        try {
-            response = Failsafe.with(new RetryPolicy<>()
-                    .handle(RuntimeException.class, IOException.class, IllegalStateException.class)
-                    .withBackoff(BACKOFF_INITIAL_DELAY, BACKOFF_MULTIPLIER, ChronoUnit.MILLIS)
-                    .withMaxRetries(MAX_RETRIES)
-                    .onRetry(e -> {
-                        if (e.getLastFailure() != null) {
-                            logger.log(Level.WARNING, String.format("Retrying because of: %s", e.getLastFailure().getClass().getSimpleName()));
-                        } else {
-                            logger.log(Level.WARNING, "Retrying");
-                        }
-                    }))
-                .get(() -> CLIENT.newCall(request).execute());
-        } catch (Exception e) {
-            logger.log(Level.SEVERE, "Error retrying request", e);
-            throw new IOException(String.format("Error retrying request: %s", e.getMessage()), e);
+    private Response execute(Request request) throws IOException {
+        EndpointFamily family = getEndpointFamily();
+        long wait = rateLimiter.reserve(family);
+        if (wait > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for rate limit of " + family);
+            }
         }
+
+        Response response = httpClient.newCall(request).execute();
+        rateLimiter.update(family, response);
         return response;
     }
 
+    private CompletableFuture<Response> enqueue(Request request) {
+        EndpointFamily family = getEndpointFamily();
+        CompletableFuture<Response> future = new CompletableFuture<>();
+        Call call = httpClient.newCall(request);
+        Runnable enqueue = () -> {
+            if (future.isDone()) {
+                return;
+            }
+            call.enqueue(new Callback() {
+                @Override
+                public void onFailure(Call call, IOException e) {
+                    future.completeExceptionally(e);
+                }
+
+                @Override
+                public void onResponse(Call call, Response response) {
+                    rateLimiter.update(family, response);
+                    if (!future.complete(response)) {
+                        response.close();
+                    }
+                }
+            });
+        };
+
+        // Wait for a permit without blocking the caller
+        long wait = rateLimiter.reserve(family);
+        if (wait > 0) {
+            CompletableFuture.delayedExecutor(wait, TimeUnit.NANOSECONDS, callbackExecutor).execute(enqueue);
+        } else {
+            enqueue.run();
+        }
+
+        future.whenComplete((response, throwable) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+        return future;
+    }
+
     /**
      * This method is used to deserialize a JSON object response from an API endpoint.
      *
@@ -245,8 +453,7 @@ public abstract class AbstractEndpoint extends AbstractModel {
         Objects.requireNonNull(jsonResponse, "JSON response cannot be null");
         Objects.requireNonNull(clazz, "Class object cannot be null");
 
-        Moshi moshi = MoshiSingleton.getInstance();
-        JsonAdapter<T> jsonAdapter = moshi.adapter(clazz);
+        JsonAdapter<T> jsonAdapter = MoshiSingleton.adapter(clazz);
         try {
             return jsonAdapter.fromJson(jsonResponse);
         } catch (IOException e) {
@@ -257,11 +464,23 @@ public abstract class AbstractEndpoint extends AbstractModel {
         }
     }
 
+    /**
+     * Deserializes a list wrapped in a JSON object, for example {@code {"builds": [...]}}, straight from the response
+     * stream. The response is closed afterwards.
+     *
+     * @param response Response from API endpoint
+     * @param clazz    The class of the list elements, only the first entry is used
+     * @param <T>      The type of the list elements
+     * @return The deserialized list of objects
+     * @throws IOException If the response cannot be read or deserialized
+     */
     protected <T> List<T> deserializeJSONObject(Response response, List<Class<? extends T>> clazz) throws IOException {
-        if (response.body() != null) {
-            return deserializeJSONObject(response.body().string(), clazz);
-        } else {
-            throw new IOException("Response body is null");
+        Objects.requireNonNull(clazz, "Class object cannot be null");
+
+        JsonAdapter<List<T>> jsonAdapter = MoshiSingleton.listAdapter(clazz.get(0));
+        try (ResponseBody body = requireBody(response);
+             JsonReader reader = JsonReader.of(body.source())) {
+            return fromJson(reader, jsonAdapter, clazz.get(0), true);
         }
     }
 
@@ -269,28 +488,32 @@ public abstract class AbstractEndpoint extends AbstractModel {
         Objects.requireNonNull(jsonResponse, "JSON response cannot be null");
         Objects.requireNonNull(clazz, "Class object cannot be null");
 
-        Moshi moshi = MoshiSingleton.getInstance();
-        JsonAdapter<List<T>> jsonAdapter = moshi.adapter(Types.newParameterizedType(List.class, clazz.get(0)));
-        try (ByteArrayInputStream inputStream = new ByteArrayInputStream(jsonResponse.getBytes());
-             JsonReader reader = JsonReader.of(Okio.buffer(Okio.source(inputStream)))) {
-            reader.beginObject();
-            reader.nextName();
-            List<T> list = jsonAdapter.fromJson(reader);
-            reader.endObject();
-            return list;
-        } catch (IOException e) {
-            throw new IOException("Error deserializing JSON response to " + clazz.get(0).getSimpleName() + " class", e);
+        JsonAdapter<List<T>> jsonAdapter = MoshiSingleton.listAdapter(clazz.get(0));
+        try (JsonReader reader = JsonReader.of(new Buffer().writeUtf8(jsonResponse))) {
+            return fromJson(reader, jsonAdapter, clazz.get(0), true);
         } catch (JsonDataException e) {
             logger.warning("Could not deserialize JSON response:" + System.lineSeparator() + jsonResponse);
             throw e;
         }
     }
 
+    /**
+     * Deserializes a JSON object straight from the response stream without copying the body into a String first.
+     * The response is closed afterwards.
+     *
+     * @param response Response from API endpoint
+     * @param clazz    The class to deserialize the JSON object into
+     * @param <T>      The type of the object to deserialize
+     * @return The deserialized object
+     * @throws IOException If the response cannot be read or deserialized
+     */
     protected <T> T deserializeJSONObject(Response response, Class<T> clazz) throws IOException {
-        if (response.body() != null) {
-            return deserializeJSONObject(response.body().string(), clazz);
-        } else {
-            throw new IOException("Response body is null");
+        Objects.requireNonNull(clazz, "Class object cannot be null");
+
+        JsonAdapter<T> jsonAdapter = MoshiSingleton.adapter(clazz);
+        try (ResponseBody body = requireBody(response);
+             JsonReader reader = JsonReader.of(body.source())) {
+            return fromJson(reader, jsonAdapter, clazz, false);
         }
     }
 
@@ -304,10 +527,7 @@ public abstract class AbstractEndpoint extends AbstractModel {
      * @throws IOException If the JSON array cannot be deserialized
      */
     protected <T> List<T> deserializeJSONArray(String jsonResponse, Class<T> clazz) throws IOException {
-        Moshi moshi = MoshiSingleton.getInstance();
-
-        Type listPlatform = Types.newParameterizedType(List.class, clazz);
-        JsonAdapter<List<T>> jsonAdapter = moshi.adapter(listPlatform);
+        JsonAdapter<List<T>> jsonAdapter = MoshiSingleton.listAdapter(clazz);
         try {
             return jsonAdapter.fromJson(jsonResponse);
         } catch (IOException e) {
@@ -318,12 +538,202 @@ public abstract class AbstractEndpoint extends AbstractModel {
         }
     }
 
+    /**
+     * Deserializes a JSON array straight from the response stream without copying the body into a String first.
+     * The response is closed afterwards.
+     *
+     * @param response Response from API endpoint
+     * @param clazz    The class to deserialize the JSON array elements into
+     * @param <T>      The type of the object to deserialize
+     * @return The deserialized list of objects
+     * @throws IOException If the response cannot be read or deserialized
+     */
     protected <T> List<T> deserializeJSONArray(Response response, Class<T> clazz) throws IOException {
-        if (response.body() != null) {
-            return deserializeJSONArray(response.body().string(), clazz);
-        } else {
+        JsonAdapter<List<T>> jsonAdapter = MoshiSingleton.listAdapter(clazz);
+        try (ResponseBody body = requireBody(response);
+             JsonReader reader = JsonReader.of(body.source())) {
+            return fromJson(reader, jsonAdapter, clazz, false);
+        }
+    }
+
+    private static ResponseBody requireBody(Response response) throws IOException {
+        ResponseBody body = response.body();
+        if (body == null) {
             throw new IOException("Response body is null");
         }
+        return body;
+    }
+
+    /**
+     * Reads one value with the given adapter. A response that cannot be mapped is logged with the JSON path of the
+     * problem rather than the whole payload, which may not be in memory.
+     *
+     * @param wrapped true if the value is the only member of a JSON object, e.g. {@code {"builds": [...]}}
+     */
+    private <T> T fromJson(JsonReader reader, JsonAdapter<T> jsonAdapter, Class<?> clazz, boolean wrapped) throws IOException {
+        try {
+            if (!wrapped) {
+                return jsonAdapter.fromJson(reader);
+            }
+            reader.beginObject();
+            reader.nextName();
+            T value = jsonAdapter.fromJson(reader);
+            reader.endObject();
+            return value;
+        } catch (JsonDataException e) {
+            logger.warning("Could not deserialize JSON response to " + clazz.getSimpleName() + ": " + e.getMessage());
+            throw e;
+        } catch (IOException e) {
+            throw new IOException("Error deserializing JSON response to " + clazz.getSimpleName() + " class", e);
+        }
+    }
+
+    /**
+     * Deserializes the response of an asynchronous request once it completes. Deserialization reads from the socket,
+     * so it runs on the {@link #getCallbackExecutor() callback executor} and not on the OkHttp I/O thread.
+     *
+     * @param response Future of the response from the API endpoint
+     * @param clazz    The class to deserialize the JSON object into
+     * @param <T>      The type of the object to deserialize
+     * @return A future completing with the deserialized object
+     */
+    protected <T> CompletableFuture<T> deserializeJSONObjectAsync(CompletableFuture<Response> response, Class<T> clazz) {
+        return cancelRequestWith(response, response.thenApplyAsync(r -> {
+            try {
+                return deserializeJSONObject(r, clazz);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, callbackExecutor));
+    }
+
+    protected <T> CompletableFuture<List<T>> deserializeJSONObjectAsync(CompletableFuture<Response> response, List<Class<? extends T>> clazz) {
+        return cancelRequestWith(response, response.thenApplyAsync(r -> {
+            try {
+                return deserializeJSONObject(r, clazz);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, callbackExecutor));
+    }
+
+    /**
+     * Deserializes the JSON array response of an asynchronous request once it completes. Deserialization runs on the
+     * {@link #getCallbackExecutor() callback executor} and not on the OkHttp I/O thread.
+     *
+     * @param response Future of the response from the API endpoint
+     * @param clazz    The class to deserialize the JSON array into
+     * @param <T>      The type of the object to deserialize
+     * @return A future completing with the deserialized list of objects
+     */
+    protected <T> CompletableFuture<List<T>> deserializeJSONArrayAsync(CompletableFuture<Response> response, Class<T> clazz) {
+        return cancelRequestWith(response, response.thenApplyAsync(r -> {
+            try {
+                return deserializeJSONArray(r, clazz);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, callbackExecutor));
+    }
+
+    /**
+     * Cancelling a future derived from a request, e.g. with {@link CompletableFuture#thenApply}, does not cancel the
+     * request itself. This cancels the request, and with it its HTTP call, when the derived future is cancelled.
+     *
+     * @param request Future of the request, as returned by {@link #makeRequestAsync(Request)}
+     * @param derived Future derived from the request
+     * @param <T>     The type of the derived result
+     * @return The derived future
+     */
+    protected static <T> CompletableFuture<T> cancelRequestWith(CompletableFuture<?> request, CompletableFuture<T> derived) {
+        derived.whenComplete((result, throwable) -> {
+            if (derived.isCancelled()) {
+                request.cancel(true);
+            }
+        });
+        return derived;
+    }
+
+    /**
+     * Runs a blocking task per input, at most {@code maxConcurrent} at a time, on the
+     * {@link #getCallbackExecutor() callback executor}. The calling thread works through the inputs as well, so a busy
+     * executor slows the tasks down but never stalls them. A failed task does not stop the others, its failure is
+     * passed to {@code onFailure} on the calling thread. After an interrupt no further task is started.
+     *
+     * @param inputs        The inputs of the tasks
+     * @param maxConcurrent Maximum number of tasks running at the same time
+     * @param task          The task run for each input
+     * @param onFailure     Returns the result for an input whose task failed, see {@link #asIOException(Throwable)}
+     * @param <I>           The type of the inputs
+     * @param <R>           The type of the results
+     * @return The results in the order of the inputs
+     * @throws InterruptedIOException if the thread is interrupted while waiting for the tasks
+     */
+    protected <I, R> List<R> runConcurrently(List<I> inputs, int maxConcurrent, ConcurrentTask<I, R> task,
+                                             BiFunction<I, IOException, R> onFailure) throws InterruptedIOException {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("maxConcurrent must be at least 1: " + maxConcurrent);
+        }
+        int size = inputs.size();
+        List<R> results = new ArrayList<>(Collections.nCopies(size, null));
+        IOException[] failures = new IOException[size];
+        AtomicInteger next = new AtomicInteger();
+        AtomicBoolean stopped = new AtomicBoolean();
+        Runnable worker = () -> {
+            for (int i = next.getAndIncrement(); i < size && !stopped.get() && !Thread.currentThread().isInterrupted();
+                 i = next.getAndIncrement()) {
+                try {
+                    results.set(i, task.run(inputs.get(i)));
+                } catch (IOException | RuntimeException e) {
+                    failures[i] = asIOException(e);
+                }
+            }
+        };
+
+        List<CompletableFuture<Void>> workers = new ArrayList<>();
+        for (int i = 1; i < Math.min(maxConcurrent, size); i++) {
+            workers.add(CompletableFuture.runAsync(worker, callbackExecutor));
+        }
+        try {
+            worker.run();
+            CompletableFuture.allOf(workers.toArray(new CompletableFuture<?>[0])).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while running " + size + " concurrent tasks");
+        } catch (ExecutionException e) {
+            // Workers catch everything but errors
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            stopped.set(true);
+        }
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedIOException("Interrupted while running " + size + " concurrent tasks");
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (failures[i] != null) {
+                results.set(i, onFailure.apply(inputs.get(i), failures[i]));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * HTTP errors are thrown as the unchecked {@link SauceException}. Bulk operations report them like I/O failures,
+     * together with any other failure of a single request.
+     *
+     * @param failure The failure, possibly wrapped in a {@link CompletionException} or {@link ExecutionException}
+     * @return The failure as {@link IOException}
+     */
+    protected static IOException asIOException(Throwable failure) {
+        Throwable cause = failure;
+        if ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof IOException ? (IOException) cause : new IOException(cause.getMessage(), cause);
     }
 
     protected void downloadFile(String url, String path, String fileName) {
@@ -338,6 +748,26 @@ public abstract class AbstractEndpoint extends AbstractModel {
         downloadFile(url, path, Paths.get(url).getFileName().toString());
     }
 
+    /**
+     * Streams the response body to a file without holding it in memory. Missing parent directories are created and
+     * the response is closed afterwards.
+     *
+     * @param response Response whose body is written
+     * @param path     Path including filename of the file to write
+     * @return Number of bytes written
+     * @throws IOException If the body cannot be read or the file cannot be written
+     */
+    protected long writeToFile(Response response, Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (Response r = response;
+             BufferedSink sink = Okio.buffer(Okio.sink(path.toFile()))) {
+            return sink.writeAll(requireBody(r).source());
+        }
+    }
+
     protected Path getDirectoryPath(String directoryPathString) throws IOException {
         if (directoryPathString == null || directoryPathString.isEmpty()) {
             // Use current directory if directoryPath is not specified
@@ -354,4 +784,15 @@ public abstract class AbstractEndpoint extends AbstractModel {
     protected Path getFilePath(Path directoryPath, String fileName) {
         return directoryPath.resolve(fileName);
     }
-}
\ No newline at end of file
+
+    /**
+     * A blocking task run by {@link #runConcurrently(List, int, ConcurrentTask, BiFunction)}.
+     *
+     * @param <I> The type of the input
+     * @param <R> The type of the result
+     */
+    @FunctionalInterface
+    public interface ConcurrentTask<I, R> {
+        R run(I input) throws IOException;
+    }
+}
@@ -2,13 +2,16 @@ package com.saucelabs.saucerest.api;
 
 import com.google.common.collect.ImmutableMap;
 import com.saucelabs.saucerest.DataCenter;
+import com.saucelabs.saucerest.EndpointFamily;
 import com.saucelabs.saucerest.HttpMethod;
+import com.saucelabs.saucerest.SauceRESTConfig;
 import com.saucelabs.saucerest.model.accounts.*;
 import okhttp3.Response;
 
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Account Management API Methods <br>
@@ -32,6 +35,14 @@ public class AccountsEndpoint extends AbstractEndpoint {
         super(username, accessKey, apiServer);
     }
 
+    public AccountsEndpoint(String username, String accessKey, DataCenter dataCenter, SauceRESTConfig config) {
+        super(username, accessKey, dataCenter, config);
+    }
+
+    public AccountsEndpoint(String username, String accessKey, String apiServer, SauceRESTConfig config) {
+        super(username, accessKey, apiServer, config);
+    }
+
     @Override
     protected String getBaseEndpoint() {
         return super.getBaseEndpoint() + "team-management/v1/";
@@ -49,6 +60,17 @@ public class AccountsEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.GET), LookupTeams.class);
     }
 
+    /**
+     * Asynchronous version of {@link #lookupTeams()}.
+     *
+     * @return {@link CompletableFuture} completing with {@link LookupTeams}
+     */
+    public CompletableFuture<LookupTeams> lookupTeamsAsync() {
+        String url = getBaseEndpoint() + "teams/";
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.GET), LookupTeams.class);
+    }
+
     /**
      * @param name Returns the set of teams that begin with the specified name value. For example, name=sauce would return all teams in the organization with names beginning with "sauce".
      * @return {@link LookupTeams}
@@ -60,6 +82,18 @@ public class AccountsEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.GET), LookupTeams.class);
     }
 
+    /**
+     * Asynchronous version of {@link #lookupTeams(String)}.
+     *
+     * @param name Returns the set of teams that begin with the specified name value. For example, name=sauce would return all teams in the organization with names beginning with "sauce".
+     * @return {@link CompletableFuture} completing with {@link LookupTeams}
+     */
+    public CompletableFuture<LookupTeams> lookupTeamsAsync(String name) {
+        String url = getBaseEndpoint() + "teams?name=" + name;
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.GET), LookupTeams.class);
+    }
+
     /**
      * Returns the full profile of the specified team. The ID of the team is the only valid unique identifier.
      *
@@ -73,6 +107,18 @@ public class AccountsEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.GET), Team.class);
     }
 
+    /**
+     * Asynchronous version of {@link #getSpecificTeam(String)}.
+     *
+     * @param teamID The unique identifier of the team. You can look up the IDs of teams in your organization using the Lookup Teams ({@link LookupTeams}) endpoint.
+     * @return {@link CompletableFuture} completing with {@link Team}
+     */
+    public CompletableFuture<Team> getSpecificTeamAsync(String teamID) {
+        String url = getBaseEndpoint() + "teams/" + teamID;
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.GET), Team.class);
+    }
+
     /**
      * Creates a new team under the organization of the requesting account.
      *
@@ -91,16 +137,56 @@ public class AccountsEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.POST, map), CreateTeam.class);
     }
 
+    /**
+     * Asynchronous version of {@link #createTeam(String, Settings, String)}.
+     *
+     * @param name        A name for the new team.
+     * @param settings    The settings object specifies the concurrency allocations for the team within the organization. The available attributes are:
+     *                    virtual_machines - INTEGER
+     *                    The settings parameter is required, but you only need to include the applicable concurrency attribute(s) for the team.
+     * @param description A description to distinguish the team within the organization.
+     * @return {@link CompletableFuture} completing with {@link CreateTeam}
+     */
+    public CompletableFuture<CreateTeam> createTeamAsync(String name, Settings settings, String description) {
+        String url = getBaseEndpoint() + "teams/";
+        Map<String, Object> map = ImmutableMap.of("name", name, "settings", settings, "description", description);
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.POST, map), CreateTeam.class);
+    }
+
     public CreateTeam createTeam(String name, Integer VMConcurrency, String description) throws IOException {
         return createTeam(name, new Settings.Builder().setVirtualMachines(VMConcurrency).build(), description);
     }
 
+    /**
+     * Asynchronous version of {@link #createTeam(String, Integer, String)}.
+     *
+     * @param name          A name for the new team.
+     * @param VMConcurrency The virtual machine concurrency allocation for the team.
+     * @param description   A description to distinguish the team within the organization.
+     * @return {@link CompletableFuture} completing with {@link CreateTeam}
+     */
+    public CompletableFuture<CreateTeam> createTeamAsync(String name, Integer VMConcurrency, String description) {
+        return createTeamAsync(name, new Settings.Builder().setVirtualMachines(VMConcurrency).build(), description);
+    }
+
     public Organizations getOrganization() throws IOException {
         String url = getBaseEndpoint() + "organizations";
 
         return deserializeJSONObject(request(url, HttpMethod.GET), Organizations.class);
     }
 
+    /**
+     * Asynchronous version of {@link #getOrganization()}.
+     *
+     * @return {@link CompletableFuture} completing with {@link Organizations}
+     */
+    public CompletableFuture<Organizations> getOrganizationAsync() {
+        String url = getBaseEndpoint() + "organizations";
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.GET), Organizations.class);
+    }
+
     /**
      * Deletes the specified team from the organization of the requesting account.
      *
@@ -114,6 +200,18 @@ public class AccountsEndpoint extends AbstractEndpoint {
         return request(url, HttpMethod.DELETE);
     }
 
+    /**
+     * Asynchronous version of {@link #deleteTeam(String)}.
+     *
+     * @param teamID The unique identifier of the team. You can look up the IDs of teams in your organization using the {@link LookupTeams} endpoint.
+     * @return {@link CompletableFuture} completing with {@link Response}
+     */
+    public CompletableFuture<Response> deleteTeamAsync(String teamID) {
+        String url = getBaseEndpoint() + "teams/" + teamID;
+
+        return requestAsync(url, HttpMethod.DELETE);
+    }
+
     /**
      * Replaces all values of the specified team with the new set of parameters passed in the request. To update only certain parameters, see Partially Update Team.
      *
@@ -133,6 +231,24 @@ public class AccountsEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.PUT, map), UpdateTeam.class);
     }
 
+    /**
+     * Asynchronous version of {@link #updateTeam(String, String, Settings, String)}.
+     *
+     * @param teamID      The unique identifier of the team. You can look up the IDs of teams in your organization using the {@link LookupTeams} endpoint.
+     * @param name        The name of the team as it will be after the update. Pass the current value to keep the name unchanged.
+     * @param settings    The updated concurrency allocations for the team. The available attributes are:
+     *                    virtual_machines - INTEGER
+     *                    The settings parameter is required, but you only need to include the applicable concurrency attribute(s) for the team.
+     * @param description A description to distinguish the team within the organization. If the previous team definition included a description, omitting the parameter in the update will delete it from the team record.
+     * @return {@link CompletableFuture} completing with {@link UpdateTeam}
+     */
+    public CompletableFuture<UpdateTeam> updateTeamAsync(String teamID, String name, Settings settings, String description) {
+        String url = getBaseEndpoint() + "teams/" + teamID;
+        Map<String, Object> map = ImmutableMap.of("name", name, "settings", settings, "description", description);
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.PUT, map), UpdateTeam.class);
+    }
+
     /**
      * Updates one or more individual editable parameters (such as the concurrency allocation) of the specified team without requiring a full profile update.
      *
@@ -147,6 +263,19 @@ public class AccountsEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.PATCH, updateTeam.toJson()), UpdateTeam.class);
     }
 
+    /**
+     * Asynchronous version of {@link #partiallyUpdateTeam(String, UpdateTeam)}.
+     *
+     * @param teamID     The unique identifier of the team. You can look up the ID of teams in your organization using the {@link LookupTeams} endpoint.
+     * @param updateTeam The {@link UpdateTeam} object containing the parameters to update.
+     * @return {@link CompletableFuture} completing with {@link UpdateTeam}
+     */
+    public CompletableFuture<UpdateTeam> partiallyUpdateTeamAsync(String teamID, UpdateTeam updateTeam) {
+        String url = getBaseEndpoint() + "teams/" + teamID;
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.PATCH, updateTeam.toJson()), UpdateTeam.class);
+    }
+
     /**
      * Returns the number of members in the specified team and lists each member.
      *
@@ -160,6 +289,18 @@ public class AccountsEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.GET), TeamMembers.class);
     }
 
+    /**
+     * Asynchronous version of {@link #getTeamMembers(String)}.
+     *
+     * @param teamID Identifies the team for which you are requesting the list of members.
+     * @return {@link CompletableFuture} completing with {@link TeamMembers}
+     */
+    public CompletableFuture<TeamMembers> getTeamMembersAsync(String teamID) {
+        String url = getBaseEndpoint() + "teams/" + teamID + "/members";
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.GET), TeamMembers.class);
+    }
+
     /**
      * Globally regenerates new access key values for every member of the specified team.
      *
@@ -173,6 +314,18 @@ public class AccountsEndpoint extends AbstractEndpoint {
         return deserializeJSONArray(request(url, HttpMethod.POST, ""), ResetAccessKeyForTeam.class);
     }
 
+    /**
+     * Asynchronous version of {@link #resetAccessKeyForTeam(String)}.
+     *
+     * @param teamID Identifies the team for which you are resetting member access keys.
+     * @return {@link CompletableFuture} completing with {@link ResetAccessKeyForTeam}
+     */
+    public CompletableFuture<List<ResetAccessKeyForTeam>> resetAccessKeyForTeamAsync(String teamID) {
+        String url = getBaseEndpoint() + "teams/" + teamID + "/reset-access-key";
+
+        return deserializeJSONArrayAsync(requestAsync(url, HttpMethod.POST, ""), ResetAccessKeyForTeam.class);
+    }
+
     /**
      * Queries the organization of the requesting account and returns the number of users matching the query and a basic profile of each user, including the ID value, which may be a required parameter of other API calls related to a specific user.
      *
@@ -185,6 +338,17 @@ public class AccountsEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.GET), LookupUsers.class);
     }
 
+    /**
+     * Asynchronous version of {@link #lookupUsers()}.
+     *
+     * @return {@link CompletableFuture} completing with {@link LookupUsers}
+     */
+    public CompletableFuture<LookupUsers> lookupUsersAsync() {
+        String url = getBaseEndpoint() + "users/";
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.GET), LookupUsers.class);
+    }
+
     /**
      * Queries the organization of the requesting account and returns the number of users matching the query and a basic profile of each user, including the ID value, which may be a required parameter of other API calls related to a specific user.
      *
@@ -198,6 +362,18 @@ public class AccountsEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(requestWithQueryParameters(url, HttpMethod.GET, lookupUsersParameter.toMap()), LookupUsers.class);
     }
 
+    /**
+     * Asynchronous version of {@link #lookupUsers(LookupUsersParameter)}.
+     *
+     * @param lookupUsersParameter {@link LookupUsersParameter}
+     * @return {@link CompletableFuture} completing with {@link LookupUsers}
+     */
+    public CompletableFuture<LookupUsers> lookupUsersAsync(LookupUsersParameter lookupUsersParameter) {
+        String url = getBaseEndpoint() + "users/";
+
+        return deserializeJSONObjectAsync(requestWithQueryParametersAsync(url, HttpMethod.GET, lookupUsersParameter.toMap()), LookupUsers.class);
+    }
+
     /**
      * Returns the full profile of the specified user. The ID of the user is the only valid unique identifier.
      *
@@ -211,6 +387,18 @@ public class AccountsEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.GET), User.class);
     }
 
+    /**
+     * Asynchronous version of {@link #getUser(String)}.
+     *
+     * @param userID The user's unique identifier. You can look up the IDs of users in your organization using the {@link LookupUsers} endpoint.
+     * @return {@link CompletableFuture} completing with {@link User}
+     */
+    public CompletableFuture<User> getUserAsync(String userID) {
+        String url = getBaseEndpoint() + "users/" + userID;
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.GET), User.class);
+    }
+
     /**
      * Creates a new user in the Sauce Labs platform.
      *
@@ -224,6 +412,18 @@ public class AccountsEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.POST, createUser.toMap()), User.class);
     }
 
+    /**
+     * Asynchronous version of {@link #createUser(CreateUser)}.
+     *
+     * @param createUser {@link CreateUser}
+     * @return {@link CompletableFuture} completing with {@link User}
+     */
+    public CompletableFuture<User> createUserAsync(CreateUser createUser) {
+        String url = getBaseEndpoint() + "users/";
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.POST, createUser.toMap()), User.class);
+    }
+
     /**
      * Replaces all values of the specified user profile with the new set of parameters passed in the request. To update only certain parameters, see Partially Update a User.
      *
@@ -237,6 +437,18 @@ public class AccountsEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.PUT, updateUser.toMap()), User.class);
     }
 
+    /**
+     * Asynchronous version of {@link #updateUser(UpdateUser)}.
+     *
+     * @param updateUser {@link UpdateUser}
+     * @return {@link CompletableFuture} completing with {@link User}
+     */
+    public CompletableFuture<User> updateUserAsync(UpdateUser updateUser) {
+        String url = getBaseEndpoint() + "users/" + updateUser.getUserID();
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.PUT, updateUser.toMap()), User.class);
+    }
+
     /**
      * Allows you to update individual user values without replacing the entire profile.
      *
@@ -250,6 +462,18 @@ public class AccountsEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.PATCH, updateUser.toMap()), User.class);
     }
 
+    /**
+     * Asynchronous version of {@link #partiallyUpdateUser(UpdateUser)}.
+     *
+     * @param updateUser {@link UpdateUser}
+     * @return {@link CompletableFuture} completing with {@link User}
+     */
+    public CompletableFuture<User> partiallyUpdateUserAsync(UpdateUser updateUser) {
+        String url = getBaseEndpoint() + "users/" + updateUser.getUserID();
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.PATCH, updateUser.toMap()), User.class);
+    }
+
     /**
      * Returns details about the current in-use virtual machines and real devices along with the maximum allowed values. <br> <br>
      * NOTE:
@@ -265,6 +489,18 @@ public class AccountsEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.GET), UserConcurrency.class);
     }
 
+    /**
+     * Asynchronous version of {@link #getUserConcurrency(String)}.
+     *
+     * @param username The username of the user whose concurrency you are looking up. You can look up a user's name using a variety of filtering parameters with the {@link LookupUsers} endpoint.
+     * @return {@link CompletableFuture} completing with {@link UserConcurrency}
+     */
+    public CompletableFuture<UserConcurrency> getUserConcurrencyAsync(String username) {
+        String url = super.getBaseEndpoint() + "rest/v1.2/users/" + username + "/concurrency";
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.GET), UserConcurrency.class);
+    }
+
     /**
      * Returns the number of teams a user belongs to and provides information about each team, including whether it is the default and its concurrency settings.
      *
@@ -278,6 +514,18 @@ public class AccountsEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.GET), UsersTeam.class);
     }
 
+    /**
+     * Asynchronous version of {@link #getUsersTeam(String)}.
+     *
+     * @param userID The unique identifier of the user. You can look up a user's ID using the {@link LookupUsers} endpoint.
+     * @return {@link CompletableFuture} completing with {@link UsersTeam}
+     */
+    public CompletableFuture<UsersTeam> getUsersTeamAsync(String userID) {
+        String url = getBaseEndpoint() + "users/" + userID + "/teams/";
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.GET), UsersTeam.class);
+    }
+
     /**
      * Set a user's team affiliation. Users are limited to one team affiliation, so if the user is already a member of a different team, this call will remove them from that team.
      * Also, By default, the user will not have team-admin privileges, even if they did on a prior team.
@@ -295,6 +543,21 @@ public class AccountsEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.POST, map), SetTeam.class);
     }
 
+    /**
+     * Asynchronous version of {@link #setUsersTeam(String, String)}.
+     *
+     * @param userID The unique identifier of the Sauce Labs user to be added to the team.You can look up the ID of a user in your organization using the {@link LookupUsers} endpoint.
+     * @param teamID The identifier of the team to which the user will be added. You can look up the ID of a team in your organization using the {@link LookupTeams} endpoint.
+     * @return {@link CompletableFuture} completing with {@link User}
+     */
+    public CompletableFuture<SetTeam> setUsersTeamAsync(String userID, String teamID) {
+        String url = getBaseEndpoint() + "membership";
+
+        Map<String, Object> map = ImmutableMap.of("user", userID, "team", teamID);
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.POST, map), SetTeam.class);
+    }
+
     /**
      * Assigns administrator rights to the user within their organization. Organization Admins automatically have Team Admin rights in all the teams in the Organization.
      *
@@ -308,6 +571,18 @@ public class AccountsEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.POST), User.class);
     }
 
+    /**
+     * Asynchronous version of {@link #setAdmin(String)}.
+     *
+     * @param userID The unique identifier of the user. You can look up a user's ID using the {@link LookupUsers} endpoint.
+     * @return {@link CompletableFuture} completing with {@link User}
+     */
+    public CompletableFuture<User> setAdminAsync(String userID) {
+        String url = getBaseEndpoint() + "users/" + userID + "/set-admin";
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.POST), User.class);
+    }
+
     /**
      * Assigns team administrator rights to the user within their current team. If the user is currently assigned an Org Admin role, this call would reduce the rights to only those of a Team Admin.
      *
@@ -321,6 +596,18 @@ public class AccountsEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.POST), User.class);
     }
 
+    /**
+     * Asynchronous version of {@link #setTeamAdmin(String)}.
+     *
+     * @param userID The unique identifier of the user. You can look up a user's ID using the {@link LookupUsers} endpoint.
+     * @return {@link CompletableFuture} completing with {@link User}
+     */
+    public CompletableFuture<User> setTeamAdminAsync(String userID) {
+        String url = getBaseEndpoint() + "users/" + userID + "/set-team-admin";
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.POST), User.class);
+    }
+
     /**
      * Assigns the member role to the user. If the user is currently assigned any Admin rights, this call removes those rights.
      *
@@ -334,6 +621,18 @@ public class AccountsEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.POST), User.class);
     }
 
+    /**
+     * Asynchronous version of {@link #setMember(String)}.
+     *
+     * @param userID The unique identifier of the user. You can look up a user's ID using the {@link LookupUsers} endpoint.
+     * @return {@link CompletableFuture} completing with {@link User}
+     */
+    public CompletableFuture<User> setMemberAsync(String userID) {
+        String url = getBaseEndpoint() + "users/" + userID + "/set-member";
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.POST), User.class);
+    }
+
     /**
      * Retrieves the Sauce Labs access key for the specified user.
      *
@@ -347,6 +646,18 @@ public class AccountsEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.GET), User.class);
     }
 
+    /**
+     * Asynchronous version of {@link #getAccessKey(String)}.
+     *
+     * @param userID The unique identifier of the user. You can look up a user's ID using the {@link LookupUsers} endpoint.
+     * @return {@link CompletableFuture} completing with {@link User}
+     */
+    public CompletableFuture<User> getAccessKeyAsync(String userID) {
+        String url = getBaseEndpoint() + "users/" + userID + "/access-key";
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.GET), User.class);
+    }
+
     /**
      * Creates a new auto-generated access key for the specified user. <br> <br>
      * Regenerating an access key invalidates the previous value and any tests containing the prior value will fail, so make sure you update any tests and credential environment variables with the new value.
@@ -361,6 +672,18 @@ public class AccountsEndpoint extends AbstractEndpoint {
         return deserializeJSONArray(request(url, HttpMethod.POST), User.class);
     }
 
+    /**
+     * Asynchronous version of {@link #resetAccessKey(String)}.
+     *
+     * @param userID The unique identifier of the user. You can look up a user's ID using the {@link LookupUsers} endpoint.
+     * @return {@link CompletableFuture} completing with {@link User}
+     */
+    public CompletableFuture<List<User>> resetAccessKeyAsync(String userID) {
+        String url = getBaseEndpoint() + "users/" + userID + "/reset-access-key";
+
+        return deserializeJSONArrayAsync(requestAsync(url, HttpMethod.POST), User.class);
+    }
+
     /**
      * Suspends the specified user's account, preventing all access to Sauce Labs while deactivated.
      *
@@ -374,6 +697,18 @@ public class AccountsEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.POST), User.class);
     }
 
+    /**
+     * Asynchronous version of {@link #deactivateUser(String)}.
+     *
+     * @param userID The unique identifier of the user. You can look up a user's ID using the {@link LookupUsers} endpoint.
+     * @return {@link CompletableFuture} completing with {@link User}
+     */
+    public CompletableFuture<User> deactivateUserAsync(String userID) {
+        String url = getBaseEndpoint() + "users/" + userID + "/deactivate";
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.POST), User.class);
+    }
+
     /**
      * Re-activates the specified user's account, if it had been previously deactivated.
      *
@@ -386,4 +721,21 @@ public class AccountsEndpoint extends AbstractEndpoint {
 
         return deserializeJSONObject(request(url, HttpMethod.POST), User.class);
     }
+
+    /**
+     * Asynchronous version of {@link #activateUser(String)}.
+     *
+     * @param userID The unique identifier of the user. You can look up a user's ID using the {@link LookupUsers} endpoint.
+     * @return {@link CompletableFuture} completing with {@link User}
+     */
+    public CompletableFuture<User> activateUserAsync(String userID) {
+        String url = getBaseEndpoint() + "users/" + userID + "/activate";
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.POST), User.class);
+    }
+
+    @Override
+    protected EndpointFamily getEndpointFamily() {
+        return EndpointFamily.ACCOUNTS;
+    }
 }
\ No newline at end of file
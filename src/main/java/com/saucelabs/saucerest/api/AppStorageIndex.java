@@ -0,0 +1,297 @@
+package com.saucelabs.saucerest.api;
+
+import com.saucelabs.saucerest.MoshiSingleton;
+import com.saucelabs.saucerest.model.storage.GetAppFiles;
+import com.saucelabs.saucerest.model.storage.Item;
+import com.saucelabs.saucerest.model.storage.StorageParameter;
+import com.squareup.moshi.JsonAdapter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * Client side index of the files in Sauce Labs app storage, for frequent lookups without listing app storage each time.
+ * <br>
+ * Files are indexed by id, name, SHA-256 checksum, group id and upload timestamp. {@link #refresh()} only lists the
+ * files uploaded since the newest upload timestamp known to the index, relying on app storage listing files newest first.
+ * Deleted files and changes to older files are picked up by {@link #rebuild()}.
+ * <br>
+ * Lookups never block and see the state of the last completed refresh. With a file given, the index is loaded from it
+ * on creation and saved to it after every refresh, so it survives restarts.
+ */
+public class AppStorageIndex {
+    private static final Logger logger = Logger.getLogger(AppStorageIndex.class.getName());
+    private static final int PAGE_SIZE = 100;
+    private static final Comparator<Item> NEWEST_FIRST =
+        Comparator.comparingLong(AppStorageIndex::uploadTimestamp).reversed().thenComparing(item -> item.id);
+
+    private final StorageEndpoint storage;
+    private final Path file;
+    private volatile Snapshot snapshot = new Snapshot(Collections.emptyList());
+
+    /**
+     * @param storage The endpoint used to list app storage
+     */
+    public AppStorageIndex(StorageEndpoint storage) {
+        this(storage, null);
+    }
+
+    /**
+     * @param storage The endpoint used to list app storage
+     * @param file    File the index is loaded from and saved to, or null to keep the index in memory only
+     */
+    public AppStorageIndex(StorageEndpoint storage, Path file) {
+        this.storage = Objects.requireNonNull(storage, "Storage endpoint cannot be null");
+        this.file = file;
+        if (file != null && Files.exists(file)) {
+            load(file);
+        }
+    }
+
+    /**
+     * Adds the files uploaded since the last refresh. The first refresh of an empty index lists all files.
+     * The files uploaded at the watermark itself are listed again, so only those that are new or changed are counted.
+     *
+     * @return Number of files added or updated
+     * @throws IOException API request failed or the index file cannot be written
+     */
+    public synchronized int refresh() throws IOException {
+        Snapshot current = snapshot;
+        List<Item> newer = listFiles(current.watermark);
+
+        Map<String, Item> items = new LinkedHashMap<>(current.byId);
+        int changed = 0;
+        for (Item item : newer) {
+            if (!isUnchanged(current.byId.get(item.id), item)) {
+                changed++;
+            }
+            items.put(item.id, item);
+        }
+        if (changed > 0) {
+            update(new ArrayList<>(items.values()));
+        }
+        return changed;
+    }
+
+    /**
+     * Replaces the index with a complete listing of app storage, dropping files deleted since.
+     *
+     * @return Number of files in the index
+     * @throws IOException API request failed or the index file cannot be written
+     */
+    public synchronized int rebuild() throws IOException {
+        List<Item> items = listFiles(0);
+        update(items);
+        return snapshot.byId.size();
+    }
+
+    /**
+     * @return Newest upload timestamp in the index, 0 if it is empty
+     */
+    public long getWatermark() {
+        return snapshot.watermark;
+    }
+
+    /**
+     * @return Number of files in the index
+     */
+    public int size() {
+        return snapshot.byId.size();
+    }
+
+    public Optional<Item> getById(String id) {
+        return Optional.ofNullable(snapshot.byId.get(id));
+    }
+
+    /**
+     * @return Files with the name, newest first
+     */
+    public List<Item> getByName(String name) {
+        return snapshot.byName.getOrDefault(name, Collections.emptyList());
+    }
+
+    /**
+     * @return The newest file with the name
+     */
+    public Optional<Item> getLatest(String name) {
+        return getByName(name).stream().findFirst();
+    }
+
+    /**
+     * @param filter Condition on the file, for example on its {@code kind} or {@code metadata.version}
+     * @return The newest file matching the condition
+     */
+    public Optional<Item> getLatest(Predicate<Item> filter) {
+        return snapshot.newestFirst.stream().filter(filter).findFirst();
+    }
+
+    /**
+     * @return Files with the SHA-256 checksum, newest first
+     */
+    public List<Item> getBySha256(String sha256) {
+        return snapshot.bySha256.getOrDefault(sha256 == null ? null : sha256.toLowerCase(), Collections.emptyList());
+    }
+
+    /**
+     * @return Files of the group, newest first
+     */
+    public List<Item> getByGroupId(int groupId) {
+        return snapshot.byGroupId.getOrDefault(groupId, Collections.emptyList());
+    }
+
+    /**
+     * @param uploadTimestamp Upload timestamp in seconds since the epoch
+     * @return Files uploaded at or after the timestamp, newest first
+     */
+    public List<Item> getUploadedSince(long uploadTimestamp) {
+        return snapshot.byUploadTimestamp.headMap(uploadTimestamp, true).values().stream()
+            .flatMap(List::stream)
+            .collect(Collectors.toList());
+    }
+
+    private List<Item> listFiles(long watermark) throws IOException {
+        List<Item> items = new ArrayList<>();
+        for (int page = 1; ; page++) {
+            StorageParameter parameter = new StorageParameter.Builder()
+                .setPage(page)
+                .setPerPage(String.valueOf(PAGE_SIZE))
+                .build();
+
+            GetAppFiles files = storage.getFiles(parameter.toMap());
+            List<Item> pageItems = files.items == null ? Collections.emptyList() : files.items;
+            boolean reachedWatermark = false;
+            for (Item item : pageItems) {
+                if (uploadTimestamp(item) < watermark) {
+                    reachedWatermark = true;
+                } else if (item.id != null) {
+                    items.add(item);
+                }
+            }
+
+            boolean lastPage = pageItems.size() < PAGE_SIZE
+                || (files.totalItems != null && (long) page * PAGE_SIZE >= files.totalItems);
+            if (reachedWatermark || lastPage) {
+                return items;
+            }
+        }
+    }
+
+    private static boolean isUnchanged(Item known, Item item) {
+        return known != null
+            && Objects.equals(known.name, item.name)
+            && Objects.equals(known.uploadTimestamp, item.uploadTimestamp)
+            && Objects.equals(known.etag, item.etag)
+            && Objects.equals(known.sha256, item.sha256)
+            && Objects.equals(known.size, item.size)
+            && Objects.equals(known.description, item.description)
+            && Objects.equals(known.groupId, item.groupId)
+            && Arrays.equals(known.tags, item.tags);
+    }
+
+    private void update(List<Item> items) throws IOException {
+        snapshot = new Snapshot(items);
+        if (file != null) {
+            save(file, snapshot.newestFirst);
+        }
+    }
+
+    private void load(Path path) {
+        try {
+            List<Item> items = adapter().fromJson(new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+            snapshot = new Snapshot(items == null ? Collections.emptyList() : items);
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.WARNING, "Ignoring unreadable app storage index " + path, e);
+        }
+    }
+
+    private static void save(Path path, List<Item> items) throws IOException {
+        Path target = path.toAbsolutePath();
+        Path directory = Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(directory, "." + target.getFileName(), ".tmp");
+        try {
+            Files.write(temp, adapter().toJson(items).getBytes(StandardCharsets.UTF_8));
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static JsonAdapter<List<Item>> adapter() {
+        return MoshiSingleton.listAdapter(Item.class);
+    }
+
+    private static long uploadTimestamp(Item item) {
+        return item.uploadTimestamp == null ? 0 : item.uploadTimestamp;
+    }
+
+    /**
+     * Immutable state of the index, replaced as a whole on refresh so lookups need no locking.
+     */
+    private static final class Snapshot {
+        private final List<Item> newestFirst;
+        private final Map<String, Item> byId;
+        private final Map<String, List<Item>> byName;
+        private final Map<String, List<Item>> bySha256;
+        private final Map<Integer, List<Item>> byGroupId;
+        private final NavigableMap<Long, List<Item>> byUploadTimestamp;
+        private final long watermark;
+
+        private Snapshot(List<Item> items) {
+            List<Item> sorted = new ArrayList<>(items);
+            sorted.removeIf(item -> item == null || item.id == null);
+            sorted.sort(NEWEST_FIRST);
+
+            Map<String, Item> ids = new LinkedHashMap<>();
+            for (Item item : sorted) {
+                ids.putIfAbsent(item.id, item);
+            }
+            newestFirst = Collections.unmodifiableList(new ArrayList<>(ids.values()));
+            byId = Collections.unmodifiableMap(ids);
+            byName = group(newestFirst, item -> item.name);
+            bySha256 = group(newestFirst, item -> item.sha256 == null ? null : item.sha256.toLowerCase());
+            byGroupId = group(newestFirst, item -> item.groupId);
+
+            NavigableMap<Long, List<Item>> timestamps = new TreeMap<>(Comparator.reverseOrder());
+            timestamps.putAll(group(newestFirst, AppStorageIndex::uploadTimestamp));
+            byUploadTimestamp = Collections.unmodifiableNavigableMap(timestamps);
+            watermark = newestFirst.isEmpty() ? 0 : uploadTimestamp(newestFirst.get(0));
+        }
+
+        private static <K> Map<K, List<Item>> group(List<Item> items, Function<Item, K> key) {
+            Map<K, List<Item>> groups = new HashMap<>();
+            for (Item item : items) {
+                K value = key.apply(item);
+                if (value != null) {
+                    groups.computeIfAbsent(value, k -> new ArrayList<>()).add(item);
+                }
+            }
+            groups.replaceAll((k, list) -> Collections.unmodifiableList(list));
+            return Collections.unmodifiableMap(groups);
+        }
+    }
+}
\ No newline at end of file
@@ -1,14 +1,17 @@
 package com.saucelabs.saucerest.api;
 
 import com.saucelabs.saucerest.DataCenter;
+import com.saucelabs.saucerest.EndpointFamily;
 import com.saucelabs.saucerest.HttpMethod;
 import com.saucelabs.saucerest.JobSource;
+import com.saucelabs.saucerest.SauceRESTConfig;
 import com.saucelabs.saucerest.model.builds.Build;
 import com.saucelabs.saucerest.model.builds.LookupBuildsParameters;
 
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class BuildsEndpoint extends AbstractEndpoint {
 
@@ -28,6 +31,14 @@ public class BuildsEndpoint extends AbstractEndpoint {
         super(username, accessKey, apiServer);
     }
 
+    public BuildsEndpoint(String username, String accessKey, DataCenter dataCenter, SauceRESTConfig config) {
+        super(username, accessKey, dataCenter, config);
+    }
+
+    public BuildsEndpoint(String username, String accessKey, String apiServer, SauceRESTConfig config) {
+        super(username, accessKey, apiServer, config);
+    }
+
     /**
      * Queries the requesting account and returns a summary of each build matching the query, including the ID value, which may be a required parameter of other API calls related to a specific build.
      * <p>
@@ -43,6 +54,18 @@ public class BuildsEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.GET), Collections.singletonList(Build.class));
     }
 
+    /**
+     * Asynchronous version of {@link #lookupBuilds(JobSource)}.
+     *
+     * @param jobSource The type of device for which you are getting builds. Valid values are: {@link JobSource}
+     * @return {@link CompletableFuture} completing with a list of {@link Build} objects
+     */
+    public CompletableFuture<List<Build>> lookupBuildsAsync(JobSource jobSource) {
+        String url = getBaseEndpoint(jobSource);
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.GET), Collections.singletonList(Build.class));
+    }
+
     /**
      * Queries the requesting account and returns a summary of each build matching the query, including the ID value, which may be a required parameter of other API calls related to a specific build.
      * <p>
@@ -59,6 +82,19 @@ public class BuildsEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(requestWithQueryParameters(url, HttpMethod.GET, parameters.toMap()), Collections.singletonList(Build.class));
     }
 
+    /**
+     * Asynchronous version of {@link #lookupBuilds(JobSource, LookupBuildsParameters)}.
+     *
+     * @param jobSource  The type of device for which you are getting builds. Valid values are: {@link JobSource}
+     * @param parameters A {@link LookupBuildsParameters} object containing the parameters to filter the results
+     * @return {@link CompletableFuture} completing with a list of {@link Build} objects
+     */
+    public CompletableFuture<List<Build>> lookupBuildsAsync(JobSource jobSource, LookupBuildsParameters parameters) {
+        String url = getBaseEndpoint(jobSource);
+
+        return deserializeJSONObjectAsync(requestWithQueryParametersAsync(url, HttpMethod.GET, parameters.toMap()), Collections.singletonList(Build.class));
+    }
+
     /**
      * Retrieve the details related to a specific build by passing its unique ID in the request.
      * @param jobSource The type of test device associated with the job and build. Valid values are: {@link JobSource#VDC} and {@link JobSource#RDC}
@@ -72,10 +108,28 @@ public class BuildsEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.GET), Build.class);
     }
 
+    /**
+     * Asynchronous version of {@link #getSpecificBuild(JobSource, String)}.
+     *
+     * @param jobSource The type of test device associated with the job and build. Valid values are: {@link JobSource#VDC} and {@link JobSource#RDC}
+     * @param buildID   The unique identifier of the build to retrieve.
+     * @return {@link CompletableFuture} completing with a {@link Build} object
+     */
+    public CompletableFuture<Build> getSpecificBuildAsync(JobSource jobSource, String buildID) {
+        String url = getBaseEndpoint(jobSource) + buildID + "/";
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.GET), Build.class);
+    }
+
     /**
      * The base endpoint of the Builds endpoint APIs.
      */
     protected String getBaseEndpoint(JobSource jobSource) {
         return super.getBaseEndpoint() + "v2/builds/" + jobSource.value + "/";
     }
+
+    @Override
+    protected EndpointFamily getEndpointFamily() {
+        return EndpointFamily.BUILDS;
+    }
 }
\ No newline at end of file
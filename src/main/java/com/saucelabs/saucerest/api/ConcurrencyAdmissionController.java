@@ -0,0 +1,393 @@
+package com.saucelabs.saucerest.api;
+
+import com.saucelabs.saucerest.model.accounts.Allowed;
+import com.saucelabs.saucerest.model.accounts.Current;
+import com.saucelabs.saucerest.model.accounts.UserConcurrency;
+import com.saucelabs.saucerest.model.realdevices.Concurrency;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Hands out permits to start sessions, so that no more sessions are started than Sauce Labs has free slots for.
+ * <br>
+ * The current and allowed concurrency of each {@link Pool} is polled on a schedule. Between two polls the controller
+ * counts the permits it granted and released itself: the slots in use are those of the last poll, plus the permits
+ * granted and minus the permits released since that poll was sent, but never fewer than the permits held. Permits are requested with
+ * {@link #acquire(Pool)}, which completes in request order as slots become free. Release a permit when its session
+ * has ended. Until the first successful poll of a pool no permits of that pool are granted.
+ */
+public class ConcurrencyAdmissionController implements Closeable {
+    public static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(10);
+    private static final Logger logger = Logger.getLogger(ConcurrencyAdmissionController.class.getName());
+
+    private final Map<Pool, UsageFetcher> fetchers;
+    private final Map<Pool, PoolState> pools = new EnumMap<>(Pool.class);
+    private final long pollIntervalMillis;
+    private final ScheduledExecutorService scheduler;
+    private boolean started;
+    private boolean closed;
+
+    /**
+     * @param fetchers     Fetches the usage per pool, e.g. {@link UsageFetcher#virtualMachines(AccountsEndpoint, String)}
+     *                     and {@link UsageFetcher#realDevices(RealDevicesEndpoint)}. Pools without a fetcher grant no permits.
+     * @param pollInterval Delay between the end of one poll and the start of the next
+     */
+    public ConcurrencyAdmissionController(Map<Pool, UsageFetcher> fetchers, Duration pollInterval) {
+        if (pollInterval == null || pollInterval.isNegative() || pollInterval.isZero()) {
+            throw new IllegalArgumentException("pollInterval must be positive: " + pollInterval);
+        }
+        this.fetchers = new EnumMap<>(Pool.class);
+        this.fetchers.putAll(Objects.requireNonNull(fetchers, "Usage fetchers cannot be null"));
+        this.pollIntervalMillis = pollInterval.toMillis();
+        for (Pool pool : Pool.values()) {
+            pools.put(pool, new PoolState());
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "saucerest-admission-controller");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts polling in the background, beginning immediately. Calling it again does nothing.
+     *
+     * @return This controller
+     */
+    public synchronized ConcurrencyAdmissionController start() {
+        if (!started && !closed) {
+            started = true;
+            scheduler.scheduleWithFixedDelay(this::refreshQuietly, 0, pollIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+        return this;
+    }
+
+    /**
+     * Polls the usage of every pool with a fetcher now and grants permits to waiting requests for the slots found free.
+     *
+     * @throws IOException API request failed, the pools polled before keep their new usage
+     */
+    public void refresh() throws IOException {
+        for (Map.Entry<Pool, UsageFetcher> entry : fetchers.entrySet()) {
+            refresh(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Requests a permit to start one session.
+     *
+     * @param pool The pool the session uses a slot of
+     * @return Future completing with the permit as soon as a slot is free. Cancel it to give up waiting.
+     * @throws IllegalStateException If the controller is closed
+     */
+    public CompletableFuture<Permit> acquire(Pool pool) {
+        CompletableFuture<Permit> future = new CompletableFuture<>();
+        List<Runnable> grants;
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("Admission controller is closed");
+            }
+            pools.get(pool).waiters.add(future);
+            grants = dispatch(pool);
+        }
+        grants.forEach(Runnable::run);
+        return future;
+    }
+
+    /**
+     * @param pool The pool the session uses a slot of
+     * @return A permit if a slot is free right now and nobody is waiting for one
+     */
+    public Optional<Permit> tryAcquire(Pool pool) {
+        synchronized (this) {
+            PoolState state = pools.get(pool);
+            if (closed || !state.waiters.isEmpty() || available(state) <= 0) {
+                return Optional.empty();
+            }
+            return Optional.of(grant(pool, state));
+        }
+    }
+
+    /**
+     * @return Number of slots free for new permits, 0 before the first successful poll
+     */
+    public synchronized int getAvailable(Pool pool) {
+        return Math.max(0, available(pools.get(pool)));
+    }
+
+    /**
+     * @return Usage of the pool at the last successful poll, or null before the first one
+     */
+    public synchronized Usage getUsage(Pool pool) {
+        return pools.get(pool).usage;
+    }
+
+    /**
+     * @return Number of permits granted and not released yet
+     */
+    public synchronized int getHeld(Pool pool) {
+        return pools.get(pool).held;
+    }
+
+    /**
+     * @return Number of requests waiting for a permit
+     */
+    public synchronized int getWaiting(Pool pool) {
+        return pools.get(pool).waiters.size();
+    }
+
+    /**
+     * Stops polling and cancels the requests still waiting for a permit. Granted permits stay valid.
+     */
+    @Override
+    public void close() {
+        List<CompletableFuture<Permit>> cancelled = new ArrayList<>();
+        synchronized (this) {
+            closed = true;
+            for (PoolState state : pools.values()) {
+                cancelled.addAll(state.waiters);
+                state.waiters.clear();
+            }
+        }
+        cancelled.forEach(future -> future.cancel(false));
+        scheduler.shutdownNow();
+    }
+
+    private void refresh(Pool pool, UsageFetcher fetcher) throws IOException {
+        long grantedBefore;
+        long releasedBefore;
+        synchronized (this) {
+            grantedBefore = pools.get(pool).granted;
+            releasedBefore = pools.get(pool).released;
+        }
+
+        Usage usage = fetcher.fetch();
+
+        List<Runnable> grants;
+        synchronized (this) {
+            PoolState state = pools.get(pool);
+            state.usage = usage;
+            state.grantedSincePoll = state.granted - grantedBefore;
+            state.releasedSincePoll = state.released - releasedBefore;
+            grants = dispatch(pool);
+        }
+        grants.forEach(Runnable::run);
+    }
+
+    private void refreshQuietly() {
+        for (Map.Entry<Pool, UsageFetcher> entry : fetchers.entrySet()) {
+            try {
+                refresh(entry.getKey(), entry.getValue());
+            } catch (IOException | RuntimeException e) {
+                logger.log(Level.WARNING, "Polling the concurrency of " + entry.getKey() + " failed", e);
+            }
+        }
+    }
+
+    /**
+     * Grants permits to waiting requests while slots are free. Must be called holding the lock, the returned
+     * actions complete the futures and must be run after releasing it.
+     */
+    private List<Runnable> dispatch(Pool pool) {
+        PoolState state = pools.get(pool);
+        List<Runnable> grants = new ArrayList<>();
+        while (!state.waiters.isEmpty() && available(state) > 0) {
+            CompletableFuture<Permit> waiter = state.waiters.poll();
+            if (waiter.isDone()) {
+                continue;
+            }
+            Permit permit = grant(pool, state);
+            grants.add(() -> {
+                if (!waiter.complete(permit)) {
+                    // Cancelled while being granted
+                    permit.release();
+                }
+            });
+        }
+        return grants;
+    }
+
+    private Permit grant(Pool pool, PoolState state) {
+        state.held++;
+        state.granted++;
+        state.grantedSincePoll++;
+        return new Permit(pool);
+    }
+
+    private static int available(PoolState state) {
+        if (state.usage == null) {
+            return 0;
+        }
+        long used = Math.max(state.usage.getCurrent() + state.grantedSincePoll - state.releasedSincePoll, state.held);
+        return (int) Math.max(Integer.MIN_VALUE, state.usage.getAllowed() - used);
+    }
+
+    private void release(Pool pool) {
+        List<Runnable> grants;
+        synchronized (this) {
+            PoolState state = pools.get(pool);
+            state.held--;
+            state.released++;
+            state.releasedSincePoll++;
+            grants = closed ? new ArrayList<>() : dispatch(pool);
+        }
+        grants.forEach(Runnable::run);
+    }
+
+    private static final class PoolState {
+        private final Deque<CompletableFuture<Permit>> waiters = new ArrayDeque<>();
+        private Usage usage;
+        private long granted;
+        private long grantedSincePoll;
+        private long released;
+        private long releasedSincePoll;
+        private int held;
+    }
+
+    /**
+     * Kinds of sessions with a concurrency limit of their own.
+     */
+    public enum Pool {
+        VIRTUAL_MACHINES,
+        REAL_DEVICES
+    }
+
+    /**
+     * Permission to run one session. Release it when the session has ended, releasing it again does nothing.
+     */
+    public final class Permit implements AutoCloseable {
+        private final Pool pool;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Pool pool) {
+            this.pool = pool;
+        }
+
+        public Pool getPool() {
+            return pool;
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                ConcurrencyAdmissionController.this.release(pool);
+            }
+        }
+
+        @Override
+        public void close() {
+            release();
+        }
+    }
+
+    /**
+     * Concurrency of a pool as reported by the API.
+     */
+    public static final class Usage {
+        private final int current;
+        private final int allowed;
+
+        /**
+         * @param current Number of slots in use
+         * @param allowed Number of slots available to the account
+         */
+        public Usage(int current, int allowed) {
+            this.current = current;
+            this.allowed = allowed;
+        }
+
+        public int getCurrent() {
+            return current;
+        }
+
+        public int getAllowed() {
+            return allowed;
+        }
+
+        @Override
+        public String toString() {
+            return current + "/" + allowed;
+        }
+    }
+
+    /**
+     * Fetches the current usage of a pool.
+     */
+    @FunctionalInterface
+    public interface UsageFetcher {
+        Usage fetch() throws IOException;
+
+        /**
+         * Virtual machine usage of a user from {@link AccountsEndpoint#getUserConcurrency(String)}. If both the team
+         * and the organization report a limit, the one with fewer free slots applies.
+         *
+         * @param accounts The accounts endpoint
+         * @param username The user whose team and organization limits apply
+         * @return The fetcher
+         */
+        static UsageFetcher virtualMachines(AccountsEndpoint accounts, String username) {
+            return () -> {
+                UserConcurrency concurrency = accounts.getUserConcurrency(username);
+                if (concurrency == null || concurrency.concurrency == null) {
+                    throw new IOException("No concurrency reported for user " + username);
+                }
+                Usage usage = null;
+                if (concurrency.concurrency.organization != null) {
+                    usage = tighter(usage, concurrency.concurrency.organization.current, concurrency.concurrency.organization.allowed);
+                }
+                if (concurrency.concurrency.team != null) {
+                    usage = tighter(usage, concurrency.concurrency.team.current, concurrency.concurrency.team.allowed);
+                }
+                if (usage == null) {
+                    throw new IOException("No virtual machine concurrency reported for user " + username);
+                }
+                return usage;
+            };
+        }
+
+        /**
+         * Real device usage of the organization from {@link RealDevicesEndpoint#getConcurrency()}, which unlike the
+         * accounts API reports the current real device usage accurately.
+         *
+         * @param realDevices The real devices endpoint
+         * @return The fetcher
+         */
+        static UsageFetcher realDevices(RealDevicesEndpoint realDevices) {
+            return () -> {
+                Concurrency concurrency = realDevices.getConcurrency();
+                if (concurrency == null || concurrency.organization == null || concurrency.organization.maximum == null) {
+                    throw new IOException("No real device concurrency reported");
+                }
+                Integer current = concurrency.organization.current;
+                return new Usage(current == null ? 0 : current, concurrency.organization.maximum);
+            };
+        }
+
+        private static Usage tighter(Usage usage, Current current, Allowed allowed) {
+            if (allowed == null || allowed.vms == null) {
+                return usage;
+            }
+            Usage candidate = new Usage(current == null || current.vms == null ? 0 : current.vms, allowed.vms);
+            if (usage == null || candidate.getAllowed() - candidate.getCurrent() < usage.getAllowed() - usage.getCurrent()) {
+                return candidate;
+            }
+            return usage;
+        }
+    }
+}
\ No newline at end of file
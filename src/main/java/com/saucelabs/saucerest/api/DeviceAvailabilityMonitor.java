@@ -0,0 +1,181 @@
+package com.saucelabs.saucerest.api;
+
+import com.saucelabs.saucerest.model.realdevices.AvailableDevices;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps the IDs of the available real devices in memory and refreshes them on a schedule.
+ * <br>
+ * Lookups read an immutable hash set that is replaced as a whole on every refresh, so {@link #isAvailable(String)} never
+ * blocks and never calls the API. Listeners are told which devices became available and which were taken after each
+ * refresh that changed the set. The first refresh reports every available device as added. A failed refresh is logged
+ * and keeps the previous set. Refreshes run one at a time, so a manual {@link #refresh()} waits for a scheduled one in
+ * progress and listeners receive the changes in the order the set was replaced.
+ */
+public class DeviceAvailabilityMonitor implements Closeable {
+    public static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofSeconds(30);
+    private static final Logger logger = Logger.getLogger(DeviceAvailabilityMonitor.class.getName());
+
+    private final AvailabilityFetcher fetcher;
+    private final long refreshIntervalMillis;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService scheduler;
+    private final Object refreshLock = new Object();
+    private volatile Set<String> available = Collections.emptySet();
+    private volatile Instant lastRefresh;
+    private boolean started;
+
+    /**
+     * @param fetcher         Fetches the available devices, e.g. {@link RealDevicesEndpoint#getAvailableDevices()}
+     * @param refreshInterval Delay between the end of one refresh and the start of the next
+     */
+    public DeviceAvailabilityMonitor(AvailabilityFetcher fetcher, Duration refreshInterval) {
+        this.fetcher = Objects.requireNonNull(fetcher, "Availability fetcher cannot be null");
+        if (refreshInterval == null || refreshInterval.isNegative() || refreshInterval.isZero()) {
+            throw new IllegalArgumentException("refreshInterval must be positive: " + refreshInterval);
+        }
+        this.refreshIntervalMillis = refreshInterval.toMillis();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "saucerest-device-availability");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts refreshing in the background, beginning immediately. Calling it again does nothing.
+     *
+     * @return This monitor
+     */
+    public synchronized DeviceAvailabilityMonitor start() {
+        if (!started) {
+            started = true;
+            scheduler.scheduleWithFixedDelay(this::refreshQuietly, 0, refreshIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+        return this;
+    }
+
+    /**
+     * Fetches the available devices now, replaces the set and notifies the listeners of the changes.
+     * Waits for a refresh in progress on another thread first.
+     *
+     * @throws IOException API request failed, the previous set is kept
+     */
+    public void refresh() throws IOException {
+        synchronized (refreshLock) {
+            AvailableDevices devices = fetcher.fetch();
+            Set<String> current = Collections.unmodifiableSet(new HashSet<>(devices.getAvailableDevicesList()));
+
+            Set<String> previous = available;
+            available = current;
+            lastRefresh = Instant.now();
+
+            Set<String> added = difference(current, previous);
+            Set<String> removed = difference(previous, current);
+            if (!added.isEmpty() || !removed.isEmpty()) {
+                for (Listener listener : listeners) {
+                    try {
+                        listener.onAvailabilityChanged(added, removed);
+                    } catch (RuntimeException e) {
+                        logger.log(Level.WARNING, "Device availability listener failed", e);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @param deviceID The ID of the device
+     * @return true if the device was available at the last refresh
+     */
+    public boolean isAvailable(String deviceID) {
+        return available.contains(deviceID);
+    }
+
+    /**
+     * @return Immutable set of the devices available at the last refresh
+     */
+    public Set<String> getAvailableDevices() {
+        return available;
+    }
+
+    /**
+     * @return When the set was last refreshed successfully, or null before the first refresh
+     */
+    public Instant getLastRefresh() {
+        return lastRefresh;
+    }
+
+    /**
+     * @param listener Notified on the refreshing thread after each refresh that changed the set of available devices,
+     *                 one refresh at a time
+     */
+    public void addListener(Listener listener) {
+        listeners.add(Objects.requireNonNull(listener, "Listener cannot be null"));
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Stops refreshing. The last set stays readable.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.WARNING, "Refreshing the available devices failed", e);
+        }
+    }
+
+    private static Set<String> difference(Set<String> set, Set<String> other) {
+        Set<String> difference = new HashSet<>();
+        for (String id : set) {
+            if (!other.contains(id)) {
+                difference.add(id);
+            }
+        }
+        return Collections.unmodifiableSet(difference);
+    }
+
+    /**
+     * Receives changes of the available devices.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * @param added   IDs of the devices that became available
+         * @param removed IDs of the devices that are no longer available
+         */
+        void onAvailabilityChanged(Set<String> added, Set<String> removed);
+    }
+
+    /**
+     * Fetches the currently available devices.
+     */
+    @FunctionalInterface
+    public interface AvailabilityFetcher {
+        AvailableDevices fetch() throws IOException;
+    }
+}
\ No newline at end of file
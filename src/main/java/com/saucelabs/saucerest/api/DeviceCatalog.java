@@ -0,0 +1,528 @@
+package com.saucelabs.saucerest.api;
+
+import com.saucelabs.saucerest.model.realdevices.Device;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Client side index of the real devices of {@link RealDevicesEndpoint#getDevices()}, for choosing devices by their
+ * attributes without scanning the whole list on every lookup.
+ * <br>
+ * Every device gets a slot, and each indexed attribute maps its values to a {@link BitSet} of the slots having that value.
+ * Numeric attributes and the OS version are kept in sorted maps, so a range condition is the union of a sub map. A
+ * {@link Query} intersects the bit sets of its conditions. {@link #update(List)} keeps the slots of known devices and
+ * only touches the bit sets of devices that were added, removed or changed.
+ * <br>
+ * Queries never block and see the state of the last completed update.
+ */
+public class DeviceCatalog {
+    /**
+     * Orders versions like {@code 9}, {@code 12.1} and {@code 16.4.1} by their numeric parts. Missing parts count as 0.
+     */
+    public static final Comparator<String> VERSION_ORDER = DeviceCatalog::compareVersions;
+
+    private final DeviceFetcher fetcher;
+    private volatile Snapshot snapshot = new Snapshot();
+
+    /**
+     * @param fetcher Fetches all devices, e.g. {@link RealDevicesEndpoint#getDevices()}
+     */
+    public DeviceCatalog(DeviceFetcher fetcher) {
+        this.fetcher = Objects.requireNonNull(fetcher, "Device fetcher cannot be null");
+    }
+
+    /**
+     * Fetches the devices and updates the catalog, see {@link #update(List)}.
+     *
+     * @return Number of devices added, removed or changed
+     * @throws IOException API request failed, the catalog is not changed
+     */
+    public synchronized int refresh() throws IOException {
+        return update(fetcher.fetch());
+    }
+
+    /**
+     * Replaces the devices of the catalog. Devices are matched by id, and only the index entries of devices that were
+     * added, removed or have changed indexed attributes are updated.
+     *
+     * @param devices All devices
+     * @return Number of devices added, removed or changed
+     */
+    public synchronized int update(List<Device> devices) {
+        Snapshot current = snapshot;
+        Device[] slots = Arrays.copyOf(current.devices, Math.max(current.devices.length, devices.size()));
+        Map<String, Integer> slotById = new HashMap<>(current.slotById);
+        BitSet live = (BitSet) current.live.clone();
+        List<SlotChange> changes = new ArrayList<>();
+
+        Set<String> ids = new HashSet<>();
+        for (Device device : devices) {
+            if (device.id == null || !ids.add(device.id)) {
+                continue;
+            }
+            Integer slot = slotById.get(device.id);
+            if (slot == null) {
+                slot = live.nextClearBit(0);
+                if (slot >= slots.length) {
+                    slots = Arrays.copyOf(slots, Math.max(slot + 1, slots.length * 2));
+                }
+                slotById.put(device.id, slot);
+                live.set(slot);
+                changes.add(new SlotChange(slot, null, device));
+            } else if (current.isChanged(slots[slot], device)) {
+                changes.add(new SlotChange(slot, slots[slot], device));
+            }
+            slots[slot] = device;
+        }
+        for (Map.Entry<String, Integer> entry : current.slotById.entrySet()) {
+            if (!ids.contains(entry.getKey())) {
+                int slot = entry.getValue();
+                changes.add(new SlotChange(slot, slots[slot], null));
+                slotById.remove(entry.getKey());
+                live.clear(slot);
+                slots[slot] = null;
+            }
+        }
+
+        snapshot = new Snapshot(current, slots, slotById, live, changes);
+        return changes.size();
+    }
+
+    /**
+     * @return Number of devices in the catalog
+     */
+    public int size() {
+        return snapshot.slotById.size();
+    }
+
+    public Optional<Device> getById(String id) {
+        Snapshot current = snapshot;
+        Integer slot = current.slotById.get(id);
+        return slot == null ? Optional.empty() : Optional.of(current.devices[slot]);
+    }
+
+    /**
+     * @param query Conditions the devices must all meet
+     * @return The matching devices
+     */
+    public List<Device> find(Query query) {
+        Snapshot current = snapshot;
+        BitSet matches = current.match(query);
+        List<Device> devices = new ArrayList<>(matches.cardinality());
+        for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+            devices.add(current.devices[slot]);
+        }
+        return devices;
+    }
+
+    /**
+     * @param query Conditions the devices must all meet
+     * @return Number of matching devices
+     */
+    public int count(Query query) {
+        return snapshot.match(query).cardinality();
+    }
+
+    /**
+     * Compares two versions by their numeric parts, see {@link #VERSION_ORDER}.
+     * Parts that are not numbers are compared as text after all numeric parts.
+     */
+    static int compareVersions(String a, String b) {
+        String[] left = a.split("\\.");
+        String[] right = b.split("\\.");
+        for (int i = 0; i < Math.max(left.length, right.length); i++) {
+            String l = i < left.length ? left[i] : "0";
+            String r = i < right.length ? right[i] : "0";
+            int result = Long.compare(leadingNumber(l), leadingNumber(r));
+            if (result == 0) {
+                result = suffix(l).compareTo(suffix(r));
+            }
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    private static long leadingNumber(String part) {
+        long number = 0;
+        for (int i = 0; i < part.length() && i < 18 && Character.isDigit(part.charAt(i)); i++) {
+            number = number * 10 + (part.charAt(i) - '0');
+        }
+        return number;
+    }
+
+    private static String suffix(String part) {
+        int i = 0;
+        while (i < part.length() && Character.isDigit(part.charAt(i))) {
+            i++;
+        }
+        return part.substring(i).trim();
+    }
+
+    private static <K> Function<Device, List<K>> single(Function<Device, K> attribute) {
+        return device -> {
+            K value = attribute.apply(device);
+            return value == null ? Collections.emptyList() : Collections.singletonList(value);
+        };
+    }
+
+    private static <K extends Comparable<K>> AttributeIndex<K> sorted(Function<Device, K> attribute) {
+        return new AttributeIndex<>(single(attribute), Comparator.naturalOrder());
+    }
+
+    private static AttributeIndex<String> text(Function<Device, String> attribute) {
+        return new AttributeIndex<>(single(attribute), String.CASE_INSENSITIVE_ORDER);
+    }
+
+    /**
+     * Immutable state of the catalog. An update shares the bit sets of unchanged attribute values with the previous state.
+     */
+    private static final class Snapshot {
+        private final Device[] devices;
+        private final Map<String, Integer> slotById;
+        private final BitSet live;
+        private final AttributeIndex<String> os;
+        private final AttributeIndex<String> osVersion;
+        private final AttributeIndex<Integer> apiLevel;
+        private final AttributeIndex<Integer> ramSize;
+        private final AttributeIndex<Integer> cpuCores;
+        private final AttributeIndex<Integer> resolutionWidth;
+        private final AttributeIndex<Integer> resolutionHeight;
+        private final AttributeIndex<Float> screenSize;
+        private final AttributeIndex<String> manufacturer;
+        private final AttributeIndex<String> deviceFamily;
+        private final AttributeIndex<Boolean> isPrivate;
+        private final AttributeIndex<Boolean> isTablet;
+        private final List<AttributeIndex<?>> indexes;
+
+        private Snapshot() {
+            devices = new Device[0];
+            slotById = Collections.emptyMap();
+            live = new BitSet();
+            os = text(device -> device.os);
+            osVersion = new AttributeIndex<>(single(device -> device.osVersion), VERSION_ORDER);
+            apiLevel = sorted(device -> device.apiLevel);
+            ramSize = sorted(device -> device.ramSize);
+            cpuCores = sorted(device -> device.cpuCores);
+            resolutionWidth = sorted(device -> device.resolutionWidth);
+            resolutionHeight = sorted(device -> device.resolutionHeight);
+            screenSize = sorted(device -> device.screenSize);
+            manufacturer = new AttributeIndex<>(
+                device -> device.manufacturer == null ? Collections.emptyList() : device.manufacturer, String.CASE_INSENSITIVE_ORDER);
+            deviceFamily = text(device -> device.deviceFamily);
+            isPrivate = sorted(device -> device.isPrivate);
+            isTablet = sorted(device -> device.isTablet);
+            indexes = Arrays.asList(os, osVersion, apiLevel, ramSize, cpuCores, resolutionWidth, resolutionHeight, screenSize,
+                manufacturer, deviceFamily, isPrivate, isTablet);
+        }
+
+        private Snapshot(Snapshot previous, Device[] devices, Map<String, Integer> slotById, BitSet live, List<SlotChange> changes) {
+            this.devices = devices;
+            this.slotById = slotById;
+            this.live = live;
+            os = previous.os.update(changes);
+            osVersion = previous.osVersion.update(changes);
+            apiLevel = previous.apiLevel.update(changes);
+            ramSize = previous.ramSize.update(changes);
+            cpuCores = previous.cpuCores.update(changes);
+            resolutionWidth = previous.resolutionWidth.update(changes);
+            resolutionHeight = previous.resolutionHeight.update(changes);
+            screenSize = previous.screenSize.update(changes);
+            manufacturer = previous.manufacturer.update(changes);
+            deviceFamily = previous.deviceFamily.update(changes);
+            isPrivate = previous.isPrivate.update(changes);
+            isTablet = previous.isTablet.update(changes);
+            indexes = Arrays.asList(os, osVersion, apiLevel, ramSize, cpuCores, resolutionWidth, resolutionHeight, screenSize,
+                manufacturer, deviceFamily, isPrivate, isTablet);
+        }
+
+        private boolean isChanged(Device before, Device after) {
+            for (AttributeIndex<?> index : indexes) {
+                if (index.isChanged(before, after)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private BitSet match(Query query) {
+            BitSet matches = (BitSet) live.clone();
+            for (Condition condition : query.conditions) {
+                if (matches.isEmpty()) {
+                    break;
+                }
+                matches.and(condition.match(this));
+            }
+            return matches;
+        }
+    }
+
+    /**
+     * Bit sets of the slots per value of one attribute. Published instances are never modified.
+     *
+     * @param <K> Type of the attribute values
+     */
+    private static final class AttributeIndex<K> {
+        private final Function<Device, List<K>> values;
+        private final NavigableMap<K, BitSet> slots;
+
+        private AttributeIndex(Function<Device, List<K>> values, Comparator<? super K> order) {
+            this(values, new TreeMap<>(order));
+        }
+
+        private AttributeIndex(Function<Device, List<K>> values, NavigableMap<K, BitSet> slots) {
+            this.values = values;
+            this.slots = slots;
+        }
+
+        private List<K> valuesOf(Device device) {
+            return device == null ? Collections.emptyList() : values.apply(device);
+        }
+
+        private boolean isChanged(Device before, Device after) {
+            return !valuesOf(before).equals(valuesOf(after));
+        }
+
+        /**
+         * @return Index with the changes applied, copying only the bit sets of the values that changed
+         */
+        private AttributeIndex<K> update(List<SlotChange> changes) {
+            TreeMap<K, BitSet> updated = null;
+            Set<K> copied = null;
+            for (SlotChange change : changes) {
+                List<K> before = valuesOf(change.before);
+                List<K> after = valuesOf(change.after);
+                if (before.equals(after)) {
+                    continue;
+                }
+                if (updated == null) {
+                    updated = new TreeMap<>(slots);
+                    copied = new TreeSet<>(slots.comparator());
+                }
+                for (K value : before) {
+                    modifiable(updated, copied, value).clear(change.slot);
+                }
+                for (K value : after) {
+                    modifiable(updated, copied, value).set(change.slot);
+                }
+            }
+            if (updated == null) {
+                return this;
+            }
+            for (K value : copied) {
+                if (updated.get(value).isEmpty()) {
+                    updated.remove(value);
+                }
+            }
+            return new AttributeIndex<>(values, updated);
+        }
+
+        private BitSet modifiable(TreeMap<K, BitSet> updated, Set<K> copied, K value) {
+            if (copied.add(value)) {
+                BitSet bits = updated.get(value);
+                bits = bits == null ? new BitSet() : (BitSet) bits.clone();
+                updated.put(value, bits);
+                return bits;
+            }
+            return updated.get(value);
+        }
+
+        private BitSet get(K value) {
+            BitSet bits = slots.get(value);
+            return bits == null ? new BitSet() : bits;
+        }
+
+        private BitSet anyOf(Collection<K> values) {
+            BitSet bits = new BitSet();
+            for (K value : values) {
+                bits.or(get(value));
+            }
+            return bits;
+        }
+
+        /**
+         * @param min Lowest value, inclusive, or null for no lower bound
+         * @param max Highest value, inclusive, or null for no upper bound
+         */
+        private BitSet range(K min, K max) {
+            NavigableMap<K, BitSet> range = slots;
+            if (min != null) {
+                range = range.tailMap(min, true);
+            }
+            if (max != null) {
+                range = range.headMap(max, true);
+            }
+            BitSet bits = new BitSet();
+            for (BitSet value : range.values()) {
+                bits.or(value);
+            }
+            return bits;
+        }
+    }
+
+    private static final class SlotChange {
+        private final int slot;
+        private final Device before;
+        private final Device after;
+
+        private SlotChange(int slot, Device before, Device after) {
+            this.slot = slot;
+            this.before = before;
+            this.after = after;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Condition {
+        BitSet match(Snapshot snapshot);
+    }
+
+    /**
+     * Conditions on the device attributes, all of which must be met. Range bounds are inclusive and may be null
+     * for an open range. A lower bound above the upper bound is rejected with an {@link IllegalArgumentException}.
+     * Text attributes are compared ignoring case.
+     */
+    public static final class Query {
+        private final List<Condition> conditions;
+
+        private Query(Builder builder) {
+            conditions = new ArrayList<>(builder.conditions);
+        }
+
+        public static final class Builder {
+            private final List<Condition> conditions = new ArrayList<>();
+
+            /**
+             * @param val Operating system, e.g. {@code ANDROID} or {@code IOS}
+             */
+            public Builder setOs(String val) {
+                Objects.requireNonNull(val, "OS cannot be null");
+                conditions.add(snapshot -> snapshot.os.get(val));
+                return this;
+            }
+
+            /**
+             * @param min Lowest OS version, e.g. {@code 12}, see {@link #VERSION_ORDER}
+             * @param max Highest OS version
+             */
+            public Builder setOsVersion(String min, String max) {
+                checkRange("osVersion", min, max, VERSION_ORDER);
+                conditions.add(snapshot -> snapshot.osVersion.range(min, max));
+                return this;
+            }
+
+            public Builder setApiLevel(Integer min, Integer max) {
+                checkRange("apiLevel", min, max, Comparator.naturalOrder());
+                conditions.add(snapshot -> snapshot.apiLevel.range(min, max));
+                return this;
+            }
+
+            /**
+             * @param min Lowest RAM size in MB
+             * @param max Highest RAM size in MB
+             */
+            public Builder setRamSize(Integer min, Integer max) {
+                checkRange("ramSize", min, max, Comparator.naturalOrder());
+                conditions.add(snapshot -> snapshot.ramSize.range(min, max));
+                return this;
+            }
+
+            public Builder setCpuCores(Integer min, Integer max) {
+                checkRange("cpuCores", min, max, Comparator.naturalOrder());
+                conditions.add(snapshot -> snapshot.cpuCores.range(min, max));
+                return this;
+            }
+
+            /**
+             * @param minWidth  Lowest resolution width in pixels, or null
+             * @param minHeight Lowest resolution height in pixels, or null
+             */
+            public Builder setMinResolution(Integer minWidth, Integer minHeight) {
+                conditions.add(snapshot -> snapshot.resolutionWidth.range(minWidth, null));
+                conditions.add(snapshot -> snapshot.resolutionHeight.range(minHeight, null));
+                return this;
+            }
+
+            /**
+             * @param min Smallest screen size in inches
+             * @param max Largest screen size in inches
+             */
+            public Builder setScreenSize(Float min, Float max) {
+                checkRange("screenSize", min, max, Comparator.naturalOrder());
+                conditions.add(snapshot -> snapshot.screenSize.range(min, max));
+                return this;
+            }
+
+            private static <K> void checkRange(String attribute, K min, K max, Comparator<? super K> order) {
+                if (min != null && max != null && order.compare(min, max) > 0) {
+                    throw new IllegalArgumentException(attribute + " min must not exceed max: " + min + " > " + max);
+                }
+            }
+
+            /**
+             * @param val Manufacturers, any of which the device must have
+             */
+            public Builder setManufacturer(String... val) {
+                List<String> manufacturers = new ArrayList<>(Arrays.asList(val));
+                manufacturers.forEach(manufacturer -> Objects.requireNonNull(manufacturer, "Manufacturer cannot be null"));
+                conditions.add(snapshot -> snapshot.manufacturer.anyOf(manufacturers));
+                return this;
+            }
+
+            /**
+             * @param val Device family, e.g. {@code ANDROID}, {@code IPHONE} or {@code IPAD}
+             */
+            public Builder setDeviceFamily(String val) {
+                Objects.requireNonNull(val, "Device family cannot be null");
+                conditions.add(snapshot -> snapshot.deviceFamily.get(val));
+                return this;
+            }
+
+            /**
+             * @param val true for private devices only, false for public devices only
+             */
+            public Builder setPrivate(boolean val) {
+                conditions.add(snapshot -> snapshot.isPrivate.get(val));
+                return this;
+            }
+
+            /**
+             * @param val true for tablets only, false for phones only
+             */
+            public Builder setTablet(boolean val) {
+                conditions.add(snapshot -> snapshot.isTablet.get(val));
+                return this;
+            }
+
+            public Query build() {
+                return new Query(this);
+            }
+        }
+    }
+
+    /**
+     * Fetches all devices.
+     */
+    @FunctionalInterface
+    public interface DeviceFetcher {
+        List<Device> fetch() throws IOException;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,246 @@
+package com.saucelabs.saucerest.api;
+
+import com.saucelabs.saucerest.TestAsset;
+import com.saucelabs.saucerest.model.realdevices.DeviceJob;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Waits for the assets of a real device job to become available, polling the job once for all watched assets.
+ * <br>
+ * Polling starts when the first asset is requested with {@link #whenAvailable(TestAsset)} and stops when every requested
+ * asset is available or the timeout has passed. The poll interval starts short and grows by half after each poll without
+ * news, up to the maximum interval. It drops back to the initial interval whenever an asset appears, because the
+ * remaining assets of a finished job usually follow shortly. Failed polls are retried until the timeout.
+ */
+public class DeviceJobAssetTracker implements Closeable {
+    public static final Duration DEFAULT_INITIAL_POLL_INTERVAL = Duration.ofMillis(250);
+    public static final Duration DEFAULT_MAX_POLL_INTERVAL = Duration.ofSeconds(5);
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(1);
+    private static final Logger logger = Logger.getLogger(DeviceJobAssetTracker.class.getName());
+
+    private final String jobID;
+    private final JobFetcher fetcher;
+    private final long initialIntervalMillis;
+    private final long maxIntervalMillis;
+    private final long timeoutNanos;
+    private final Map<TestAsset, CompletableFuture<DeviceJob>> pending = new EnumMap<>(TestAsset.class);
+    private final ScheduledExecutorService scheduler;
+    private DeviceJob lastJob;
+    private long intervalMillis;
+    private long deadline;
+    private boolean polling;
+    private boolean closed;
+
+    /**
+     * @param jobID               The ID of the job
+     * @param fetcher             Fetches the job, e.g. {@link RealDevicesEndpoint#getSpecificDeviceJob(String)}
+     * @param initialPollInterval Interval of the first polls
+     * @param maxPollInterval     Longest interval between two polls
+     * @param timeout             How long to wait for requested assets after polling started
+     */
+    public DeviceJobAssetTracker(String jobID, JobFetcher fetcher, Duration initialPollInterval, Duration maxPollInterval,
+                                 Duration timeout) {
+        this.jobID = Objects.requireNonNull(jobID, "Job ID cannot be null");
+        this.fetcher = Objects.requireNonNull(fetcher, "Job fetcher cannot be null");
+        this.initialIntervalMillis = Math.max(1, initialPollInterval.toMillis());
+        this.maxIntervalMillis = Math.max(initialIntervalMillis, maxPollInterval.toMillis());
+        this.timeoutNanos = timeout.toNanos();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "saucerest-asset-tracker-" + jobID);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @param asset The asset to wait for
+     * @return Future completing with the first polled job that has the asset, or exceptionally with a
+     * {@link TimeoutException} if it did not become available in time
+     * @throws IllegalArgumentException If real device jobs do not have the asset
+     */
+    public synchronized CompletableFuture<DeviceJob> whenAvailable(TestAsset asset) {
+        if (!isSupported(asset)) {
+            throw new IllegalArgumentException("Real device jobs have no " + asset.label);
+        }
+        if (closed) {
+            throw new IllegalStateException("Asset tracker of job " + jobID + " is closed");
+        }
+        if (lastJob != null && isAvailable(lastJob, asset)) {
+            return CompletableFuture.completedFuture(lastJob);
+        }
+
+        CompletableFuture<DeviceJob> future = pending.computeIfAbsent(asset, a -> new CompletableFuture<>());
+        if (!polling) {
+            polling = true;
+            intervalMillis = initialIntervalMillis;
+            deadline = System.nanoTime() + timeoutNanos;
+            scheduler.execute(this::poll);
+        }
+        return future;
+    }
+
+    /**
+     * Blocking version of {@link #whenAvailable(TestAsset)}.
+     *
+     * @param asset The asset to wait for
+     * @return The first polled job that has the asset
+     * @throws IOException      If the thread is interrupted while waiting
+     * @throws TimeoutException If the asset did not become available in time
+     */
+    public DeviceJob await(TestAsset asset) throws IOException, TimeoutException {
+        try {
+            return whenAvailable(asset).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for " + asset.label + " of job " + jobID);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                throw (TimeoutException) e.getCause();
+            }
+            throw new IOException("Error waiting for " + asset.label + " of job " + jobID, e.getCause());
+        }
+    }
+
+    /**
+     * Stops polling and cancels the futures of assets that are not available yet.
+     */
+    @Override
+    public void close() {
+        List<CompletableFuture<DeviceJob>> cancelled;
+        synchronized (this) {
+            closed = true;
+            polling = false;
+            cancelled = new ArrayList<>(pending.values());
+            pending.clear();
+        }
+        cancelled.forEach(future -> future.cancel(false));
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * @return true if the job has a URL for the asset
+     */
+    public static boolean isAvailable(DeviceJob deviceJob, TestAsset asset) {
+        if (asset == TestAsset.SCREENSHOTS) {
+            return deviceJob.screenshots != null;
+        }
+        return getUrl(deviceJob, asset) != null;
+    }
+
+    /**
+     * @return The URL of the asset, or null if the job does not have it (yet). Screenshots have one URL each and no
+     * URL of their own, see {@link DeviceJob#screenshots}.
+     */
+    public static String getUrl(DeviceJob deviceJob, TestAsset asset) {
+        switch (asset) {
+            case VIDEO:
+                return deviceJob.videoUrl;
+            case HAR:
+                return deviceJob.networkLogUrl;
+            case APPIUM_LOG:
+                return deviceJob.frameworkLogUrl;
+            case INSIGHTS_LOG:
+                return deviceJob.testfairyLogUrl;
+            case CRASH_LOG:
+                return deviceJob.crashLogUrl;
+            case DEVICE_LOG:
+                return deviceJob.deviceLogUrl;
+            case COMMANDS_LOG:
+                return deviceJob.requestsUrl;
+            default:
+                return null;
+        }
+    }
+
+    private static boolean isSupported(TestAsset asset) {
+        switch (asset) {
+            case VIDEO:
+            case HAR:
+            case APPIUM_LOG:
+            case INSIGHTS_LOG:
+            case CRASH_LOG:
+            case DEVICE_LOG:
+            case COMMANDS_LOG:
+            case SCREENSHOTS:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private void poll() {
+        DeviceJob job = null;
+        try {
+            job = fetcher.fetch(jobID);
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.FINE, "Polling job " + jobID + " failed, trying again", e);
+        }
+
+        Map<CompletableFuture<DeviceJob>, Object> outcomes = new LinkedHashMap<>();
+        synchronized (this) {
+            if (!polling) {
+                return;
+            }
+            boolean news = false;
+            if (job != null) {
+                lastJob = job;
+                for (TestAsset asset : new ArrayList<>(pending.keySet())) {
+                    if (isAvailable(job, asset)) {
+                        outcomes.put(pending.remove(asset), job);
+                        news = true;
+                    }
+                }
+            }
+
+            if (pending.isEmpty()) {
+                polling = false;
+            } else if (System.nanoTime() - deadline >= 0) {
+                for (Map.Entry<TestAsset, CompletableFuture<DeviceJob>> entry : pending.entrySet()) {
+                    outcomes.put(entry.getValue(), new TimeoutException(String.format(
+                        "Timed out waiting for %s to be available for ID %s", entry.getKey().label, jobID)));
+                }
+                pending.clear();
+                polling = false;
+            } else {
+                intervalMillis = news ? initialIntervalMillis : Math.min(maxIntervalMillis, intervalMillis + intervalMillis / 2);
+                long delay = Math.min(intervalMillis, Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+                scheduler.schedule(this::poll, delay, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        // Complete outside the lock so dependent actions cannot block polling
+        outcomes.forEach((future, outcome) -> {
+            if (outcome instanceof Throwable) {
+                future.completeExceptionally((Throwable) outcome);
+            } else {
+                future.complete((DeviceJob) outcome);
+            }
+        });
+    }
+
+    /**
+     * Fetches the current state of a job.
+     */
+    @FunctionalInterface
+    public interface JobFetcher {
+        DeviceJob fetch(String jobID) throws IOException;
+    }
+}
\ No newline at end of file
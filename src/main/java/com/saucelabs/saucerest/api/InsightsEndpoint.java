@@ -1,13 +1,16 @@
 package com.saucelabs.saucerest.api;
 
 import com.saucelabs.saucerest.DataCenter;
+import com.saucelabs.saucerest.EndpointFamily;
 import com.saucelabs.saucerest.HttpMethod;
+import com.saucelabs.saucerest.SauceRESTConfig;
 import com.saucelabs.saucerest.Unfinished;
 import com.saucelabs.saucerest.model.insights.TestResult;
 import com.saucelabs.saucerest.model.insights.TestResultParameter;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Unfinished("This endpoint is not yet completely implemented")
 public class InsightsEndpoint extends AbstractEndpoint {
@@ -27,6 +30,14 @@ public class InsightsEndpoint extends AbstractEndpoint {
         super(username, accessKey, apiServer);
     }
 
+    public InsightsEndpoint(String username, String accessKey, DataCenter dataCenter, SauceRESTConfig config) {
+        super(username, accessKey, dataCenter, config);
+    }
+
+    public InsightsEndpoint(String username, String accessKey, String apiServer, SauceRESTConfig config) {
+        super(username, accessKey, apiServer, config);
+    }
+
     public TestResult getTestResults(TestResultParameter parameter) throws IOException {
         String url = getBaseEndpoint() + "v1/analytics/tests";
         Map<String, Object> params;
@@ -34,4 +45,15 @@ public class InsightsEndpoint extends AbstractEndpoint {
 
         return deserializeJSONObject(requestWithQueryParameters(url, HttpMethod.GET, params), TestResult.class);
     }
+
+    public CompletableFuture<TestResult> getTestResultsAsync(TestResultParameter parameter) {
+        String url = getBaseEndpoint() + "v1/analytics/tests";
+
+        return deserializeJSONObjectAsync(requestWithQueryParametersAsync(url, HttpMethod.GET, parameter.toMap()), TestResult.class);
+    }
+
+    @Override
+    protected EndpointFamily getEndpointFamily() {
+        return EndpointFamily.INSIGHTS;
+    }
 }
\ No newline at end of file
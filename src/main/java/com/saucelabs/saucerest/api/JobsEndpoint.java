@@ -1,23 +1,30 @@
 package com.saucelabs.saucerest.api;
 
 import com.saucelabs.saucerest.*;
+import com.saucelabs.saucerest.model.jobs.AssetDownload;
 import com.saucelabs.saucerest.model.jobs.GetJobsParameters;
 import com.saucelabs.saucerest.model.jobs.Job;
 import com.saucelabs.saucerest.model.jobs.JobAssets;
 import com.saucelabs.saucerest.model.jobs.UpdateJobParameter;
 import okhttp3.Response;
-import org.apache.commons.io.FileUtils;
 import org.awaitility.Awaitility;
 import org.json.JSONException;
 import org.json.JSONObject;
 
-import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 public class JobsEndpoint extends AbstractEndpoint {
+    private static final Logger logger = Logger.getLogger(JobsEndpoint.class.getName());
+    private static final int DEFAULT_CONCURRENT_DOWNLOADS = 4;
+    private static final int JOBS_PAGE_SIZE = 100;
 
     public JobsEndpoint(DataCenter dataCenter) {
         super(dataCenter);
@@ -35,6 +42,14 @@ public class JobsEndpoint extends AbstractEndpoint {
         super(username, accessKey, apiServer);
     }
 
+    public JobsEndpoint(String username, String accessKey, DataCenter dataCenter, SauceRESTConfig config) {
+        super(username, accessKey, dataCenter, config);
+    }
+
+    public JobsEndpoint(String username, String accessKey, String apiServer, SauceRESTConfig config) {
+        super(username, accessKey, apiServer, config);
+    }
+
     /**
      * Get a list of recent jobs run by the specified user.
      *
@@ -47,6 +62,17 @@ public class JobsEndpoint extends AbstractEndpoint {
         return new ArrayList<>(deserializeJSONArray(request(url, HttpMethod.GET), Job.class));
     }
 
+    /**
+     * Asynchronous version of {@link #getJobs()}.
+     *
+     * @return {@link CompletableFuture} completing with a {@link List} of {@link Job} objects
+     */
+    public CompletableFuture<List<Job>> getJobsAsync() {
+        String url = super.getBaseEndpoint() + "rest/v1/" + username + "/jobs";
+
+        return deserializeJSONArrayAsync(requestAsync(url, HttpMethod.GET), Job.class);
+    }
+
     /**
      * Get a list of recent jobs run by the specified user.
      *
@@ -60,6 +86,53 @@ public class JobsEndpoint extends AbstractEndpoint {
         return new ArrayList<>(deserializeJSONArray(requestWithQueryParameters(url, HttpMethod.GET, getJobsParameters.toMap()), Job.class));
     }
 
+    /**
+     * Asynchronous version of {@link #getJobs(GetJobsParameters)}.
+     *
+     * @param getJobsParameters {@link GetJobsParameters} object
+     * @return {@link CompletableFuture} completing with an {@link ArrayList} of {@link Job} objects
+     */
+    public CompletableFuture<ArrayList<Job>> getJobsAsync(GetJobsParameters getJobsParameters) {
+        String url = super.getBaseEndpoint() + "rest/v1/" + username + "/jobs";
+
+        return deserializeJSONArrayAsync(requestWithQueryParametersAsync(url, HttpMethod.GET, getJobsParameters.toMap()), Job.class)
+            .thenApply(ArrayList::new);
+    }
+
+    /**
+     * Iterate over the job history page by page. Only one page is held in memory at a time, so the iterator can walk
+     * months of history. The {@code limit} of the parameters is the page size (default 100) and
+     * {@code skip} is where the iteration starts. {@code from}, {@code to} and {@code username} apply to every page.
+     * Set {@code to} to get stable pages while new jobs are being created.
+     *
+     * @param getJobsParameters {@link GetJobsParameters} object
+     * @param prefetch          true to request the next page while the current one is consumed
+     * @return {@link PageIterator} of {@link Job} objects. Close it to stop prefetching when not iterating to the end.
+     */
+    public PageIterator<Job> iterateJobs(GetJobsParameters getJobsParameters, boolean prefetch) {
+        String url = super.getBaseEndpoint() + "rest/v1/" + username + "/jobs";
+        int pageSize = getJobsParameters.getLimit() > 0 ? getJobsParameters.getLimit() : JOBS_PAGE_SIZE;
+
+        return PageIterator.ofAsyncPages((skip, limit) -> {
+            Map<String, Object> parameters = getJobsParameters.toMap();
+            parameters.put("skip", skip);
+            parameters.put("limit", limit);
+            CompletableFuture<List<Job>> request = deserializeJSONArrayAsync(requestWithQueryParametersAsync(url, HttpMethod.GET, parameters), Job.class);
+            return cancelRequestWith(request, request.thenApply(jobs -> new PageIterator.Page<>(jobs, jobs != null && jobs.size() >= limit)));
+        }, getJobsParameters.getSkip(), pageSize, prefetch);
+    }
+
+    /**
+     * Stream the job history page by page, see {@link #iterateJobs(GetJobsParameters, boolean)}.
+     *
+     * @param getJobsParameters {@link GetJobsParameters} object
+     * @param prefetch          true to request the next page while the current one is consumed
+     * @return {@link Stream} of {@link Job} objects. Close it to stop prefetching when not consuming it to the end.
+     */
+    public Stream<Job> streamJobs(GetJobsParameters getJobsParameters, boolean prefetch) {
+        return iterateJobs(getJobsParameters, prefetch).stream();
+    }
+
     /**
      * Get detailed information about a specific job.
      *
@@ -73,6 +146,18 @@ public class JobsEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.GET), Job.class);
     }
 
+    /**
+     * Asynchronous version of {@link #getJobDetails(String)}.
+     *
+     * @param jobID The Sauce Labs identifier of the job. You can look up job IDs using the {@link #getJobs()} endpoint.
+     * @return {@link CompletableFuture} completing with the {@link Job} object
+     */
+    public CompletableFuture<Job> getJobDetailsAsync(String jobID) {
+        String url = getBaseEndpoint() + jobID;
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.GET), Job.class);
+    }
+
     /**
      * Edit job attributes based on parameters passed in the request, including setting the status and name of the job.
      * Any parameter for which a new value is provided in the request will replace the existing value.
@@ -90,6 +175,19 @@ public class JobsEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.PUT, updateJobParameter.toMap()), Job.class);
     }
 
+    /**
+     * Asynchronous version of {@link #updateJob(String, UpdateJobParameter)}.
+     *
+     * @param jobID              The Sauce Labs identifier of the job to be updated. You can look up job IDs using the {@link #getJobs()} endpoint.
+     * @param updateJobParameter {@link UpdateJobParameter} object
+     * @return {@link CompletableFuture} completing with the {@link Job} object
+     */
+    public CompletableFuture<Job> updateJobAsync(String jobID, UpdateJobParameter updateJobParameter) {
+        String url = getBaseEndpoint() + jobID;
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.PUT, updateJobParameter.toMap()), Job.class);
+    }
+
     /**
      * Stop a specific job.
      *
@@ -103,6 +201,18 @@ public class JobsEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.PUT), Job.class);
     }
 
+    /**
+     * Asynchronous version of {@link #stopJob(String)}.
+     *
+     * @param jobID The Sauce Labs identifier of the job to stop. You can look up job IDs using the Get Jobs endpoint
+     * @return {@link CompletableFuture} completing with the {@link Job} object
+     */
+    public CompletableFuture<Job> stopJobAsync(String jobID) {
+        String url = getBaseEndpoint() + jobID + "/stop";
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.PUT), Job.class);
+    }
+
     /**
      * Delete a job and all of its assets from the Sauce Labs test history.
      *
@@ -116,6 +226,18 @@ public class JobsEndpoint extends AbstractEndpoint {
         return request(url, HttpMethod.DELETE);
     }
 
+    /**
+     * Asynchronous version of {@link #deleteJob(String)}.
+     *
+     * @param jobID ID of the job to be deleted
+     * @return {@link CompletableFuture} completing with the {@link Response} object
+     */
+    public CompletableFuture<Response> deleteJobAsync(String jobID) {
+        String url = getBaseEndpoint() + jobID;
+
+        return requestAsync(url, HttpMethod.DELETE);
+    }
+
     /**
      * Get a list of files associated with a specific test, such as the logs, video, and screenshots.
      *
@@ -144,9 +266,21 @@ public class JobsEndpoint extends AbstractEndpoint {
     public void downloadJobAsset(String jobID, Path path, TestAsset testAsset) throws IOException {
         String url = getBaseEndpoint() + jobID + "/assets/" + testAsset.label;
 
-        try (Response response = request(url, HttpMethod.GET)) {
-            FileUtils.writeByteArrayToFile(new File(path.toFile().toURI()), Objects.requireNonNull(response.body()).bytes());
-        }
+        writeToFile(request(url, HttpMethod.GET), path);
+    }
+
+    /**
+     * Asynchronous version of {@link #downloadJobAsset(String, Path, TestAsset)}.
+     *
+     * @param jobID     The Sauce Labs identifier of the job for which you are retrieving the asset list. You can look up job IDs using the {@link #getJobs()} endpoint.
+     * @param path      Path including filename where the asset file should be stored
+     * @param testAsset {@link TestAsset} object
+     * @return {@link CompletableFuture} completing when the asset file has been written
+     */
+    public CompletableFuture<Void> downloadJobAssetAsync(String jobID, Path path, TestAsset testAsset) {
+        String url = getBaseEndpoint() + jobID + "/assets/" + testAsset.label;
+
+        return requestAsync(url, HttpMethod.GET).thenAcceptAsync(response -> writeResponseToFile(response, path), getCallbackExecutor());
     }
 
     /**
@@ -159,9 +293,20 @@ public class JobsEndpoint extends AbstractEndpoint {
     public void downloadAllScreenshots(String jobID, Path path) throws IOException {
         String url = getBaseEndpoint() + jobID + "/assets/screenshots.zip";
 
-        try (Response response = request(url, HttpMethod.GET)) {
-            FileUtils.writeByteArrayToFile(new File(path.toFile().toURI()), Objects.requireNonNull(response.body()).bytes());
-        }
+        writeToFile(request(url, HttpMethod.GET), path);
+    }
+
+    /**
+     * Asynchronous version of {@link #downloadAllScreenshots(String, Path)}.
+     *
+     * @param jobID The Sauce Labs identifier of the job for which you are retrieving the asset list. You can look up job IDs using the {@link #getJobs()} endpoint.
+     * @param path  Path including filename where the asset file should be stored
+     * @return {@link CompletableFuture} completing when the ZIP file has been written
+     */
+    public CompletableFuture<Void> downloadAllScreenshotsAsync(String jobID, Path path) {
+        String url = getBaseEndpoint() + jobID + "/assets/screenshots.zip";
+
+        return requestAsync(url, HttpMethod.GET).thenAcceptAsync(response -> writeResponseToFile(response, path), getCallbackExecutor());
     }
 
     /**
@@ -172,12 +317,33 @@ public class JobsEndpoint extends AbstractEndpoint {
      * @throws IOException if the request fails
      */
     public void downloadAllAssets(String jobID, Path path) throws IOException {
-        JobAssets jobAssets = listJobAssets(jobID);
-        Map<String, String> assets = jobAssets.getAvailableAssets();
-        boolean isAppium = getJobDetails(jobID).automationBackend.equalsIgnoreCase(AutomationBackend.APPIUM.label);
+        for (AssetDownload download : downloadAllAssets(getJobDetails(jobID), path, DEFAULT_CONCURRENT_DOWNLOADS)) {
+            if (!download.isSuccessful()) {
+                throw download.getFailure();
+            }
+        }
+    }
+
+    /**
+     * Download all available assets for a job in parallel. Every asset is streamed to disk, so large videos and HAR
+     * files are never held in memory. A failed asset does not stop the other downloads, check the returned results.
+     *
+     * @param job                    The job, e.g. from {@link #getJobDetails(String)} or {@link #getJobs()}
+     * @param path                   Path to the directory where the assets should be stored
+     * @param maxConcurrentDownloads Maximum number of assets downloaded at the same time
+     * @return {@link AssetDownload} per asset with the bytes written and the time it took
+     * @throws IOException if the list of assets cannot be retrieved
+     */
+    public List<AssetDownload> downloadAllAssets(Job job, Path path, int maxConcurrentDownloads) throws IOException {
+        if (maxConcurrentDownloads < 1) {
+            throw new IllegalArgumentException("maxConcurrentDownloads must be at least 1: " + maxConcurrentDownloads);
+        }
 
-        for (Map.Entry<String, String> entry : assets.entrySet()) {
-            String assetLabel = entry.getValue();
+        Map<String, String> assets = listJobAssets(job.id).getAvailableAssets();
+        boolean isAppium = AutomationBackend.APPIUM.label.equalsIgnoreCase(job.automationBackend);
+
+        Map<TestAsset, Path> downloads = new LinkedHashMap<>();
+        for (String assetLabel : assets.values()) {
             String filename = assetLabel;
 
             // the API always returns the Appium/Selenium log as selenium-server.log even when using Appium
@@ -186,12 +352,31 @@ public class JobsEndpoint extends AbstractEndpoint {
                 filename = isAppium ? TestAsset.APPIUM_LOG.label : TestAsset.SELENIUM_LOG.label;
             }
 
-            Path assetPath = path.resolve(filename);
-            downloadJobAsset(jobID, assetPath, TestAsset.get(assetLabel).get());
+            Optional<TestAsset> testAsset = TestAsset.get(assetLabel);
+            if (testAsset.isPresent()) {
+                downloads.put(testAsset.get(), path.resolve(filename));
+            } else {
+                logger.warning(String.format("Skipping unknown asset %s of job %s", assetLabel, job.id));
+            }
         }
+        downloads.put(TestAsset.SCREENSHOTS, path.resolve(TestAsset.SCREENSHOTS.label));
 
-        Path screenshotsPath = path.resolve("screenshots.zip");
-        downloadAllScreenshots(jobID, screenshotsPath);
+        return runConcurrently(new ArrayList<>(downloads.entrySet()), maxConcurrentDownloads,
+            download -> downloadAsset(job.id, download.getKey(), download.getValue()),
+            (download, failure) -> new AssetDownload(download.getKey().label, download.getValue(), 0, Duration.ZERO, failure));
+    }
+
+    private AssetDownload downloadAsset(String jobID, TestAsset testAsset, Path path) {
+        String url = getBaseEndpoint() + jobID + "/assets/" + testAsset.label;
+        long start = System.nanoTime();
+        try {
+            long bytes = writeToFile(request(url, HttpMethod.GET), path);
+            return new AssetDownload(testAsset.label, path, bytes, Duration.ofNanos(System.nanoTime() - start), null);
+        } catch (IOException | RuntimeException e) {
+            IOException failure = asIOException(e);
+            logger.log(Level.WARNING, String.format("Error downloading %s of job %s", testAsset.label, jobID), failure);
+            return new AssetDownload(testAsset.label, path, 0, Duration.ofNanos(System.nanoTime() - start), failure);
+        }
     }
 
     /**
@@ -231,6 +416,25 @@ public class JobsEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.DELETE), List.class);
     }
 
+    /**
+     * Asynchronous version of {@link #deleteJobAssets(String)}.
+     *
+     * @param jobID The Sauce Labs identifier of the job for which you are deleting the assets. You can look up job IDs using the {@link #getJobs()} endpoint.
+     * @return {@link CompletableFuture} completing with a {@link List} of {@link HashMap} objects which contain the asset name and its size
+     */
+    public CompletableFuture<List<HashMap<String, Integer>>> deleteJobAssetsAsync(String jobID) {
+        String url = getBaseEndpoint() + jobID + "/assets";
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.DELETE), List.class)
+            .thenApply(JobsEndpoint::asAssetSizes);
+    }
+
+    // The list is read untyped, exactly as in deleteJobAssets, and only exposed with the declared element type
+    @SuppressWarnings("unchecked")
+    private static List<HashMap<String, Integer>> asAssetSizes(List<?> list) {
+        return (List<HashMap<String, Integer>>) list;
+    }
+
     // Change Details
 
     public Job changeName(String jobID, String testName) throws IOException {
@@ -270,6 +474,14 @@ public class JobsEndpoint extends AbstractEndpoint {
         return super.getBaseEndpoint() + "rest/v1/" + username + "/jobs/";
     }
 
+    private void writeResponseToFile(Response response, Path path) {
+        try {
+            writeToFile(response, path);
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
     private void waitForFinishedTest(String jobID) {
         String url = getBaseEndpoint() + jobID + "/assets";
 
@@ -295,4 +507,9 @@ public class JobsEndpoint extends AbstractEndpoint {
                         response.has("selenium-log");
                 });
     }
+
+    @Override
+    protected EndpointFamily getEndpointFamily() {
+        return EndpointFamily.JOBS;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,282 @@
+package com.saucelabs.saucerest.api;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterator over an API listing that is fetched page by page with {@code skip} and {@code limit}.
+ * <br>
+ * Only the current page is kept in memory. A page shorter than the page size, or an empty page, ends the iteration.
+ * Listings that report whether more objects are available can be iterated with {@link #ofPages(PageResultFetcher, int, int, boolean)},
+ * which ends the iteration when a page says it is the last one.
+ * With prefetching enabled the next page is requested as soon as the current one arrives. This only overlaps with
+ * consuming the current page for fetchers sending asynchronous requests, see
+ * {@link #ofAsyncPages(AsyncPageFetcher, int, int, boolean)}. Synchronous fetchers run on the calling thread.
+ * Closing the iterator cancels a prefetched page that is still in flight, and with it its HTTP call if the fetcher
+ * uses {@link AbstractEndpoint#cancelRequestWith(CompletableFuture, CompletableFuture)}.
+ * Request failures are thrown as {@link UncheckedIOException}.
+ *
+ * @param <T> The type of the listed objects
+ */
+public class PageIterator<T> implements Iterator<T>, Closeable {
+    private final AsyncPageFetcher<T> fetcher;
+    private final int pageSize;
+    private final boolean prefetch;
+    private CompletableFuture<Page<T>> nextPage;
+    private Iterator<T> page = Collections.emptyIterator();
+    private int skip;
+    private boolean lastPage;
+    private boolean closed;
+
+    /**
+     * @param fetcher  Fetches one page
+     * @param skip     Number of objects to skip before the first page
+     * @param pageSize Number of objects requested per page
+     * @param prefetch true to request the next page as soon as the current one arrives
+     */
+    public PageIterator(PageFetcher<T> fetcher, int skip, int pageSize, boolean prefetch) {
+        this(skip, pageSize, prefetch, synchronous((offset, limit) -> {
+            List<T> items = fetcher.fetch(offset, limit);
+            return new Page<>(items, items != null && items.size() >= limit);
+        }));
+    }
+
+    private PageIterator(int skip, int pageSize, boolean prefetch, AsyncPageFetcher<T> fetcher) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("pageSize must be at least 1: " + pageSize);
+        }
+        if (skip < 0) {
+            throw new IllegalArgumentException("skip must not be negative: " + skip);
+        }
+        this.fetcher = fetcher;
+        this.skip = skip;
+        this.pageSize = pageSize;
+        this.prefetch = prefetch;
+    }
+
+    /**
+     * Iterator over a listing whose pages report if more objects are available. A page shorter than the page size
+     * does not end the iteration, so listings capping the page size on the server side are still read completely.
+     *
+     * @param fetcher  Fetches one page
+     * @param skip     Number of objects to skip before the first page
+     * @param pageSize Number of objects requested per page
+     * @param prefetch true to request the next page as soon as the current one arrives
+     * @param <T>      The type of the listed objects
+     * @return The iterator
+     */
+    public static <T> PageIterator<T> ofPages(PageResultFetcher<T> fetcher, int skip, int pageSize, boolean prefetch) {
+        return new PageIterator<>(skip, pageSize, prefetch, synchronous(fetcher));
+    }
+
+    /**
+     * Iterator over a listing whose pages report if more objects are available and are requested asynchronously.
+     * With prefetching the next page is in flight while the current one is consumed.
+     *
+     * @param fetcher  Starts the request of one page
+     * @param skip     Number of objects to skip before the first page
+     * @param pageSize Number of objects requested per page
+     * @param prefetch true to request the next page while the current one is consumed
+     * @param <T>      The type of the listed objects
+     * @return The iterator
+     */
+    public static <T> PageIterator<T> ofAsyncPages(AsyncPageFetcher<T> fetcher, int skip, int pageSize, boolean prefetch) {
+        return new PageIterator<>(skip, pageSize, prefetch, fetcher);
+    }
+
+    private static <T> AsyncPageFetcher<T> synchronous(PageResultFetcher<T> fetcher) {
+        return (skip, limit) -> {
+            CompletableFuture<Page<T>> page = new CompletableFuture<>();
+            try {
+                page.complete(fetcher.fetch(skip, limit));
+            } catch (IOException | RuntimeException e) {
+                page.completeExceptionally(e);
+            }
+            return page;
+        };
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!page.hasNext()) {
+            if (lastPage || closed) {
+                close();
+                return false;
+            }
+            Page<T> current = fetchNextPage();
+            lastPage = !current.hasMore || current.items.isEmpty();
+            page = current.items.iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return page.next();
+    }
+
+    /**
+     * @return A sequential stream over the remaining objects. Closing the stream stops prefetching.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(this::close);
+    }
+
+    /**
+     * Stops the iteration and cancels a prefetched page that is still in flight.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        page = Collections.emptyIterator();
+        if (nextPage != null) {
+            nextPage.cancel(true);
+            nextPage = null;
+        }
+    }
+
+    private Page<T> fetchNextPage() {
+        CompletableFuture<Page<T>> future = nextPage != null ? nextPage : fetch(skip);
+        nextPage = null;
+        Page<T> current = await(future);
+        skip += current.items.size();
+
+        if (prefetch && current.hasMore && !current.items.isEmpty()) {
+            nextPage = fetch(skip);
+        }
+        return current;
+    }
+
+    private CompletableFuture<Page<T>> fetch(int offset) {
+        CompletableFuture<Page<T>> future;
+        try {
+            future = fetcher.fetch(offset, pageSize);
+        } catch (RuntimeException e) {
+            future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+        }
+        return future == null ? CompletableFuture.completedFuture(null) : future;
+    }
+
+    private Page<T> await(CompletableFuture<Page<T>> future) {
+        try {
+            Page<T> current = future.get();
+            return current == null ? new Page<>(null, false) : current;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new CancellationException("Interrupted while waiting for the next page");
+        } catch (ExecutionException e) {
+            close();
+            Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw (UncheckedIOException) cause;
+            }
+            if (cause instanceof IOException) {
+                throw new UncheckedIOException((IOException) cause);
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new UncheckedIOException(new IOException(cause));
+        }
+    }
+
+    /**
+     * Fetches one page of a listing.
+     *
+     * @param <T> The type of the listed objects
+     */
+    @FunctionalInterface
+    public interface PageFetcher<T> {
+        /**
+         * @param skip  Number of objects to skip
+         * @param limit Maximum number of objects to return
+         * @return The objects of the page, fewer than {@code limit} on the last page
+         * @throws IOException If the request fails
+         */
+        List<T> fetch(int skip, int limit) throws IOException;
+    }
+
+    /**
+     * One page of a listing that reports whether more objects are available. Listings fetched by page number, see
+     * {@link PageNumberIterator}, may also report the total number of objects.
+     *
+     * @param <T> The type of the listed objects
+     */
+    public static final class Page<T> {
+        final List<T> items;
+        final boolean hasMore;
+        final Integer totalItems;
+        final Integer perPage;
+
+        /**
+         * @param items   Objects of the page
+         * @param hasMore false if this is the last page
+         */
+        public Page(List<T> items, boolean hasMore) {
+            this(items, hasMore, null, null);
+        }
+
+        /**
+         * @param items      Objects of the page
+         * @param hasMore    false if this is the last page
+         * @param totalItems Total number of objects of the listing, or null if unknown
+         * @param perPage    Number of objects per page, or null if unknown
+         */
+        public Page(List<T> items, boolean hasMore, Integer totalItems, Integer perPage) {
+            this.items = items == null ? Collections.emptyList() : items;
+            this.hasMore = hasMore;
+            this.totalItems = totalItems;
+            this.perPage = perPage;
+        }
+    }
+
+    /**
+     * Fetches one page of a listing that reports whether more objects are available.
+     *
+     * @param <T> The type of the listed objects
+     */
+    @FunctionalInterface
+    public interface PageResultFetcher<T> {
+        /**
+         * @param skip  Number of objects to skip
+         * @param limit Maximum number of objects to return
+         * @return The page, which may hold fewer than {@code limit} objects even if more are available
+         * @throws IOException If the request fails
+         */
+        Page<T> fetch(int skip, int limit) throws IOException;
+    }
+
+    /**
+     * Starts the request of one page of a listing that reports whether more objects are available.
+     *
+     * @param <T> The type of the listed objects
+     */
+    @FunctionalInterface
+    public interface AsyncPageFetcher<T> {
+        /**
+         * @param skip  Number of objects to skip
+         * @param limit Maximum number of objects to return
+         * @return Future of the page, completing exceptionally if the request fails
+         */
+        CompletableFuture<Page<T>> fetch(int skip, int limit);
+    }
+}
\ No newline at end of file
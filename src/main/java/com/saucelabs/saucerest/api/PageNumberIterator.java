@@ -0,0 +1,170 @@
+package com.saucelabs.saucerest.api;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterator over an API listing that is fetched by page number, like the app storage listings.
+ * <br>
+ * The first page is fetched on its own. If it reports the total number of items, the following pages are known and
+ * up to {@code maxConcurrentPages} of them are requested concurrently, so a complete listing takes about as long as
+ * its slowest requests instead of one round trip per page. Otherwise pages are requested one after the other until a
+ * page reports that it is the last one. Pages are always returned in order. Request failures are thrown as
+ * {@link UncheckedIOException}.
+ * <br>
+ * Closing the iterator cancels the futures of the pages still in flight. Fetchers built on
+ * {@link AbstractEndpoint#requestAsync(String, com.saucelabs.saucerest.HttpMethod)} pass that cancellation on to the
+ * HTTP call, see {@link AbstractEndpoint#cancelRequestWith(CompletableFuture, CompletableFuture)}, so the connection
+ * stops downloading pages nobody reads.
+ *
+ * @param <T> The type of the listed objects
+ */
+public class PageNumberIterator<T> implements Iterator<T>, Closeable {
+    private final IntFunction<CompletableFuture<PageIterator.Page<T>>> fetcher;
+    private final int maxConcurrentPages;
+    private final Deque<CompletableFuture<PageIterator.Page<T>>> inFlight = new ArrayDeque<>();
+    private Iterator<T> page = Collections.emptyIterator();
+    private int nextPage;
+    private int lastPage = Integer.MAX_VALUE;
+    private boolean closed;
+
+    /**
+     * @param fetcher            Fetches the page with the given number, starting at 1
+     * @param firstPage          Number of the first page to fetch, starting at 1
+     * @param maxConcurrentPages Maximum number of pages requested at the same time
+     */
+    public PageNumberIterator(IntFunction<CompletableFuture<PageIterator.Page<T>>> fetcher, int firstPage, int maxConcurrentPages) {
+        if (firstPage < 1) {
+            throw new IllegalArgumentException("firstPage must be at least 1: " + firstPage);
+        }
+        if (maxConcurrentPages < 1) {
+            throw new IllegalArgumentException("maxConcurrentPages must be at least 1: " + maxConcurrentPages);
+        }
+        this.fetcher = fetcher;
+        this.nextPage = firstPage;
+        this.maxConcurrentPages = maxConcurrentPages;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!page.hasNext()) {
+            if (closed) {
+                return false;
+            }
+            if (inFlight.isEmpty()) {
+                if (nextPage > lastPage) {
+                    close();
+                    return false;
+                }
+                request();
+            }
+
+            int number = nextPage - inFlight.size();
+            PageIterator.Page<T> current = await(inFlight.poll());
+            if (current.items.isEmpty() || !current.hasMore) {
+                lastPage = Math.min(lastPage, number);
+                cancelInFlight();
+            } else if (current.totalItems != null && current.perPage != null && current.perPage > 0) {
+                lastPage = Math.min(lastPage, (current.totalItems + current.perPage - 1) / current.perPage);
+            }
+            fill();
+            page = current.items.iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return page.next();
+    }
+
+    /**
+     * @return A sequential stream over the remaining objects. Closing the stream cancels pages still in flight.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(this::close);
+    }
+
+    /**
+     * Stops the iteration and cancels pages that are still in flight.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        page = Collections.emptyIterator();
+        cancelInFlight();
+    }
+
+    /**
+     * Requests further pages until the window is full, once the last page is known.
+     */
+    private void fill() {
+        if (lastPage == Integer.MAX_VALUE) {
+            return;
+        }
+        while (inFlight.size() < maxConcurrentPages && nextPage <= lastPage) {
+            request();
+        }
+    }
+
+    private void request() {
+        int number = nextPage++;
+        CompletableFuture<PageIterator.Page<T>> future;
+        try {
+            future = fetcher.apply(number);
+        } catch (RuntimeException e) {
+            future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+        }
+        inFlight.add(future);
+    }
+
+    private void cancelInFlight() {
+        for (CompletableFuture<PageIterator.Page<T>> future : inFlight) {
+            future.cancel(true);
+        }
+        inFlight.clear();
+    }
+
+    private PageIterator.Page<T> await(CompletableFuture<PageIterator.Page<T>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new CancellationException("Interrupted while waiting for the next page");
+        } catch (ExecutionException e) {
+            close();
+            Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw (UncheckedIOException) cause;
+            }
+            if (cause instanceof IOException) {
+                throw new UncheckedIOException((IOException) cause);
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new UncheckedIOException(new IOException(cause));
+        }
+    }
+}
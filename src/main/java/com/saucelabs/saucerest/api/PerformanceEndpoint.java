@@ -1,6 +1,8 @@
 package com.saucelabs.saucerest.api;
 
 import com.saucelabs.saucerest.DataCenter;
+import com.saucelabs.saucerest.EndpointFamily;
+import com.saucelabs.saucerest.SauceRESTConfig;
 import com.saucelabs.saucerest.Unfinished;
 
 @Unfinished("This endpoint is not yet completely implemented")
@@ -20,4 +22,17 @@ public class PerformanceEndpoint extends AbstractEndpoint {
     public PerformanceEndpoint(String username, String accessKey, String apiServer) {
         super(username, accessKey, apiServer);
     }
+
+    public PerformanceEndpoint(String username, String accessKey, DataCenter dataCenter, SauceRESTConfig config) {
+        super(username, accessKey, dataCenter, config);
+    }
+
+    public PerformanceEndpoint(String username, String accessKey, String apiServer, SauceRESTConfig config) {
+        super(username, accessKey, apiServer, config);
+    }
+
+    @Override
+    protected EndpointFamily getEndpointFamily() {
+        return EndpointFamily.PERFORMANCE;
+    }
 }
\ No newline at end of file
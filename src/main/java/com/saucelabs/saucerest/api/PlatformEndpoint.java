@@ -1,12 +1,16 @@
 package com.saucelabs.saucerest.api;
 
 import com.saucelabs.saucerest.DataCenter;
+import com.saucelabs.saucerest.EndpointFamily;
 import com.saucelabs.saucerest.HttpMethod;
+import com.saucelabs.saucerest.SauceRESTConfig;
 import com.saucelabs.saucerest.model.platform.EndOfLifeAppiumVersions;
 import com.saucelabs.saucerest.model.platform.SupportedPlatforms;
 import com.saucelabs.saucerest.model.platform.TestStatus;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 public class PlatformEndpoint extends AbstractEndpoint {
 
@@ -26,6 +30,14 @@ public class PlatformEndpoint extends AbstractEndpoint {
         super(username, accessKey, apiServer);
     }
 
+    public PlatformEndpoint(String username, String accessKey, DataCenter dataCenter, SauceRESTConfig config) {
+        super(username, accessKey, dataCenter, config);
+    }
+
+    public PlatformEndpoint(String username, String accessKey, String apiServer, SauceRESTConfig config) {
+        super(username, accessKey, apiServer, config);
+    }
+
     /**
      * Returns the status of Sauce Labs. Documentation is
      * <a href="https://docs.saucelabs.com/dev/api/platform/#get-sauce-labs-teststatus">here</a>
@@ -39,6 +51,17 @@ public class PlatformEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.GET), TestStatus.class);
     }
 
+    /**
+     * Asynchronous version of {@link #getTestStatus()}.
+     *
+     * @return {@link CompletableFuture} completing with {@link TestStatus}
+     */
+    public CompletableFuture<TestStatus> getTestStatusAsync() {
+        String url = getBaseEndpoint() + "/status";
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.GET), TestStatus.class);
+    }
+
     /**
      * Returns supported platforms. Valid values are 'all', 'appium' or 'webdriver'.
      * Documentation is
@@ -53,6 +76,19 @@ public class PlatformEndpoint extends AbstractEndpoint {
         return new SupportedPlatforms(deserializeJSONArray(request(url, HttpMethod.GET), com.saucelabs.saucerest.model.platform.Platform.class));
     }
 
+    /**
+     * Asynchronous version of {@link #getSupportedPlatforms(String)}.
+     *
+     * @param automationApi Specified automation framework: all, appium or webdriver.
+     * @return {@link CompletableFuture} completing with {@link SupportedPlatforms}
+     */
+    public CompletableFuture<SupportedPlatforms> getSupportedPlatformsAsync(String automationApi) {
+        String url = getBaseEndpoint() + "/platforms/" + automationApi;
+
+        return deserializeJSONArrayAsync(requestAsync(url, HttpMethod.GET), com.saucelabs.saucerest.model.platform.Platform.class)
+            .thenApply(SupportedPlatforms::new);
+    }
+
     /**
      * Returns all supported Appium versions on Sauce Labs and the expected end of life date of the version.
      * Documentation is
@@ -66,6 +102,23 @@ public class PlatformEndpoint extends AbstractEndpoint {
         return new EndOfLifeAppiumVersions(request(url, HttpMethod.GET));
     }
 
+    /**
+     * Asynchronous version of {@link #getEndOfLifeAppiumVersions()}.
+     *
+     * @return {@link CompletableFuture} completing with {@link EndOfLifeAppiumVersions}
+     */
+    public CompletableFuture<EndOfLifeAppiumVersions> getEndOfLifeAppiumVersionsAsync() {
+        String url = getBaseEndpoint() + "/platforms/appium/eol";
+
+        return requestAsync(url, HttpMethod.GET).thenApplyAsync(response -> {
+            try {
+                return new EndOfLifeAppiumVersions(response);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, getCallbackExecutor());
+    }
+
     /**
      * The base endpoint of the Platform endpoint APIs.
      */
@@ -73,4 +126,9 @@ public class PlatformEndpoint extends AbstractEndpoint {
     protected String getBaseEndpoint() {
         return super.getBaseEndpoint() + "rest/v1/info";
     }
+
+    @Override
+    protected EndpointFamily getEndpointFamily() {
+        return EndpointFamily.PLATFORM;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.saucelabs.saucerest.api;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.Okio;
+import okio.Source;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Request body streaming a file in chunks and reporting the progress after each chunk.
+ * <br>
+ * Each chunk is flushed to the connection before the next one is read, so progress reflects bytes handed to the
+ * connection rather than bytes read from disk. Timeouts are unchanged: OkHttp's write timeout applies to each write
+ * as it did before. The body can be written more than once, which lets a failed upload be retried.
+ */
+final class ProgressRequestBody extends RequestBody {
+    private final File file;
+    private final MediaType contentType;
+    private final int chunkSize;
+    private final UploadProgressListener listener;
+
+    ProgressRequestBody(File file, MediaType contentType, int chunkSize, UploadProgressListener listener) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be at least 1: " + chunkSize);
+        }
+        this.file = file;
+        this.contentType = contentType;
+        this.chunkSize = chunkSize;
+        this.listener = listener;
+    }
+
+    @Override
+    public MediaType contentType() {
+        return contentType;
+    }
+
+    @Override
+    public long contentLength() {
+        return file.length();
+    }
+
+    @Override
+    public void writeTo(BufferedSink sink) throws IOException {
+        long totalBytes = contentLength();
+        long bytesSent = 0;
+        listener.onProgress(bytesSent, totalBytes);
+
+        Buffer chunk = new Buffer();
+        try (Source source = Okio.source(file)) {
+            long read;
+            while ((read = source.read(chunk, chunkSize)) != -1) {
+                sink.write(chunk, read);
+                sink.flush();
+                bytesSent += read;
+                listener.onProgress(bytesSent, totalBytes);
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -2,32 +2,47 @@ package com.saucelabs.saucerest.api;
 
 import com.google.common.collect.ImmutableMap;
 import com.saucelabs.saucerest.*;
+import com.saucelabs.saucerest.model.jobs.AssetDownload;
 import com.saucelabs.saucerest.model.realdevices.*;
-import com.squareup.moshi.JsonAdapter;
 import com.squareup.moshi.JsonDataException;
-import com.squareup.moshi.JsonReader;
-import com.squareup.moshi.Moshi;
 import okhttp3.Response;
-import okio.BufferedSource;
-import org.awaitility.Awaitility;
-import org.awaitility.core.ConditionTimeoutException;
 
-import java.io.BufferedWriter;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 public class RealDevicesEndpoint extends AbstractEndpoint {
     private static final Logger logger = Logger.getLogger(RealDevicesEndpoint.class.getName());
+    private static final int DEFAULT_CONCURRENT_DOWNLOADS = 4;
+    private static final int DEVICE_JOBS_PAGE_SIZE = 100;
+    private static final Pattern APPIUM_VERSION = Pattern.compile("Appium v(\\d+\\.\\d+\\.\\d+)");
 
     public RealDevicesEndpoint(DataCenter dataCenter) {
         super(dataCenter);
@@ -45,6 +60,14 @@ public class RealDevicesEndpoint extends AbstractEndpoint {
         super(username, accessKey, apiServer);
     }
 
+    public RealDevicesEndpoint(String username, String accessKey, DataCenter dataCenter, SauceRESTConfig config) {
+        super(username, accessKey, dataCenter, config);
+    }
+
+    public RealDevicesEndpoint(String username, String accessKey, String apiServer, SauceRESTConfig config) {
+        super(username, accessKey, apiServer, config);
+    }
+
     /**
      * Returns all real devices in Sauce Labs. Documentation is
      * <a href="https://docs.saucelabs.com/dev/api/rdc/#get-devices">here</a>
@@ -58,6 +81,30 @@ public class RealDevicesEndpoint extends AbstractEndpoint {
         return deserializeJSONArray(request(url, HttpMethod.GET), Device.class);
     }
 
+    /**
+     * Asynchronous version of {@link #getDevices()}.
+     *
+     * @return {@link CompletableFuture} completing with a {@link List} of {@link Device}
+     */
+    public CompletableFuture<List<Device>> getDevicesAsync() {
+        String url = getBaseEndpoint() + "/devices";
+
+        return deserializeJSONArrayAsync(requestAsync(url, HttpMethod.GET), Device.class);
+    }
+
+    /**
+     * Creates a catalog indexing all devices by their attributes, see {@link DeviceCatalog}.
+     * Call {@link DeviceCatalog#refresh()} to pick up changes to the device list.
+     *
+     * @return {@link DeviceCatalog} filled with the current devices
+     * @throws IOException API request failed
+     */
+    public DeviceCatalog createDeviceCatalog() throws IOException {
+        DeviceCatalog catalog = new DeviceCatalog(this::getDevices);
+        catalog.refresh();
+        return catalog;
+    }
+
     /**
      * Returns a specific device based on its ID. Documentation is
      * <a href="https://docs.saucelabs.com/dev/api/rdc/#get-a-specific-device">here</a>
@@ -71,6 +118,18 @@ public class RealDevicesEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.GET), Device.class);
     }
 
+    /**
+     * Asynchronous version of {@link #getSpecificDevice(String)}.
+     *
+     * @param deviceID The ID of the device
+     * @return {@link CompletableFuture} completing with the {@link Device}
+     */
+    public CompletableFuture<Device> getSpecificDeviceAsync(String deviceID) {
+        String url = getBaseEndpoint() + "/devices/" + deviceID;
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.GET), Device.class);
+    }
+
     /**
      * Returns all available devices in Sauce Labs. Documentation is
      * <a href="https://docs.saucelabs.com/dev/api/rdc/#get-available-devices">here</a>
@@ -84,6 +143,28 @@ public class RealDevicesEndpoint extends AbstractEndpoint {
         return new AvailableDevices(deserializeJSONArray(request(url, HttpMethod.GET), String.class));
     }
 
+    /**
+     * Asynchronous version of {@link #getAvailableDevices()}.
+     *
+     * @return {@link CompletableFuture} completing with {@link AvailableDevices}
+     */
+    public CompletableFuture<AvailableDevices> getAvailableDevicesAsync() {
+        String url = getBaseEndpoint() + "/devices/available";
+
+        return deserializeJSONArrayAsync(requestAsync(url, HttpMethod.GET), String.class).thenApply(AvailableDevices::new);
+    }
+
+    /**
+     * Creates a monitor keeping the available devices in memory, see {@link DeviceAvailabilityMonitor}.
+     * Call {@link DeviceAvailabilityMonitor#start()} to begin refreshing and close it when done.
+     *
+     * @param refreshInterval Delay between two refreshes, e.g. {@link DeviceAvailabilityMonitor#DEFAULT_REFRESH_INTERVAL}
+     * @return {@link DeviceAvailabilityMonitor} refreshing from this endpoint
+     */
+    public DeviceAvailabilityMonitor monitorAvailableDevices(Duration refreshInterval) {
+        return new DeviceAvailabilityMonitor(this::getAvailableDevices, refreshInterval);
+    }
+
     /**
      * Returns all device jobs/tests run on real devices. Documentation is
      * <a href="https://docs.saucelabs.com/dev/api/rdc/#get-real-device-jobs">here</a>
@@ -97,6 +178,17 @@ public class RealDevicesEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.GET), DeviceJobs.class);
     }
 
+    /**
+     * Asynchronous version of {@link #getDeviceJobs()}.
+     *
+     * @return {@link CompletableFuture} completing with {@link DeviceJobs}
+     */
+    public CompletableFuture<DeviceJobs> getDeviceJobsAsync() {
+        String url = getBaseEndpoint() + "/jobs";
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.GET), DeviceJobs.class);
+    }
+
     /**
      * Returns all device jobs/tests run on real devices. Result can be limited by providing optional parameters.
      * Documentation is
@@ -112,6 +204,92 @@ public class RealDevicesEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(requestWithQueryParameters(url, HttpMethod.GET, params), DeviceJobs.class);
     }
 
+    /**
+     * Asynchronous version of {@link #getDeviceJobs(ImmutableMap)}.
+     *
+     * @param params Optional parameters
+     * @return {@link CompletableFuture} completing with {@link DeviceJobs}
+     */
+    public CompletableFuture<DeviceJobs> getDeviceJobsAsync(ImmutableMap<String, Object> params) {
+        String url = getBaseEndpoint() + "/jobs";
+
+        return deserializeJSONObjectAsync(requestWithQueryParametersAsync(url, HttpMethod.GET, params), DeviceJobs.class);
+    }
+
+    /**
+     * Iterate over all device jobs page by page, newest first. Only one page is held in memory at a time.
+     * The iteration ends when a page reports that no more jobs are available.
+     * {@code limit} of the parameters is the page size (default 100) and {@code offset} is where the iteration starts,
+     * other parameters apply to every page.
+     *
+     * @param params   Optional parameters
+     * @param prefetch true to request the next page while the current one is consumed
+     * @return {@link PageIterator} of {@link Entity} objects. Close it to stop prefetching when not iterating to the end.
+     */
+    public PageIterator<Entity> iterateDeviceJobs(ImmutableMap<String, Object> params, boolean prefetch) {
+        return iterateDeviceJobs(params, null, prefetch);
+    }
+
+    /**
+     * Iterate over the device jobs created since the last synchronization, newest first.
+     * The iteration ends before the job with the given ID, so no further pages are requested once it is reached.
+     *
+     * @param params        Optional parameters, see {@link #iterateDeviceJobs(ImmutableMap, boolean)}
+     * @param lastSeenJobID ID of the newest job seen by the previous synchronization, or null to iterate over all jobs
+     * @param prefetch      true to request the next page while the current one is consumed
+     * @return {@link PageIterator} of {@link Entity} objects. Close it to stop prefetching when not iterating to the end.
+     */
+    public PageIterator<Entity> iterateDeviceJobs(ImmutableMap<String, Object> params, String lastSeenJobID, boolean prefetch) {
+        String url = getBaseEndpoint() + "/jobs";
+        int pageSize = getIntParameter(params, "limit", DEVICE_JOBS_PAGE_SIZE);
+        int offset = getIntParameter(params, "offset", 0);
+
+        return PageIterator.ofAsyncPages((skip, limit) -> {
+            Map<String, Object> parameters = new HashMap<>(params);
+            parameters.put("offset", skip);
+            parameters.put("limit", limit);
+            CompletableFuture<DeviceJobs> request = deserializeJSONObjectAsync(requestWithQueryParametersAsync(url, HttpMethod.GET, parameters),
+                DeviceJobs.class);
+            return cancelRequestWith(request, request.thenApply(page -> toPage(page, lastSeenJobID)));
+        }, offset, pageSize, prefetch);
+    }
+
+    private static PageIterator.Page<Entity> toPage(DeviceJobs page, String lastSeenJobID) {
+        List<Entity> entities = page.entities == null ? new ArrayList<>() : page.entities;
+        boolean moreAvailable = page.metaData != null && Boolean.TRUE.equals(page.metaData.moreAvailable);
+        if (lastSeenJobID != null) {
+            for (int i = 0; i < entities.size(); i++) {
+                if (lastSeenJobID.equals(entities.get(i).id)) {
+                    return new PageIterator.Page<>(entities.subList(0, i), false);
+                }
+            }
+        }
+        return new PageIterator.Page<>(entities, moreAvailable);
+    }
+
+    /**
+     * Stream all device jobs page by page, see {@link #iterateDeviceJobs(ImmutableMap, boolean)}.
+     *
+     * @param params   Optional parameters
+     * @param prefetch true to request the next page while the current one is consumed
+     * @return {@link Stream} of {@link Entity} objects. Close it to stop prefetching when not consuming it to the end.
+     */
+    public Stream<Entity> streamDeviceJobs(ImmutableMap<String, Object> params, boolean prefetch) {
+        return iterateDeviceJobs(params, prefetch).stream();
+    }
+
+    /**
+     * Stream the device jobs created since the last synchronization, see {@link #iterateDeviceJobs(ImmutableMap, String, boolean)}.
+     *
+     * @param params        Optional parameters
+     * @param lastSeenJobID ID of the newest job seen by the previous synchronization, or null to stream all jobs
+     * @param prefetch      true to request the next page while the current one is consumed
+     * @return {@link Stream} of {@link Entity} objects. Close it to stop prefetching when not consuming it to the end.
+     */
+    public Stream<Entity> streamDeviceJobs(ImmutableMap<String, Object> params, String lastSeenJobID, boolean prefetch) {
+        return iterateDeviceJobs(params, lastSeenJobID, prefetch).stream();
+    }
+
     /**
      * Returns a specific job/test based on its ID.
      * Documentation is
@@ -127,6 +305,18 @@ public class RealDevicesEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.GET), DeviceJob.class);
     }
 
+    /**
+     * Asynchronous version of {@link #getSpecificDeviceJob(String)}.
+     *
+     * @param jobID The ID of the job/test
+     * @return {@link CompletableFuture} completing with the {@link DeviceJob}
+     */
+    public CompletableFuture<DeviceJob> getSpecificDeviceJobAsync(String jobID) {
+        String url = getBaseEndpoint() + "/jobs/" + jobID;
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.GET), DeviceJob.class);
+    }
+
     /**
      * TODO: This endpoint is currently not documented and also does not return any response whatsoever.
      *  Update this method and add integration tests including a model and so on when above is fixed.
@@ -158,6 +348,17 @@ public class RealDevicesEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.GET), Concurrency.class);
     }
 
+    /**
+     * Asynchronous version of {@link #getConcurrency()}.
+     *
+     * @return {@link CompletableFuture} completing with {@link Concurrency}
+     */
+    public CompletableFuture<Concurrency> getConcurrencyAsync() {
+        String url = getBaseEndpoint() + "/concurrency";
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.GET), Concurrency.class);
+    }
+
     // Helper methods
 
     public void downloadVideo(String jobID, String path) throws IOException {
@@ -174,18 +375,46 @@ public class RealDevicesEndpoint extends AbstractEndpoint {
 
     public void downloadAppiumLog(String jobID, String path) throws IOException {
         String url = retryUntilTestAssetAvailable(getSpecificDeviceJob(jobID), TestAsset.APPIUM_LOG).frameworkLogUrl;
-        Path directoryPath = getDirectoryPath(path);
-        Path filePath = getFilePath(directoryPath, TestAsset.APPIUM_LOG.label);
 
-        downloadNonMalformedLog(filePath, request(url, HttpMethod.GET));
+        try (LogSink sink = LogSink.toFile(getFilePath(getDirectoryPath(path), TestAsset.APPIUM_LOG.label))) {
+            downloadLog(url, sink);
+        }
+    }
+
+    /**
+     * Stream the Appium log of a job to a sink as it is downloaded, without a temporary file.
+     *
+     * @param jobID The ID of the job/test
+     * @param sink  Receives the log entries, e.g. {@link LogSink#toConsumer(java.util.function.Consumer)}. It is not closed.
+     * @return Number of log entries passed to the sink
+     * @throws IOException API request failed or the sink failed
+     */
+    public long downloadAppiumLog(String jobID, LogSink sink) throws IOException {
+        String url = retryUntilTestAssetAvailable(getSpecificDeviceJob(jobID), TestAsset.APPIUM_LOG).frameworkLogUrl;
+
+        return downloadLog(url, sink);
     }
 
     public void downloadDeviceLog(String jobID, String path) throws IOException {
         String url = retryUntilTestAssetAvailable(getSpecificDeviceJob(jobID), TestAsset.DEVICE_LOG).deviceLogUrl;
-        Path directoryPath = getDirectoryPath(path);
-        Path filePath = getFilePath(directoryPath, TestAsset.DEVICE_LOG.label);
 
-        downloadNonMalformedLog(filePath, request(url, HttpMethod.GET));
+        try (LogSink sink = LogSink.toFile(getFilePath(getDirectoryPath(path), TestAsset.DEVICE_LOG.label))) {
+            downloadLog(url, sink);
+        }
+    }
+
+    /**
+     * Stream the device log of a job to a sink as it is downloaded, without a temporary file.
+     *
+     * @param jobID The ID of the job/test
+     * @param sink  Receives the log entries, e.g. {@link LogSink#toConsumer(java.util.function.Consumer)}. It is not closed.
+     * @return Number of log entries passed to the sink
+     * @throws IOException API request failed or the sink failed
+     */
+    public long downloadDeviceLog(String jobID, LogSink sink) throws IOException {
+        String url = retryUntilTestAssetAvailable(getSpecificDeviceJob(jobID), TestAsset.DEVICE_LOG).deviceLogUrl;
+
+        return downloadLog(url, sink);
     }
 
     public void downloadCommandsLog(String jobID, String path) throws IOException {
@@ -202,50 +431,153 @@ public class RealDevicesEndpoint extends AbstractEndpoint {
     }
 
     public void downloadScreenshots(String jobID, String path) throws IOException {
-        List<Object> list = retryUntilTestAssetAvailable(getSpecificDeviceJob(jobID), TestAsset.SCREENSHOTS).screenshots;
+        for (AssetDownload download : downloadScreenshots(jobID, getDirectoryPath(path), DEFAULT_CONCURRENT_DOWNLOADS)) {
+            if (!download.isSuccessful()) {
+                throw download.getFailure();
+            }
+        }
+    }
 
-        for (int i = 0; i < list.size(); i++) {
-            Object pairs = list.get(i);
-            String url = ((Map<String, String>) pairs).get("url");
-            downloadFile(url, path, i + ".png");
+    /**
+     * Download the screenshots of a job in parallel, each streamed to its own file named by its index, e.g. {@code 0.png}.
+     * A failed screenshot does not stop the other downloads, check the returned results.
+     *
+     * @param jobID                  The ID of the job/test
+     * @param directory              Path to the directory where the screenshots should be stored
+     * @param maxConcurrentDownloads Maximum number of screenshots downloaded at the same time
+     * @return {@link AssetDownload} per screenshot in the order of the job's screenshots
+     * @throws IOException if the job cannot be retrieved
+     */
+    public List<AssetDownload> downloadScreenshots(String jobID, Path directory, int maxConcurrentDownloads) throws IOException {
+        List<String> urls = getScreenshotUrls(retryUntilTestAssetAvailable(getSpecificDeviceJob(jobID), TestAsset.SCREENSHOTS));
+
+        return downloadScreenshots(jobID, urls, maxConcurrentDownloads,
+            (name, url) -> downloadScreenshot(jobID, url, name, directory.resolve(name)));
+    }
+
+    /**
+     * Download the screenshots of a job in parallel and pack them into one zip file as they arrive. Each screenshot is
+     * streamed to a temporary file first, so screenshots are never held in memory. Zip entries are named by the index
+     * of the screenshot, e.g. {@code 0.png}, and stored without compression since PNG files are already compressed.
+     * A failed screenshot does not stop the other downloads, check the returned results.
+     *
+     * @param jobID                  The ID of the job/test
+     * @param zipFile                Path including filename of the zip file to write
+     * @param maxConcurrentDownloads Maximum number of screenshots downloaded at the same time
+     * @return {@link AssetDownload} per screenshot in the order of the job's screenshots
+     * @throws IOException if the job cannot be retrieved or the zip file cannot be written
+     */
+    public List<AssetDownload> downloadScreenshotsToZip(String jobID, Path zipFile, int maxConcurrentDownloads) throws IOException {
+        List<String> urls = getScreenshotUrls(retryUntilTestAssetAvailable(getSpecificDeviceJob(jobID), TestAsset.SCREENSHOTS));
+        Path target = zipFile.toAbsolutePath();
+        Path tempDirectory = Files.createTempDirectory(Files.createDirectories(target.getParent()), ".screenshots");
+
+        try (ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(target)))) {
+            zip.setLevel(Deflater.NO_COMPRESSION);
+
+            return downloadScreenshots(jobID, urls, maxConcurrentDownloads, (name, url) -> {
+                Path temp = tempDirectory.resolve(name);
+                try {
+                    AssetDownload download = downloadScreenshot(jobID, url, name, temp);
+                    if (!download.isSuccessful()) {
+                        return download;
+                    }
+                    try {
+                        synchronized (zip) {
+                            zip.putNextEntry(new ZipEntry(name));
+                            Files.copy(temp, zip);
+                            zip.closeEntry();
+                        }
+                        return new AssetDownload(name, target, download.getBytes(), download.getDuration(), null);
+                    } catch (IOException e) {
+                        logger.log(Level.WARNING, String.format("Error adding %s of job %s to %s", name, jobID, target), e);
+                        return new AssetDownload(name, target, 0, download.getDuration(), e);
+                    }
+                } finally {
+                    // A screenshot cut off mid-transfer leaves a partial file behind
+                    deleteQuietly(temp);
+                }
+            });
+        } finally {
+            deleteRecursively(tempDirectory);
+        }
+    }
+
+    /**
+     * Creates a tracker that polls the job once for all assets requested from it, with the default poll intervals and
+     * timeout of {@link DeviceJobAssetTracker}. Close it when done to stop polling.
+     *
+     * @param jobID The ID of the job/test
+     * @return {@link DeviceJobAssetTracker} for the job
+     */
+    public DeviceJobAssetTracker trackAssets(String jobID) {
+        return new DeviceJobAssetTracker(jobID, this::getSpecificDeviceJob, DeviceJobAssetTracker.DEFAULT_INITIAL_POLL_INTERVAL,
+            DeviceJobAssetTracker.DEFAULT_MAX_POLL_INTERVAL, DeviceJobAssetTracker.DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Download several assets of a job. The job is polled once for all of them and each download starts as soon as its
+     * asset is available, so early assets are written while later ones are still being processed by Sauce Labs.
+     * Files are named by {@link TestAsset#label}, screenshots by their index, e.g. {@code 0.png}.
+     * A failed or timed out asset does not stop the other downloads, check the returned results.
+     *
+     * @param jobID     The ID of the job/test
+     * @param directory Path to the directory where the assets should be stored
+     * @param assets    The assets to download
+     * @return {@link AssetDownload} per file, in the order of the requested assets
+     * @throws IOException if the thread is interrupted while waiting for the downloads
+     */
+    public List<AssetDownload> downloadAssets(String jobID, Path directory, Set<TestAsset> assets) throws IOException {
+        if (assets.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        try (DeviceJobAssetTracker tracker = trackAssets(jobID)) {
+            Map<TestAsset, CompletableFuture<List<AssetDownload>>> downloads = new LinkedHashMap<>();
+            for (TestAsset asset : assets) {
+                downloads.put(asset, tracker.whenAvailable(asset)
+                    .thenApplyAsync(job -> downloadAsset(job, asset, directory), getCallbackExecutor()));
+            }
+
+            List<AssetDownload> results = new ArrayList<>();
+            for (Map.Entry<TestAsset, CompletableFuture<List<AssetDownload>>> download : downloads.entrySet()) {
+                try {
+                    results.addAll(download.getValue().get());
+                } catch (ExecutionException e) {
+                    IOException failure = asIOException(e.getCause());
+                    logger.log(Level.WARNING, String.format("Error downloading %s of job %s", download.getKey().label, jobID), failure);
+                    results.add(new AssetDownload(download.getKey().label, directory.resolve(download.getKey().label), 0,
+                        Duration.ZERO, failure));
+                }
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while downloading assets of job " + jobID);
         }
     }
 
     /**
      * Returns the Appium server version used for the test.
+     * The Appium log is only read up to the first entry announcing the version, the rest is not downloaded.
      *
      * @param jobID The ID of the job/test
-     * @return The Appium server version
+     * @return The Appium server version, or null if the log does not contain it
      * @throws IOException API request failed
      */
     public String getAppiumServerVersion(String jobID) throws IOException {
         String url = retryUntilTestAssetAvailable(getSpecificDeviceJob(jobID), TestAsset.APPIUM_LOG).frameworkLogUrl;
 
-        try (Response response = request(url, HttpMethod.GET);
-             BufferedSource source = response.body().source()) {
-
-            Moshi moshi = MoshiSingleton.getInstance();
-            JsonReader reader = JsonReader.of(source);
-            List<String> versions = new ArrayList<>();
-
-            JsonAdapter<LogEntry> adapter = moshi.adapter(LogEntry.class);
-            reader.beginArray();
-            while (reader.hasNext()) {
-                JsonReader.Token token = reader.peek();
-                if (token == JsonReader.Token.BEGIN_OBJECT) {
-                    LogEntry logEntry = adapter.fromJson(reader);
-                    if (logEntry != null && logEntry.getTime() != null && logEntry.getLevel() != null && logEntry.getMessage() != null) {
-                        versions.add(logEntry + System.lineSeparator());
-                    }
-                } else {
-                    reader.skipValue();
-                }
+        // Closing the response before the body is exhausted drops the connection instead of reading the remaining log
+        try (Response response = request(url, HttpMethod.GET)) {
+            if (response.body() == null) {
+                throw new IOException("Response body is null for " + url);
             }
-            reader.endArray();
 
-            String appiumVersion = extractAppiumVersion(versions);
-            if (appiumVersion != null) {
-                return appiumVersion;
+            Matcher matcher = APPIUM_VERSION.matcher("");
+            LogEntry entry = LogNormalizer.find(response.body().source(), e -> matcher.reset(e.getMessage()).find());
+            if (entry != null) {
+                return matcher.group(1);
             } else {
                 logger.log(Level.WARNING, "Appium version not found in the log file");
                 return null;
@@ -253,18 +585,38 @@ public class RealDevicesEndpoint extends AbstractEndpoint {
         }
     }
 
-    private static String extractAppiumVersion(List<String> versions) {
-        String regex = "Appium v(\\d+\\.\\d+\\.\\d+)";
-        Pattern pattern = Pattern.compile(regex);
+    /**
+     * Returns the Appium server versions used for many tests, reading the Appium logs concurrently.
+     * A failed job does not stop the others, it is logged and left out of the result.
+     *
+     * @param jobIDs                 The IDs of the jobs/tests
+     * @param maxConcurrentRequests Maximum number of Appium logs read at the same time
+     * @return The Appium server version per job ID, in the order of the IDs. The version is null if the log does not contain it.
+     * @throws IOException if the thread is interrupted while waiting for the logs
+     */
+    public Map<String, String> getAppiumServerVersions(Collection<String> jobIDs, int maxConcurrentRequests) throws IOException {
+        if (maxConcurrentRequests < 1) {
+            throw new IllegalArgumentException("maxConcurrentRequests must be at least 1: " + maxConcurrentRequests);
+        }
+        if (jobIDs.isEmpty()) {
+            return new LinkedHashMap<>();
+        }
 
-        for (String line : versions) {
-            Matcher matcher = pattern.matcher(line);
-            if (matcher.find()) {
-                return matcher.group(1);
+        List<String> uniqueIDs = new ArrayList<>(new LinkedHashSet<>(jobIDs));
+        List<Map.Entry<String, String>> results = runConcurrently(uniqueIDs, maxConcurrentRequests,
+            jobID -> new AbstractMap.SimpleEntry<>(jobID, getAppiumServerVersion(jobID)),
+            (jobID, failure) -> {
+                logger.log(Level.WARNING, String.format("Error reading the Appium version of job %s", jobID), failure);
+                return null;
+            });
+
+        Map<String, String> versions = new LinkedHashMap<>();
+        for (Map.Entry<String, String> result : results) {
+            if (result != null) {
+                versions.put(result.getKey(), result.getValue());
             }
         }
-
-        return null; // Return null if the Appium version is not found in the log file
+        return versions;
     }
 
     /**
@@ -276,87 +628,141 @@ public class RealDevicesEndpoint extends AbstractEndpoint {
     }
 
     private DeviceJob retryUntilTestAssetAvailable(DeviceJob deviceJob, TestAsset testAsset) throws IOException {
-        try {
-            Awaitility.await()
-                    .pollInterval(1, TimeUnit.SECONDS)
-                    .atMost(1, TimeUnit.MINUTES)
-                    .until(testAssetAvailable(deviceJob, testAsset));
-        } catch (ConditionTimeoutException e) {
-            logger.severe(String.format("Timed out waiting for %s to be available for ID %s", testAsset.label, deviceJob.id));
+        if (DeviceJobAssetTracker.isAvailable(deviceJob, testAsset)) {
+            return deviceJob;
         }
 
-        return getSpecificDeviceJob(deviceJob.id);
-    }
-
-    private Callable<Boolean> testAssetAvailable(DeviceJob deviceJob, TestAsset testAsset) {
-        return () -> {
-            switch (testAsset) {
-                case VIDEO:
-                    return getSpecificDeviceJob(deviceJob.id).videoUrl != null;
-                case HAR:
-                    return getSpecificDeviceJob(deviceJob.id).networkLogUrl != null;
-                case APPIUM_LOG:
-                    return getSpecificDeviceJob(deviceJob.id).frameworkLogUrl != null;
-                case INSIGHTS_LOG:
-                    return getSpecificDeviceJob(deviceJob.id).testfairyLogUrl != null;
-                case CRASH_LOG:
-                    return getSpecificDeviceJob(deviceJob.id).crashLogUrl != null;
-                case DEVICE_LOG:
-                    return getSpecificDeviceJob(deviceJob.id).deviceLogUrl != null;
-                case COMMANDS_LOG:
-                    return getSpecificDeviceJob(deviceJob.id).requestsUrl != null;
-                case SCREENSHOTS:
-                    return getSpecificDeviceJob(deviceJob.id).screenshots != null;
-                default:
-                    return false;
+        try (DeviceJobAssetTracker tracker = trackAssets(deviceJob.id)) {
+            return tracker.await(testAsset);
+        } catch (TimeoutException e) {
+            logger.severe(e.getMessage());
+            return getSpecificDeviceJob(deviceJob.id);
+        }
+    }
+
+    private static int getIntParameter(Map<String, Object> params, String name, int defaultValue) {
+        Object value = params.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        return value instanceof Number ? ((Number) value).intValue() : Integer.parseInt(value.toString());
+    }
+
+    private static List<String> getScreenshotUrls(DeviceJob deviceJob) {
+        List<String> urls = new ArrayList<>();
+        if (deviceJob.screenshots == null) {
+            return urls;
+        }
+        for (Object screenshot : deviceJob.screenshots) {
+            if (screenshot instanceof Map) {
+                Object url = ((Map<?, ?>) screenshot).get("url");
+                if (url != null) {
+                    urls.add(url.toString());
+                }
             }
-        };
+        }
+        return urls;
     }
 
-    /**
-     * Some log files are malformed and have noise in them making it difficult to read.
-     * This method will download these logs and parse them so it is readable and in an expected format.
-     *
-     * @param path     The path to the directory to download the log file to.
-     * @param response The response from the request to download the log file.
-     * @throws IOException If there is an issue writing to the file.
-     */
-    private void downloadNonMalformedLog(Path path, Response response) throws IOException {
-        if (response == null) {
-            logger.warning(String.format("Response is null for %s", path));
-            throw new IOException("Response is null");
+    private List<AssetDownload> downloadScreenshots(String jobID, List<String> urls, int maxConcurrentDownloads,
+                                                    BiFunction<String, String, AssetDownload> download) throws IOException {
+        if (maxConcurrentDownloads < 1) {
+            throw new IllegalArgumentException("maxConcurrentDownloads must be at least 1: " + maxConcurrentDownloads);
+        }
+        if (urls.isEmpty()) {
+            return new ArrayList<>();
         }
 
-        if (response.body() == null) {
-            logger.warning(String.format("Response body is null for %s", path));
-            throw new IOException("Response body is null");
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < urls.size(); i++) {
+            indexes.add(i);
         }
+        return runConcurrently(indexes, maxConcurrentDownloads, i -> download.apply(i + ".png", urls.get(i)),
+            (i, failure) -> new AssetDownload(i + ".png", null, 0, Duration.ZERO, failure));
+    }
 
-        Moshi moshi = MoshiSingleton.getInstance();
-        BufferedSource source = response.body().source();
-        JsonReader reader = JsonReader.of(source);
-
-        try (BufferedWriter writer = Files.newBufferedWriter(path)) {
-            JsonAdapter<LogEntry> adapter = moshi.adapter(LogEntry.class);
-            reader.beginArray();
-            while (reader.hasNext()) {
-                JsonReader.Token token = reader.peek();
-                if (token == JsonReader.Token.BEGIN_OBJECT) {
-                    LogEntry logEntry = adapter.fromJson(reader);
-                    if (logEntry != null && logEntry.getTime() != null && logEntry.getLevel() != null && logEntry.getMessage() != null) {
-                        writer.write(logEntry + System.lineSeparator());
-                    }
-                } else {
-                    reader.skipValue();
+    private AssetDownload downloadScreenshot(String jobID, String url, String name, Path path) {
+        long start = System.nanoTime();
+        try {
+            long bytes = writeToFile(request(url, HttpMethod.GET), path);
+            return new AssetDownload(name, path, bytes, Duration.ofNanos(System.nanoTime() - start), null);
+        } catch (IOException | RuntimeException e) {
+            IOException failure = asIOException(e);
+            logger.log(Level.WARNING, String.format("Error downloading screenshot %s of job %s", name, jobID), failure);
+            return new AssetDownload(name, path, 0, Duration.ofNanos(System.nanoTime() - start), failure);
+        }
+    }
+
+    private List<AssetDownload> downloadAsset(DeviceJob deviceJob, TestAsset asset, Path directory) {
+        if (asset == TestAsset.SCREENSHOTS) {
+            try {
+                return downloadScreenshots(deviceJob.id, getScreenshotUrls(deviceJob), DEFAULT_CONCURRENT_DOWNLOADS,
+                    (name, url) -> downloadScreenshot(deviceJob.id, url, name, directory.resolve(name)));
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }
+
+        Path path = directory.resolve(asset.label);
+        String url = DeviceJobAssetTracker.getUrl(deviceJob, asset);
+        long start = System.nanoTime();
+        try {
+            long bytes;
+            if (asset == TestAsset.APPIUM_LOG || asset == TestAsset.DEVICE_LOG) {
+                try (LogSink sink = LogSink.toFile(path)) {
+                    downloadLog(url, sink);
                 }
+                bytes = Files.size(path);
+            } else {
+                bytes = writeToFile(request(url, HttpMethod.GET), path);
             }
-            reader.endArray();
+            return Collections.singletonList(new AssetDownload(asset.label, path, bytes, Duration.ofNanos(System.nanoTime() - start), null));
+        } catch (IOException | RuntimeException e) {
+            IOException failure = asIOException(e);
+            logger.log(Level.WARNING, String.format("Error downloading %s of job %s", asset.label, deviceJob.id), failure);
+            return Collections.singletonList(new AssetDownload(asset.label, path, 0, Duration.ofNanos(System.nanoTime() - start), failure));
+        }
+    }
+
+    private static void deleteRecursively(Path directory) {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(RealDevicesEndpoint::deleteQuietly);
         } catch (IOException e) {
-            logger.warning(String.format("Failed to write to file %s", path));
-            throw e;
+            logger.log(Level.FINE, "Could not delete " + directory, e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.log(Level.FINE, "Could not delete " + path, e);
+        }
+    }
+
+    /**
+     * Some log files are malformed and have noise in them making it difficult to read.
+     * This method streams these logs through {@link LogNormalizer} so only well-formed entries reach the sink.
+     *
+     * @param url  The URL of the log file
+     * @param sink Receives the log entries
+     * @return Number of log entries passed to the sink
+     * @throws IOException If the log cannot be downloaded or the sink fails
+     */
+    private long downloadLog(String url, LogSink sink) throws IOException {
+        try (Response response = request(url, HttpMethod.GET)) {
+            if (response.body() == null) {
+                throw new IOException("Response body is null for " + url);
+            }
+            return LogNormalizer.normalize(response.body().source(), sink);
         } catch (JsonDataException e) {
             logger.warning(String.format("Failed to parse JSON response: %s", e.getMessage()));
             throw e;
         }
     }
+
+    @Override
+    protected EndpointFamily getEndpointFamily() {
+        return EndpointFamily.RDC;
+    }
 }
\ No newline at end of file
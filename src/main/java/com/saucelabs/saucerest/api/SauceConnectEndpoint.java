@@ -1,16 +1,43 @@
 package com.saucelabs.saucerest.api;
 
 import com.saucelabs.saucerest.DataCenter;
+import com.saucelabs.saucerest.EndpointFamily;
 import com.saucelabs.saucerest.HttpMethod;
+import com.saucelabs.saucerest.SauceRESTConfig;
 import com.saucelabs.saucerest.model.sauceconnect.JobsForATunnel;
 import com.saucelabs.saucerest.model.sauceconnect.StopTunnel;
+import com.saucelabs.saucerest.model.sauceconnect.TunnelFleet;
 import com.saucelabs.saucerest.model.sauceconnect.TunnelInformation;
+import com.saucelabs.saucerest.model.sauceconnect.TunnelStopResult;
 import com.saucelabs.saucerest.model.sauceconnect.Versions;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 public class SauceConnectEndpoint extends AbstractEndpoint {
+    /**
+     * Default number of concurrent requests of bulk operations. It matches OkHttp's default limit of requests per host.
+     */
+    public static final int DEFAULT_CONCURRENT_REQUESTS = 5;
+    private static final Logger logger = Logger.getLogger(SauceConnectEndpoint.class.getName());
+
     public SauceConnectEndpoint(DataCenter dataCenter) {
         super(dataCenter);
     }
@@ -27,6 +54,14 @@ public class SauceConnectEndpoint extends AbstractEndpoint {
         super(username, accessKey, dataCenter);
     }
 
+    public SauceConnectEndpoint(String username, String accessKey, DataCenter dataCenter, SauceRESTConfig config) {
+        super(username, accessKey, dataCenter, config);
+    }
+
+    public SauceConnectEndpoint(String username, String accessKey, String apiServer, SauceRESTConfig config) {
+        super(username, accessKey, apiServer, config);
+    }
+
     /**
      * Returns Tunnel IDs or Tunnels Info for any currently running tunnels launched by or shared with the specified user.
      * Documentation is
@@ -49,6 +84,27 @@ public class SauceConnectEndpoint extends AbstractEndpoint {
         return deserializeJSONArray(request(url, HttpMethod.GET), String.class);
     }
 
+    /**
+     * Asynchronous version of {@link #getTunnelsForAUser()}.
+     *
+     * @return {@link CompletableFuture} completing with the tunnel IDs
+     */
+    public CompletableFuture<List<String>> getTunnelsForAUserAsync() {
+        return getTunnelsForAUserAsync(this.username);
+    }
+
+    /**
+     * Asynchronous version of {@link #getTunnelsForAUser(String)}.
+     *
+     * @param username Sauce Labs username
+     * @return {@link CompletableFuture} completing with the tunnel IDs
+     */
+    public CompletableFuture<List<String>> getTunnelsForAUserAsync(String username) {
+        String url = getBaseEndpoint() + username + "/tunnels";
+
+        return deserializeJSONArrayAsync(requestAsync(url, HttpMethod.GET), String.class);
+    }
+
     /**
      * Returns information about the specified tunnel.
      *
@@ -74,6 +130,29 @@ public class SauceConnectEndpoint extends AbstractEndpoint {
         return getTunnelInformation(this.username, tunnelID);
     }
 
+    /**
+     * Asynchronous version of {@link #getTunnelInformation(String, String)}.
+     *
+     * @param username The authentication username of the owner of the requested tunnel.
+     * @param tunnelID The unique identifier of the requested tunnel.
+     * @return {@link CompletableFuture} completing with {@link TunnelInformation}
+     */
+    public CompletableFuture<TunnelInformation> getTunnelInformationAsync(String username, String tunnelID) {
+        String url = getBaseEndpoint() + username + "/tunnels/" + tunnelID;
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.GET), TunnelInformation.class);
+    }
+
+    /**
+     * Asynchronous version of {@link #getTunnelInformation(String)}.
+     *
+     * @param tunnelID The unique identifier of the requested tunnel.
+     * @return {@link CompletableFuture} completing with {@link TunnelInformation}
+     */
+    public CompletableFuture<TunnelInformation> getTunnelInformationAsync(String tunnelID) {
+        return getTunnelInformationAsync(this.username, tunnelID);
+    }
+
     /**
      * Returns the number of currently running jobs for the specified tunnel.
      *
@@ -99,6 +178,29 @@ public class SauceConnectEndpoint extends AbstractEndpoint {
         return getCurrentJobsForATunnel(this.username, tunnelID);
     }
 
+    /**
+     * Asynchronous version of {@link #getCurrentJobsForATunnel(String, String)}.
+     *
+     * @param username The authentication username of the user whose tunnels you are requesting.
+     * @param tunnelID The unique identifier of the requested tunnel.
+     * @return {@link CompletableFuture} completing with {@link JobsForATunnel}
+     */
+    public CompletableFuture<JobsForATunnel> getCurrentJobsForATunnelAsync(String username, String tunnelID) {
+        String url = getBaseEndpoint() + username + "/tunnels/" + tunnelID + "/num_jobs";
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.GET), JobsForATunnel.class);
+    }
+
+    /**
+     * Asynchronous version of {@link #getCurrentJobsForATunnel(String)}.
+     *
+     * @param tunnelID The unique identifier of the requested tunnel.
+     * @return {@link CompletableFuture} completing with {@link JobsForATunnel}
+     */
+    public CompletableFuture<JobsForATunnel> getCurrentJobsForATunnelAsync(String tunnelID) {
+        return getCurrentJobsForATunnelAsync(this.username, tunnelID);
+    }
+
     /**
      * Shuts down the specified tunnel.
      *
@@ -124,6 +226,183 @@ public class SauceConnectEndpoint extends AbstractEndpoint {
         return stopTunnel(this.username, tunnelID);
     }
 
+    /**
+     * Asynchronous version of {@link #stopTunnel(String, String)}.
+     *
+     * @param username The authentication username of the user whose tunnels you are requesting.
+     * @param tunnelID The unique identifier of the tunnel to stop.
+     * @return {@link CompletableFuture} completing with {@link StopTunnel}
+     */
+    public CompletableFuture<StopTunnel> stopTunnelAsync(String username, String tunnelID) {
+        String url = getBaseEndpoint() + username + "/tunnels/" + tunnelID;
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.DELETE), StopTunnel.class);
+    }
+
+    /**
+     * Asynchronous version of {@link #stopTunnel(String)}.
+     *
+     * @param tunnelID The unique identifier of the tunnel to stop.
+     * @return {@link CompletableFuture} completing with {@link StopTunnel}
+     */
+    public CompletableFuture<StopTunnel> stopTunnelAsync(String tunnelID) {
+        return stopTunnelAsync(this.username, tunnelID);
+    }
+
+    /**
+     * Returns all running tunnels of the user with their information and number of running jobs, see
+     * {@link #getTunnelFleet(String, int)}.
+     *
+     * @return {@link TunnelFleet}
+     * @throws IOException if the tunnel list cannot be requested or the thread is interrupted
+     */
+    public TunnelFleet getTunnelFleet() throws IOException {
+        return getTunnelFleet(this.username, DEFAULT_CONCURRENT_REQUESTS);
+    }
+
+    /**
+     * Returns all running tunnels of a user with their information and number of running jobs. The tunnel list is
+     * requested first, then the information and job count of every tunnel concurrently.
+     * A tunnel whose details cannot be requested, e.g. because it stopped in the meantime, does not fail the snapshot,
+     * see {@link TunnelFleet#getFailures()}.
+     *
+     * @param username              The authentication username of the user whose tunnels you are requesting.
+     * @param maxConcurrentRequests Maximum number of requests sent at the same time
+     * @return {@link TunnelFleet}
+     * @throws IOException if the tunnel list cannot be requested or the thread is interrupted
+     */
+    public TunnelFleet getTunnelFleet(String username, int maxConcurrentRequests) throws IOException {
+        if (maxConcurrentRequests < 1) {
+            throw new IllegalArgumentException("maxConcurrentRequests must be at least 1: " + maxConcurrentRequests);
+        }
+        Instant takenAt = Instant.now();
+        List<String> tunnelIDs = getTunnelsForAUser(username);
+        Map<String, TunnelFleet.Tunnel> tunnels = new LinkedHashMap<>();
+        Map<String, IOException> failures = new LinkedHashMap<>();
+        if (tunnelIDs.isEmpty()) {
+            return new TunnelFleet(takenAt, tunnels, failures);
+        }
+
+        List<String> uniqueIDs = new ArrayList<>(new LinkedHashSet<>(tunnelIDs));
+        List<TunnelFleet.Tunnel> details = runConcurrently(uniqueIDs, maxConcurrentRequests, tunnelID -> {
+            TunnelInformation information = getTunnelInformation(username, tunnelID);
+            JobsForATunnel jobsForATunnel = getCurrentJobsForATunnel(username, tunnelID);
+            int jobsRunning = jobsForATunnel == null || jobsForATunnel.jobsRunning == null ? 0 : jobsForATunnel.jobsRunning;
+            return new TunnelFleet.Tunnel(information, jobsRunning);
+        }, (tunnelID, failure) -> {
+            logger.log(Level.FINE, "Error requesting the details of tunnel " + tunnelID, failure);
+            failures.put(tunnelID, failure);
+            return null;
+        });
+
+        for (int i = 0; i < uniqueIDs.size(); i++) {
+            if (details.get(i) != null) {
+                tunnels.put(uniqueIDs.get(i), details.get(i));
+            }
+        }
+        return new TunnelFleet(takenAt, tunnels, failures);
+    }
+
+    /**
+     * Takes a snapshot of the user's tunnels on an interval and reports what changed since the previous snapshot.
+     * The first snapshot reports every tunnel as added, and snapshots without changes are not reported.
+     * Failed snapshots are logged and skipped.
+     *
+     * @param interval Delay between the end of one snapshot and the start of the next
+     * @param listener Called on the polling thread with the changes
+     * @return Handle stopping the polling when closed
+     */
+    public Closeable pollTunnelFleet(Duration interval, Consumer<TunnelFleet.Changes> listener) {
+        Objects.requireNonNull(listener, "Listener cannot be null");
+        AtomicReference<TunnelFleet> previous = new AtomicReference<>();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "saucerest-tunnel-fleet");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                TunnelFleet fleet = getTunnelFleet(this.username, DEFAULT_CONCURRENT_REQUESTS);
+                TunnelFleet.Changes changes = fleet.changesSince(previous.get());
+                previous.set(changes.getFleet());
+                if (!changes.isEmpty()) {
+                    listener.accept(changes);
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.log(Level.WARNING, "Polling the tunnels of " + this.username + " failed", e);
+            }
+        }, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        return scheduler::shutdownNow;
+    }
+
+    /**
+     * Stops the user's tunnels matching a condition, see {@link #stopTunnels(String, Predicate, boolean, int)}.
+     *
+     * @param filter Condition on the tunnel, e.g. {@code tunnel -> tunnel.isIdle() && tunnel.getAge(now).toHours() >= 12}
+     * @param dryRun true to only report the tunnels that would be stopped
+     * @return {@link TunnelStopResult} per tunnel, the tunnels that could not be checked last
+     * @throws IOException if the tunnel list cannot be requested or the thread is interrupted
+     */
+    public List<TunnelStopResult> stopTunnels(Predicate<TunnelFleet.Tunnel> filter, boolean dryRun) throws IOException {
+        return stopTunnels(this.username, filter, dryRun, DEFAULT_CONCURRENT_REQUESTS);
+    }
+
+    /**
+     * Stops all running tunnels of a user matching a condition. Every tunnel is checked concurrently with
+     * {@link #getTunnelFleet(String, int)}, then the matching tunnels are stopped concurrently. A tunnel that cannot be
+     * checked is never stopped, and a failed stop does not prevent stopping the others.
+     *
+     * @param username              The authentication username of the user whose tunnels you are stopping.
+     * @param filter                Condition on the tunnel information and number of running jobs
+     * @param dryRun                true to only report the tunnels that would be stopped
+     * @param maxConcurrentRequests Maximum number of requests sent at the same time
+     * @return {@link TunnelStopResult} per tunnel, the tunnels that could not be checked last
+     * @throws IOException if the tunnel list cannot be requested or the thread is interrupted
+     */
+    public List<TunnelStopResult> stopTunnels(String username, Predicate<TunnelFleet.Tunnel> filter, boolean dryRun,
+                                              int maxConcurrentRequests) throws IOException {
+        Objects.requireNonNull(filter, "Filter cannot be null");
+        TunnelFleet fleet = getTunnelFleet(username, maxConcurrentRequests);
+
+        Map<String, TunnelStopResult> results = new LinkedHashMap<>();
+        List<TunnelFleet.Tunnel> matches = new ArrayList<>();
+        for (TunnelFleet.Tunnel tunnel : fleet.getTunnels().values()) {
+            if (!filter.test(tunnel)) {
+                results.put(tunnel.getId(), new TunnelStopResult(tunnel.getId(), tunnel, TunnelStopResult.Outcome.SKIPPED, null, null));
+            } else if (dryRun) {
+                results.put(tunnel.getId(), new TunnelStopResult(tunnel.getId(), tunnel, TunnelStopResult.Outcome.WOULD_STOP, null, null));
+            } else {
+                results.put(tunnel.getId(), null);
+                matches.add(tunnel);
+            }
+        }
+        fleet.getFailures().forEach((tunnelID, failure) ->
+            results.put(tunnelID, new TunnelStopResult(tunnelID, null, TunnelStopResult.Outcome.FAILED, null, failure)));
+        if (matches.isEmpty()) {
+            return new ArrayList<>(results.values());
+        }
+
+        List<TunnelStopResult> stops = runConcurrently(matches, maxConcurrentRequests, tunnel -> {
+            StopTunnel response = stopTunnel(username, tunnel.getId());
+            if (response != null && Boolean.TRUE.equals(response.result)) {
+                return new TunnelStopResult(tunnel.getId(), tunnel, TunnelStopResult.Outcome.STOPPED, response, null);
+            }
+            IOException failure = new IOException("Tunnel " + tunnel.getId() + " was not stopped, result was "
+                + (response == null ? null : response.result));
+            logger.log(Level.WARNING, failure.getMessage());
+            return new TunnelStopResult(tunnel.getId(), tunnel, TunnelStopResult.Outcome.FAILED, response, failure);
+        }, (tunnel, failure) -> {
+            logger.log(Level.WARNING, "Error stopping tunnel " + tunnel.getId(), failure);
+            return new TunnelStopResult(tunnel.getId(), tunnel, TunnelStopResult.Outcome.FAILED, null, failure);
+        });
+
+        for (TunnelStopResult stop : stops) {
+            results.put(stop.getTunnelID(), stop);
+        }
+        return new ArrayList<>(results.values());
+    }
+
     /**
      * No authentication API to retrieve the latest version of Sauce Connect for all supported platforms.
      *
@@ -136,6 +415,17 @@ public class SauceConnectEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.GET), Versions.class);
     }
 
+    /**
+     * Asynchronous version of {@link #getLatestVersions()}.
+     *
+     * @return {@link CompletableFuture} completing with {@link Versions}
+     */
+    public CompletableFuture<Versions> getLatestVersionsAsync() {
+        String url = getBaseEndpoint() + "public/tunnels/info/versions";
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.GET), Versions.class);
+    }
+
     /**
      * The base endpoint of the Sauce Connect endpoint APIs.
      */
@@ -143,4 +433,9 @@ public class SauceConnectEndpoint extends AbstractEndpoint {
     public String getBaseEndpoint() {
         return super.getBaseEndpoint() + "rest/v1/";
     }
+
+    @Override
+    protected EndpointFamily getEndpointFamily() {
+        return EndpointFamily.SAUCE_CONNECT;
+    }
 }
\ No newline at end of file
@@ -2,22 +2,56 @@ package com.saucelabs.saucerest.api;
 
 import com.google.common.collect.ImmutableMap;
 import com.saucelabs.saucerest.DataCenter;
+import com.saucelabs.saucerest.EndpointFamily;
+import com.saucelabs.saucerest.FileDigest;
 import com.saucelabs.saucerest.HttpMethod;
+import com.saucelabs.saucerest.RetryPolicy;
+import com.saucelabs.saucerest.SauceRESTConfig;
 import com.saucelabs.saucerest.model.storage.*;
 import okhttp3.*;
-import okio.BufferedSink;
-import okio.Okio;
 import org.json.JSONObject;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.Comparator;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 public class StorageEndpoint extends AbstractEndpoint {
     private static final Logger logger = Logger.getLogger(StorageEndpoint.class.getName());
+    private static final int UPLOAD_CHUNK_SIZE = 256 * 1024;
+    private static final int DOWNLOAD_BUFFER_SIZE = 64 * 1024;
+    private static final int HTTP_PARTIAL_CONTENT = 206;
+    /**
+     * Number of pages requested at the same time by {@link #streamFiles(StorageParameter)} and
+     * {@link #streamGroups(GetAppStorageGroupsParameters)}.
+     */
+    public static final int DEFAULT_CONCURRENT_PAGES = 4;
+    private static final int MAX_STORED_FILES = 256;
+    private static final long STORED_FILE_TTL_NANOS = TimeUnit.MINUTES.toNanos(30);
+    private final ConcurrentMap<String, StoredFile> uploadedFiles = new ConcurrentHashMap<>();
+
     public StorageEndpoint(DataCenter dataCenter) {
         super(dataCenter);
     }
@@ -34,6 +68,14 @@ public class StorageEndpoint extends AbstractEndpoint {
         super(username, accessKey, apiServer);
     }
 
+    public StorageEndpoint(String username, String accessKey, DataCenter dataCenter, SauceRESTConfig config) {
+        super(username, accessKey, dataCenter, config);
+    }
+
+    public StorageEndpoint(String username, String accessKey, String apiServer, SauceRESTConfig config) {
+        super(username, accessKey, apiServer, config);
+    }
+
     /**
      * Get files without providing query parameters. Documentation is
      * <a href="https://docs.saucelabs.com/dev/api/storage/#get-app-storage-files">here</a>
@@ -47,6 +89,17 @@ public class StorageEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.GET), GetAppFiles.class);
     }
 
+    /**
+     * Asynchronous version of {@link #getFiles()}.
+     *
+     * @return {@link CompletableFuture} completing with {@link GetAppFiles}
+     */
+    public CompletableFuture<GetAppFiles> getFilesAsync() {
+        String url = getBaseEndpoint() + "/files";
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.GET), GetAppFiles.class);
+    }
+
     /**
      * Use parameter names from
      * <a href="https://docs.saucelabs.com/dev/api/storage/#get-app-storage-files">here</a>
@@ -62,6 +115,47 @@ public class StorageEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(requestWithQueryParameters(url, HttpMethod.GET, params), GetAppFiles.class);
     }
 
+    /**
+     * Asynchronous version of {@link #getFiles(Map)}.
+     *
+     * @param params Query parameters for this request
+     * @return {@link CompletableFuture} completing with {@link GetAppFiles}
+     */
+    public CompletableFuture<GetAppFiles> getFilesAsync(Map<String, Object> params) {
+        String url = getBaseEndpoint() + "/files";
+
+        return deserializeJSONObjectAsync(requestWithQueryParametersAsync(url, HttpMethod.GET, params), GetAppFiles.class);
+    }
+
+    /**
+     * Stream all files matching the parameters, starting at the page set in the parameters. Up to
+     * {@value #DEFAULT_CONCURRENT_PAGES} pages are requested concurrently once the first page reports the total number of files.
+     *
+     * @param parameter Query parameters for this request
+     * @return Lazy {@link Stream} of {@link Item}. Close it to cancel pending requests when not consuming it to the end.
+     */
+    public Stream<Item> streamFiles(StorageParameter parameter) {
+        return streamFiles(parameter, DEFAULT_CONCURRENT_PAGES);
+    }
+
+    /**
+     * Stream all files matching the parameters, starting at the page set in the parameters.
+     *
+     * @param parameter          Query parameters for this request
+     * @param maxConcurrentPages Maximum number of pages requested at the same time once the number of pages is known
+     * @return Lazy {@link Stream} of {@link Item}. Close it to cancel pending requests when not consuming it to the end.
+     * @see PageNumberIterator
+     */
+    public Stream<Item> streamFiles(StorageParameter parameter, int maxConcurrentPages) {
+        return new PageNumberIterator<Item>(page -> {
+            Map<String, Object> params = parameter.toMap();
+            params.put("page", page);
+            CompletableFuture<GetAppFiles> request = getFilesAsync(params);
+            return cancelRequestWith(request, request.thenApply(files ->
+                new PageIterator.Page<>(files.items, hasNextPage(files.links), files.totalItems, files.perPage)));
+        }, parameter.getPage(), maxConcurrentPages).stream();
+    }
+
     /**
      * Get groups without providing query parameters. Documentation is
      * <a href="https://docs.saucelabs.com/dev/api/storage/#get-app-storage-groups">here</a>
@@ -75,6 +169,17 @@ public class StorageEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.GET), GetAppStorageGroups.class);
     }
 
+    /**
+     * Asynchronous version of {@link #getGroups()}.
+     *
+     * @return {@link CompletableFuture} completing with {@link GetAppStorageGroups}
+     */
+    public CompletableFuture<GetAppStorageGroups> getGroupsAsync() {
+        String url = getBaseEndpoint() + "/groups";
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.GET), GetAppStorageGroups.class);
+    }
+
     /**
      * Use parameter names from
      * <a href="https://docs.saucelabs.com/dev/api/storage/#get-app-storage-groups">here</a>
@@ -90,6 +195,47 @@ public class StorageEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(requestWithQueryParameters(url, HttpMethod.GET, params), GetAppStorageGroups.class);
     }
 
+    /**
+     * Asynchronous version of {@link #getGroups(Map)}.
+     *
+     * @param params Query parameters for this request
+     * @return {@link CompletableFuture} completing with {@link GetAppStorageGroups}
+     */
+    public CompletableFuture<GetAppStorageGroups> getGroupsAsync(Map<String, Object> params) {
+        String url = getBaseEndpoint() + "/groups";
+
+        return deserializeJSONObjectAsync(requestWithQueryParametersAsync(url, HttpMethod.GET, params), GetAppStorageGroups.class);
+    }
+
+    /**
+     * Stream all groups matching the parameters, starting at the page set in the parameters. Up to
+     * {@value #DEFAULT_CONCURRENT_PAGES} pages are requested concurrently once the first page reports the total number of groups.
+     *
+     * @param parameter Query parameters for this request
+     * @return Lazy {@link Stream} of {@link ItemInteger}. Close it to cancel pending requests when not consuming it to the end.
+     */
+    public Stream<ItemInteger> streamGroups(GetAppStorageGroupsParameters parameter) {
+        return streamGroups(parameter, DEFAULT_CONCURRENT_PAGES);
+    }
+
+    /**
+     * Stream all groups matching the parameters, starting at the page set in the parameters.
+     *
+     * @param parameter          Query parameters for this request
+     * @param maxConcurrentPages Maximum number of pages requested at the same time once the number of pages is known
+     * @return Lazy {@link Stream} of {@link ItemInteger}. Close it to cancel pending requests when not consuming it to the end.
+     * @see PageNumberIterator
+     */
+    public Stream<ItemInteger> streamGroups(GetAppStorageGroupsParameters parameter, int maxConcurrentPages) {
+        return new PageNumberIterator<ItemInteger>(page -> {
+            Map<String, Object> params = parameter.toMap();
+            params.put("page", page);
+            CompletableFuture<GetAppStorageGroups> request = getGroupsAsync(params);
+            return cancelRequestWith(request, request.thenApply(groups ->
+                new PageIterator.Page<>(groups.items, hasNextPage(groups.links), groups.totalItems, groups.perPage)));
+        }, parameter.getPage(), maxConcurrentPages).stream();
+    }
+
     /**
      * Get settings of a group. Documentation is
      * <a href="https://docs.saucelabs.com/dev/api/storage/#get-app-storage-group-settings">here</a>
@@ -104,6 +250,18 @@ public class StorageEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.GET), GetAppStorageGroupSettings.class);
     }
 
+    /**
+     * Asynchronous version of {@link #getGroupSettings(int)}.
+     *
+     * @param groupId The ID of the group
+     * @return {@link CompletableFuture} completing with {@link GetAppStorageGroupSettings}
+     */
+    public CompletableFuture<GetAppStorageGroupSettings> getGroupSettingsAsync(int groupId) {
+        String url = getBaseEndpoint() + "/groups/" + groupId + "/settings";
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.GET), GetAppStorageGroupSettings.class);
+    }
+
     /**
      * Use parameter names from here
      * <a href="https://docs.saucelabs.com/dev/api/storage/#get-app-storage-group-settings">here</a>
@@ -126,6 +284,23 @@ public class StorageEndpoint extends AbstractEndpoint {
 
     }
 
+    /**
+     * Asynchronous version of {@link #updateAppStorageGroupSettings(int, String)}.
+     *
+     * @param groupId  The ID of the group
+     * @param jsonBody The app group's settings
+     * @return {@link CompletableFuture} completing with {@link EditAppGroupSettings}
+     */
+    public CompletableFuture<EditAppGroupSettings> updateAppStorageGroupSettingsAsync(int groupId, String jsonBody) {
+        String url = getBaseEndpoint() + "/groups/" + groupId + "/settings";
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.PUT, jsonBody), EditAppGroupSettings.class);
+    }
+
+    public CompletableFuture<EditAppGroupSettings> updateAppStorageGroupSettingsAsync(int groupId, EditAppGroupSettings editAppGroupSettings) {
+        return updateAppStorageGroupSettingsAsync(groupId, editAppGroupSettings.toJson());
+    }
+
     /**
      * Upload a file to Sauce Labs app storage. Documentation is
      * <a href="https://docs.saucelabs.com/dev/api/storage/#upload-file-to-app-storage">here</a>
@@ -162,27 +337,256 @@ public class StorageEndpoint extends AbstractEndpoint {
      * @throws IOException API request failed
      */
     public UploadFileApp uploadFile(File file, String fileName, String description) throws IOException {
+        return uploadFile(file, fileName, description, UploadProgressListener.NONE);
+    }
+
+    /**
+     * Upload a file to Sauce Labs app storage and report the progress. Documentation is
+     * <a href="https://docs.saucelabs.com/dev/api/storage/#upload-file-to-app-storage">here</a>
+     * <br>
+     * The file is streamed in chunks and the listener is called after each chunk. App storage only accepts the complete
+     * file in one request, so an upload failing with a connection reset, a timeout or a 5xx response is restarted from
+     * the first byte, up to the retries of the {@link EndpointFamily#STORAGE} retry policy. A failure after the server
+     * stored the file may then store it twice.
+     *
+     * @param file        The file to be uploaded
+     * @param fileName    Set a different filename in Sauce Labs. Default is the filename of the file.
+     * @param description Set a description for this file. Default is empty.
+     * @param listener    Called after each chunk written to the connection
+     * @return {@link UploadFileApp}
+     * @throws IOException API request failed
+     */
+    public UploadFileApp uploadFile(File file, String fileName, String description, UploadProgressListener listener) throws IOException {
+        String url = getBaseEndpoint() + "/upload";
+
+        return deserializeJSONObject(postMultipartResponse(url, file, fileName, description, listener), UploadFileApp.class);
+    }
+
+    /**
+     * Asynchronous version of {@link #uploadFile(File)}.
+     *
+     * @param file The file to be uploaded
+     * @return {@link CompletableFuture} completing with {@link UploadFileApp}
+     */
+    public CompletableFuture<UploadFileApp> uploadFileAsync(File file) {
+        return uploadFileAsync(file, "", "");
+    }
+
+    /**
+     * Asynchronous version of {@link #uploadFile(File, String)}.
+     *
+     * @param file     The file to be uploaded
+     * @param fileName Set a different filename in Sauce Labs. Default is the filename of the file.
+     * @return {@link CompletableFuture} completing with {@link UploadFileApp}
+     */
+    public CompletableFuture<UploadFileApp> uploadFileAsync(File file, String fileName) {
+        return uploadFileAsync(file, fileName, "");
+    }
+
+    /**
+     * Asynchronous version of {@link #uploadFile(File, String, String)}.
+     *
+     * @param file        The file to be uploaded
+     * @param fileName    Set a different filename in Sauce Labs. Default is the filename of the file.
+     * @param description Set a description for this file. Default is empty.
+     * @return {@link CompletableFuture} completing with {@link UploadFileApp}
+     */
+    public CompletableFuture<UploadFileApp> uploadFileAsync(File file, String fileName, String description) {
+        return uploadFileAsync(file, fileName, description, UploadProgressListener.NONE);
+    }
+
+    /**
+     * Asynchronous version of {@link #uploadFile(File, String, String, UploadProgressListener)}.
+     *
+     * @param file        The file to be uploaded
+     * @param fileName    Set a different filename in Sauce Labs. Default is the filename of the file.
+     * @param description Set a description for this file. Default is empty.
+     * @param listener    Called after each chunk written to the connection
+     * @return {@link CompletableFuture} completing with {@link UploadFileApp}
+     */
+    public CompletableFuture<UploadFileApp> uploadFileAsync(File file, String fileName, String description, UploadProgressListener listener) {
         String url = getBaseEndpoint() + "/upload";
 
-        return deserializeJSONObject(postMultipartResponse(url, file, fileName, description), UploadFileApp.class);
+        return deserializeJSONObjectAsync(makeRequestAsync(createMultipartRequest(url, file, fileName, description, listener), getUploadRetryPolicy()),
+            UploadFileApp.class);
+    }
+
+    /**
+     * Upload a file to Sauce Labs app storage unless a file with the same name and content is already stored.
+     *
+     * @param file The file to be uploaded
+     * @return The stored {@link Item}, either the existing one or the uploaded one
+     * @throws IOException API request failed
+     * @see #uploadFileIfChanged(File, String, String)
+     */
+    public Item uploadFileIfChanged(File file) throws IOException {
+        return uploadFileIfChanged(file, "", "");
+    }
+
+    /**
+     * Upload a file to Sauce Labs app storage unless a file with the same name and content is already stored.
+     * <br>
+     * The SHA-256 checksum of the local file is looked up first in the files this endpoint recently uploaded or found,
+     * then with {@link #getFiles(Map)} filtered by checksum and name. The upload only happens if neither knows the file.
+     * A remembered file is reused without a request for 30 minutes, then looked up again. Files deleted with this
+     * endpoint are forgotten at once. Concurrent calls for the same file on this endpoint share one lookup and at most
+     * one upload. If that upload fails, the waiting calls try again themselves.
+     *
+     * @param file        The file to be uploaded
+     * @param fileName    Set a different filename in Sauce Labs. Default is the filename of the file.
+     * @param description Set a description for an uploaded file. An existing file keeps its description.
+     * @return The stored {@link Item}, either the existing one or the uploaded one
+     * @throws IOException API request failed
+     */
+    public Item uploadFileIfChanged(File file, String fileName, String description) throws IOException {
+        String name = fileName == null || fileName.isEmpty() ? file.getName() : fileName;
+        String sha256 = FileDigest.sha256(file.toPath());
+        String key = sha256 + ':' + name;
+
+        while (true) {
+            StoredFile stored = new StoredFile(System.nanoTime());
+            StoredFile known = uploadedFiles.putIfAbsent(key, stored);
+            if (known == null) {
+                trimStoredFiles();
+                return storeFile(file, name, description, sha256, key, stored);
+            }
+
+            if (known.item.isDone() && known.isExpired(System.nanoTime())) {
+                logger.fine("Stored file of " + file + " expired, looking it up again");
+                uploadedFiles.remove(key, known);
+                continue;
+            }
+            Item item = awaitStoredFile(known.item);
+            if (item != null) {
+                return item;
+            }
+            // The concurrent lookup or upload failed and removed its entry, so the next round tries again
+        }
+    }
+
+    private Item storeFile(File file, String name, String description, String sha256, String key, StoredFile stored) throws IOException {
+        try {
+            Item item = findFile(sha256, name);
+            if (item == null) {
+                item = uploadFile(file, name, description).item;
+            } else {
+                logger.fine("Skipping upload of " + file + ", already stored as " + item.id);
+            }
+            stored.item.complete(item);
+            return item;
+        } catch (IOException | RuntimeException e) {
+            uploadedFiles.remove(key, stored);
+            stored.item.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Drops expired files, then the oldest ones, until at most {@link #MAX_STORED_FILES} are remembered.
+     */
+    private void trimStoredFiles() {
+        if (uploadedFiles.size() <= MAX_STORED_FILES) {
+            return;
+        }
+        long now = System.nanoTime();
+        uploadedFiles.values().removeIf(stored -> stored.item.isDone() && stored.isExpired(now));
+        while (uploadedFiles.size() > MAX_STORED_FILES) {
+            Optional<Map.Entry<String, StoredFile>> oldest = uploadedFiles.entrySet().stream()
+                .filter(entry -> entry.getValue().item.isDone())
+                .min(Comparator.comparingLong(entry -> entry.getValue().storedAt - now));
+            if (!oldest.isPresent()) {
+                return;
+            }
+            uploadedFiles.remove(oldest.get().getKey(), oldest.get().getValue());
+        }
     }
 
     /**
      * Download file from Sauce Labs App Storage. Documentation is
      * <a href="https://docs.saucelabs.com/dev/api/storage/#download-a-file-from-app-storage">here</a>
+     * <br>
+     * The SHA-256 checksum of the file is looked up in app storage and verified as described in
+     * {@link #downloadFile(String, Path, String)}. If app storage reports no checksum for the file, a warning is logged
+     * and the file is downloaded without verification.
      *
      * @param fileId The file ID of the file to download
      * @param path   Where to save the file including filename and extension
-     * @throws IOException API request failed
+     * @throws IOException API request failed, or the downloaded file does not match its checksum
      */
     public void downloadFile(String fileId, Path path) throws IOException {
-        String url = getBaseEndpoint() + "/download/" + fileId;
+        downloadFile(fileId, path, checksumOf(fileId, findFileById(fileId)));
+    }
 
-        try (BufferedSink sink = Okio.buffer(Okio.sink(path.toFile()))) {
-            sink.writeAll(Objects.requireNonNull(request(url, HttpMethod.GET).body()).source());
+    /**
+     * Download file from Sauce Labs App Storage. Documentation is
+     * <a href="https://docs.saucelabs.com/dev/api/storage/#download-a-file-from-app-storage">here</a>
+     * <br>
+     * The file is streamed into a temporary file next to {@code path} while its SHA-256 checksum is computed, and only
+     * moved to {@code path} once it is complete and matches the expected checksum. A partial download therefore never
+     * replaces {@code path}. A transfer cut off mid-body is resumed with an HTTP range request according to the retry
+     * policy of {@link EndpointFamily#STORAGE}, and started over if the server does not support ranges.
+     *
+     * @param fileId         The file ID of the file to download
+     * @param path           Where to save the file including filename and extension
+     * @param expectedSha256 The expected hex encoded SHA-256 checksum, or null to skip the verification
+     * @throws IOException API request failed, or the downloaded file does not match its checksum
+     */
+    public void downloadFile(String fileId, Path path, String expectedSha256) throws IOException {
+        Path target = path.toAbsolutePath();
+        Path temp = createTempFile(target);
+
+        try {
+            String sha256 = downloadResumable(new ResumableDownload(getBaseEndpoint() + "/download/" + fileId, temp));
+            publish(fileId, temp, target, sha256, expectedSha256);
+        } finally {
+            Files.deleteIfExists(temp);
         }
     }
 
+    /**
+     * Asynchronous version of {@link #downloadFile(String, Path)}.
+     * <br>
+     * The checksum lookup and the download are sent at the same time without blocking the caller. Writing the body,
+     * resuming a cut-off transfer and verifying the checksum run as stages on the callback executor of the
+     * {@link SauceRESTConfig}, and waiting before a resume does not block a thread.
+     *
+     * @param fileId The file ID of the file to download
+     * @param path   Where to save the file including filename and extension
+     * @return {@link CompletableFuture} completing when the file has been written
+     */
+    public CompletableFuture<Void> downloadFileAsync(String fileId, Path path) {
+        StorageParameter parameter = new StorageParameter.Builder()
+            .setFileId(new String[]{fileId})
+            .build();
+        CompletableFuture<String> expectedSha256 = getFilesAsync(parameter.toMap()).thenApply(files -> checksumOf(fileId,
+            files.items == null ? null : files.items.stream().filter(item -> fileId.equals(item.id)).findFirst().orElse(null)));
+
+        Path target = path.toAbsolutePath();
+        Path temp;
+        try {
+            temp = createTempFile(target);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return downloadResumableAsync(new ResumableDownload(getBaseEndpoint() + "/download/" + fileId, temp))
+            .thenCombineAsync(expectedSha256, (sha256, expected) -> {
+                try {
+                    publish(fileId, temp, target, sha256, expected);
+                    return (Void) null;
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+            }, getCallbackExecutor())
+            .whenCompleteAsync((result, failure) -> {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException e) {
+                    logger.warning("Could not delete temporary file " + temp + ": " + e);
+                }
+            }, getCallbackExecutor());
+    }
+
     /**
      * Update a files description. Documentation is
      * <a href="https://docs.saucelabs.com/dev/api/storage/#edit-a-stored-files-description">here</a>
@@ -200,6 +604,21 @@ public class StorageEndpoint extends AbstractEndpoint {
         return deserializeJSONObject(request(url, HttpMethod.PUT, json.toString()), EditFileDescription.class);
     }
 
+    /**
+     * Asynchronous version of {@link #updateFileDescription(String, String)}.
+     *
+     * @param fileId      The file ID of the file description to change
+     * @param description The description to add or update
+     * @return {@link CompletableFuture} completing with {@link EditFileDescription}
+     */
+    public CompletableFuture<EditFileDescription> updateFileDescriptionAsync(String fileId, String description) {
+        String url = getBaseEndpoint() + "/files/" + fileId;
+
+        JSONObject json = new JSONObject(ImmutableMap.of("item", ImmutableMap.of("description", description)));
+
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.PUT, json.toString()), EditFileDescription.class);
+    }
+
     /**
      * Delete a file from app storage. Documentation is
      * <a href="https://docs.saucelabs.com/dev/api/storage/#delete-an-app-storage-file">here</a>
@@ -211,9 +630,23 @@ public class StorageEndpoint extends AbstractEndpoint {
     public DeleteAppFile deleteFile(String fileId) throws IOException {
         String url = getBaseEndpoint() + "/files/" + fileId;
 
+        forgetStoredFiles(item -> fileId.equals(item.id));
         return deserializeJSONObject(request(url, HttpMethod.DELETE), DeleteAppFile.class);
     }
 
+    /**
+     * Asynchronous version of {@link #deleteFile(String)}.
+     *
+     * @param fileId The ID of the file to delete
+     * @return {@link CompletableFuture} completing with {@link DeleteAppFile}
+     */
+    public CompletableFuture<DeleteAppFile> deleteFileAsync(String fileId) {
+        String url = getBaseEndpoint() + "/files/" + fileId;
+
+        forgetStoredFiles(item -> fileId.equals(item.id));
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.DELETE), DeleteAppFile.class);
+    }
+
     /**
      * Delete a file group. Documentation is
      * <a href="https://docs.saucelabs.com/dev/api/storage/#delete-a-group-of-app-storage-files">here</a>
@@ -225,9 +658,23 @@ public class StorageEndpoint extends AbstractEndpoint {
     public DeleteAppGroupFiles deleteFileGroup(int groupId) throws IOException {
         String url = getBaseEndpoint() + "/groups/" + groupId;
 
+        forgetStoredFiles(item -> item.groupId != null && item.groupId == groupId);
         return deserializeJSONObject(request(url, HttpMethod.DELETE), DeleteAppGroupFiles.class);
     }
 
+    /**
+     * Asynchronous version of {@link #deleteFileGroup(int)}.
+     *
+     * @param groupId The ID of the group to delete
+     * @return {@link CompletableFuture} completing with {@link DeleteAppGroupFiles}
+     */
+    public CompletableFuture<DeleteAppGroupFiles> deleteFileGroupAsync(int groupId) {
+        String url = getBaseEndpoint() + "/groups/" + groupId;
+
+        forgetStoredFiles(item -> item.groupId != null && item.groupId == groupId);
+        return deserializeJSONObjectAsync(requestAsync(url, HttpMethod.DELETE), DeleteAppGroupFiles.class);
+    }
+
     /**
      * The base endpoint of the Storage endpoint APIs.
      */
@@ -236,6 +683,258 @@ public class StorageEndpoint extends AbstractEndpoint {
         return super.getBaseEndpoint() + "v1/storage";
     }
 
+    private Item findFile(String sha256, String name) throws IOException {
+        StorageParameter parameter = new StorageParameter.Builder()
+            .setSha256(sha256)
+            .setName(name)
+            .build();
+
+        GetAppFiles files = getFiles(parameter.toMap());
+        if (files.items == null) {
+            return null;
+        }
+        return files.items.stream()
+            .filter(item -> sha256.equalsIgnoreCase(item.sha256) && name.equals(item.name))
+            .max(Comparator.comparing(item -> item.uploadTimestamp == null ? 0 : item.uploadTimestamp))
+            .orElse(null);
+    }
+
+    private static boolean hasNextPage(Links links) {
+        // Without links the listing ends with an empty page or at the total number of items
+        return links == null || links.next != null;
+    }
+
+    private Item findFileById(String fileId) throws IOException {
+        StorageParameter parameter = new StorageParameter.Builder()
+            .setFileId(new String[]{fileId})
+            .build();
+
+        GetAppFiles files = getFiles(parameter.toMap());
+        if (files.items == null) {
+            return null;
+        }
+        return files.items.stream()
+            .filter(item -> fileId.equals(item.id))
+            .findFirst()
+            .orElse(null);
+    }
+
+    /**
+     * @return The SHA-256 checksum of the stored file, or null after logging that the download cannot be verified
+     */
+    private static String checksumOf(String fileId, Item item) {
+        if (item == null || item.sha256 == null) {
+            logger.warning(String.format("App storage %s for file %s, downloading it without checksum verification",
+                item == null ? "returned no item" : "has no SHA-256 checksum", fileId));
+            return null;
+        }
+        return item.sha256;
+    }
+
+    private static Path createTempFile(Path target) throws IOException {
+        Path directory = Files.createDirectories(target.getParent());
+        return Files.createTempFile(directory, "." + target.getFileName(), ".part");
+    }
+
+    /**
+     * Verifies the checksum of the complete download and moves it to its target.
+     */
+    private static void publish(String fileId, Path temp, Path target, String sha256, String expectedSha256) throws IOException {
+        if (expectedSha256 != null && !expectedSha256.equalsIgnoreCase(sha256)) {
+            throw new IOException(String.format("Checksum mismatch for file %s: expected %s but downloaded %s",
+                fileId, expectedSha256, sha256));
+        }
+        moveAtomically(temp, target);
+    }
+
+    /**
+     * Streams the download into {@code temp}. If the body is cut off, the rest is requested with a range request
+     * and appended, so bytes already received are not downloaded again.
+     *
+     * @return The hex encoded SHA-256 checksum of the downloaded file
+     */
+    private String downloadResumable(ResumableDownload download) throws IOException {
+        while (true) {
+            Request request = download.nextRequest();
+            String sha256;
+            try (Response response = makeRequest(request)) {
+                sha256 = download.write(request, response);
+            }
+            if (sha256 != null) {
+                return sha256;
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(download.delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting to resume download");
+            }
+        }
+    }
+
+    /**
+     * Asynchronous version of {@link #downloadResumable(ResumableDownload)}. Every attempt is a stage on the callback
+     * executor, and the next attempt is scheduled after the retry delay instead of sleeping.
+     */
+    private CompletableFuture<String> downloadResumableAsync(ResumableDownload download) {
+        Request request = download.nextRequest();
+        return makeRequestAsync(request).thenComposeAsync(response -> {
+            String sha256;
+            try (Response r = response) {
+                sha256 = download.write(request, r);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+            if (sha256 != null) {
+                return CompletableFuture.completedFuture(sha256);
+            }
+            Executor delayed = CompletableFuture.delayedExecutor(download.delay, TimeUnit.MILLISECONDS, getCallbackExecutor());
+            return CompletableFuture.supplyAsync(() -> download, delayed).thenCompose(this::downloadResumableAsync);
+        }, getCallbackExecutor());
+    }
+
+    /**
+     * State of a download into a temporary file that is resumed with range requests when the body is cut off.
+     */
+    private final class ResumableDownload {
+        private final String url;
+        private final Path temp;
+        private final RetryPolicy retryPolicy = getRetryPolicy();
+        private final MessageDigest digest = FileDigest.newSha256();
+        private final byte[] buffer = new byte[DOWNLOAD_BUFFER_SIZE];
+        private long written;
+        private String validator;
+        private long delay;
+        private int resumes;
+
+        ResumableDownload(String url, Path temp) {
+            this.url = url;
+            this.temp = temp;
+        }
+
+        Request nextRequest() {
+            return createDownloadRequest(url, written, validator);
+        }
+
+        /**
+         * Writes the body of one attempt.
+         *
+         * @return The hex encoded SHA-256 checksum once the file is complete, or null if the body was cut off and the
+         * download should resume after {@link #delay} milliseconds
+         * @throws IOException If the body cannot be written or the download must not be resumed
+         */
+        String write(Request request, Response response) throws IOException {
+            boolean resumed = written > 0 && response.code() == HTTP_PARTIAL_CONTENT;
+            if (resumed) {
+                requireRangeStart(response, written);
+            } else {
+                written = 0;
+                digest.reset();
+            }
+            validator = response.header("ETag", response.header("Last-Modified"));
+
+            IOException failure;
+            try (InputStream in = Objects.requireNonNull(response.body()).byteStream();
+                 OutputStream out = Files.newOutputStream(temp, StandardOpenOption.WRITE,
+                     resumed ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (true) {
+                    int read;
+                    try {
+                        read = in.read(buffer);
+                    } catch (IOException e) {
+                        failure = e;
+                        break;
+                    }
+                    if (read == -1) {
+                        return FileDigest.toHex(digest.digest());
+                    }
+                    out.write(buffer, 0, read);
+                    digest.update(buffer, 0, read);
+                    written += read;
+                }
+            }
+
+            if (written == 0 || resumes >= retryPolicy.getMaxRetries() || !retryPolicy.isRetryable(request, failure)) {
+                throw failure;
+            }
+            resumes++;
+            delay = retryPolicy.nextDelayMillis(delay, null);
+            logger.warning(String.format("Download of %s cut off after %d bytes, resuming in %d ms: %s",
+                url, written, delay, failure));
+            return null;
+        }
+    }
+
+    private Request createDownloadRequest(String url, long offset, String validator) {
+        Request.Builder builder = new Request.Builder()
+            .url(url)
+            .header("User-Agent", userAgent)
+            .get();
+
+        if (credentials != null) {
+            builder.header("Authorization", credentials);
+        }
+        if (offset > 0) {
+            builder.header("Range", "bytes=" + offset + "-");
+            if (validator != null) {
+                builder.header("If-Range", validator);
+            }
+        }
+        return builder.build();
+    }
+
+    private static void requireRangeStart(Response response, long offset) throws IOException {
+        String contentRange = response.header("Content-Range");
+        String expected = "bytes " + offset + "-";
+        if (contentRange == null || !contentRange.startsWith(expected)) {
+            throw new IOException("Unexpected Content-Range " + contentRange + " when resuming at byte " + offset);
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * @return The stored file, or null if the concurrent lookup or upload failed
+     */
+    private static Item awaitStoredFile(CompletableFuture<Item> stored) throws IOException {
+        try {
+            return stored.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the upload of the same file");
+        } catch (ExecutionException e) {
+            logger.log(Level.FINE, "Upload of the same file failed", e.getCause());
+            return null;
+        }
+    }
+
+    private void forgetStoredFiles(Predicate<Item> predicate) {
+        uploadedFiles.values().removeIf(stored -> stored.item.isDone() && !stored.item.isCompletedExceptionally()
+            && predicate.test(stored.item.join()));
+    }
+
+    /**
+     * A file this endpoint uploaded or found in app storage, remembered for {@link #STORED_FILE_TTL_NANOS}.
+     */
+    private static final class StoredFile {
+        private final CompletableFuture<Item> item = new CompletableFuture<>();
+        private final long storedAt;
+
+        StoredFile(long storedAt) {
+            this.storedAt = storedAt;
+        }
+
+        boolean isExpired(long now) {
+            return now - storedAt > STORED_FILE_TTL_NANOS;
+        }
+    }
+
     /**
      * Need an upload-specific post method for the additional parameters.
      *
@@ -243,34 +942,53 @@ public class StorageEndpoint extends AbstractEndpoint {
      * @param file        App file
      * @param fileName    A different filename for the uploaded app. Default is its local filename
      * @param description An optional description of the app
+     * @param listener    Receives the upload progress
      * @return A string with the response as a string
      * @throws IOException API request failed
      */
-    private String postMultipartResponse(String url, File file, String fileName, String description) throws IOException {
+    private String postMultipartResponse(String url, File file, String fileName, String description, UploadProgressListener listener) throws IOException {
+        Request request = createMultipartRequest(url, file, fileName, description, listener);
+
+        try (Response response = makeRequest(request, getUploadRetryPolicy())) {
+            if (!response.isSuccessful()) {
+                if (response.body() != null) {
+                    logger.severe("Error uploading file: " + response.body().string());
+                }
+                throw new IOException("Unexpected code" + response);
+            }
+
+            Objects.requireNonNull(response.body());
+            return response.body().string();
+        }
+    }
+
+    /**
+     * The upload is a POST, which the retry policy only replays after connect failures and 429. Uploads replay the
+     * whole multipart body after any retryable failure instead, since a partly sent file is never stored.
+     */
+    private RetryPolicy getUploadRetryPolicy() {
+        return getRetryPolicy().toBuilder().setRetryNonIdempotent(true).build();
+    }
+
+    private Request createMultipartRequest(String url, File file, String fileName, String description, UploadProgressListener listener) {
         RequestBody requestBody = new MultipartBody.Builder()
             .setType(MultipartBody.FORM)
             .addFormDataPart("name", fileName)
             .addFormDataPart("description", description)
             .addFormDataPart("payload", file.getName(),
-                RequestBody.create(file, MediaType.parse("application/octet-stream")))
+                new ProgressRequestBody(file, MediaType.parse("application/octet-stream"), UPLOAD_CHUNK_SIZE,
+                    Objects.requireNonNull(listener, "Upload progress listener cannot be null")))
             .build();
 
-        Request request = new Request.Builder()
+        return new Request.Builder()
             .header("Authorization", credentials)
             .url(url)
             .post(requestBody)
             .build();
+    }
 
-        try (Response response = makeRequest(request)) {
-            if (!response.isSuccessful()) {
-                if (response.body() != null) {
-                    logger.severe("Error uploading file: " + response.body().string());
-                }
-                throw new IOException("Unexpected code" + response);
-            }
-
-            Objects.requireNonNull(response.body());
-            return response.body().string();
-        }
+    @Override
+    protected EndpointFamily getEndpointFamily() {
+        return EndpointFamily.STORAGE;
     }
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.saucelabs.saucerest.api;
+
+/**
+ * Receives the progress of a file upload.
+ * <br>
+ * The listener is called on the thread writing the request body. A failed upload is restarted from the first byte, see
+ * {@link StorageEndpoint#uploadFile(java.io.File, String, String, UploadProgressListener)}. The listener is then called
+ * with {@code bytesSent} of 0 again.
+ */
+@FunctionalInterface
+public interface UploadProgressListener {
+    /**
+     * Listener ignoring all progress.
+     */
+    UploadProgressListener NONE = (bytesSent, totalBytes) -> {
+    };
+
+    /**
+     * @param bytesSent  Number of bytes of the file written to the connection so far
+     * @param totalBytes Size of the file in bytes
+     */
+    void onProgress(long bytesSent, long totalBytes);
+}
\ No newline at end of file
@@ -2,7 +2,6 @@ package com.saucelabs.saucerest.model;
 
 import com.saucelabs.saucerest.MoshiSingleton;
 import com.squareup.moshi.JsonAdapter;
-import com.squareup.moshi.Moshi;
 
 public abstract class AbstractModel {
 
@@ -12,8 +11,7 @@ public abstract class AbstractModel {
      * @return JSON string
      */
     public <T> String toJson() {
-        Moshi moshi = MoshiSingleton.getInstance();
-        JsonAdapter<T> jsonAdapter = (JsonAdapter<T>) moshi.adapter(this.getClass()).nonNull();
+        JsonAdapter<T> jsonAdapter = (JsonAdapter<T>) MoshiSingleton.adapter(this.getClass()).nonNull();
         return jsonAdapter.toJson((T) this);
     }
 }
\ No newline at end of file
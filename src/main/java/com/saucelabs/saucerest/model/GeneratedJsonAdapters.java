@@ -0,0 +1,110 @@
+package com.saucelabs.saucerest.model;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.Moshi;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Registry of the adapters generated by {@code ModelAdapterGenerator}. Do not edit.
+ * <br>
+ * {@link #FACTORY} is installed in {@link com.saucelabs.saucerest.MoshiSingleton} and replaces Moshi's reflective
+ * adapter for every model listed here.
+ */
+public final class GeneratedJsonAdapters {
+    private static final Map<Class<?>, Function<Moshi, JsonAdapter<?>>> ADAPTERS = new HashMap<>();
+
+    public static final JsonAdapter.Factory FACTORY = (type, annotations, moshi) -> {
+        if (!annotations.isEmpty()) {
+            return null;
+        }
+        Function<Moshi, JsonAdapter<?>> adapter = ADAPTERS.get(type);
+        return adapter == null ? null : adapter.apply(moshi).nullSafe();
+    };
+
+    static {
+        ADAPTERS.put(com.saucelabs.saucerest.model.accounts.Allowed.class, com.saucelabs.saucerest.model.accounts.AllowedJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.accounts.Concurrency.class, com.saucelabs.saucerest.model.accounts.ConcurrencyJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.accounts.CreateTeam.class, com.saucelabs.saucerest.model.accounts.CreateTeamJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.accounts.Current.class, com.saucelabs.saucerest.model.accounts.CurrentJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.accounts.Group.class, com.saucelabs.saucerest.model.accounts.GroupJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.accounts.Links.class, com.saucelabs.saucerest.model.accounts.LinksJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.accounts.LookupTeams.class, com.saucelabs.saucerest.model.accounts.LookupTeamsJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.accounts.LookupUsers.class, com.saucelabs.saucerest.model.accounts.LookupUsersJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.accounts.Organization.class, com.saucelabs.saucerest.model.accounts.OrganizationJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.accounts.Organizations.class, com.saucelabs.saucerest.model.accounts.OrganizationsJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.accounts.ResetAccessKeyForTeam.class, com.saucelabs.saucerest.model.accounts.ResetAccessKeyForTeamJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.accounts.Result.class, com.saucelabs.saucerest.model.accounts.ResultJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.accounts.Role.class, com.saucelabs.saucerest.model.accounts.RoleJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.accounts.SetTeam.class, com.saucelabs.saucerest.model.accounts.SetTeamJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.accounts.Settings.class, com.saucelabs.saucerest.model.accounts.SettingsJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.accounts.Team.class, com.saucelabs.saucerest.model.accounts.TeamJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.accounts.TeamMembers.class, com.saucelabs.saucerest.model.accounts.TeamMembersJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.accounts.UpdateTeam.class, com.saucelabs.saucerest.model.accounts.UpdateTeamJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.accounts.User.class, com.saucelabs.saucerest.model.accounts.UserJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.accounts.UserConcurrency.class, com.saucelabs.saucerest.model.accounts.UserConcurrencyJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.accounts.UsersTeam.class, com.saucelabs.saucerest.model.accounts.UsersTeamJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.builds.Build.class, com.saucelabs.saucerest.model.builds.BuildJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.builds.Jobs.class, com.saucelabs.saucerest.model.builds.JobsJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.insights.Item.class, com.saucelabs.saucerest.model.insights.ItemJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.insights.Meta.class, com.saucelabs.saucerest.model.insights.MetaJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.insights.TestResult.class, com.saucelabs.saucerest.model.insights.TestResultJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.jobs.BaseConfig.class, com.saucelabs.saucerest.model.jobs.BaseConfigJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.jobs.CommandCounts.class, com.saucelabs.saucerest.model.jobs.CommandCountsJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.jobs.CustomData.class, com.saucelabs.saucerest.model.jobs.CustomDataJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.jobs.GoogChromeOptions.class, com.saucelabs.saucerest.model.jobs.GoogChromeOptionsJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.jobs.Job.class, com.saucelabs.saucerest.model.jobs.JobJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.jobs.JobAssets.class, com.saucelabs.saucerest.model.jobs.JobAssetsJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.jobs.SauceOptions.class, com.saucelabs.saucerest.model.jobs.SauceOptionsJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.platform.Platform.class, com.saucelabs.saucerest.model.platform.PlatformJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.platform.TestStatus.class, com.saucelabs.saucerest.model.platform.TestStatusJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.realdevices.ApplicationSummary.class, com.saucelabs.saucerest.model.realdevices.ApplicationSummaryJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.realdevices.Concurrency.class, com.saucelabs.saucerest.model.realdevices.ConcurrencyJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.realdevices.Device.class, com.saucelabs.saucerest.model.realdevices.DeviceJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.realdevices.DeviceDescriptor.class, com.saucelabs.saucerest.model.realdevices.DeviceDescriptorJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.realdevices.DeviceJob.class, com.saucelabs.saucerest.model.realdevices.DeviceJobJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.realdevices.DeviceJobs.class, com.saucelabs.saucerest.model.realdevices.DeviceJobsJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.realdevices.Entity.class, com.saucelabs.saucerest.model.realdevices.EntityJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.realdevices.MetaData.class, com.saucelabs.saucerest.model.realdevices.MetaDataJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.realdevices.Organization.class, com.saucelabs.saucerest.model.realdevices.OrganizationJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.sauceconnect.Downloads.class, com.saucelabs.saucerest.model.sauceconnect.DownloadsJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.sauceconnect.Instance.class, com.saucelabs.saucerest.model.sauceconnect.InstanceJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.sauceconnect.JobsForATunnel.class, com.saucelabs.saucerest.model.sauceconnect.JobsForATunnelJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.sauceconnect.Linux.class, com.saucelabs.saucerest.model.sauceconnect.LinuxJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.sauceconnect.LinuxArm64.class, com.saucelabs.saucerest.model.sauceconnect.LinuxArm64JsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.sauceconnect.Metadata.class, com.saucelabs.saucerest.model.sauceconnect.MetadataJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.sauceconnect.Osx.class, com.saucelabs.saucerest.model.sauceconnect.OsxJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.sauceconnect.StopTunnel.class, com.saucelabs.saucerest.model.sauceconnect.StopTunnelJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.sauceconnect.TunnelDefault.class, com.saucelabs.saucerest.model.sauceconnect.TunnelDefaultJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.sauceconnect.TunnelInformation.class, com.saucelabs.saucerest.model.sauceconnect.TunnelInformationJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.sauceconnect.Versions.class, com.saucelabs.saucerest.model.sauceconnect.VersionsJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.sauceconnect.Win32.class, com.saucelabs.saucerest.model.sauceconnect.Win32JsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.storage.Access.class, com.saucelabs.saucerest.model.storage.AccessJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.storage.DeleteAppFile.class, com.saucelabs.saucerest.model.storage.DeleteAppFileJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.storage.DeleteAppGroupFiles.class, com.saucelabs.saucerest.model.storage.DeleteAppGroupFilesJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.storage.EditFileDescription.class, com.saucelabs.saucerest.model.storage.EditFileDescriptionJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.storage.GetAppFiles.class, com.saucelabs.saucerest.model.storage.GetAppFilesJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.storage.GetAppStorageGroups.class, com.saucelabs.saucerest.model.storage.GetAppStorageGroupsJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.storage.Item.class, com.saucelabs.saucerest.model.storage.ItemJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.storage.ItemInteger.class, com.saucelabs.saucerest.model.storage.ItemIntegerJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.storage.Links.class, com.saucelabs.saucerest.model.storage.LinksJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.storage.Metadata.class, com.saucelabs.saucerest.model.storage.MetadataJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.storage.Owner.class, com.saucelabs.saucerest.model.storage.OwnerJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.storage.Recent.class, com.saucelabs.saucerest.model.storage.RecentJsonAdapter::new);
+        ADAPTERS.put(com.saucelabs.saucerest.model.storage.UploadFileApp.class, com.saucelabs.saucerest.model.storage.UploadFileAppJsonAdapter::new);
+    }
+
+    private GeneratedJsonAdapters() {
+    }
+
+    /**
+     * @return The models with a generated adapter
+     */
+    public static Set<Class<?>> models() {
+        return Collections.unmodifiableSet(ADAPTERS.keySet());
+    }
+}
\ No newline at end of file
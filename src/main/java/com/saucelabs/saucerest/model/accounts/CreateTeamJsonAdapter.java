@@ -0,0 +1,110 @@
+package com.saucelabs.saucerest.model.accounts;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link CreateTeam}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class CreateTeamJsonAdapter extends JsonAdapter<CreateTeam> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "created_at",
+        "description",
+        "group",
+        "id",
+        "is_default",
+        "name",
+        "org_uuid",
+        "settings",
+        "updated_at");
+
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<Group> groupAdapter;
+    private final JsonAdapter<Boolean> booleanAdapter;
+    private final JsonAdapter<Settings> settingsAdapter;
+
+    public CreateTeamJsonAdapter(Moshi moshi) {
+        stringAdapter = moshi.adapter(String.class);
+        groupAdapter = moshi.adapter(Group.class);
+        booleanAdapter = moshi.adapter(Boolean.class);
+        settingsAdapter = moshi.adapter(Settings.class);
+    }
+
+    @Override
+    public CreateTeam fromJson(JsonReader reader) throws IOException {
+        CreateTeam value = new CreateTeam();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.createdAt = stringAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.description = stringAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.group = groupAdapter.fromJson(reader);
+                    break;
+                case 3:
+                    value.id = stringAdapter.fromJson(reader);
+                    break;
+                case 4:
+                    value.isDefault = booleanAdapter.fromJson(reader);
+                    break;
+                case 5:
+                    value.name = stringAdapter.fromJson(reader);
+                    break;
+                case 6:
+                    value.orgUuid = stringAdapter.fromJson(reader);
+                    break;
+                case 7:
+                    value.settings = settingsAdapter.fromJson(reader);
+                    break;
+                case 8:
+                    value.updatedAt = stringAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, CreateTeam value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("created_at");
+        stringAdapter.toJson(writer, value.createdAt);
+        writer.name("description");
+        stringAdapter.toJson(writer, value.description);
+        writer.name("group");
+        groupAdapter.toJson(writer, value.group);
+        writer.name("id");
+        stringAdapter.toJson(writer, value.id);
+        writer.name("is_default");
+        booleanAdapter.toJson(writer, value.isDefault);
+        writer.name("name");
+        stringAdapter.toJson(writer, value.name);
+        writer.name("org_uuid");
+        stringAdapter.toJson(writer, value.orgUuid);
+        writer.name("settings");
+        settingsAdapter.toJson(writer, value.settings);
+        writer.name("updated_at");
+        stringAdapter.toJson(writer, value.updatedAt);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(CreateTeam)";
+    }
+}
\ No newline at end of file
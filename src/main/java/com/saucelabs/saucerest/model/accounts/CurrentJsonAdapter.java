@@ -0,0 +1,68 @@
+package com.saucelabs.saucerest.model.accounts;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link Current}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class CurrentJsonAdapter extends JsonAdapter<Current> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "mac_vms",
+        "rds",
+        "vms");
+
+    private final JsonAdapter<Integer> integerAdapter;
+
+    public CurrentJsonAdapter(Moshi moshi) {
+        integerAdapter = moshi.adapter(Integer.class);
+    }
+
+    @Override
+    public Current fromJson(JsonReader reader) throws IOException {
+        Current value = new Current();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.macVms = integerAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.rds = integerAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.vms = integerAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, Current value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("mac_vms");
+        integerAdapter.toJson(writer, value.macVms);
+        writer.name("rds");
+        integerAdapter.toJson(writer, value.rds);
+        writer.name("vms");
+        integerAdapter.toJson(writer, value.vms);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(Current)";
+    }
+}
\ No newline at end of file
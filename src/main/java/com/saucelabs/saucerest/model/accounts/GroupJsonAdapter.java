@@ -0,0 +1,76 @@
+package com.saucelabs.saucerest.model.accounts;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link Group}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class GroupJsonAdapter extends JsonAdapter<Group> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "id",
+        "name",
+        "real_devices",
+        "virtual_machines");
+
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<Integer> integerAdapter;
+
+    public GroupJsonAdapter(Moshi moshi) {
+        stringAdapter = moshi.adapter(String.class);
+        integerAdapter = moshi.adapter(Integer.class);
+    }
+
+    @Override
+    public Group fromJson(JsonReader reader) throws IOException {
+        Group value = new Group();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.id = stringAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.name = stringAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.realDevices = integerAdapter.fromJson(reader);
+                    break;
+                case 3:
+                    value.virtualMachines = integerAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, Group value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("id");
+        stringAdapter.toJson(writer, value.id);
+        writer.name("name");
+        stringAdapter.toJson(writer, value.name);
+        writer.name("real_devices");
+        integerAdapter.toJson(writer, value.realDevices);
+        writer.name("virtual_machines");
+        integerAdapter.toJson(writer, value.virtualMachines);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(Group)";
+    }
+}
\ No newline at end of file
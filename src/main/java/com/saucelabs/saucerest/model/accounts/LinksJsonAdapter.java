@@ -0,0 +1,76 @@
+package com.saucelabs.saucerest.model.accounts;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link Links}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class LinksJsonAdapter extends JsonAdapter<Links> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "first",
+        "last",
+        "next",
+        "previous");
+
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<Object> objectAdapter;
+
+    public LinksJsonAdapter(Moshi moshi) {
+        stringAdapter = moshi.adapter(String.class);
+        objectAdapter = moshi.adapter(Object.class);
+    }
+
+    @Override
+    public Links fromJson(JsonReader reader) throws IOException {
+        Links value = new Links();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.first = stringAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.last = stringAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.next = objectAdapter.fromJson(reader);
+                    break;
+                case 3:
+                    value.previous = objectAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, Links value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("first");
+        stringAdapter.toJson(writer, value.first);
+        writer.name("last");
+        stringAdapter.toJson(writer, value.last);
+        writer.name("next");
+        objectAdapter.toJson(writer, value.next);
+        writer.name("previous");
+        objectAdapter.toJson(writer, value.previous);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(Links)";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.saucelabs.saucerest.model.accounts;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+import com.squareup.moshi.Types;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Moshi adapter for {@link LookupUsers}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class LookupUsersJsonAdapter extends JsonAdapter<LookupUsers> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "count",
+        "links",
+        "results");
+
+    private final JsonAdapter<Integer> integerAdapter;
+    private final JsonAdapter<Links> linksAdapter;
+    private final JsonAdapter<List<Result>> listOfResultAdapter;
+
+    public LookupUsersJsonAdapter(Moshi moshi) {
+        integerAdapter = moshi.adapter(Integer.class);
+        linksAdapter = moshi.adapter(Links.class);
+        listOfResultAdapter = moshi.adapter(Types.newParameterizedType(List.class, Result.class));
+    }
+
+    @Override
+    public LookupUsers fromJson(JsonReader reader) throws IOException {
+        LookupUsers value = new LookupUsers();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.count = integerAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.links = linksAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.results = listOfResultAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, LookupUsers value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("count");
+        integerAdapter.toJson(writer, value.count);
+        writer.name("links");
+        linksAdapter.toJson(writer, value.links);
+        writer.name("results");
+        listOfResultAdapter.toJson(writer, value.results);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(LookupUsers)";
+    }
+}
\ No newline at end of file
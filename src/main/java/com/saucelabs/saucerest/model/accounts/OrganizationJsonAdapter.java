@@ -0,0 +1,106 @@
+package com.saucelabs.saucerest.model.accounts;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link Organization}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class OrganizationJsonAdapter extends JsonAdapter<Organization> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "allowed",
+        "created_at",
+        "current",
+        "id",
+        "name",
+        "settings",
+        "total_vm_concurrency",
+        "updated_at");
+
+    private final JsonAdapter<Allowed> allowedAdapter;
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<Current> currentAdapter;
+    private final JsonAdapter<Settings> settingsAdapter;
+    private final JsonAdapter<Integer> integerAdapter;
+
+    public OrganizationJsonAdapter(Moshi moshi) {
+        allowedAdapter = moshi.adapter(Allowed.class);
+        stringAdapter = moshi.adapter(String.class);
+        currentAdapter = moshi.adapter(Current.class);
+        settingsAdapter = moshi.adapter(Settings.class);
+        integerAdapter = moshi.adapter(Integer.class);
+    }
+
+    @Override
+    public Organization fromJson(JsonReader reader) throws IOException {
+        Organization value = new Organization();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.allowed = allowedAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.createdAt = stringAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.current = currentAdapter.fromJson(reader);
+                    break;
+                case 3:
+                    value.id = stringAdapter.fromJson(reader);
+                    break;
+                case 4:
+                    value.name = stringAdapter.fromJson(reader);
+                    break;
+                case 5:
+                    value.settings = settingsAdapter.fromJson(reader);
+                    break;
+                case 6:
+                    value.totalVmConcurrency = integerAdapter.fromJson(reader);
+                    break;
+                case 7:
+                    value.updatedAt = stringAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, Organization value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("allowed");
+        allowedAdapter.toJson(writer, value.allowed);
+        writer.name("created_at");
+        stringAdapter.toJson(writer, value.createdAt);
+        writer.name("current");
+        currentAdapter.toJson(writer, value.current);
+        writer.name("id");
+        stringAdapter.toJson(writer, value.id);
+        writer.name("name");
+        stringAdapter.toJson(writer, value.name);
+        writer.name("settings");
+        settingsAdapter.toJson(writer, value.settings);
+        writer.name("total_vm_concurrency");
+        integerAdapter.toJson(writer, value.totalVmConcurrency);
+        writer.name("updated_at");
+        stringAdapter.toJson(writer, value.updatedAt);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(Organization)";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.saucelabs.saucerest.model.accounts;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link ResetAccessKeyForTeam}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class ResetAccessKeyForTeamJsonAdapter extends JsonAdapter<ResetAccessKeyForTeam> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "access_key",
+        "id",
+        "username");
+
+    private final JsonAdapter<String> stringAdapter;
+
+    public ResetAccessKeyForTeamJsonAdapter(Moshi moshi) {
+        stringAdapter = moshi.adapter(String.class);
+    }
+
+    @Override
+    public ResetAccessKeyForTeam fromJson(JsonReader reader) throws IOException {
+        ResetAccessKeyForTeam value = new ResetAccessKeyForTeam();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.accessKey = stringAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.id = stringAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.username = stringAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, ResetAccessKeyForTeam value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("access_key");
+        stringAdapter.toJson(writer, value.accessKey);
+        writer.name("id");
+        stringAdapter.toJson(writer, value.id);
+        writer.name("username");
+        stringAdapter.toJson(writer, value.username);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(ResetAccessKeyForTeam)";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,156 @@
+package com.saucelabs.saucerest.model.accounts;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+import com.squareup.moshi.Types;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Moshi adapter for {@link Result}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class ResultJsonAdapter extends JsonAdapter<Result> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "email",
+        "first_name",
+        "group",
+        "id",
+        "is_active",
+        "is_default",
+        "last_name",
+        "name",
+        "org_uuid",
+        "organization",
+        "roles",
+        "settings",
+        "teams",
+        "user_count",
+        "username");
+
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<Group> groupAdapter;
+    private final JsonAdapter<Boolean> booleanAdapter;
+    private final JsonAdapter<Organization> organizationAdapter;
+    private final JsonAdapter<List<Role>> listOfRoleAdapter;
+    private final JsonAdapter<Settings> settingsAdapter;
+    private final JsonAdapter<List<Team>> listOfTeamAdapter;
+    private final JsonAdapter<Integer> integerAdapter;
+
+    public ResultJsonAdapter(Moshi moshi) {
+        stringAdapter = moshi.adapter(String.class);
+        groupAdapter = moshi.adapter(Group.class);
+        booleanAdapter = moshi.adapter(Boolean.class);
+        organizationAdapter = moshi.adapter(Organization.class);
+        listOfRoleAdapter = moshi.adapter(Types.newParameterizedType(List.class, Role.class));
+        settingsAdapter = moshi.adapter(Settings.class);
+        listOfTeamAdapter = moshi.adapter(Types.newParameterizedType(List.class, Team.class));
+        integerAdapter = moshi.adapter(Integer.class);
+    }
+
+    @Override
+    public Result fromJson(JsonReader reader) throws IOException {
+        Result value = new Result();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.email = stringAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.firstName = stringAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.group = groupAdapter.fromJson(reader);
+                    break;
+                case 3:
+                    value.id = stringAdapter.fromJson(reader);
+                    break;
+                case 4:
+                    value.isActive = booleanAdapter.fromJson(reader);
+                    break;
+                case 5:
+                    value.isDefault = booleanAdapter.fromJson(reader);
+                    break;
+                case 6:
+                    value.lastName = stringAdapter.fromJson(reader);
+                    break;
+                case 7:
+                    value.name = stringAdapter.fromJson(reader);
+                    break;
+                case 8:
+                    value.orgUuid = stringAdapter.fromJson(reader);
+                    break;
+                case 9:
+                    value.organization = organizationAdapter.fromJson(reader);
+                    break;
+                case 10:
+                    value.roles = listOfRoleAdapter.fromJson(reader);
+                    break;
+                case 11:
+                    value.settings = settingsAdapter.fromJson(reader);
+                    break;
+                case 12:
+                    value.teams = listOfTeamAdapter.fromJson(reader);
+                    break;
+                case 13:
+                    value.userCount = integerAdapter.fromJson(reader);
+                    break;
+                case 14:
+                    value.username = stringAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, Result value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("email");
+        stringAdapter.toJson(writer, value.email);
+        writer.name("first_name");
+        stringAdapter.toJson(writer, value.firstName);
+        writer.name("group");
+        groupAdapter.toJson(writer, value.group);
+        writer.name("id");
+        stringAdapter.toJson(writer, value.id);
+        writer.name("is_active");
+        booleanAdapter.toJson(writer, value.isActive);
+        writer.name("is_default");
+        booleanAdapter.toJson(writer, value.isDefault);
+        writer.name("last_name");
+        stringAdapter.toJson(writer, value.lastName);
+        writer.name("name");
+        stringAdapter.toJson(writer, value.name);
+        writer.name("org_uuid");
+        stringAdapter.toJson(writer, value.orgUuid);
+        writer.name("organization");
+        organizationAdapter.toJson(writer, value.organization);
+        writer.name("roles");
+        listOfRoleAdapter.toJson(writer, value.roles);
+        writer.name("settings");
+        settingsAdapter.toJson(writer, value.settings);
+        writer.name("teams");
+        listOfTeamAdapter.toJson(writer, value.teams);
+        writer.name("user_count");
+        integerAdapter.toJson(writer, value.userCount);
+        writer.name("username");
+        stringAdapter.toJson(writer, value.username);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(Result)";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.saucelabs.saucerest.model.accounts;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link Role}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class RoleJsonAdapter extends JsonAdapter<Role> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "name",
+        "role");
+
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<Integer> integerAdapter;
+
+    public RoleJsonAdapter(Moshi moshi) {
+        stringAdapter = moshi.adapter(String.class);
+        integerAdapter = moshi.adapter(Integer.class);
+    }
+
+    @Override
+    public Role fromJson(JsonReader reader) throws IOException {
+        Role value = new Role();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.name = stringAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.role = integerAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, Role value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("name");
+        stringAdapter.toJson(writer, value.name);
+        writer.name("role");
+        integerAdapter.toJson(writer, value.role);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(Role)";
+    }
+}
\ No newline at end of file
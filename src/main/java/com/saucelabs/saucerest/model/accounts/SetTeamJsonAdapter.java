@@ -0,0 +1,84 @@
+package com.saucelabs.saucerest.model.accounts;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link SetTeam}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class SetTeamJsonAdapter extends JsonAdapter<SetTeam> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "created_at",
+        "id",
+        "team",
+        "updated_at",
+        "user");
+
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<Team> teamAdapter;
+    private final JsonAdapter<User> userAdapter;
+
+    public SetTeamJsonAdapter(Moshi moshi) {
+        stringAdapter = moshi.adapter(String.class);
+        teamAdapter = moshi.adapter(Team.class);
+        userAdapter = moshi.adapter(User.class);
+    }
+
+    @Override
+    public SetTeam fromJson(JsonReader reader) throws IOException {
+        SetTeam value = new SetTeam();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.createdAt = stringAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.id = stringAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.team = teamAdapter.fromJson(reader);
+                    break;
+                case 3:
+                    value.updatedAt = stringAdapter.fromJson(reader);
+                    break;
+                case 4:
+                    value.user = userAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, SetTeam value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("created_at");
+        stringAdapter.toJson(writer, value.createdAt);
+        writer.name("id");
+        stringAdapter.toJson(writer, value.id);
+        writer.name("team");
+        teamAdapter.toJson(writer, value.team);
+        writer.name("updated_at");
+        stringAdapter.toJson(writer, value.updatedAt);
+        writer.name("user");
+        userAdapter.toJson(writer, value.user);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(SetTeam)";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,206 @@
+package com.saucelabs.saucerest.model.accounts;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link Settings}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class SettingsJsonAdapter extends JsonAdapter<Settings> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "allow_integrations_page",
+        "can_use_tunnels_with_public_real_devices",
+        "country",
+        "disable_email_verification",
+        "groups_enabled",
+        "jit_default_team",
+        "jit_username_prefix",
+        "jobs_cross_team_sharing",
+        "live_only",
+        "logout_url",
+        "mac_virtual_machines",
+        "performance_enabled",
+        "rdc_enabled",
+        "real_devices",
+        "sso_enabled",
+        "sso_legacy_enabled",
+        "sso_only",
+        "team_limit",
+        "team_limit_reached",
+        "to_plan",
+        "trial_period",
+        "tunnels_lockdown",
+        "user_type",
+        "virtual_machines",
+        "vm_lockdown");
+
+    private final JsonAdapter<Boolean> booleanAdapter;
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<Object> objectAdapter;
+    private final JsonAdapter<Integer> integerAdapter;
+
+    public SettingsJsonAdapter(Moshi moshi) {
+        booleanAdapter = moshi.adapter(Boolean.class);
+        stringAdapter = moshi.adapter(String.class);
+        objectAdapter = moshi.adapter(Object.class);
+        integerAdapter = moshi.adapter(Integer.class);
+    }
+
+    @Override
+    public Settings fromJson(JsonReader reader) throws IOException {
+        Settings value = new Settings();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.allowIntegrationsPage = booleanAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.canUseTunnelsWithPublicRealDevices = booleanAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.country = stringAdapter.fromJson(reader);
+                    break;
+                case 3:
+                    value.disableEmailVerification = booleanAdapter.fromJson(reader);
+                    break;
+                case 4:
+                    value.groupsEnabled = booleanAdapter.fromJson(reader);
+                    break;
+                case 5:
+                    value.jitDefaultTeam = objectAdapter.fromJson(reader);
+                    break;
+                case 6:
+                    value.jitUsernamePrefix = stringAdapter.fromJson(reader);
+                    break;
+                case 7:
+                    value.jobsCrossTeamSharing = booleanAdapter.fromJson(reader);
+                    break;
+                case 8:
+                    value.liveOnly = booleanAdapter.fromJson(reader);
+                    break;
+                case 9:
+                    value.logoutUrl = stringAdapter.fromJson(reader);
+                    break;
+                case 10:
+                    value.macVirtualMachines = integerAdapter.fromJson(reader);
+                    break;
+                case 11:
+                    value.performanceEnabled = booleanAdapter.fromJson(reader);
+                    break;
+                case 12:
+                    value.rdcEnabled = booleanAdapter.fromJson(reader);
+                    break;
+                case 13:
+                    value.realDevices = integerAdapter.fromJson(reader);
+                    break;
+                case 14:
+                    value.ssoEnabled = booleanAdapter.fromJson(reader);
+                    break;
+                case 15:
+                    value.ssoLegacyEnabled = booleanAdapter.fromJson(reader);
+                    break;
+                case 16:
+                    value.ssoOnly = booleanAdapter.fromJson(reader);
+                    break;
+                case 17:
+                    value.teamLimit = integerAdapter.fromJson(reader);
+                    break;
+                case 18:
+                    value.teamLimitReached = booleanAdapter.fromJson(reader);
+                    break;
+                case 19:
+                    value.toPlan = objectAdapter.fromJson(reader);
+                    break;
+                case 20:
+                    value.trialPeriod = objectAdapter.fromJson(reader);
+                    break;
+                case 21:
+                    value.tunnelsLockdown = booleanAdapter.fromJson(reader);
+                    break;
+                case 22:
+                    value.userType = stringAdapter.fromJson(reader);
+                    break;
+                case 23:
+                    value.virtualMachines = integerAdapter.fromJson(reader);
+                    break;
+                case 24:
+                    value.vmLockdown = booleanAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, Settings value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("allow_integrations_page");
+        booleanAdapter.toJson(writer, value.allowIntegrationsPage);
+        writer.name("can_use_tunnels_with_public_real_devices");
+        booleanAdapter.toJson(writer, value.canUseTunnelsWithPublicRealDevices);
+        writer.name("country");
+        stringAdapter.toJson(writer, value.country);
+        writer.name("disable_email_verification");
+        booleanAdapter.toJson(writer, value.disableEmailVerification);
+        writer.name("groups_enabled");
+        booleanAdapter.toJson(writer, value.groupsEnabled);
+        writer.name("jit_default_team");
+        objectAdapter.toJson(writer, value.jitDefaultTeam);
+        writer.name("jit_username_prefix");
+        stringAdapter.toJson(writer, value.jitUsernamePrefix);
+        writer.name("jobs_cross_team_sharing");
+        booleanAdapter.toJson(writer, value.jobsCrossTeamSharing);
+        writer.name("live_only");
+        booleanAdapter.toJson(writer, value.liveOnly);
+        writer.name("logout_url");
+        stringAdapter.toJson(writer, value.logoutUrl);
+        writer.name("mac_virtual_machines");
+        integerAdapter.toJson(writer, value.macVirtualMachines);
+        writer.name("performance_enabled");
+        booleanAdapter.toJson(writer, value.performanceEnabled);
+        writer.name("rdc_enabled");
+        booleanAdapter.toJson(writer, value.rdcEnabled);
+        writer.name("real_devices");
+        integerAdapter.toJson(writer, value.realDevices);
+        writer.name("sso_enabled");
+        booleanAdapter.toJson(writer, value.ssoEnabled);
+        writer.name("sso_legacy_enabled");
+        booleanAdapter.toJson(writer, value.ssoLegacyEnabled);
+        writer.name("sso_only");
+        booleanAdapter.toJson(writer, value.ssoOnly);
+        writer.name("team_limit");
+        integerAdapter.toJson(writer, value.teamLimit);
+        writer.name("team_limit_reached");
+        booleanAdapter.toJson(writer, value.teamLimitReached);
+        writer.name("to_plan");
+        objectAdapter.toJson(writer, value.toPlan);
+        writer.name("trial_period");
+        objectAdapter.toJson(writer, value.trialPeriod);
+        writer.name("tunnels_lockdown");
+        booleanAdapter.toJson(writer, value.tunnelsLockdown);
+        writer.name("user_type");
+        stringAdapter.toJson(writer, value.userType);
+        writer.name("virtual_machines");
+        integerAdapter.toJson(writer, value.virtualMachines);
+        writer.name("vm_lockdown");
+        booleanAdapter.toJson(writer, value.vmLockdown);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(Settings)";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,126 @@
+package com.saucelabs.saucerest.model.accounts;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link Team}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class TeamJsonAdapter extends JsonAdapter<Team> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "allowed",
+        "created_at",
+        "current",
+        "description",
+        "group",
+        "id",
+        "is_default",
+        "name",
+        "org_uuid",
+        "settings",
+        "updated_at");
+
+    private final JsonAdapter<Allowed> allowedAdapter;
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<Current> currentAdapter;
+    private final JsonAdapter<Group> groupAdapter;
+    private final JsonAdapter<Boolean> booleanAdapter;
+    private final JsonAdapter<Settings> settingsAdapter;
+
+    public TeamJsonAdapter(Moshi moshi) {
+        allowedAdapter = moshi.adapter(Allowed.class);
+        stringAdapter = moshi.adapter(String.class);
+        currentAdapter = moshi.adapter(Current.class);
+        groupAdapter = moshi.adapter(Group.class);
+        booleanAdapter = moshi.adapter(Boolean.class);
+        settingsAdapter = moshi.adapter(Settings.class);
+    }
+
+    @Override
+    public Team fromJson(JsonReader reader) throws IOException {
+        Team value = new Team();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.allowed = allowedAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.createdAt = stringAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.current = currentAdapter.fromJson(reader);
+                    break;
+                case 3:
+                    value.description = stringAdapter.fromJson(reader);
+                    break;
+                case 4:
+                    value.group = groupAdapter.fromJson(reader);
+                    break;
+                case 5:
+                    value.id = stringAdapter.fromJson(reader);
+                    break;
+                case 6:
+                    value.isDefault = booleanAdapter.fromJson(reader);
+                    break;
+                case 7:
+                    value.name = stringAdapter.fromJson(reader);
+                    break;
+                case 8:
+                    value.orgUuid = stringAdapter.fromJson(reader);
+                    break;
+                case 9:
+                    value.settings = settingsAdapter.fromJson(reader);
+                    break;
+                case 10:
+                    value.updatedAt = stringAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, Team value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("allowed");
+        allowedAdapter.toJson(writer, value.allowed);
+        writer.name("created_at");
+        stringAdapter.toJson(writer, value.createdAt);
+        writer.name("current");
+        currentAdapter.toJson(writer, value.current);
+        writer.name("description");
+        stringAdapter.toJson(writer, value.description);
+        writer.name("group");
+        groupAdapter.toJson(writer, value.group);
+        writer.name("id");
+        stringAdapter.toJson(writer, value.id);
+        writer.name("is_default");
+        booleanAdapter.toJson(writer, value.isDefault);
+        writer.name("name");
+        stringAdapter.toJson(writer, value.name);
+        writer.name("org_uuid");
+        stringAdapter.toJson(writer, value.orgUuid);
+        writer.name("settings");
+        settingsAdapter.toJson(writer, value.settings);
+        writer.name("updated_at");
+        stringAdapter.toJson(writer, value.updatedAt);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(Team)";
+    }
+}
\ No newline at end of file
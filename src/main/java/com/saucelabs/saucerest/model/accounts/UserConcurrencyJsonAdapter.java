@@ -0,0 +1,64 @@
+package com.saucelabs.saucerest.model.accounts;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link UserConcurrency}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class UserConcurrencyJsonAdapter extends JsonAdapter<UserConcurrency> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "concurrency",
+        "timestamp");
+
+    private final JsonAdapter<Concurrency> concurrencyAdapter;
+    private final JsonAdapter<Float> floatAdapter;
+
+    public UserConcurrencyJsonAdapter(Moshi moshi) {
+        concurrencyAdapter = moshi.adapter(Concurrency.class);
+        floatAdapter = moshi.adapter(Float.class);
+    }
+
+    @Override
+    public UserConcurrency fromJson(JsonReader reader) throws IOException {
+        UserConcurrency value = new UserConcurrency();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.concurrency = concurrencyAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.timestamp = floatAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, UserConcurrency value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("concurrency");
+        concurrencyAdapter.toJson(writer, value.concurrency);
+        writer.name("timestamp");
+        floatAdapter.toJson(writer, value.timestamp);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(UserConcurrency)";
+    }
+}
\ No newline at end of file
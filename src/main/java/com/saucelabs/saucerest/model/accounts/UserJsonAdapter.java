@@ -0,0 +1,176 @@
+package com.saucelabs.saucerest.model.accounts;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+import com.squareup.moshi.Types;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Moshi adapter for {@link User}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class UserJsonAdapter extends JsonAdapter<User> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "access_key",
+        "created_at",
+        "email",
+        "first_name",
+        "groups",
+        "id",
+        "is_active",
+        "is_organization_admin",
+        "is_staff",
+        "is_superuser",
+        "is_team_admin",
+        "last_name",
+        "organization",
+        "phone",
+        "roles",
+        "teams",
+        "updated_at",
+        "user_type",
+        "username");
+
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<List<Group>> listOfGroupAdapter;
+    private final JsonAdapter<Boolean> booleanAdapter;
+    private final JsonAdapter<Organization> organizationAdapter;
+    private final JsonAdapter<List<Role>> listOfRoleAdapter;
+    private final JsonAdapter<List<Team>> listOfTeamAdapter;
+
+    public UserJsonAdapter(Moshi moshi) {
+        stringAdapter = moshi.adapter(String.class);
+        listOfGroupAdapter = moshi.adapter(Types.newParameterizedType(List.class, Group.class));
+        booleanAdapter = moshi.adapter(Boolean.class);
+        organizationAdapter = moshi.adapter(Organization.class);
+        listOfRoleAdapter = moshi.adapter(Types.newParameterizedType(List.class, Role.class));
+        listOfTeamAdapter = moshi.adapter(Types.newParameterizedType(List.class, Team.class));
+    }
+
+    @Override
+    public User fromJson(JsonReader reader) throws IOException {
+        User value = new User();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.accessKey = stringAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.createdAt = stringAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.email = stringAdapter.fromJson(reader);
+                    break;
+                case 3:
+                    value.firstName = stringAdapter.fromJson(reader);
+                    break;
+                case 4:
+                    value.groups = listOfGroupAdapter.fromJson(reader);
+                    break;
+                case 5:
+                    value.id = stringAdapter.fromJson(reader);
+                    break;
+                case 6:
+                    value.isActive = booleanAdapter.fromJson(reader);
+                    break;
+                case 7:
+                    value.isOrganizationAdmin = booleanAdapter.fromJson(reader);
+                    break;
+                case 8:
+                    value.isStaff = booleanAdapter.fromJson(reader);
+                    break;
+                case 9:
+                    value.isSuperuser = booleanAdapter.fromJson(reader);
+                    break;
+                case 10:
+                    value.isTeamAdmin = booleanAdapter.fromJson(reader);
+                    break;
+                case 11:
+                    value.lastName = stringAdapter.fromJson(reader);
+                    break;
+                case 12:
+                    value.organization = organizationAdapter.fromJson(reader);
+                    break;
+                case 13:
+                    value.phone = stringAdapter.fromJson(reader);
+                    break;
+                case 14:
+                    value.roles = listOfRoleAdapter.fromJson(reader);
+                    break;
+                case 15:
+                    value.teams = listOfTeamAdapter.fromJson(reader);
+                    break;
+                case 16:
+                    value.updatedAt = stringAdapter.fromJson(reader);
+                    break;
+                case 17:
+                    value.userType = stringAdapter.fromJson(reader);
+                    break;
+                case 18:
+                    value.username = stringAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, User value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("access_key");
+        stringAdapter.toJson(writer, value.accessKey);
+        writer.name("created_at");
+        stringAdapter.toJson(writer, value.createdAt);
+        writer.name("email");
+        stringAdapter.toJson(writer, value.email);
+        writer.name("first_name");
+        stringAdapter.toJson(writer, value.firstName);
+        writer.name("groups");
+        listOfGroupAdapter.toJson(writer, value.groups);
+        writer.name("id");
+        stringAdapter.toJson(writer, value.id);
+        writer.name("is_active");
+        booleanAdapter.toJson(writer, value.isActive);
+        writer.name("is_organization_admin");
+        booleanAdapter.toJson(writer, value.isOrganizationAdmin);
+        writer.name("is_staff");
+        booleanAdapter.toJson(writer, value.isStaff);
+        writer.name("is_superuser");
+        booleanAdapter.toJson(writer, value.isSuperuser);
+        writer.name("is_team_admin");
+        booleanAdapter.toJson(writer, value.isTeamAdmin);
+        writer.name("last_name");
+        stringAdapter.toJson(writer, value.lastName);
+        writer.name("organization");
+        organizationAdapter.toJson(writer, value.organization);
+        writer.name("phone");
+        stringAdapter.toJson(writer, value.phone);
+        writer.name("roles");
+        listOfRoleAdapter.toJson(writer, value.roles);
+        writer.name("teams");
+        listOfTeamAdapter.toJson(writer, value.teams);
+        writer.name("updated_at");
+        stringAdapter.toJson(writer, value.updatedAt);
+        writer.name("user_type");
+        stringAdapter.toJson(writer, value.userType);
+        writer.name("username");
+        stringAdapter.toJson(writer, value.username);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(User)";
+    }
+}
\ No newline at end of file
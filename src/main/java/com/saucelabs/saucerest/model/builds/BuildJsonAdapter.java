@@ -0,0 +1,160 @@
+package com.saucelabs.saucerest.model.builds;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link Build}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class BuildJsonAdapter extends JsonAdapter<Build> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "creation_time",
+        "deletion_time",
+        "end_time",
+        "group_id",
+        "id",
+        "jobs",
+        "modification_time",
+        "name",
+        "org_id",
+        "owner_id",
+        "passed",
+        "public",
+        "run",
+        "source",
+        "start_time",
+        "status",
+        "team_id");
+
+    private final JsonAdapter<Integer> integerAdapter;
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<Jobs> jobsAdapter;
+    private final JsonAdapter<Object> objectAdapter;
+    private final JsonAdapter<Boolean> booleanAdapter;
+
+    public BuildJsonAdapter(Moshi moshi) {
+        integerAdapter = moshi.adapter(Integer.class);
+        stringAdapter = moshi.adapter(String.class);
+        jobsAdapter = moshi.adapter(Jobs.class);
+        objectAdapter = moshi.adapter(Object.class);
+        booleanAdapter = moshi.adapter(Boolean.class);
+    }
+
+    @Override
+    public Build fromJson(JsonReader reader) throws IOException {
+        Build value = new Build();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.creationTime = integerAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.deletionTime = integerAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.endTime = integerAdapter.fromJson(reader);
+                    break;
+                case 3:
+                    value.groupId = stringAdapter.fromJson(reader);
+                    break;
+                case 4:
+                    value.id = stringAdapter.fromJson(reader);
+                    break;
+                case 5:
+                    value.jobs = jobsAdapter.fromJson(reader);
+                    break;
+                case 6:
+                    value.modificationTime = integerAdapter.fromJson(reader);
+                    break;
+                case 7:
+                    value.name = stringAdapter.fromJson(reader);
+                    break;
+                case 8:
+                    value.orgId = stringAdapter.fromJson(reader);
+                    break;
+                case 9:
+                    value.ownerId = stringAdapter.fromJson(reader);
+                    break;
+                case 10:
+                    value.passed = objectAdapter.fromJson(reader);
+                    break;
+                case 11:
+                    value._public = booleanAdapter.fromJson(reader);
+                    break;
+                case 12:
+                    value.run = integerAdapter.fromJson(reader);
+                    break;
+                case 13:
+                    value.source = stringAdapter.fromJson(reader);
+                    break;
+                case 14:
+                    value.startTime = integerAdapter.fromJson(reader);
+                    break;
+                case 15:
+                    value.status = stringAdapter.fromJson(reader);
+                    break;
+                case 16:
+                    value.teamId = stringAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, Build value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("creation_time");
+        integerAdapter.toJson(writer, value.creationTime);
+        writer.name("deletion_time");
+        integerAdapter.toJson(writer, value.deletionTime);
+        writer.name("end_time");
+        integerAdapter.toJson(writer, value.endTime);
+        writer.name("group_id");
+        stringAdapter.toJson(writer, value.groupId);
+        writer.name("id");
+        stringAdapter.toJson(writer, value.id);
+        writer.name("jobs");
+        jobsAdapter.toJson(writer, value.jobs);
+        writer.name("modification_time");
+        integerAdapter.toJson(writer, value.modificationTime);
+        writer.name("name");
+        stringAdapter.toJson(writer, value.name);
+        writer.name("org_id");
+        stringAdapter.toJson(writer, value.orgId);
+        writer.name("owner_id");
+        stringAdapter.toJson(writer, value.ownerId);
+        writer.name("passed");
+        objectAdapter.toJson(writer, value.passed);
+        writer.name("public");
+        booleanAdapter.toJson(writer, value._public);
+        writer.name("run");
+        integerAdapter.toJson(writer, value.run);
+        writer.name("source");
+        stringAdapter.toJson(writer, value.source);
+        writer.name("start_time");
+        integerAdapter.toJson(writer, value.startTime);
+        writer.name("status");
+        stringAdapter.toJson(writer, value.status);
+        writer.name("team_id");
+        stringAdapter.toJson(writer, value.teamId);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(Build)";
+    }
+}
\ No newline at end of file
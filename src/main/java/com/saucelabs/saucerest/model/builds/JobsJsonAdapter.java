@@ -0,0 +1,98 @@
+package com.saucelabs.saucerest.model.builds;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link Jobs}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class JobsJsonAdapter extends JsonAdapter<Jobs> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "completed",
+        "errored",
+        "failed",
+        "finished",
+        "passed",
+        "public",
+        "queued",
+        "running");
+
+    private final JsonAdapter<Integer> integerAdapter;
+
+    public JobsJsonAdapter(Moshi moshi) {
+        integerAdapter = moshi.adapter(Integer.class);
+    }
+
+    @Override
+    public Jobs fromJson(JsonReader reader) throws IOException {
+        Jobs value = new Jobs();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.completed = integerAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.errored = integerAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.failed = integerAdapter.fromJson(reader);
+                    break;
+                case 3:
+                    value.finished = integerAdapter.fromJson(reader);
+                    break;
+                case 4:
+                    value.passed = integerAdapter.fromJson(reader);
+                    break;
+                case 5:
+                    value._public = integerAdapter.fromJson(reader);
+                    break;
+                case 6:
+                    value.queued = integerAdapter.fromJson(reader);
+                    break;
+                case 7:
+                    value.running = integerAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, Jobs value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("completed");
+        integerAdapter.toJson(writer, value.completed);
+        writer.name("errored");
+        integerAdapter.toJson(writer, value.errored);
+        writer.name("failed");
+        integerAdapter.toJson(writer, value.failed);
+        writer.name("finished");
+        integerAdapter.toJson(writer, value.finished);
+        writer.name("passed");
+        integerAdapter.toJson(writer, value.passed);
+        writer.name("public");
+        integerAdapter.toJson(writer, value._public);
+        writer.name("queued");
+        integerAdapter.toJson(writer, value.queued);
+        writer.name("running");
+        integerAdapter.toJson(writer, value.running);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(Jobs)";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,148 @@
+package com.saucelabs.saucerest.model.insights;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link Item}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class ItemJsonAdapter extends JsonAdapter<Item> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "ancestor",
+        "browser",
+        "browser_normalized",
+        "build",
+        "creation_time",
+        "details_url",
+        "duration",
+        "end_time",
+        "error",
+        "id",
+        "name",
+        "os",
+        "os_normalized",
+        "owner",
+        "start_time",
+        "status");
+
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<Integer> integerAdapter;
+
+    public ItemJsonAdapter(Moshi moshi) {
+        stringAdapter = moshi.adapter(String.class);
+        integerAdapter = moshi.adapter(Integer.class);
+    }
+
+    @Override
+    public Item fromJson(JsonReader reader) throws IOException {
+        Item value = new Item();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.ancestor = stringAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.browser = stringAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.browserNormalized = stringAdapter.fromJson(reader);
+                    break;
+                case 3:
+                    value.build = stringAdapter.fromJson(reader);
+                    break;
+                case 4:
+                    value.creationTime = stringAdapter.fromJson(reader);
+                    break;
+                case 5:
+                    value.detailsUrl = stringAdapter.fromJson(reader);
+                    break;
+                case 6:
+                    value.duration = integerAdapter.fromJson(reader);
+                    break;
+                case 7:
+                    value.endTime = stringAdapter.fromJson(reader);
+                    break;
+                case 8:
+                    value.error = stringAdapter.fromJson(reader);
+                    break;
+                case 9:
+                    value.id = stringAdapter.fromJson(reader);
+                    break;
+                case 10:
+                    value.name = stringAdapter.fromJson(reader);
+                    break;
+                case 11:
+                    value.os = stringAdapter.fromJson(reader);
+                    break;
+                case 12:
+                    value.osNormalized = stringAdapter.fromJson(reader);
+                    break;
+                case 13:
+                    value.owner = stringAdapter.fromJson(reader);
+                    break;
+                case 14:
+                    value.startTime = stringAdapter.fromJson(reader);
+                    break;
+                case 15:
+                    value.status = stringAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, Item value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("ancestor");
+        stringAdapter.toJson(writer, value.ancestor);
+        writer.name("browser");
+        stringAdapter.toJson(writer, value.browser);
+        writer.name("browser_normalized");
+        stringAdapter.toJson(writer, value.browserNormalized);
+        writer.name("build");
+        stringAdapter.toJson(writer, value.build);
+        writer.name("creation_time");
+        stringAdapter.toJson(writer, value.creationTime);
+        writer.name("details_url");
+        stringAdapter.toJson(writer, value.detailsUrl);
+        writer.name("duration");
+        integerAdapter.toJson(writer, value.duration);
+        writer.name("end_time");
+        stringAdapter.toJson(writer, value.endTime);
+        writer.name("error");
+        stringAdapter.toJson(writer, value.error);
+        writer.name("id");
+        stringAdapter.toJson(writer, value.id);
+        writer.name("name");
+        stringAdapter.toJson(writer, value.name);
+        writer.name("os");
+        stringAdapter.toJson(writer, value.os);
+        writer.name("os_normalized");
+        stringAdapter.toJson(writer, value.osNormalized);
+        writer.name("owner");
+        stringAdapter.toJson(writer, value.owner);
+        writer.name("start_time");
+        stringAdapter.toJson(writer, value.startTime);
+        writer.name("status");
+        stringAdapter.toJson(writer, value.status);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(Item)";
+    }
+}
\ No newline at end of file
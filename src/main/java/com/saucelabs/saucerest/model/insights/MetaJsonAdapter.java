@@ -0,0 +1,56 @@
+package com.saucelabs.saucerest.model.insights;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link Meta}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class MetaJsonAdapter extends JsonAdapter<Meta> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "status");
+
+    private final JsonAdapter<Integer> integerAdapter;
+
+    public MetaJsonAdapter(Moshi moshi) {
+        integerAdapter = moshi.adapter(Integer.class);
+    }
+
+    @Override
+    public Meta fromJson(JsonReader reader) throws IOException {
+        Meta value = new Meta();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.status = integerAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, Meta value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("status");
+        integerAdapter.toJson(writer, value.status);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(Meta)";
+    }
+}
\ No newline at end of file
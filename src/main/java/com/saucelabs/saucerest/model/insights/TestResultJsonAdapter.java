@@ -0,0 +1,74 @@
+package com.saucelabs.saucerest.model.insights;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+import com.squareup.moshi.Types;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Moshi adapter for {@link TestResult}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class TestResultJsonAdapter extends JsonAdapter<TestResult> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "has_more",
+        "items",
+        "meta");
+
+    private final JsonAdapter<Boolean> booleanAdapter;
+    private final JsonAdapter<List<Item>> listOfItemAdapter;
+    private final JsonAdapter<Meta> metaAdapter;
+
+    public TestResultJsonAdapter(Moshi moshi) {
+        booleanAdapter = moshi.adapter(Boolean.class);
+        listOfItemAdapter = moshi.adapter(Types.newParameterizedType(List.class, Item.class));
+        metaAdapter = moshi.adapter(Meta.class);
+    }
+
+    @Override
+    public TestResult fromJson(JsonReader reader) throws IOException {
+        TestResult value = new TestResult();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.hasMore = booleanAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.items = listOfItemAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.meta = metaAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, TestResult value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("has_more");
+        booleanAdapter.toJson(writer, value.hasMore);
+        writer.name("items");
+        listOfItemAdapter.toJson(writer, value.items);
+        writer.name("meta");
+        metaAdapter.toJson(writer, value.meta);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(TestResult)";
+    }
+}
\ No newline at end of file
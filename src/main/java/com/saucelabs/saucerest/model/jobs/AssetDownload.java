@@ -0,0 +1,69 @@
+package com.saucelabs.saucerest.model.jobs;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Outcome of downloading one job asset.
+ */
+public class AssetDownload {
+    private final String asset;
+    private final Path path;
+    private final long bytes;
+    private final Duration duration;
+    private final IOException failure;
+
+    public AssetDownload(String asset, Path path, long bytes, Duration duration, IOException failure) {
+        this.asset = asset;
+        this.path = path;
+        this.bytes = bytes;
+        this.duration = duration;
+        this.failure = failure;
+    }
+
+    /**
+     * @return Label of the asset, e.g. {@code video.mp4}
+     */
+    public String getAsset() {
+        return asset;
+    }
+
+    /**
+     * @return File the asset was written to
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * @return Number of bytes written, 0 if the download failed
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * @return Time spent on the request and on writing the file
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * @return The reason the download failed, or null if it succeeded
+     */
+    public IOException getFailure() {
+        return failure;
+    }
+
+    public boolean isSuccessful() {
+        return failure == null;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %s (%d bytes in %d ms)", asset, isSuccessful() ? path : "failed with " + failure.getMessage(),
+            bytes, duration.toMillis());
+    }
+}
\ No newline at end of file
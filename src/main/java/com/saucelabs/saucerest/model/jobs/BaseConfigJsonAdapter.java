@@ -0,0 +1,84 @@
+package com.saucelabs.saucerest.model.jobs;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link BaseConfig}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class BaseConfigJsonAdapter extends JsonAdapter<BaseConfig> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "browserName",
+        "browserVersion",
+        "goog:chromeOptions",
+        "platformName",
+        "sauce:options");
+
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<GoogChromeOptions> googChromeOptionsAdapter;
+    private final JsonAdapter<SauceOptions> sauceOptionsAdapter;
+
+    public BaseConfigJsonAdapter(Moshi moshi) {
+        stringAdapter = moshi.adapter(String.class);
+        googChromeOptionsAdapter = moshi.adapter(GoogChromeOptions.class);
+        sauceOptionsAdapter = moshi.adapter(SauceOptions.class);
+    }
+
+    @Override
+    public BaseConfig fromJson(JsonReader reader) throws IOException {
+        BaseConfig value = new BaseConfig();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.browserName = stringAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.browserVersion = stringAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.googChromeOptions = googChromeOptionsAdapter.fromJson(reader);
+                    break;
+                case 3:
+                    value.platformName = stringAdapter.fromJson(reader);
+                    break;
+                case 4:
+                    value.sauceOptions = sauceOptionsAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, BaseConfig value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("browserName");
+        stringAdapter.toJson(writer, value.browserName);
+        writer.name("browserVersion");
+        stringAdapter.toJson(writer, value.browserVersion);
+        writer.name("goog:chromeOptions");
+        googChromeOptionsAdapter.toJson(writer, value.googChromeOptions);
+        writer.name("platformName");
+        stringAdapter.toJson(writer, value.platformName);
+        writer.name("sauce:options");
+        sauceOptionsAdapter.toJson(writer, value.sauceOptions);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(BaseConfig)";
+    }
+}
\ No newline at end of file
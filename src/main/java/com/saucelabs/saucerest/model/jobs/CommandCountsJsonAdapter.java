@@ -0,0 +1,62 @@
+package com.saucelabs.saucerest.model.jobs;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link CommandCounts}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class CommandCountsJsonAdapter extends JsonAdapter<CommandCounts> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "All",
+        "Error");
+
+    private final JsonAdapter<Integer> integerAdapter;
+
+    public CommandCountsJsonAdapter(Moshi moshi) {
+        integerAdapter = moshi.adapter(Integer.class);
+    }
+
+    @Override
+    public CommandCounts fromJson(JsonReader reader) throws IOException {
+        CommandCounts value = new CommandCounts();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.all = integerAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.error = integerAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, CommandCounts value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("All");
+        integerAdapter.toJson(writer, value.all);
+        writer.name("Error");
+        integerAdapter.toJson(writer, value.error);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(CommandCounts)";
+    }
+}
\ No newline at end of file
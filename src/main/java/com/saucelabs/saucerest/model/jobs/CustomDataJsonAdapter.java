@@ -0,0 +1,62 @@
+package com.saucelabs.saucerest.model.jobs;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link CustomData}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class CustomDataJsonAdapter extends JsonAdapter<CustomData> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "editor",
+        "tcd");
+
+    private final JsonAdapter<String> stringAdapter;
+
+    public CustomDataJsonAdapter(Moshi moshi) {
+        stringAdapter = moshi.adapter(String.class);
+    }
+
+    @Override
+    public CustomData fromJson(JsonReader reader) throws IOException {
+        CustomData value = new CustomData();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.editor = stringAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.tcd = stringAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, CustomData value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("editor");
+        stringAdapter.toJson(writer, value.editor);
+        writer.name("tcd");
+        stringAdapter.toJson(writer, value.tcd);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(CustomData)";
+    }
+}
\ No newline at end of file
@@ -29,6 +29,14 @@ public class GetJobsParameters {
         format = builder.format;
     }
 
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getSkip() {
+        return skip;
+    }
+
     public Map<String, Object> toMap() {
         Map<String, Object> parameters = new HashMap<>();
 
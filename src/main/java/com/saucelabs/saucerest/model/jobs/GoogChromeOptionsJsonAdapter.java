@@ -0,0 +1,66 @@
+package com.saucelabs.saucerest.model.jobs;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+import com.squareup.moshi.Types;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Moshi adapter for {@link GoogChromeOptions}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class GoogChromeOptionsJsonAdapter extends JsonAdapter<GoogChromeOptions> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "args",
+        "extensions");
+
+    private final JsonAdapter<List<String>> listOfStringAdapter;
+    private final JsonAdapter<List<Object>> listOfObjectAdapter;
+
+    public GoogChromeOptionsJsonAdapter(Moshi moshi) {
+        listOfStringAdapter = moshi.adapter(Types.newParameterizedType(List.class, String.class));
+        listOfObjectAdapter = moshi.adapter(Types.newParameterizedType(List.class, Object.class));
+    }
+
+    @Override
+    public GoogChromeOptions fromJson(JsonReader reader) throws IOException {
+        GoogChromeOptions value = new GoogChromeOptions();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.args = listOfStringAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.extensions = listOfObjectAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, GoogChromeOptions value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("args");
+        listOfStringAdapter.toJson(writer, value.args);
+        writer.name("extensions");
+        listOfObjectAdapter.toJson(writer, value.extensions);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(GoogChromeOptions)";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,96 @@
+package com.saucelabs.saucerest.model.jobs;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+import com.squareup.moshi.Types;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Moshi adapter for {@link JobAssets}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class JobAssetsJsonAdapter extends JsonAdapter<JobAssets> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "ios-syslog.log",
+        "logcat.log",
+        "sauce-log",
+        "screenshots",
+        "selenium-log",
+        "video",
+        "video.mp4");
+
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<List<String>> listOfStringAdapter;
+
+    public JobAssetsJsonAdapter(Moshi moshi) {
+        stringAdapter = moshi.adapter(String.class);
+        listOfStringAdapter = moshi.adapter(Types.newParameterizedType(List.class, String.class));
+    }
+
+    @Override
+    public JobAssets fromJson(JsonReader reader) throws IOException {
+        JobAssets value = new JobAssets();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.iosSyslogLog = stringAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.logcatLog = stringAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.sauceLog = stringAdapter.fromJson(reader);
+                    break;
+                case 3:
+                    value.screenshots = listOfStringAdapter.fromJson(reader);
+                    break;
+                case 4:
+                    value.seleniumLog = stringAdapter.fromJson(reader);
+                    break;
+                case 5:
+                    value.video = stringAdapter.fromJson(reader);
+                    break;
+                case 6:
+                    value.videoMp4 = stringAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, JobAssets value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("ios-syslog.log");
+        stringAdapter.toJson(writer, value.iosSyslogLog);
+        writer.name("logcat.log");
+        stringAdapter.toJson(writer, value.logcatLog);
+        writer.name("sauce-log");
+        stringAdapter.toJson(writer, value.sauceLog);
+        writer.name("screenshots");
+        listOfStringAdapter.toJson(writer, value.screenshots);
+        writer.name("selenium-log");
+        stringAdapter.toJson(writer, value.seleniumLog);
+        writer.name("video");
+        stringAdapter.toJson(writer, value.video);
+        writer.name("video.mp4");
+        stringAdapter.toJson(writer, value.videoMp4);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(JobAssets)";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,313 @@
+package com.saucelabs.saucerest.model.jobs;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+import com.squareup.moshi.Types;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moshi adapter for {@link Job}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class JobJsonAdapter extends JsonAdapter<Job> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "assigned_tunnel_id",
+        "automation_backend",
+        "base_config",
+        "breakpointed",
+        "browser",
+        "browser_short_version",
+        "browser_version",
+        "build",
+        "collects_automator_log",
+        "command_counts",
+        "commands_not_successful",
+        "consolidated_status",
+        "container",
+        "creation_time",
+        "custom-data",
+        "deletion_time",
+        "end_time",
+        "error",
+        "group_id",
+        "id",
+        "log_url",
+        "manual",
+        "modification_time",
+        "name",
+        "org_id",
+        "os",
+        "owner",
+        "passed",
+        "performance_enabled",
+        "proxied",
+        "public",
+        "record_screenshots",
+        "record_video",
+        "selenium_version",
+        "start_time",
+        "status",
+        "tags",
+        "team_id",
+        "url",
+        "video_secret",
+        "video_url");
+
+    private final JsonAdapter<Object> objectAdapter;
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<BaseConfig> baseConfigAdapter;
+    private final JsonAdapter<Boolean> booleanAdapter;
+    private final JsonAdapter<CommandCounts> commandCountsAdapter;
+    private final JsonAdapter<Integer> integerAdapter;
+    private final JsonAdapter<Map<String, String>> mapOfStringStringAdapter;
+    private final JsonAdapter<List<String>> listOfStringAdapter;
+
+    public JobJsonAdapter(Moshi moshi) {
+        objectAdapter = moshi.adapter(Object.class);
+        stringAdapter = moshi.adapter(String.class);
+        baseConfigAdapter = moshi.adapter(BaseConfig.class);
+        booleanAdapter = moshi.adapter(Boolean.class);
+        commandCountsAdapter = moshi.adapter(CommandCounts.class);
+        integerAdapter = moshi.adapter(Integer.class);
+        mapOfStringStringAdapter = moshi.adapter(Types.newParameterizedType(Map.class, String.class, String.class));
+        listOfStringAdapter = moshi.adapter(Types.newParameterizedType(List.class, String.class));
+    }
+
+    @Override
+    public Job fromJson(JsonReader reader) throws IOException {
+        Job value = new Job();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.assignedTunnelId = objectAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.automationBackend = stringAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.baseConfig = baseConfigAdapter.fromJson(reader);
+                    break;
+                case 3:
+                    value.breakpointed = objectAdapter.fromJson(reader);
+                    break;
+                case 4:
+                    value.browser = stringAdapter.fromJson(reader);
+                    break;
+                case 5:
+                    value.browserShortVersion = stringAdapter.fromJson(reader);
+                    break;
+                case 6:
+                    value.browserVersion = stringAdapter.fromJson(reader);
+                    break;
+                case 7:
+                    value.build = objectAdapter.fromJson(reader);
+                    break;
+                case 8:
+                    value.collectsAutomatorLog = booleanAdapter.fromJson(reader);
+                    break;
+                case 9:
+                    value.commandCounts = commandCountsAdapter.fromJson(reader);
+                    break;
+                case 10:
+                    value.commandsNotSuccessful = integerAdapter.fromJson(reader);
+                    break;
+                case 11:
+                    value.consolidatedStatus = stringAdapter.fromJson(reader);
+                    break;
+                case 12:
+                    value.container = booleanAdapter.fromJson(reader);
+                    break;
+                case 13:
+                    value.creationTime = integerAdapter.fromJson(reader);
+                    break;
+                case 14:
+                    value.customData = mapOfStringStringAdapter.fromJson(reader);
+                    break;
+                case 15:
+                    value.deletionTime = objectAdapter.fromJson(reader);
+                    break;
+                case 16:
+                    value.endTime = integerAdapter.fromJson(reader);
+                    break;
+                case 17:
+                    value.error = objectAdapter.fromJson(reader);
+                    break;
+                case 18:
+                    value.groupId = stringAdapter.fromJson(reader);
+                    break;
+                case 19:
+                    value.id = stringAdapter.fromJson(reader);
+                    break;
+                case 20:
+                    value.logUrl = stringAdapter.fromJson(reader);
+                    break;
+                case 21:
+                    value.manual = booleanAdapter.fromJson(reader);
+                    break;
+                case 22:
+                    value.modificationTime = integerAdapter.fromJson(reader);
+                    break;
+                case 23:
+                    value.name = stringAdapter.fromJson(reader);
+                    break;
+                case 24:
+                    value.orgId = stringAdapter.fromJson(reader);
+                    break;
+                case 25:
+                    value.os = stringAdapter.fromJson(reader);
+                    break;
+                case 26:
+                    value.owner = stringAdapter.fromJson(reader);
+                    break;
+                case 27:
+                    value.passed = booleanAdapter.fromJson(reader);
+                    break;
+                case 28:
+                    value.performanceEnabled = objectAdapter.fromJson(reader);
+                    break;
+                case 29:
+                    value.proxied = booleanAdapter.fromJson(reader);
+                    break;
+                case 30:
+                    value._public = stringAdapter.fromJson(reader);
+                    break;
+                case 31:
+                    value.recordScreenshots = booleanAdapter.fromJson(reader);
+                    break;
+                case 32:
+                    value.recordVideo = booleanAdapter.fromJson(reader);
+                    break;
+                case 33:
+                    value.seleniumVersion = objectAdapter.fromJson(reader);
+                    break;
+                case 34:
+                    value.startTime = integerAdapter.fromJson(reader);
+                    break;
+                case 35:
+                    value.status = stringAdapter.fromJson(reader);
+                    break;
+                case 36:
+                    value.tags = listOfStringAdapter.fromJson(reader);
+                    break;
+                case 37:
+                    value.teamId = stringAdapter.fromJson(reader);
+                    break;
+                case 38:
+                    value.url = objectAdapter.fromJson(reader);
+                    break;
+                case 39:
+                    value.videoSecret = stringAdapter.fromJson(reader);
+                    break;
+                case 40:
+                    value.videoUrl = stringAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, Job value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("assigned_tunnel_id");
+        objectAdapter.toJson(writer, value.assignedTunnelId);
+        writer.name("automation_backend");
+        stringAdapter.toJson(writer, value.automationBackend);
+        writer.name("base_config");
+        baseConfigAdapter.toJson(writer, value.baseConfig);
+        writer.name("breakpointed");
+        objectAdapter.toJson(writer, value.breakpointed);
+        writer.name("browser");
+        stringAdapter.toJson(writer, value.browser);
+        writer.name("browser_short_version");
+        stringAdapter.toJson(writer, value.browserShortVersion);
+        writer.name("browser_version");
+        stringAdapter.toJson(writer, value.browserVersion);
+        writer.name("build");
+        objectAdapter.toJson(writer, value.build);
+        writer.name("collects_automator_log");
+        booleanAdapter.toJson(writer, value.collectsAutomatorLog);
+        writer.name("command_counts");
+        commandCountsAdapter.toJson(writer, value.commandCounts);
+        writer.name("commands_not_successful");
+        integerAdapter.toJson(writer, value.commandsNotSuccessful);
+        writer.name("consolidated_status");
+        stringAdapter.toJson(writer, value.consolidatedStatus);
+        writer.name("container");
+        booleanAdapter.toJson(writer, value.container);
+        writer.name("creation_time");
+        integerAdapter.toJson(writer, value.creationTime);
+        writer.name("custom-data");
+        mapOfStringStringAdapter.toJson(writer, value.customData);
+        writer.name("deletion_time");
+        objectAdapter.toJson(writer, value.deletionTime);
+        writer.name("end_time");
+        integerAdapter.toJson(writer, value.endTime);
+        writer.name("error");
+        objectAdapter.toJson(writer, value.error);
+        writer.name("group_id");
+        stringAdapter.toJson(writer, value.groupId);
+        writer.name("id");
+        stringAdapter.toJson(writer, value.id);
+        writer.name("log_url");
+        stringAdapter.toJson(writer, value.logUrl);
+        writer.name("manual");
+        booleanAdapter.toJson(writer, value.manual);
+        writer.name("modification_time");
+        integerAdapter.toJson(writer, value.modificationTime);
+        writer.name("name");
+        stringAdapter.toJson(writer, value.name);
+        writer.name("org_id");
+        stringAdapter.toJson(writer, value.orgId);
+        writer.name("os");
+        stringAdapter.toJson(writer, value.os);
+        writer.name("owner");
+        stringAdapter.toJson(writer, value.owner);
+        writer.name("passed");
+        booleanAdapter.toJson(writer, value.passed);
+        writer.name("performance_enabled");
+        objectAdapter.toJson(writer, value.performanceEnabled);
+        writer.name("proxied");
+        booleanAdapter.toJson(writer, value.proxied);
+        writer.name("public");
+        stringAdapter.toJson(writer, value._public);
+        writer.name("record_screenshots");
+        booleanAdapter.toJson(writer, value.recordScreenshots);
+        writer.name("record_video");
+        booleanAdapter.toJson(writer, value.recordVideo);
+        writer.name("selenium_version");
+        objectAdapter.toJson(writer, value.seleniumVersion);
+        writer.name("start_time");
+        integerAdapter.toJson(writer, value.startTime);
+        writer.name("status");
+        stringAdapter.toJson(writer, value.status);
+        writer.name("tags");
+        listOfStringAdapter.toJson(writer, value.tags);
+        writer.name("team_id");
+        stringAdapter.toJson(writer, value.teamId);
+        writer.name("url");
+        objectAdapter.toJson(writer, value.url);
+        writer.name("video_secret");
+        stringAdapter.toJson(writer, value.videoSecret);
+        writer.name("video_url");
+        stringAdapter.toJson(writer, value.videoUrl);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(Job)";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.saucelabs.saucerest.model.jobs;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+import com.squareup.moshi.Types;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Moshi adapter for {@link SauceOptions}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class SauceOptionsJsonAdapter extends JsonAdapter<SauceOptions> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "build",
+        "name",
+        "tags");
+
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<List<String>> listOfStringAdapter;
+
+    public SauceOptionsJsonAdapter(Moshi moshi) {
+        stringAdapter = moshi.adapter(String.class);
+        listOfStringAdapter = moshi.adapter(Types.newParameterizedType(List.class, String.class));
+    }
+
+    @Override
+    public SauceOptions fromJson(JsonReader reader) throws IOException {
+        SauceOptions value = new SauceOptions();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.build = stringAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.name = stringAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.tags = listOfStringAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, SauceOptions value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("build");
+        stringAdapter.toJson(writer, value.build);
+        writer.name("name");
+        stringAdapter.toJson(writer, value.name);
+        writer.name("tags");
+        listOfStringAdapter.toJson(writer, value.tags);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(SauceOptions)";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,122 @@
+package com.saucelabs.saucerest.model.platform;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+import com.squareup.moshi.Types;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Moshi adapter for {@link Platform}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class PlatformJsonAdapter extends JsonAdapter<Platform> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "api_name",
+        "automation_backend",
+        "deprecated_backend_versions",
+        "device",
+        "latest_stable_version",
+        "long_name",
+        "long_version",
+        "os",
+        "recommended_backend_version",
+        "short_version",
+        "supported_backend_versions");
+
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<List<Object>> listOfObjectAdapter;
+    private final JsonAdapter<List<String>> listOfStringAdapter;
+
+    public PlatformJsonAdapter(Moshi moshi) {
+        stringAdapter = moshi.adapter(String.class);
+        listOfObjectAdapter = moshi.adapter(Types.newParameterizedType(List.class, Object.class));
+        listOfStringAdapter = moshi.adapter(Types.newParameterizedType(List.class, String.class));
+    }
+
+    @Override
+    public Platform fromJson(JsonReader reader) throws IOException {
+        Platform value = new Platform();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.apiName = stringAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.automationBackend = stringAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.deprecatedBackendVersions = listOfObjectAdapter.fromJson(reader);
+                    break;
+                case 3:
+                    value.device = stringAdapter.fromJson(reader);
+                    break;
+                case 4:
+                    value.latestStableVersion = stringAdapter.fromJson(reader);
+                    break;
+                case 5:
+                    value.longName = stringAdapter.fromJson(reader);
+                    break;
+                case 6:
+                    value.longVersion = stringAdapter.fromJson(reader);
+                    break;
+                case 7:
+                    value.os = stringAdapter.fromJson(reader);
+                    break;
+                case 8:
+                    value.recommendedBackendVersion = stringAdapter.fromJson(reader);
+                    break;
+                case 9:
+                    value.shortVersion = stringAdapter.fromJson(reader);
+                    break;
+                case 10:
+                    value.supportedBackendVersions = listOfStringAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, Platform value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("api_name");
+        stringAdapter.toJson(writer, value.apiName);
+        writer.name("automation_backend");
+        stringAdapter.toJson(writer, value.automationBackend);
+        writer.name("deprecated_backend_versions");
+        listOfObjectAdapter.toJson(writer, value.deprecatedBackendVersions);
+        writer.name("device");
+        stringAdapter.toJson(writer, value.device);
+        writer.name("latest_stable_version");
+        stringAdapter.toJson(writer, value.latestStableVersion);
+        writer.name("long_name");
+        stringAdapter.toJson(writer, value.longName);
+        writer.name("long_version");
+        stringAdapter.toJson(writer, value.longVersion);
+        writer.name("os");
+        stringAdapter.toJson(writer, value.os);
+        writer.name("recommended_backend_version");
+        stringAdapter.toJson(writer, value.recommendedBackendVersion);
+        writer.name("short_version");
+        stringAdapter.toJson(writer, value.shortVersion);
+        writer.name("supported_backend_versions");
+        listOfStringAdapter.toJson(writer, value.supportedBackendVersions);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(Platform)";
+    }
+}
\ No newline at end of file
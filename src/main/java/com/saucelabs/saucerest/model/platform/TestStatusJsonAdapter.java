@@ -0,0 +1,72 @@
+package com.saucelabs.saucerest.model.platform;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link TestStatus}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class TestStatusJsonAdapter extends JsonAdapter<TestStatus> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "service_operational",
+        "status_message",
+        "wait_time");
+
+    private final JsonAdapter<Boolean> primitiveBooleanAdapter;
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<Double> primitiveDoubleAdapter;
+
+    public TestStatusJsonAdapter(Moshi moshi) {
+        primitiveBooleanAdapter = moshi.adapter(boolean.class);
+        stringAdapter = moshi.adapter(String.class);
+        primitiveDoubleAdapter = moshi.adapter(double.class);
+    }
+
+    @Override
+    public TestStatus fromJson(JsonReader reader) throws IOException {
+        TestStatus value = new TestStatus();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.serviceOperational = primitiveBooleanAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.statusMessage = stringAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.waitTime = primitiveDoubleAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, TestStatus value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("service_operational");
+        primitiveBooleanAdapter.toJson(writer, value.serviceOperational);
+        writer.name("status_message");
+        stringAdapter.toJson(writer, value.statusMessage);
+        writer.name("wait_time");
+        primitiveDoubleAdapter.toJson(writer, value.waitTime);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(TestStatus)";
+    }
+}
\ No newline at end of file
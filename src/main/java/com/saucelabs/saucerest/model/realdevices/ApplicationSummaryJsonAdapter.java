@@ -0,0 +1,126 @@
+package com.saucelabs.saucerest.model.realdevices;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link ApplicationSummary}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class ApplicationSummaryJsonAdapter extends JsonAdapter<ApplicationSummary> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "appStorageId",
+        "filename",
+        "groupId",
+        "minOsVersion",
+        "minSdkLevel",
+        "name",
+        "packageName",
+        "shortVersion",
+        "targetOsVersion",
+        "targetSdkLevel",
+        "version",
+        "versionCode");
+
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<Integer> integerAdapter;
+    private final JsonAdapter<Object> objectAdapter;
+
+    public ApplicationSummaryJsonAdapter(Moshi moshi) {
+        stringAdapter = moshi.adapter(String.class);
+        integerAdapter = moshi.adapter(Integer.class);
+        objectAdapter = moshi.adapter(Object.class);
+    }
+
+    @Override
+    public ApplicationSummary fromJson(JsonReader reader) throws IOException {
+        ApplicationSummary value = new ApplicationSummary();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.appStorageId = stringAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.filename = stringAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.groupId = integerAdapter.fromJson(reader);
+                    break;
+                case 3:
+                    value.minOsVersion = objectAdapter.fromJson(reader);
+                    break;
+                case 4:
+                    value.minSdkLevel = integerAdapter.fromJson(reader);
+                    break;
+                case 5:
+                    value.name = stringAdapter.fromJson(reader);
+                    break;
+                case 6:
+                    value.packageName = stringAdapter.fromJson(reader);
+                    break;
+                case 7:
+                    value.shortVersion = objectAdapter.fromJson(reader);
+                    break;
+                case 8:
+                    value.targetOsVersion = objectAdapter.fromJson(reader);
+                    break;
+                case 9:
+                    value.targetSdkLevel = integerAdapter.fromJson(reader);
+                    break;
+                case 10:
+                    value.version = stringAdapter.fromJson(reader);
+                    break;
+                case 11:
+                    value.versionCode = stringAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, ApplicationSummary value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("appStorageId");
+        stringAdapter.toJson(writer, value.appStorageId);
+        writer.name("filename");
+        stringAdapter.toJson(writer, value.filename);
+        writer.name("groupId");
+        integerAdapter.toJson(writer, value.groupId);
+        writer.name("minOsVersion");
+        objectAdapter.toJson(writer, value.minOsVersion);
+        writer.name("minSdkLevel");
+        integerAdapter.toJson(writer, value.minSdkLevel);
+        writer.name("name");
+        stringAdapter.toJson(writer, value.name);
+        writer.name("packageName");
+        stringAdapter.toJson(writer, value.packageName);
+        writer.name("shortVersion");
+        objectAdapter.toJson(writer, value.shortVersion);
+        writer.name("targetOsVersion");
+        objectAdapter.toJson(writer, value.targetOsVersion);
+        writer.name("targetSdkLevel");
+        integerAdapter.toJson(writer, value.targetSdkLevel);
+        writer.name("version");
+        stringAdapter.toJson(writer, value.version);
+        writer.name("versionCode");
+        stringAdapter.toJson(writer, value.versionCode);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(ApplicationSummary)";
+    }
+}
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.saucelabs.saucerest.model.realdevices;
 
+import java.util.Collections;
 import java.util.List;
 
 public class AvailableDevices {
@@ -9,4 +10,11 @@ public class AvailableDevices {
         super();
         this.availableDevicesList = availableDevicesList;
     }
+
+    /**
+     * @return IDs of the devices that are currently available
+     */
+    public List<String> getAvailableDevicesList() {
+        return availableDevicesList == null ? Collections.emptyList() : Collections.unmodifiableList(availableDevicesList);
+    }
 }
\ No newline at end of file
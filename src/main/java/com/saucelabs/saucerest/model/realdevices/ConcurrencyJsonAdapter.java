@@ -0,0 +1,56 @@
+package com.saucelabs.saucerest.model.realdevices;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link Concurrency}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class ConcurrencyJsonAdapter extends JsonAdapter<Concurrency> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "organization");
+
+    private final JsonAdapter<Organization> organizationAdapter;
+
+    public ConcurrencyJsonAdapter(Moshi moshi) {
+        organizationAdapter = moshi.adapter(Organization.class);
+    }
+
+    @Override
+    public Concurrency fromJson(JsonReader reader) throws IOException {
+        Concurrency value = new Concurrency();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.organization = organizationAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, Concurrency value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("organization");
+        organizationAdapter.toJson(writer, value.organization);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(Concurrency)";
+    }
+}
\ No newline at end of file
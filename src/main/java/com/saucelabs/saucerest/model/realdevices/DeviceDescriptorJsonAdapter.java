@@ -0,0 +1,282 @@
+package com.saucelabs.saucerest.model.realdevices;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+import com.squareup.moshi.Types;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Moshi adapter for {@link DeviceDescriptor}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class DeviceDescriptorJsonAdapter extends JsonAdapter<DeviceDescriptor> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "abiType",
+        "apiLevel",
+        "cpuCores",
+        "cpuFrequency",
+        "cpuType",
+        "defaultOrientation",
+        "deviceFamily",
+        "dpi",
+        "dpiName",
+        "hasOnScreenButtons",
+        "id",
+        "internalOrientation",
+        "internalStorageSize",
+        "isAlternativeIoEnabled",
+        "isArm",
+        "isKeyGuardDisabled",
+        "isPrivate",
+        "isRooted",
+        "isTablet",
+        "manufacturer",
+        "modelNumber",
+        "name",
+        "os",
+        "osVersion",
+        "pixelsPerPoint",
+        "ramSize",
+        "resolutionHeight",
+        "resolutionWidth",
+        "screenSize",
+        "sdCardSize",
+        "supportsAppiumWebAppTesting",
+        "supportsGlobalProxy",
+        "supportsManualWebTesting",
+        "supportsMinicapSocketConnection",
+        "supportsMockLocations",
+        "supportsMultiTouch",
+        "supportsXcuiTest");
+
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<Integer> integerAdapter;
+    private final JsonAdapter<Boolean> booleanAdapter;
+    private final JsonAdapter<List<String>> listOfStringAdapter;
+    private final JsonAdapter<Float> floatAdapter;
+
+    public DeviceDescriptorJsonAdapter(Moshi moshi) {
+        stringAdapter = moshi.adapter(String.class);
+        integerAdapter = moshi.adapter(Integer.class);
+        booleanAdapter = moshi.adapter(Boolean.class);
+        listOfStringAdapter = moshi.adapter(Types.newParameterizedType(List.class, String.class));
+        floatAdapter = moshi.adapter(Float.class);
+    }
+
+    @Override
+    public DeviceDescriptor fromJson(JsonReader reader) throws IOException {
+        DeviceDescriptor value = new DeviceDescriptor();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.abiType = stringAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.apiLevel = integerAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.cpuCores = integerAdapter.fromJson(reader);
+                    break;
+                case 3:
+                    value.cpuFrequency = integerAdapter.fromJson(reader);
+                    break;
+                case 4:
+                    value.cpuType = stringAdapter.fromJson(reader);
+                    break;
+                case 5:
+                    value.defaultOrientation = stringAdapter.fromJson(reader);
+                    break;
+                case 6:
+                    value.deviceFamily = stringAdapter.fromJson(reader);
+                    break;
+                case 7:
+                    value.dpi = integerAdapter.fromJson(reader);
+                    break;
+                case 8:
+                    value.dpiName = stringAdapter.fromJson(reader);
+                    break;
+                case 9:
+                    value.hasOnScreenButtons = booleanAdapter.fromJson(reader);
+                    break;
+                case 10:
+                    value.id = stringAdapter.fromJson(reader);
+                    break;
+                case 11:
+                    value.internalOrientation = stringAdapter.fromJson(reader);
+                    break;
+                case 12:
+                    value.internalStorageSize = integerAdapter.fromJson(reader);
+                    break;
+                case 13:
+                    value.isAlternativeIoEnabled = booleanAdapter.fromJson(reader);
+                    break;
+                case 14:
+                    value.isArm = booleanAdapter.fromJson(reader);
+                    break;
+                case 15:
+                    value.isKeyGuardDisabled = booleanAdapter.fromJson(reader);
+                    break;
+                case 16:
+                    value.isPrivate = booleanAdapter.fromJson(reader);
+                    break;
+                case 17:
+                    value.isRooted = booleanAdapter.fromJson(reader);
+                    break;
+                case 18:
+                    value.isTablet = booleanAdapter.fromJson(reader);
+                    break;
+                case 19:
+                    value.manufacturer = listOfStringAdapter.fromJson(reader);
+                    break;
+                case 20:
+                    value.modelNumber = stringAdapter.fromJson(reader);
+                    break;
+                case 21:
+                    value.name = stringAdapter.fromJson(reader);
+                    break;
+                case 22:
+                    value.os = stringAdapter.fromJson(reader);
+                    break;
+                case 23:
+                    value.osVersion = stringAdapter.fromJson(reader);
+                    break;
+                case 24:
+                    value.pixelsPerPoint = integerAdapter.fromJson(reader);
+                    break;
+                case 25:
+                    value.ramSize = integerAdapter.fromJson(reader);
+                    break;
+                case 26:
+                    value.resolutionHeight = integerAdapter.fromJson(reader);
+                    break;
+                case 27:
+                    value.resolutionWidth = integerAdapter.fromJson(reader);
+                    break;
+                case 28:
+                    value.screenSize = floatAdapter.fromJson(reader);
+                    break;
+                case 29:
+                    value.sdCardSize = integerAdapter.fromJson(reader);
+                    break;
+                case 30:
+                    value.supportsAppiumWebAppTesting = booleanAdapter.fromJson(reader);
+                    break;
+                case 31:
+                    value.supportsGlobalProxy = booleanAdapter.fromJson(reader);
+                    break;
+                case 32:
+                    value.supportsManualWebTesting = booleanAdapter.fromJson(reader);
+                    break;
+                case 33:
+                    value.supportsMinicapSocketConnection = booleanAdapter.fromJson(reader);
+                    break;
+                case 34:
+                    value.supportsMockLocations = booleanAdapter.fromJson(reader);
+                    break;
+                case 35:
+                    value.supportsMultiTouch = booleanAdapter.fromJson(reader);
+                    break;
+                case 36:
+                    value.supportsXcuiTest = booleanAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, DeviceDescriptor value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("abiType");
+        stringAdapter.toJson(writer, value.abiType);
+        writer.name("apiLevel");
+        integerAdapter.toJson(writer, value.apiLevel);
+        writer.name("cpuCores");
+        integerAdapter.toJson(writer, value.cpuCores);
+        writer.name("cpuFrequency");
+        integerAdapter.toJson(writer, value.cpuFrequency);
+        writer.name("cpuType");
+        stringAdapter.toJson(writer, value.cpuType);
+        writer.name("defaultOrientation");
+        stringAdapter.toJson(writer, value.defaultOrientation);
+        writer.name("deviceFamily");
+        stringAdapter.toJson(writer, value.deviceFamily);
+        writer.name("dpi");
+        integerAdapter.toJson(writer, value.dpi);
+        writer.name("dpiName");
+        stringAdapter.toJson(writer, value.dpiName);
+        writer.name("hasOnScreenButtons");
+        booleanAdapter.toJson(writer, value.hasOnScreenButtons);
+        writer.name("id");
+        stringAdapter.toJson(writer, value.id);
+        writer.name("internalOrientation");
+        stringAdapter.toJson(writer, value.internalOrientation);
+        writer.name("internalStorageSize");
+        integerAdapter.toJson(writer, value.internalStorageSize);
+        writer.name("isAlternativeIoEnabled");
+        booleanAdapter.toJson(writer, value.isAlternativeIoEnabled);
+        writer.name("isArm");
+        booleanAdapter.toJson(writer, value.isArm);
+        writer.name("isKeyGuardDisabled");
+        booleanAdapter.toJson(writer, value.isKeyGuardDisabled);
+        writer.name("isPrivate");
+        booleanAdapter.toJson(writer, value.isPrivate);
+        writer.name("isRooted");
+        booleanAdapter.toJson(writer, value.isRooted);
+        writer.name("isTablet");
+        booleanAdapter.toJson(writer, value.isTablet);
+        writer.name("manufacturer");
+        listOfStringAdapter.toJson(writer, value.manufacturer);
+        writer.name("modelNumber");
+        stringAdapter.toJson(writer, value.modelNumber);
+        writer.name("name");
+        stringAdapter.toJson(writer, value.name);
+        writer.name("os");
+        stringAdapter.toJson(writer, value.os);
+        writer.name("osVersion");
+        stringAdapter.toJson(writer, value.osVersion);
+        writer.name("pixelsPerPoint");
+        integerAdapter.toJson(writer, value.pixelsPerPoint);
+        writer.name("ramSize");
+        integerAdapter.toJson(writer, value.ramSize);
+        writer.name("resolutionHeight");
+        integerAdapter.toJson(writer, value.resolutionHeight);
+        writer.name("resolutionWidth");
+        integerAdapter.toJson(writer, value.resolutionWidth);
+        writer.name("screenSize");
+        floatAdapter.toJson(writer, value.screenSize);
+        writer.name("sdCardSize");
+        integerAdapter.toJson(writer, value.sdCardSize);
+        writer.name("supportsAppiumWebAppTesting");
+        booleanAdapter.toJson(writer, value.supportsAppiumWebAppTesting);
+        writer.name("supportsGlobalProxy");
+        booleanAdapter.toJson(writer, value.supportsGlobalProxy);
+        writer.name("supportsManualWebTesting");
+        booleanAdapter.toJson(writer, value.supportsManualWebTesting);
+        writer.name("supportsMinicapSocketConnection");
+        booleanAdapter.toJson(writer, value.supportsMinicapSocketConnection);
+        writer.name("supportsMockLocations");
+        booleanAdapter.toJson(writer, value.supportsMockLocations);
+        writer.name("supportsMultiTouch");
+        booleanAdapter.toJson(writer, value.supportsMultiTouch);
+        writer.name("supportsXcuiTest");
+        booleanAdapter.toJson(writer, value.supportsXcuiTest);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(DeviceDescriptor)";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,336 @@
+package com.saucelabs.saucerest.model.realdevices;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+import com.squareup.moshi.Types;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Moshi adapter for {@link DeviceJob}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class DeviceJobJsonAdapter extends JsonAdapter<DeviceJob> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "appium_session_id",
+        "appium_version",
+        "application_summary",
+        "assigned_tunnel_id",
+        "automation_backend",
+        "backtrace_url",
+        "base_config",
+        "build",
+        "client",
+        "collects_automator_log",
+        "consolidated_status",
+        "crash_log_url",
+        "creation_time",
+        "device_descriptor",
+        "device_log_url",
+        "device_name",
+        "device_session_id",
+        "device_type",
+        "end_time",
+        "error",
+        "framework_log_url",
+        "id",
+        "junit_log_url",
+        "manual",
+        "modification_time",
+        "name",
+        "network_log_url",
+        "os",
+        "os_version",
+        "owner_sauce",
+        "passed",
+        "proxied",
+        "record_screenshots",
+        "record_video",
+        "remote_app_file_url",
+        "requests_url",
+        "screenshots",
+        "start_time",
+        "status",
+        "tags",
+        "test_cases_url",
+        "test_report_type",
+        "testfairy_log_url",
+        "used_cached_device",
+        "video_url");
+
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<ApplicationSummary> applicationSummaryAdapter;
+    private final JsonAdapter<Object> objectAdapter;
+    private final JsonAdapter<BaseConfig> baseConfigAdapter;
+    private final JsonAdapter<Boolean> booleanAdapter;
+    private final JsonAdapter<Long> longAdapter;
+    private final JsonAdapter<DeviceDescriptor> deviceDescriptorAdapter;
+    private final JsonAdapter<List<Object>> listOfObjectAdapter;
+
+    public DeviceJobJsonAdapter(Moshi moshi) {
+        stringAdapter = moshi.adapter(String.class);
+        applicationSummaryAdapter = moshi.adapter(ApplicationSummary.class);
+        objectAdapter = moshi.adapter(Object.class);
+        baseConfigAdapter = moshi.adapter(BaseConfig.class);
+        booleanAdapter = moshi.adapter(Boolean.class);
+        longAdapter = moshi.adapter(Long.class);
+        deviceDescriptorAdapter = moshi.adapter(DeviceDescriptor.class);
+        listOfObjectAdapter = moshi.adapter(Types.newParameterizedType(List.class, Object.class));
+    }
+
+    @Override
+    public DeviceJob fromJson(JsonReader reader) throws IOException {
+        DeviceJob value = new DeviceJob();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.appiumSessionId = stringAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.appiumVersion = stringAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.applicationSummary = applicationSummaryAdapter.fromJson(reader);
+                    break;
+                case 3:
+                    value.assignedTunnelId = objectAdapter.fromJson(reader);
+                    break;
+                case 4:
+                    value.automationBackend = stringAdapter.fromJson(reader);
+                    break;
+                case 5:
+                    value.backtraceUrl = stringAdapter.fromJson(reader);
+                    break;
+                case 6:
+                    value.baseConfig = baseConfigAdapter.fromJson(reader);
+                    break;
+                case 7:
+                    value.build = stringAdapter.fromJson(reader);
+                    break;
+                case 8:
+                    value.client = stringAdapter.fromJson(reader);
+                    break;
+                case 9:
+                    value.collectsAutomatorLog = booleanAdapter.fromJson(reader);
+                    break;
+                case 10:
+                    value.consolidatedStatus = stringAdapter.fromJson(reader);
+                    break;
+                case 11:
+                    value.crashLogUrl = stringAdapter.fromJson(reader);
+                    break;
+                case 12:
+                    value.creationTime = longAdapter.fromJson(reader);
+                    break;
+                case 13:
+                    value.deviceDescriptor = deviceDescriptorAdapter.fromJson(reader);
+                    break;
+                case 14:
+                    value.deviceLogUrl = stringAdapter.fromJson(reader);
+                    break;
+                case 15:
+                    value.deviceName = stringAdapter.fromJson(reader);
+                    break;
+                case 16:
+                    value.deviceSessionId = objectAdapter.fromJson(reader);
+                    break;
+                case 17:
+                    value.deviceType = stringAdapter.fromJson(reader);
+                    break;
+                case 18:
+                    value.endTime = longAdapter.fromJson(reader);
+                    break;
+                case 19:
+                    value.error = objectAdapter.fromJson(reader);
+                    break;
+                case 20:
+                    value.frameworkLogUrl = stringAdapter.fromJson(reader);
+                    break;
+                case 21:
+                    value.id = stringAdapter.fromJson(reader);
+                    break;
+                case 22:
+                    value.junitLogUrl = objectAdapter.fromJson(reader);
+                    break;
+                case 23:
+                    value.manual = booleanAdapter.fromJson(reader);
+                    break;
+                case 24:
+                    value.modificationTime = longAdapter.fromJson(reader);
+                    break;
+                case 25:
+                    value.name = stringAdapter.fromJson(reader);
+                    break;
+                case 26:
+                    value.networkLogUrl = stringAdapter.fromJson(reader);
+                    break;
+                case 27:
+                    value.os = stringAdapter.fromJson(reader);
+                    break;
+                case 28:
+                    value.osVersion = stringAdapter.fromJson(reader);
+                    break;
+                case 29:
+                    value.ownerSauce = stringAdapter.fromJson(reader);
+                    break;
+                case 30:
+                    value.passed = booleanAdapter.fromJson(reader);
+                    break;
+                case 31:
+                    value.proxied = booleanAdapter.fromJson(reader);
+                    break;
+                case 32:
+                    value.recordScreenshots = booleanAdapter.fromJson(reader);
+                    break;
+                case 33:
+                    value.recordVideo = booleanAdapter.fromJson(reader);
+                    break;
+                case 34:
+                    value.remoteAppFileUrl = stringAdapter.fromJson(reader);
+                    break;
+                case 35:
+                    value.requestsUrl = stringAdapter.fromJson(reader);
+                    break;
+                case 36:
+                    value.screenshots = listOfObjectAdapter.fromJson(reader);
+                    break;
+                case 37:
+                    value.startTime = longAdapter.fromJson(reader);
+                    break;
+                case 38:
+                    value.status = stringAdapter.fromJson(reader);
+                    break;
+                case 39:
+                    value.tags = listOfObjectAdapter.fromJson(reader);
+                    break;
+                case 40:
+                    value.testCasesUrl = objectAdapter.fromJson(reader);
+                    break;
+                case 41:
+                    value.testReportType = stringAdapter.fromJson(reader);
+                    break;
+                case 42:
+                    value.testfairyLogUrl = stringAdapter.fromJson(reader);
+                    break;
+                case 43:
+                    value.usedCachedDevice = booleanAdapter.fromJson(reader);
+                    break;
+                case 44:
+                    value.videoUrl = stringAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, DeviceJob value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("appium_session_id");
+        stringAdapter.toJson(writer, value.appiumSessionId);
+        writer.name("appium_version");
+        stringAdapter.toJson(writer, value.appiumVersion);
+        writer.name("application_summary");
+        applicationSummaryAdapter.toJson(writer, value.applicationSummary);
+        writer.name("assigned_tunnel_id");
+        objectAdapter.toJson(writer, value.assignedTunnelId);
+        writer.name("automation_backend");
+        stringAdapter.toJson(writer, value.automationBackend);
+        writer.name("backtrace_url");
+        stringAdapter.toJson(writer, value.backtraceUrl);
+        writer.name("base_config");
+        baseConfigAdapter.toJson(writer, value.baseConfig);
+        writer.name("build");
+        stringAdapter.toJson(writer, value.build);
+        writer.name("client");
+        stringAdapter.toJson(writer, value.client);
+        writer.name("collects_automator_log");
+        booleanAdapter.toJson(writer, value.collectsAutomatorLog);
+        writer.name("consolidated_status");
+        stringAdapter.toJson(writer, value.consolidatedStatus);
+        writer.name("crash_log_url");
+        stringAdapter.toJson(writer, value.crashLogUrl);
+        writer.name("creation_time");
+        longAdapter.toJson(writer, value.creationTime);
+        writer.name("device_descriptor");
+        deviceDescriptorAdapter.toJson(writer, value.deviceDescriptor);
+        writer.name("device_log_url");
+        stringAdapter.toJson(writer, value.deviceLogUrl);
+        writer.name("device_name");
+        stringAdapter.toJson(writer, value.deviceName);
+        writer.name("device_session_id");
+        objectAdapter.toJson(writer, value.deviceSessionId);
+        writer.name("device_type");
+        stringAdapter.toJson(writer, value.deviceType);
+        writer.name("end_time");
+        longAdapter.toJson(writer, value.endTime);
+        writer.name("error");
+        objectAdapter.toJson(writer, value.error);
+        writer.name("framework_log_url");
+        stringAdapter.toJson(writer, value.frameworkLogUrl);
+        writer.name("id");
+        stringAdapter.toJson(writer, value.id);
+        writer.name("junit_log_url");
+        objectAdapter.toJson(writer, value.junitLogUrl);
+        writer.name("manual");
+        booleanAdapter.toJson(writer, value.manual);
+        writer.name("modification_time");
+        longAdapter.toJson(writer, value.modificationTime);
+        writer.name("name");
+        stringAdapter.toJson(writer, value.name);
+        writer.name("network_log_url");
+        stringAdapter.toJson(writer, value.networkLogUrl);
+        writer.name("os");
+        stringAdapter.toJson(writer, value.os);
+        writer.name("os_version");
+        stringAdapter.toJson(writer, value.osVersion);
+        writer.name("owner_sauce");
+        stringAdapter.toJson(writer, value.ownerSauce);
+        writer.name("passed");
+        booleanAdapter.toJson(writer, value.passed);
+        writer.name("proxied");
+        booleanAdapter.toJson(writer, value.proxied);
+        writer.name("record_screenshots");
+        booleanAdapter.toJson(writer, value.recordScreenshots);
+        writer.name("record_video");
+        booleanAdapter.toJson(writer, value.recordVideo);
+        writer.name("remote_app_file_url");
+        stringAdapter.toJson(writer, value.remoteAppFileUrl);
+        writer.name("requests_url");
+        stringAdapter.toJson(writer, value.requestsUrl);
+        writer.name("screenshots");
+        listOfObjectAdapter.toJson(writer, value.screenshots);
+        writer.name("start_time");
+        longAdapter.toJson(writer, value.startTime);
+        writer.name("status");
+        stringAdapter.toJson(writer, value.status);
+        writer.name("tags");
+        listOfObjectAdapter.toJson(writer, value.tags);
+        writer.name("test_cases_url");
+        objectAdapter.toJson(writer, value.testCasesUrl);
+        writer.name("test_report_type");
+        stringAdapter.toJson(writer, value.testReportType);
+        writer.name("testfairy_log_url");
+        stringAdapter.toJson(writer, value.testfairyLogUrl);
+        writer.name("used_cached_device");
+        booleanAdapter.toJson(writer, value.usedCachedDevice);
+        writer.name("video_url");
+        stringAdapter.toJson(writer, value.videoUrl);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(DeviceJob)";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.saucelabs.saucerest.model.realdevices;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+import com.squareup.moshi.Types;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Moshi adapter for {@link DeviceJobs}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class DeviceJobsJsonAdapter extends JsonAdapter<DeviceJobs> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "entities",
+        "metaData");
+
+    private final JsonAdapter<List<Entity>> listOfEntityAdapter;
+    private final JsonAdapter<MetaData> metaDataAdapter;
+
+    public DeviceJobsJsonAdapter(Moshi moshi) {
+        listOfEntityAdapter = moshi.adapter(Types.newParameterizedType(List.class, Entity.class));
+        metaDataAdapter = moshi.adapter(MetaData.class);
+    }
+
+    @Override
+    public DeviceJobs fromJson(JsonReader reader) throws IOException {
+        DeviceJobs value = new DeviceJobs();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.entities = listOfEntityAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.metaData = metaDataAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, DeviceJobs value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("entities");
+        listOfEntityAdapter.toJson(writer, value.entities);
+        writer.name("metaData");
+        metaDataAdapter.toJson(writer, value.metaData);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(DeviceJobs)";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,158 @@
+package com.saucelabs.saucerest.model.realdevices;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link Entity}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class EntityJsonAdapter extends JsonAdapter<Entity> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "assigned_tunnel_id",
+        "automation_backend",
+        "consolidated_status",
+        "creation_time",
+        "device_name",
+        "device_type",
+        "end_time",
+        "has_crashed",
+        "id",
+        "manual",
+        "name",
+        "os",
+        "os_version",
+        "owner_sauce",
+        "start_time",
+        "status",
+        "test_report_type");
+
+    private final JsonAdapter<Object> objectAdapter;
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<Long> longAdapter;
+    private final JsonAdapter<Boolean> booleanAdapter;
+
+    public EntityJsonAdapter(Moshi moshi) {
+        objectAdapter = moshi.adapter(Object.class);
+        stringAdapter = moshi.adapter(String.class);
+        longAdapter = moshi.adapter(Long.class);
+        booleanAdapter = moshi.adapter(Boolean.class);
+    }
+
+    @Override
+    public Entity fromJson(JsonReader reader) throws IOException {
+        Entity value = new Entity();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.assignedTunnelId = objectAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.automationBackend = stringAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.consolidatedStatus = stringAdapter.fromJson(reader);
+                    break;
+                case 3:
+                    value.creationTime = longAdapter.fromJson(reader);
+                    break;
+                case 4:
+                    value.deviceName = stringAdapter.fromJson(reader);
+                    break;
+                case 5:
+                    value.deviceType = stringAdapter.fromJson(reader);
+                    break;
+                case 6:
+                    value.endTime = longAdapter.fromJson(reader);
+                    break;
+                case 7:
+                    value.hasCrashed = booleanAdapter.fromJson(reader);
+                    break;
+                case 8:
+                    value.id = stringAdapter.fromJson(reader);
+                    break;
+                case 9:
+                    value.manual = booleanAdapter.fromJson(reader);
+                    break;
+                case 10:
+                    value.name = stringAdapter.fromJson(reader);
+                    break;
+                case 11:
+                    value.os = stringAdapter.fromJson(reader);
+                    break;
+                case 12:
+                    value.osVersion = stringAdapter.fromJson(reader);
+                    break;
+                case 13:
+                    value.ownerSauce = stringAdapter.fromJson(reader);
+                    break;
+                case 14:
+                    value.startTime = longAdapter.fromJson(reader);
+                    break;
+                case 15:
+                    value.status = stringAdapter.fromJson(reader);
+                    break;
+                case 16:
+                    value.testReportType = stringAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, Entity value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("assigned_tunnel_id");
+        objectAdapter.toJson(writer, value.assignedTunnelId);
+        writer.name("automation_backend");
+        stringAdapter.toJson(writer, value.automationBackend);
+        writer.name("consolidated_status");
+        stringAdapter.toJson(writer, value.consolidatedStatus);
+        writer.name("creation_time");
+        longAdapter.toJson(writer, value.creationTime);
+        writer.name("device_name");
+        stringAdapter.toJson(writer, value.deviceName);
+        writer.name("device_type");
+        stringAdapter.toJson(writer, value.deviceType);
+        writer.name("end_time");
+        longAdapter.toJson(writer, value.endTime);
+        writer.name("has_crashed");
+        booleanAdapter.toJson(writer, value.hasCrashed);
+        writer.name("id");
+        stringAdapter.toJson(writer, value.id);
+        writer.name("manual");
+        booleanAdapter.toJson(writer, value.manual);
+        writer.name("name");
+        stringAdapter.toJson(writer, value.name);
+        writer.name("os");
+        stringAdapter.toJson(writer, value.os);
+        writer.name("os_version");
+        stringAdapter.toJson(writer, value.osVersion);
+        writer.name("owner_sauce");
+        stringAdapter.toJson(writer, value.ownerSauce);
+        writer.name("start_time");
+        longAdapter.toJson(writer, value.startTime);
+        writer.name("status");
+        stringAdapter.toJson(writer, value.status);
+        writer.name("test_report_type");
+        stringAdapter.toJson(writer, value.testReportType);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(Entity)";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.saucelabs.saucerest.model.realdevices;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link MetaData}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class MetaDataJsonAdapter extends JsonAdapter<MetaData> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "limit",
+        "moreAvailable",
+        "offset",
+        "sortDirection");
+
+    private final JsonAdapter<Integer> integerAdapter;
+    private final JsonAdapter<Boolean> booleanAdapter;
+    private final JsonAdapter<String> stringAdapter;
+
+    public MetaDataJsonAdapter(Moshi moshi) {
+        integerAdapter = moshi.adapter(Integer.class);
+        booleanAdapter = moshi.adapter(Boolean.class);
+        stringAdapter = moshi.adapter(String.class);
+    }
+
+    @Override
+    public MetaData fromJson(JsonReader reader) throws IOException {
+        MetaData value = new MetaData();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.limit = integerAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.moreAvailable = booleanAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.offset = integerAdapter.fromJson(reader);
+                    break;
+                case 3:
+                    value.sortDirection = stringAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, MetaData value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("limit");
+        integerAdapter.toJson(writer, value.limit);
+        writer.name("moreAvailable");
+        booleanAdapter.toJson(writer, value.moreAvailable);
+        writer.name("offset");
+        integerAdapter.toJson(writer, value.offset);
+        writer.name("sortDirection");
+        stringAdapter.toJson(writer, value.sortDirection);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(MetaData)";
+    }
+}
\ No newline at end of file
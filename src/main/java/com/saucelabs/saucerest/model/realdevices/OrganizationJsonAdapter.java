@@ -0,0 +1,62 @@
+package com.saucelabs.saucerest.model.realdevices;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link Organization}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class OrganizationJsonAdapter extends JsonAdapter<Organization> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "current",
+        "maximum");
+
+    private final JsonAdapter<Integer> integerAdapter;
+
+    public OrganizationJsonAdapter(Moshi moshi) {
+        integerAdapter = moshi.adapter(Integer.class);
+    }
+
+    @Override
+    public Organization fromJson(JsonReader reader) throws IOException {
+        Organization value = new Organization();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.current = integerAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.maximum = integerAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, Organization value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("current");
+        integerAdapter.toJson(writer, value.current);
+        writer.name("maximum");
+        integerAdapter.toJson(writer, value.maximum);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(Organization)";
+    }
+}
\ No newline at end of file
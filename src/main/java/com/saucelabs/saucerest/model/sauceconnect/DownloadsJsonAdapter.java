@@ -0,0 +1,80 @@
+package com.saucelabs.saucerest.model.sauceconnect;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link Downloads}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class DownloadsJsonAdapter extends JsonAdapter<Downloads> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "linux",
+        "linux-arm64",
+        "osx",
+        "win32");
+
+    private final JsonAdapter<Linux> linuxAdapter;
+    private final JsonAdapter<LinuxArm64> linuxArm64Adapter;
+    private final JsonAdapter<Osx> osxAdapter;
+    private final JsonAdapter<Win32> win32Adapter;
+
+    public DownloadsJsonAdapter(Moshi moshi) {
+        linuxAdapter = moshi.adapter(Linux.class);
+        linuxArm64Adapter = moshi.adapter(LinuxArm64.class);
+        osxAdapter = moshi.adapter(Osx.class);
+        win32Adapter = moshi.adapter(Win32.class);
+    }
+
+    @Override
+    public Downloads fromJson(JsonReader reader) throws IOException {
+        Downloads value = new Downloads();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.linux = linuxAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.linuxArm64 = linuxArm64Adapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.osx = osxAdapter.fromJson(reader);
+                    break;
+                case 3:
+                    value.win32 = win32Adapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, Downloads value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("linux");
+        linuxAdapter.toJson(writer, value.linux);
+        writer.name("linux-arm64");
+        linuxArm64Adapter.toJson(writer, value.linuxArm64);
+        writer.name("osx");
+        osxAdapter.toJson(writer, value.osx);
+        writer.name("win32");
+        win32Adapter.toJson(writer, value.win32);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(Downloads)";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.saucelabs.saucerest.model.sauceconnect;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link Instance}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class InstanceJsonAdapter extends JsonAdapter<Instance> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "allocation_prefix",
+        "instance_id",
+        "status");
+
+    private final JsonAdapter<String> stringAdapter;
+
+    public InstanceJsonAdapter(Moshi moshi) {
+        stringAdapter = moshi.adapter(String.class);
+    }
+
+    @Override
+    public Instance fromJson(JsonReader reader) throws IOException {
+        Instance value = new Instance();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.allocationPrefix = stringAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.instanceId = stringAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.status = stringAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, Instance value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("allocation_prefix");
+        stringAdapter.toJson(writer, value.allocationPrefix);
+        writer.name("instance_id");
+        stringAdapter.toJson(writer, value.instanceId);
+        writer.name("status");
+        stringAdapter.toJson(writer, value.status);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(Instance)";
+    }
+}
\ No newline at end of file
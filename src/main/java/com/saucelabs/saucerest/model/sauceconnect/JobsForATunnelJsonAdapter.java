@@ -0,0 +1,64 @@
+package com.saucelabs.saucerest.model.sauceconnect;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link JobsForATunnel}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class JobsForATunnelJsonAdapter extends JsonAdapter<JobsForATunnel> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "id",
+        "jobs_running");
+
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<Integer> integerAdapter;
+
+    public JobsForATunnelJsonAdapter(Moshi moshi) {
+        stringAdapter = moshi.adapter(String.class);
+        integerAdapter = moshi.adapter(Integer.class);
+    }
+
+    @Override
+    public JobsForATunnel fromJson(JsonReader reader) throws IOException {
+        JobsForATunnel value = new JobsForATunnel();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.id = stringAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.jobsRunning = integerAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, JobsForATunnel value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("id");
+        stringAdapter.toJson(writer, value.id);
+        writer.name("jobs_running");
+        integerAdapter.toJson(writer, value.jobsRunning);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(JobsForATunnel)";
+    }
+}
\ No newline at end of file
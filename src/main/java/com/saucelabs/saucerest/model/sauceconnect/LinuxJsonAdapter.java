@@ -0,0 +1,62 @@
+package com.saucelabs.saucerest.model.sauceconnect;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link Linux}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class LinuxJsonAdapter extends JsonAdapter<Linux> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "download_url",
+        "sha1");
+
+    private final JsonAdapter<String> stringAdapter;
+
+    public LinuxJsonAdapter(Moshi moshi) {
+        stringAdapter = moshi.adapter(String.class);
+    }
+
+    @Override
+    public Linux fromJson(JsonReader reader) throws IOException {
+        Linux value = new Linux();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.downloadUrl = stringAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.sha1 = stringAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, Linux value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("download_url");
+        stringAdapter.toJson(writer, value.downloadUrl);
+        writer.name("sha1");
+        stringAdapter.toJson(writer, value.sha1);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(Linux)";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,120 @@
+package com.saucelabs.saucerest.model.sauceconnect;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link Metadata}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class MetadataJsonAdapter extends JsonAdapter<Metadata> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "build",
+        "command",
+        "command_args",
+        "external_proxy",
+        "git_version",
+        "host_cpu",
+        "host_memory",
+        "hostname",
+        "nofile_limit",
+        "platform",
+        "release");
+
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<Long> longAdapter;
+    private final JsonAdapter<Integer> integerAdapter;
+
+    public MetadataJsonAdapter(Moshi moshi) {
+        stringAdapter = moshi.adapter(String.class);
+        longAdapter = moshi.adapter(Long.class);
+        integerAdapter = moshi.adapter(Integer.class);
+    }
+
+    @Override
+    public Metadata fromJson(JsonReader reader) throws IOException {
+        Metadata value = new Metadata();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.build = stringAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.command = stringAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.commandArgs = stringAdapter.fromJson(reader);
+                    break;
+                case 3:
+                    value.externalProxy = stringAdapter.fromJson(reader);
+                    break;
+                case 4:
+                    value.gitVersion = stringAdapter.fromJson(reader);
+                    break;
+                case 5:
+                    value.hostCpu = stringAdapter.fromJson(reader);
+                    break;
+                case 6:
+                    value.hostMemory = longAdapter.fromJson(reader);
+                    break;
+                case 7:
+                    value.hostname = stringAdapter.fromJson(reader);
+                    break;
+                case 8:
+                    value.nofileLimit = integerAdapter.fromJson(reader);
+                    break;
+                case 9:
+                    value.platform = stringAdapter.fromJson(reader);
+                    break;
+                case 10:
+                    value.release = stringAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, Metadata value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("build");
+        stringAdapter.toJson(writer, value.build);
+        writer.name("command");
+        stringAdapter.toJson(writer, value.command);
+        writer.name("command_args");
+        stringAdapter.toJson(writer, value.commandArgs);
+        writer.name("external_proxy");
+        stringAdapter.toJson(writer, value.externalProxy);
+        writer.name("git_version");
+        stringAdapter.toJson(writer, value.gitVersion);
+        writer.name("host_cpu");
+        stringAdapter.toJson(writer, value.hostCpu);
+        writer.name("host_memory");
+        longAdapter.toJson(writer, value.hostMemory);
+        writer.name("hostname");
+        stringAdapter.toJson(writer, value.hostname);
+        writer.name("nofile_limit");
+        integerAdapter.toJson(writer, value.nofileLimit);
+        writer.name("platform");
+        stringAdapter.toJson(writer, value.platform);
+        writer.name("release");
+        stringAdapter.toJson(writer, value.release);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(Metadata)";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.saucelabs.saucerest.model.sauceconnect;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link StopTunnel}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class StopTunnelJsonAdapter extends JsonAdapter<StopTunnel> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "id",
+        "jobs_running",
+        "result");
+
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<Integer> integerAdapter;
+    private final JsonAdapter<Boolean> booleanAdapter;
+
+    public StopTunnelJsonAdapter(Moshi moshi) {
+        stringAdapter = moshi.adapter(String.class);
+        integerAdapter = moshi.adapter(Integer.class);
+        booleanAdapter = moshi.adapter(Boolean.class);
+    }
+
+    @Override
+    public StopTunnel fromJson(JsonReader reader) throws IOException {
+        StopTunnel value = new StopTunnel();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.id = stringAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.jobsRunning = integerAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.result = booleanAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, StopTunnel value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("id");
+        stringAdapter.toJson(writer, value.id);
+        writer.name("jobs_running");
+        integerAdapter.toJson(writer, value.jobsRunning);
+        writer.name("result");
+        booleanAdapter.toJson(writer, value.result);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(StopTunnel)";
+    }
+}
\ No newline at end of file
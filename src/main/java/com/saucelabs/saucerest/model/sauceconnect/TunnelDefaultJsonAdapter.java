@@ -0,0 +1,57 @@
+package com.saucelabs.saucerest.model.sauceconnect;
+
+import com.saucelabs.saucerest.model.storage.Item;
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link TunnelDefault}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class TunnelDefaultJsonAdapter extends JsonAdapter<TunnelDefault> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "item");
+
+    private final JsonAdapter<Item> itemAdapter;
+
+    public TunnelDefaultJsonAdapter(Moshi moshi) {
+        itemAdapter = moshi.adapter(Item.class);
+    }
+
+    @Override
+    public TunnelDefault fromJson(JsonReader reader) throws IOException {
+        TunnelDefault value = new TunnelDefault();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.item = itemAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, TunnelDefault value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("item");
+        itemAdapter.toJson(writer, value.item);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(TunnelDefault)";
+    }
+}
\ No newline at end of file
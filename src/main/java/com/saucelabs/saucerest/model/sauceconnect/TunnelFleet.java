@@ -0,0 +1,206 @@
+package com.saucelabs.saucerest.model.sauceconnect;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Snapshot of all running tunnels of a user with their information and number of running jobs.
+ */
+public class TunnelFleet {
+    private final Instant takenAt;
+    private final Map<String, Tunnel> tunnels;
+    private final Map<String, IOException> failures;
+    private final Map<String, Tunnel> lastKnown;
+
+    /**
+     * @param takenAt  When the tunnel list was requested
+     * @param tunnels  Tunnels by ID
+     * @param failures Tunnels whose information or job count could not be requested, by ID
+     */
+    public TunnelFleet(Instant takenAt, Map<String, Tunnel> tunnels, Map<String, IOException> failures) {
+        this(takenAt, tunnels, failures, Collections.emptyMap());
+    }
+
+    private TunnelFleet(Instant takenAt, Map<String, Tunnel> tunnels, Map<String, IOException> failures, Map<String, Tunnel> lastKnown) {
+        this.takenAt = takenAt;
+        this.tunnels = Collections.unmodifiableMap(new LinkedHashMap<>(tunnels));
+        this.failures = Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+        this.lastKnown = Collections.unmodifiableMap(new LinkedHashMap<>(lastKnown));
+    }
+
+    public Instant getTakenAt() {
+        return takenAt;
+    }
+
+    /**
+     * @return Tunnels by ID, in the order of the tunnel list
+     */
+    public Map<String, Tunnel> getTunnels() {
+        return tunnels;
+    }
+
+    /**
+     * @return Tunnels that were listed but whose details could not be requested, e.g. because they were just stopped
+     */
+    public Map<String, IOException> getFailures() {
+        return failures;
+    }
+
+    /**
+     * @return Sum of the running jobs of all tunnels
+     */
+    public int getJobsRunning() {
+        int jobs = 0;
+        for (Tunnel tunnel : tunnels.values()) {
+            jobs += tunnel.getJobsRunning();
+        }
+        return jobs;
+    }
+
+    /**
+     * Compares this snapshot with an earlier one. A tunnel that failed in this snapshot is not reported, as its state
+     * is not known. Its last known state is kept in {@link Changes#getFleet()}, so comparing the next snapshot with
+     * that fleet reports the tunnel once it is known again, as added, removed or changed.
+     *
+     * @param previous The earlier snapshot, preferably {@link Changes#getFleet()} of the previous comparison, or null
+     *                 to report all tunnels as added
+     * @return Tunnels added, removed and changed since the earlier snapshot
+     */
+    public Changes changesSince(TunnelFleet previous) {
+        Map<String, Tunnel> before = new LinkedHashMap<>();
+        if (previous != null) {
+            before.putAll(previous.lastKnown);
+            before.putAll(previous.tunnels);
+        }
+        List<Tunnel> added = new ArrayList<>();
+        List<Tunnel> removed = new ArrayList<>();
+        List<Tunnel> changed = new ArrayList<>();
+        Map<String, Tunnel> stillKnown = new LinkedHashMap<>();
+
+        for (Tunnel tunnel : tunnels.values()) {
+            Tunnel earlier = before.get(tunnel.getId());
+            if (earlier == null) {
+                added.add(tunnel);
+            } else if (tunnel.isChanged(earlier)) {
+                changed.add(tunnel);
+            }
+        }
+        for (Tunnel tunnel : before.values()) {
+            if (failures.containsKey(tunnel.getId())) {
+                stillKnown.put(tunnel.getId(), tunnel);
+            } else if (!tunnels.containsKey(tunnel.getId())) {
+                removed.add(tunnel);
+            }
+        }
+        return new Changes(new TunnelFleet(takenAt, tunnels, failures, stillKnown), added, removed, changed);
+    }
+
+    /**
+     * One tunnel of the fleet.
+     */
+    public static final class Tunnel {
+        private final TunnelInformation information;
+        private final int jobsRunning;
+
+        public Tunnel(TunnelInformation information, int jobsRunning) {
+            this.information = Objects.requireNonNull(information, "Tunnel information cannot be null");
+            this.jobsRunning = jobsRunning;
+        }
+
+        public String getId() {
+            return information.id;
+        }
+
+        public TunnelInformation getInformation() {
+            return information;
+        }
+
+        public int getJobsRunning() {
+            return jobsRunning;
+        }
+
+        /**
+         * @return true if no jobs are running through the tunnel
+         */
+        public boolean isIdle() {
+            return jobsRunning == 0;
+        }
+
+        /**
+         * @param now The current time
+         * @return Time since the tunnel was created, or null if its creation time is not known
+         */
+        public Duration getAge(Instant now) {
+            Integer creationTime = information.creationTime != null ? information.creationTime : information.launchTime;
+            return creationTime == null ? null : Duration.between(Instant.ofEpochSecond(creationTime), now);
+        }
+
+        /**
+         * @return true if the status, readiness, identifier or number of running jobs differ
+         */
+        private boolean isChanged(Tunnel earlier) {
+            return jobsRunning != earlier.jobsRunning
+                || !Objects.equals(information.status, earlier.information.status)
+                || !Objects.equals(information.isReady, earlier.information.isReady)
+                || !Objects.equals(information.tunnelIdentifier, earlier.information.tunnelIdentifier);
+        }
+
+        @Override
+        public String toString() {
+            return information.id + " (" + information.tunnelIdentifier + ", " + information.status + ", " + jobsRunning + " jobs)";
+        }
+    }
+
+    /**
+     * Difference between two snapshots of a fleet.
+     */
+    public static final class Changes {
+        private final TunnelFleet fleet;
+        private final List<Tunnel> added;
+        private final List<Tunnel> removed;
+        private final List<Tunnel> changed;
+
+        private Changes(TunnelFleet fleet, List<Tunnel> added, List<Tunnel> removed, List<Tunnel> changed) {
+            this.fleet = fleet;
+            this.added = Collections.unmodifiableList(added);
+            this.removed = Collections.unmodifiableList(removed);
+            this.changed = Collections.unmodifiableList(changed);
+        }
+
+        /**
+         * @return The newer snapshot, remembering the last known state of its failed tunnels for the next comparison
+         */
+        public TunnelFleet getFleet() {
+            return fleet;
+        }
+
+        public List<Tunnel> getAdded() {
+            return added;
+        }
+
+        /**
+         * @return Removed tunnels as seen in the earlier snapshot
+         */
+        public List<Tunnel> getRemoved() {
+            return removed;
+        }
+
+        /**
+         * @return Changed tunnels as seen in the newer snapshot
+         */
+        public List<Tunnel> getChanged() {
+            return changed;
+        }
+
+        public boolean isEmpty() {
+            return added.isEmpty() && removed.isEmpty() && changed.isEmpty();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,264 @@
+package com.saucelabs.saucerest.model.sauceconnect;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+import com.squareup.moshi.Types;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Moshi adapter for {@link TunnelInformation}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class TunnelInformationJsonAdapter extends JsonAdapter<TunnelInformation> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "allocation_type",
+        "backend",
+        "build",
+        "creation_time",
+        "direct_domains",
+        "domain_names",
+        "extra_info",
+        "host",
+        "id",
+        "instance",
+        "instances",
+        "internal_address",
+        "ip_address",
+        "is_ready",
+        "last_connected",
+        "launch_time",
+        "metadata",
+        "no_proxy_caching",
+        "no_ssl_bump_domains",
+        "org_id",
+        "owner",
+        "shared_tunnel",
+        "shutdown_reason",
+        "shutdown_time",
+        "ssh_port",
+        "status",
+        "tags",
+        "team_ids",
+        "tunnel_identifier",
+        "use_caching_proxy",
+        "use_kgp",
+        "user_shutdown",
+        "vm_version");
+
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<Integer> integerAdapter;
+    private final JsonAdapter<Object> objectAdapter;
+    private final JsonAdapter<List<Instance>> listOfInstanceAdapter;
+    private final JsonAdapter<Boolean> booleanAdapter;
+    private final JsonAdapter<Metadata> metadataAdapter;
+    private final JsonAdapter<Tags> tagsAdapter;
+    private final JsonAdapter<List<String>> listOfStringAdapter;
+
+    public TunnelInformationJsonAdapter(Moshi moshi) {
+        stringAdapter = moshi.adapter(String.class);
+        integerAdapter = moshi.adapter(Integer.class);
+        objectAdapter = moshi.adapter(Object.class);
+        listOfInstanceAdapter = moshi.adapter(Types.newParameterizedType(List.class, Instance.class));
+        booleanAdapter = moshi.adapter(Boolean.class);
+        metadataAdapter = moshi.adapter(Metadata.class);
+        tagsAdapter = moshi.adapter(Tags.class);
+        listOfStringAdapter = moshi.adapter(Types.newParameterizedType(List.class, String.class));
+    }
+
+    @Override
+    public TunnelInformation fromJson(JsonReader reader) throws IOException {
+        TunnelInformation value = new TunnelInformation();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.allocationType = stringAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.backend = stringAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.build = integerAdapter.fromJson(reader);
+                    break;
+                case 3:
+                    value.creationTime = integerAdapter.fromJson(reader);
+                    break;
+                case 4:
+                    value.directDomains = objectAdapter.fromJson(reader);
+                    break;
+                case 5:
+                    value.domainNames = objectAdapter.fromJson(reader);
+                    break;
+                case 6:
+                    value.extraInfo = stringAdapter.fromJson(reader);
+                    break;
+                case 7:
+                    value.host = stringAdapter.fromJson(reader);
+                    break;
+                case 8:
+                    value.id = stringAdapter.fromJson(reader);
+                    break;
+                case 9:
+                    value.instance = stringAdapter.fromJson(reader);
+                    break;
+                case 10:
+                    value.instances = listOfInstanceAdapter.fromJson(reader);
+                    break;
+                case 11:
+                    value.internalAddress = stringAdapter.fromJson(reader);
+                    break;
+                case 12:
+                    value.ipAddress = objectAdapter.fromJson(reader);
+                    break;
+                case 13:
+                    value.isReady = booleanAdapter.fromJson(reader);
+                    break;
+                case 14:
+                    value.lastConnected = integerAdapter.fromJson(reader);
+                    break;
+                case 15:
+                    value.launchTime = integerAdapter.fromJson(reader);
+                    break;
+                case 16:
+                    value.metadata = metadataAdapter.fromJson(reader);
+                    break;
+                case 17:
+                    value.noProxyCaching = booleanAdapter.fromJson(reader);
+                    break;
+                case 18:
+                    value.noSslBumpDomains = objectAdapter.fromJson(reader);
+                    break;
+                case 19:
+                    value.orgId = stringAdapter.fromJson(reader);
+                    break;
+                case 20:
+                    value.owner = stringAdapter.fromJson(reader);
+                    break;
+                case 21:
+                    value.sharedTunnel = booleanAdapter.fromJson(reader);
+                    break;
+                case 22:
+                    value.shutdownReason = objectAdapter.fromJson(reader);
+                    break;
+                case 23:
+                    value.shutdownTime = objectAdapter.fromJson(reader);
+                    break;
+                case 24:
+                    value.sshPort = integerAdapter.fromJson(reader);
+                    break;
+                case 25:
+                    value.status = stringAdapter.fromJson(reader);
+                    break;
+                case 26:
+                    value.tags = tagsAdapter.fromJson(reader);
+                    break;
+                case 27:
+                    value.teamIds = listOfStringAdapter.fromJson(reader);
+                    break;
+                case 28:
+                    value.tunnelIdentifier = stringAdapter.fromJson(reader);
+                    break;
+                case 29:
+                    value.useCachingProxy = objectAdapter.fromJson(reader);
+                    break;
+                case 30:
+                    value.useKgp = booleanAdapter.fromJson(reader);
+                    break;
+                case 31:
+                    value.userShutdown = objectAdapter.fromJson(reader);
+                    break;
+                case 32:
+                    value.vmVersion = objectAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, TunnelInformation value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("allocation_type");
+        stringAdapter.toJson(writer, value.allocationType);
+        writer.name("backend");
+        stringAdapter.toJson(writer, value.backend);
+        writer.name("build");
+        integerAdapter.toJson(writer, value.build);
+        writer.name("creation_time");
+        integerAdapter.toJson(writer, value.creationTime);
+        writer.name("direct_domains");
+        objectAdapter.toJson(writer, value.directDomains);
+        writer.name("domain_names");
+        objectAdapter.toJson(writer, value.domainNames);
+        writer.name("extra_info");
+        stringAdapter.toJson(writer, value.extraInfo);
+        writer.name("host");
+        stringAdapter.toJson(writer, value.host);
+        writer.name("id");
+        stringAdapter.toJson(writer, value.id);
+        writer.name("instance");
+        stringAdapter.toJson(writer, value.instance);
+        writer.name("instances");
+        listOfInstanceAdapter.toJson(writer, value.instances);
+        writer.name("internal_address");
+        stringAdapter.toJson(writer, value.internalAddress);
+        writer.name("ip_address");
+        objectAdapter.toJson(writer, value.ipAddress);
+        writer.name("is_ready");
+        booleanAdapter.toJson(writer, value.isReady);
+        writer.name("last_connected");
+        integerAdapter.toJson(writer, value.lastConnected);
+        writer.name("launch_time");
+        integerAdapter.toJson(writer, value.launchTime);
+        writer.name("metadata");
+        metadataAdapter.toJson(writer, value.metadata);
+        writer.name("no_proxy_caching");
+        booleanAdapter.toJson(writer, value.noProxyCaching);
+        writer.name("no_ssl_bump_domains");
+        objectAdapter.toJson(writer, value.noSslBumpDomains);
+        writer.name("org_id");
+        stringAdapter.toJson(writer, value.orgId);
+        writer.name("owner");
+        stringAdapter.toJson(writer, value.owner);
+        writer.name("shared_tunnel");
+        booleanAdapter.toJson(writer, value.sharedTunnel);
+        writer.name("shutdown_reason");
+        objectAdapter.toJson(writer, value.shutdownReason);
+        writer.name("shutdown_time");
+        objectAdapter.toJson(writer, value.shutdownTime);
+        writer.name("ssh_port");
+        integerAdapter.toJson(writer, value.sshPort);
+        writer.name("status");
+        stringAdapter.toJson(writer, value.status);
+        writer.name("tags");
+        tagsAdapter.toJson(writer, value.tags);
+        writer.name("team_ids");
+        listOfStringAdapter.toJson(writer, value.teamIds);
+        writer.name("tunnel_identifier");
+        stringAdapter.toJson(writer, value.tunnelIdentifier);
+        writer.name("use_caching_proxy");
+        objectAdapter.toJson(writer, value.useCachingProxy);
+        writer.name("use_kgp");
+        booleanAdapter.toJson(writer, value.useKgp);
+        writer.name("user_shutdown");
+        objectAdapter.toJson(writer, value.userShutdown);
+        writer.name("vm_version");
+        objectAdapter.toJson(writer, value.vmVersion);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(TunnelInformation)";
+    }
+}
\ No newline at end of file
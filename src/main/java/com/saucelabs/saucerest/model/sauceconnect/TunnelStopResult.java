@@ -0,0 +1,75 @@
+package com.saucelabs.saucerest.model.sauceconnect;
+
+import java.io.IOException;
+
+/**
+ * Outcome of one tunnel in a bulk stop of tunnels.
+ */
+public class TunnelStopResult {
+    private final String tunnelID;
+    private final TunnelFleet.Tunnel tunnel;
+    private final Outcome outcome;
+    private final StopTunnel response;
+    private final IOException failure;
+
+    public TunnelStopResult(String tunnelID, TunnelFleet.Tunnel tunnel, Outcome outcome, StopTunnel response, IOException failure) {
+        this.tunnelID = tunnelID;
+        this.tunnel = tunnel;
+        this.outcome = outcome;
+        this.response = response;
+        this.failure = failure;
+    }
+
+    public String getTunnelID() {
+        return tunnelID;
+    }
+
+    /**
+     * @return The tunnel as checked before stopping it, or null if it could not be checked
+     */
+    public TunnelFleet.Tunnel getTunnel() {
+        return tunnel;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * @return Response of the stop request, or null if no stop request was answered
+     */
+    public StopTunnel getResponse() {
+        return response;
+    }
+
+    /**
+     * @return The reason the tunnel could not be checked or stopped, or null
+     */
+    public IOException getFailure() {
+        return failure;
+    }
+
+    @Override
+    public String toString() {
+        return tunnelID + ": " + outcome + (failure == null ? "" : " (" + failure.getMessage() + ")");
+    }
+
+    public enum Outcome {
+        /**
+         * The tunnel matched and the stop request returned {@code result: true}.
+         */
+        STOPPED,
+        /**
+         * The tunnel matched and would have been stopped, but this was a dry run.
+         */
+        WOULD_STOP,
+        /**
+         * The tunnel did not match and was left running.
+         */
+        SKIPPED,
+        /**
+         * The tunnel could not be checked, the stop request failed or it did not return {@code result: true}.
+         */
+        FAILED
+    }
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.saucelabs.saucerest.model.sauceconnect;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+import com.squareup.moshi.Types;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Moshi adapter for {@link Versions}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class VersionsJsonAdapter extends JsonAdapter<Versions> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "downloads",
+        "info_url",
+        "latest_version",
+        "warning");
+
+    private final JsonAdapter<Downloads> downloadsAdapter;
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<List<String>> listOfStringAdapter;
+
+    public VersionsJsonAdapter(Moshi moshi) {
+        downloadsAdapter = moshi.adapter(Downloads.class);
+        stringAdapter = moshi.adapter(String.class);
+        listOfStringAdapter = moshi.adapter(Types.newParameterizedType(List.class, String.class));
+    }
+
+    @Override
+    public Versions fromJson(JsonReader reader) throws IOException {
+        Versions value = new Versions();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.downloads = downloadsAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.infoUrl = stringAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.latestVersion = stringAdapter.fromJson(reader);
+                    break;
+                case 3:
+                    value.warning = listOfStringAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, Versions value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("downloads");
+        downloadsAdapter.toJson(writer, value.downloads);
+        writer.name("info_url");
+        stringAdapter.toJson(writer, value.infoUrl);
+        writer.name("latest_version");
+        stringAdapter.toJson(writer, value.latestVersion);
+        writer.name("warning");
+        listOfStringAdapter.toJson(writer, value.warning);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(Versions)";
+    }
+}
\ No newline at end of file
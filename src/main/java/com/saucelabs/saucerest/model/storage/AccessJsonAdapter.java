@@ -0,0 +1,64 @@
+package com.saucelabs.saucerest.model.storage;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+import com.squareup.moshi.Types;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Moshi adapter for {@link Access}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class AccessJsonAdapter extends JsonAdapter<Access> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "org_ids",
+        "team_ids");
+
+    private final JsonAdapter<List<String>> listOfStringAdapter;
+
+    public AccessJsonAdapter(Moshi moshi) {
+        listOfStringAdapter = moshi.adapter(Types.newParameterizedType(List.class, String.class));
+    }
+
+    @Override
+    public Access fromJson(JsonReader reader) throws IOException {
+        Access value = new Access();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.orgIds = listOfStringAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.teamIds = listOfStringAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, Access value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("org_ids");
+        listOfStringAdapter.toJson(writer, value.orgIds);
+        writer.name("team_ids");
+        listOfStringAdapter.toJson(writer, value.teamIds);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(Access)";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.saucelabs.saucerest.model.storage;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link DeleteAppFile}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class DeleteAppFileJsonAdapter extends JsonAdapter<DeleteAppFile> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "item");
+
+    private final JsonAdapter<Item> itemAdapter;
+
+    public DeleteAppFileJsonAdapter(Moshi moshi) {
+        itemAdapter = moshi.adapter(Item.class);
+    }
+
+    @Override
+    public DeleteAppFile fromJson(JsonReader reader) throws IOException {
+        DeleteAppFile value = new DeleteAppFile();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.item = itemAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, DeleteAppFile value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("item");
+        itemAdapter.toJson(writer, value.item);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(DeleteAppFile)";
+    }
+}
\ No newline at end of file
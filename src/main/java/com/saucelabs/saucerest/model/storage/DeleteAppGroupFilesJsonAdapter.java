@@ -0,0 +1,56 @@
+package com.saucelabs.saucerest.model.storage;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link DeleteAppGroupFiles}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class DeleteAppGroupFilesJsonAdapter extends JsonAdapter<DeleteAppGroupFiles> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "item");
+
+    private final JsonAdapter<ItemInteger> itemIntegerAdapter;
+
+    public DeleteAppGroupFilesJsonAdapter(Moshi moshi) {
+        itemIntegerAdapter = moshi.adapter(ItemInteger.class);
+    }
+
+    @Override
+    public DeleteAppGroupFiles fromJson(JsonReader reader) throws IOException {
+        DeleteAppGroupFiles value = new DeleteAppGroupFiles();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.item = itemIntegerAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, DeleteAppGroupFiles value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("item");
+        itemIntegerAdapter.toJson(writer, value.item);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(DeleteAppGroupFiles)";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.saucelabs.saucerest.model.storage;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link EditFileDescription}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class EditFileDescriptionJsonAdapter extends JsonAdapter<EditFileDescription> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "changed",
+        "item");
+
+    private final JsonAdapter<Boolean> booleanAdapter;
+    private final JsonAdapter<Item> itemAdapter;
+
+    public EditFileDescriptionJsonAdapter(Moshi moshi) {
+        booleanAdapter = moshi.adapter(Boolean.class);
+        itemAdapter = moshi.adapter(Item.class);
+    }
+
+    @Override
+    public EditFileDescription fromJson(JsonReader reader) throws IOException {
+        EditFileDescription value = new EditFileDescription();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.changed = booleanAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.item = itemAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, EditFileDescription value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("changed");
+        booleanAdapter.toJson(writer, value.changed);
+        writer.name("item");
+        itemAdapter.toJson(writer, value.item);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(EditFileDescription)";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,86 @@
+package com.saucelabs.saucerest.model.storage;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+import com.squareup.moshi.Types;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Moshi adapter for {@link GetAppFiles}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class GetAppFilesJsonAdapter extends JsonAdapter<GetAppFiles> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "items",
+        "links",
+        "page",
+        "per_page",
+        "total_items");
+
+    private final JsonAdapter<List<Item>> listOfItemAdapter;
+    private final JsonAdapter<Links> linksAdapter;
+    private final JsonAdapter<Integer> integerAdapter;
+
+    public GetAppFilesJsonAdapter(Moshi moshi) {
+        listOfItemAdapter = moshi.adapter(Types.newParameterizedType(List.class, Item.class));
+        linksAdapter = moshi.adapter(Links.class);
+        integerAdapter = moshi.adapter(Integer.class);
+    }
+
+    @Override
+    public GetAppFiles fromJson(JsonReader reader) throws IOException {
+        GetAppFiles value = new GetAppFiles();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.items = listOfItemAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.links = linksAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.page = integerAdapter.fromJson(reader);
+                    break;
+                case 3:
+                    value.perPage = integerAdapter.fromJson(reader);
+                    break;
+                case 4:
+                    value.totalItems = integerAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, GetAppFiles value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("items");
+        listOfItemAdapter.toJson(writer, value.items);
+        writer.name("links");
+        linksAdapter.toJson(writer, value.links);
+        writer.name("page");
+        integerAdapter.toJson(writer, value.page);
+        writer.name("per_page");
+        integerAdapter.toJson(writer, value.perPage);
+        writer.name("total_items");
+        integerAdapter.toJson(writer, value.totalItems);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(GetAppFiles)";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.saucelabs.saucerest.model.storage;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+import com.squareup.moshi.Types;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Moshi adapter for {@link GetAppStorageGroups}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class GetAppStorageGroupsJsonAdapter extends JsonAdapter<GetAppStorageGroups> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "is_simulator",
+        "items",
+        "links",
+        "page",
+        "per_page",
+        "total_items");
+
+    private final JsonAdapter<Boolean> booleanAdapter;
+    private final JsonAdapter<List<ItemInteger>> listOfItemIntegerAdapter;
+    private final JsonAdapter<Links> linksAdapter;
+    private final JsonAdapter<Integer> integerAdapter;
+
+    public GetAppStorageGroupsJsonAdapter(Moshi moshi) {
+        booleanAdapter = moshi.adapter(Boolean.class);
+        listOfItemIntegerAdapter = moshi.adapter(Types.newParameterizedType(List.class, ItemInteger.class));
+        linksAdapter = moshi.adapter(Links.class);
+        integerAdapter = moshi.adapter(Integer.class);
+    }
+
+    @Override
+    public GetAppStorageGroups fromJson(JsonReader reader) throws IOException {
+        GetAppStorageGroups value = new GetAppStorageGroups();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.isSimulator = booleanAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.items = listOfItemIntegerAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.links = linksAdapter.fromJson(reader);
+                    break;
+                case 3:
+                    value.page = integerAdapter.fromJson(reader);
+                    break;
+                case 4:
+                    value.perPage = integerAdapter.fromJson(reader);
+                    break;
+                case 5:
+                    value.totalItems = integerAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, GetAppStorageGroups value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("is_simulator");
+        booleanAdapter.toJson(writer, value.isSimulator);
+        writer.name("items");
+        listOfItemIntegerAdapter.toJson(writer, value.items);
+        writer.name("links");
+        linksAdapter.toJson(writer, value.links);
+        writer.name("page");
+        integerAdapter.toJson(writer, value.page);
+        writer.name("per_page");
+        integerAdapter.toJson(writer, value.perPage);
+        writer.name("total_items");
+        integerAdapter.toJson(writer, value.totalItems);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(GetAppStorageGroups)";
+    }
+}
\ No newline at end of file
@@ -8,13 +8,28 @@ public class GetAppStorageGroupsParameters {
     private final String kind;
     private final String[] groupIds;
     private final int page;
-    private String perPage;
+    private final String perPage;
 
     private GetAppStorageGroupsParameters(Builder builder) {
         q = builder.q;
         kind = builder.kind;
         groupIds = builder.groupIds;
         page = builder.page;
+        perPage = builder.perPage;
+    }
+
+    /**
+     * @return The requested page, starting at 1
+     */
+    public int getPage() {
+        return page;
+    }
+
+    /**
+     * @return The requested number of groups per page, or null for the default
+     */
+    public String getPerPage() {
+        return perPage;
     }
 
     public Map<String, Object> toMap() {
@@ -49,6 +64,7 @@ public class GetAppStorageGroupsParameters {
         private String kind;
         private String[] groupIds;
         private int page;
+        private String perPage;
 
         public Builder setQ(String val) {
             q = val;
@@ -70,7 +86,16 @@ public class GetAppStorageGroupsParameters {
             return this;
         }
 
+        public Builder setPerPage(String val) {
+            perPage = val;
+            return this;
+        }
+
         public GetAppStorageGroupsParameters build() {
+            if (page == 0) {
+                page = 1;
+            }
+
             return new GetAppStorageGroupsParameters(this);
         }
     }
@@ -0,0 +1,100 @@
+package com.saucelabs.saucerest.model.storage;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link ItemInteger}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class ItemIntegerJsonAdapter extends JsonAdapter<ItemInteger> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "access",
+        "count",
+        "id",
+        "name",
+        "project_path",
+        "recent",
+        "settings");
+
+    private final JsonAdapter<Access> accessAdapter;
+    private final JsonAdapter<Integer> integerAdapter;
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<Recent> recentAdapter;
+    private final JsonAdapter<Settings> settingsAdapter;
+
+    public ItemIntegerJsonAdapter(Moshi moshi) {
+        accessAdapter = moshi.adapter(Access.class);
+        integerAdapter = moshi.adapter(Integer.class);
+        stringAdapter = moshi.adapter(String.class);
+        recentAdapter = moshi.adapter(Recent.class);
+        settingsAdapter = moshi.adapter(Settings.class);
+    }
+
+    @Override
+    public ItemInteger fromJson(JsonReader reader) throws IOException {
+        ItemInteger value = new ItemInteger();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.access = accessAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.count = integerAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.id = integerAdapter.fromJson(reader);
+                    break;
+                case 3:
+                    value.name = stringAdapter.fromJson(reader);
+                    break;
+                case 4:
+                    value.projectPath = stringAdapter.fromJson(reader);
+                    break;
+                case 5:
+                    value.recent = recentAdapter.fromJson(reader);
+                    break;
+                case 6:
+                    value.settings = settingsAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, ItemInteger value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("access");
+        accessAdapter.toJson(writer, value.access);
+        writer.name("count");
+        integerAdapter.toJson(writer, value.count);
+        writer.name("id");
+        integerAdapter.toJson(writer, value.id);
+        writer.name("name");
+        stringAdapter.toJson(writer, value.name);
+        writer.name("project_path");
+        stringAdapter.toJson(writer, value.projectPath);
+        writer.name("recent");
+        recentAdapter.toJson(writer, value.recent);
+        writer.name("settings");
+        settingsAdapter.toJson(writer, value.settings);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(ItemInteger)";
+    }
+}
\ No newline at end of file
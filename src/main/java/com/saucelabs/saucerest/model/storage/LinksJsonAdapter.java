@@ -0,0 +1,68 @@
+package com.saucelabs.saucerest.model.storage;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link Links}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class LinksJsonAdapter extends JsonAdapter<Links> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "next",
+        "prev",
+        "self");
+
+    private final JsonAdapter<String> stringAdapter;
+
+    public LinksJsonAdapter(Moshi moshi) {
+        stringAdapter = moshi.adapter(String.class);
+    }
+
+    @Override
+    public Links fromJson(JsonReader reader) throws IOException {
+        Links value = new Links();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.next = stringAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.prev = stringAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.self = stringAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, Links value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("next");
+        stringAdapter.toJson(writer, value.next);
+        writer.name("prev");
+        stringAdapter.toJson(writer, value.prev);
+        writer.name("self");
+        stringAdapter.toJson(writer, value.self);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(Links)";
+    }
+}
\ No newline at end of file
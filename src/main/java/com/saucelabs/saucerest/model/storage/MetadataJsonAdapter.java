@@ -0,0 +1,156 @@
+package com.saucelabs.saucerest.model.storage;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+import com.squareup.moshi.Types;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Moshi adapter for {@link Metadata}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class MetadataJsonAdapter extends JsonAdapter<Metadata> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "device_family",
+        "icon",
+        "icon_hash",
+        "identifier",
+        "is_simulator",
+        "is_test_runner",
+        "min_os",
+        "min_sdk",
+        "name",
+        "short_version",
+        "target_os",
+        "target_sdk",
+        "test_runner_class",
+        "test_runner_plugin_path",
+        "version",
+        "version_code");
+
+    private final JsonAdapter<List<String>> listOfStringAdapter;
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<Boolean> booleanAdapter;
+    private final JsonAdapter<Integer> integerAdapter;
+    private final JsonAdapter<Object> objectAdapter;
+
+    public MetadataJsonAdapter(Moshi moshi) {
+        listOfStringAdapter = moshi.adapter(Types.newParameterizedType(List.class, String.class));
+        stringAdapter = moshi.adapter(String.class);
+        booleanAdapter = moshi.adapter(Boolean.class);
+        integerAdapter = moshi.adapter(Integer.class);
+        objectAdapter = moshi.adapter(Object.class);
+    }
+
+    @Override
+    public Metadata fromJson(JsonReader reader) throws IOException {
+        Metadata value = new Metadata();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.deviceFamily = listOfStringAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.icon = stringAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.iconHash = stringAdapter.fromJson(reader);
+                    break;
+                case 3:
+                    value.identifier = stringAdapter.fromJson(reader);
+                    break;
+                case 4:
+                    value.isSimulator = booleanAdapter.fromJson(reader);
+                    break;
+                case 5:
+                    value.isTestRunner = booleanAdapter.fromJson(reader);
+                    break;
+                case 6:
+                    value.minOs = stringAdapter.fromJson(reader);
+                    break;
+                case 7:
+                    value.minSdk = integerAdapter.fromJson(reader);
+                    break;
+                case 8:
+                    value.name = stringAdapter.fromJson(reader);
+                    break;
+                case 9:
+                    value.shortVersion = stringAdapter.fromJson(reader);
+                    break;
+                case 10:
+                    value.targetOs = stringAdapter.fromJson(reader);
+                    break;
+                case 11:
+                    value.targetSdk = integerAdapter.fromJson(reader);
+                    break;
+                case 12:
+                    value.testRunnerClass = objectAdapter.fromJson(reader);
+                    break;
+                case 13:
+                    value.testRunnerPluginPath = objectAdapter.fromJson(reader);
+                    break;
+                case 14:
+                    value.version = stringAdapter.fromJson(reader);
+                    break;
+                case 15:
+                    value.versionCode = integerAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, Metadata value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("device_family");
+        listOfStringAdapter.toJson(writer, value.deviceFamily);
+        writer.name("icon");
+        stringAdapter.toJson(writer, value.icon);
+        writer.name("icon_hash");
+        stringAdapter.toJson(writer, value.iconHash);
+        writer.name("identifier");
+        stringAdapter.toJson(writer, value.identifier);
+        writer.name("is_simulator");
+        booleanAdapter.toJson(writer, value.isSimulator);
+        writer.name("is_test_runner");
+        booleanAdapter.toJson(writer, value.isTestRunner);
+        writer.name("min_os");
+        stringAdapter.toJson(writer, value.minOs);
+        writer.name("min_sdk");
+        integerAdapter.toJson(writer, value.minSdk);
+        writer.name("name");
+        stringAdapter.toJson(writer, value.name);
+        writer.name("short_version");
+        stringAdapter.toJson(writer, value.shortVersion);
+        writer.name("target_os");
+        stringAdapter.toJson(writer, value.targetOs);
+        writer.name("target_sdk");
+        integerAdapter.toJson(writer, value.targetSdk);
+        writer.name("test_runner_class");
+        objectAdapter.toJson(writer, value.testRunnerClass);
+        writer.name("test_runner_plugin_path");
+        objectAdapter.toJson(writer, value.testRunnerPluginPath);
+        writer.name("version");
+        stringAdapter.toJson(writer, value.version);
+        writer.name("version_code");
+        integerAdapter.toJson(writer, value.versionCode);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(Metadata)";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.saucelabs.saucerest.model.storage;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link Owner}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class OwnerJsonAdapter extends JsonAdapter<Owner> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "id",
+        "org_id");
+
+    private final JsonAdapter<String> stringAdapter;
+
+    public OwnerJsonAdapter(Moshi moshi) {
+        stringAdapter = moshi.adapter(String.class);
+    }
+
+    @Override
+    public Owner fromJson(JsonReader reader) throws IOException {
+        Owner value = new Owner();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.id = stringAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.orgId = stringAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, Owner value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("id");
+        stringAdapter.toJson(writer, value.id);
+        writer.name("org_id");
+        stringAdapter.toJson(writer, value.orgId);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(Owner)";
+    }
+}
\ No newline at end of file
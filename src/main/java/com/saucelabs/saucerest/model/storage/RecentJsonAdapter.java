@@ -0,0 +1,138 @@
+package com.saucelabs.saucerest.model.storage;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+import java.io.IOException;
+
+/**
+ * Moshi adapter for {@link Recent}, generated by {@code ModelAdapterGenerator}. Do not edit.
+ */
+public final class RecentJsonAdapter extends JsonAdapter<Recent> {
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+        "access",
+        "description",
+        "etag",
+        "group_id",
+        "id",
+        "kind",
+        "metadata",
+        "name",
+        "owner",
+        "sha256",
+        "size",
+        "tags",
+        "upload_timestamp");
+
+    private final JsonAdapter<Access> accessAdapter;
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<Integer> integerAdapter;
+    private final JsonAdapter<Metadata> metadataAdapter;
+    private final JsonAdapter<Owner> ownerAdapter;
+    private final JsonAdapter<String[]> stringArrayAdapter;
+
+    public RecentJsonAdapter(Moshi moshi) {
+        accessAdapter = moshi.adapter(Access.class);
+        stringAdapter = moshi.adapter(String.class);
+        integerAdapter = moshi.adapter(Integer.class);
+        metadataAdapter = moshi.adapter(Metadata.class);
+        ownerAdapter = moshi.adapter(Owner.class);
+        stringArrayAdapter = moshi.adapter(String[].class);
+    }
+
+    @Override
+    public Recent fromJson(JsonReader reader) throws IOException {
+        Recent value = new Recent();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    value.access = accessAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    value.description = stringAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    value.etag = stringAdapter.fromJson(reader);
+                    break;
+                case 3:
+                    value.groupId = integerAdapter.fromJson(reader);
+                    break;
+                case 4:
+                    value.id = stringAdapter.fromJson(reader);
+                    break;
+                case 5:
+                    value.kind = stringAdapter.fromJson(reader);
+                    break;
+                case 6:
+                    value.metadata = metadataAdapter.fromJson(reader);
+                    break;
+                case 7:
+                    value.name = stringAdapter.fromJson(reader);
+                    break;
+                case 8:
+                    value.owner = ownerAdapter.fromJson(reader);
+                    break;
+                case 9:
+                    value.sha256 = stringAdapter.fromJson(reader);
+                    break;
+                case 10:
+                    value.size = integerAdapter.fromJson(reader);
+                    break;
+                case 11:
+                    value.tags = stringArrayAdapter.fromJson(reader);
+                    break;
+                case 12:
+                    value.uploadTimestamp = integerAdapter.fromJson(reader);
+                    break;
+                default:
+                    reader.skipName();
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    @Override
+    public void toJson(JsonWriter writer, Recent value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("access");
+        accessAdapter.toJson(writer, value.access);
+        writer.name("description");
+        stringAdapter.toJson(writer, value.description);
+        writer.name("etag");
+        stringAdapter.toJson(writer, value.etag);
+        writer.name("group_id");
+        integerAdapter.toJson(writer, value.groupId);
+        writer.name("id");
+        stringAdapter.toJson(writer, value.id);
+        writer.name("kind");
+        stringAdapter.toJson(writer, value.kind);
+        writer.name("metadata");
+        metadataAdapter.toJson(writer, value.metadata);
+        writer.name("name");
+        stringAdapter.toJson(writer, value.name);
+        writer.name("owner");
+        ownerAdapter.toJson(writer, value.owner);
+        writer.name("sha256");
+        stringAdapter.toJson(writer, value.sha256);
+        writer.name("size");
+        integerAdapter.toJson(writer, value.size);
+        writer.name("tags");
+        stringArrayAdapter.toJson(writer, value.tags);
+        writer.name("upload_timestamp");
+        integerAdapter.toJson(writer, value.uploadTimestamp);
+        writer.endObject();
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedJsonAdapter(Recent)";
+    }
+}
\ No newline at end of file
@@ -28,6 +28,20 @@ public class StorageParameter {
         groupIds = builder.groupIds;
     }
 
+    /**
+     * @return The requested page, starting at 1
+     */
+    public int getPage() {
+        return page;
+    }
+
+    /**
+     * @return The requested number of files per page, or null for the default
+     */
+    public String getPerPage() {
+        return perPage;
+    }
+
     /**
      * @return A map to be used as parameter when using an endpoint that takes query parameters.
      */
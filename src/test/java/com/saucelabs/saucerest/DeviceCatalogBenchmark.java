@@ -0,0 +1,122 @@
+package com.saucelabs.saucerest;
+
+import com.saucelabs.saucerest.api.DeviceCatalog;
+import com.saucelabs.saucerest.model.realdevices.Device;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntSupplier;
+
+/**
+ * Compares compound queries on a {@link DeviceCatalog} with a linear scan of the device list, on 10k synthetic devices.
+ * <br>
+ * This is not a unit test. Run it with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.mainClass=com.saucelabs.saucerest.DeviceCatalogBenchmark -Dexec.classpathScope=test
+ * </pre>
+ * It prints the throughput of both, and the time of a full build and of an incremental update of the catalog.
+ */
+public class DeviceCatalogBenchmark {
+    private static final int DEVICES = 10_000;
+    private static final int CHANGED_DEVICES = 100;
+    private static final long WARMUP_NANOS = 3_000_000_000L;
+    private static final long MEASURE_NANOS = 5_000_000_000L;
+    private static final String[] MANUFACTURERS = {"Google", "Samsung", "Apple", "Motorola", "OnePlus", "Xiaomi", "Sony", "Huawei"};
+    private static volatile int sink;
+
+    public static void main(String[] args) {
+        List<Device> devices = syntheticDevices(new Random(42), DEVICES);
+
+        DeviceCatalog catalog = new DeviceCatalog(() -> devices);
+        long start = System.nanoTime();
+        catalog.update(devices);
+        System.out.printf("build:     %10.2f ms for %d devices%n", (System.nanoTime() - start) / 1e6, DEVICES);
+
+        List<Device> changed = new ArrayList<>(devices);
+        Random random = new Random(7);
+        for (int i = 0; i < CHANGED_DEVICES; i++) {
+            int index = random.nextInt(DEVICES);
+            Device device = syntheticDevice(random, index);
+            changed.set(index, device);
+        }
+        start = System.nanoTime();
+        int updated = catalog.update(changed);
+        System.out.printf("update:    %10.2f ms for %d changed devices%n", (System.nanoTime() - start) / 1e6, updated);
+
+        DeviceCatalog.Query query = new DeviceCatalog.Query.Builder()
+            .setOs("ANDROID")
+            .setOsVersion("12", null)
+            .setRamSize(6144, null)
+            .setCpuCores(8, null)
+            .setManufacturer("Samsung", "Google")
+            .setPrivate(false)
+            .build();
+
+        run("catalog", () -> catalog.count(query));
+        run("scan", () -> scan(changed));
+    }
+
+    private static int scan(List<Device> devices) {
+        int matches = 0;
+        for (Device device : devices) {
+            if ("ANDROID".equalsIgnoreCase(device.os)
+                && device.osVersion != null && DeviceCatalog.VERSION_ORDER.compare(device.osVersion, "12") >= 0
+                && device.ramSize != null && device.ramSize >= 6144
+                && device.cpuCores != null && device.cpuCores >= 8
+                && device.manufacturer != null && (device.manufacturer.contains("Samsung") || device.manufacturer.contains("Google"))
+                && Boolean.FALSE.equals(device.isPrivate)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private static void run(String name, IntSupplier query) {
+        measure(query, WARMUP_NANOS);
+        System.out.printf("%-10s %10.1f queries/s (%d matches)%n", name + ":", measure(query, MEASURE_NANOS), query.getAsInt());
+    }
+
+    /**
+     * @return Operations per second
+     */
+    private static double measure(IntSupplier query, long nanos) {
+        long operations = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            sink += query.getAsInt();
+            operations++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < nanos);
+        return operations / (elapsed / 1e9);
+    }
+
+    private static List<Device> syntheticDevices(Random random, int count) {
+        List<Device> devices = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            devices.add(syntheticDevice(random, i));
+        }
+        return devices;
+    }
+
+    private static Device syntheticDevice(Random random, int index) {
+        Device device = new Device();
+        String manufacturer = MANUFACTURERS[random.nextInt(MANUFACTURERS.length)];
+        boolean ios = "Apple".equals(manufacturer);
+        device.id = manufacturer + "_" + index;
+        device.os = ios ? "IOS" : "ANDROID";
+        device.osVersion = ios ? (12 + random.nextInt(6)) + "." + random.nextInt(5) : String.valueOf(8 + random.nextInt(7));
+        device.apiLevel = ios ? null : 26 + random.nextInt(9);
+        device.ramSize = 1024 * (2 + random.nextInt(11));
+        device.cpuCores = 2 * (1 + random.nextInt(4));
+        device.resolutionWidth = 720 + 40 * random.nextInt(20);
+        device.resolutionHeight = 1280 + 80 * random.nextInt(20);
+        device.screenSize = 4.5f + random.nextInt(80) / 10f;
+        device.manufacturer = List.of(manufacturer);
+        device.deviceFamily = ios ? "IPHONE" : "ANDROID";
+        device.isPrivate = random.nextInt(10) == 0;
+        device.isTablet = random.nextInt(5) == 0;
+        return device;
+    }
+}
\ No newline at end of file
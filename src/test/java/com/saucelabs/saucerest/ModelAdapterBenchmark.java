@@ -0,0 +1,97 @@
+package com.saucelabs.saucerest;
+
+import com.saucelabs.saucerest.model.builds.Build;
+import com.saucelabs.saucerest.model.jobs.Job;
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.Moshi;
+import com.squareup.moshi.Types;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Compares the generated model adapters with Moshi's reflective adapters on recorded responses.
+ * <br>
+ * This is not a unit test. Run it with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.mainClass=com.saucelabs.saucerest.ModelAdapterBenchmark -Dexec.classpathScope=test
+ * </pre>
+ * It prints the throughput and the bytes allocated per deserialized response for both kinds of adapters.
+ */
+public class ModelAdapterBenchmark {
+    private static final int JOBS = 500;
+    private static final long WARMUP_NANOS = 5_000_000_000L;
+    private static final long MEASURE_NANOS = 10_000_000_000L;
+    private static volatile int sink;
+
+    public static void main(String[] args) throws IOException {
+        String builds = new Helper().getResourceFileAsString("/buildsResponses.json");
+        String jobs = recordedJobs();
+
+        Moshi reflective = new Moshi.Builder().build();
+        Moshi generated = MoshiSingleton.getInstance();
+
+        run("builds", builds, buildsAdapter(reflective), buildsAdapter(generated));
+        run("jobs x" + JOBS, jobs, jobsAdapter(reflective), jobsAdapter(generated));
+    }
+
+    private static JsonAdapter<Map<String, List<Build>>> buildsAdapter(Moshi moshi) {
+        return moshi.adapter(Types.newParameterizedType(Map.class, String.class, Types.newParameterizedType(List.class, Build.class)));
+    }
+
+    private static JsonAdapter<List<Job>> jobsAdapter(Moshi moshi) {
+        return moshi.adapter(Types.newParameterizedType(List.class, Job.class));
+    }
+
+    /**
+     * @return A getJobs response with the shape of the API's response, repeated to a realistic page size
+     */
+    private static String recordedJobs() {
+        StringJoiner jobs = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < JOBS; i++) {
+            jobs.add("{\"browser_short_version\":\"113\",\"video_url\":\"https://api.us-west-1.saucelabs.com/rest/v1/user/jobs/" + i
+                + "/assets/video.mp4\",\"creation_time\":1683570254,\"custom-data\":{\"ci\":\"jenkins\"},\"browser_version\":\"113.0.5672.63\","
+                + "\"owner\":\"user\",\"automation_backend\":\"webdriver\",\"id\":\"" + i + "\",\"collects_automator_log\":false,"
+                + "\"record_screenshots\":true,\"record_video\":true,\"build\":\"Smoke-Tests-1.6620\",\"passed\":true,\"public\":\"team\","
+                + "\"end_time\":1683570276,\"status\":\"complete\",\"log_url\":\"https://api.us-west-1.saucelabs.com/rest/v1/user/jobs/" + i
+                + "/assets/log.json\",\"start_time\":1683570254,\"proxied\":false,\"modification_time\":1683570281,\"tags\":[\"smoke\",\"nightly\"],"
+                + "\"name\":\"Login test " + i + "\",\"commands_not_successful\":1,\"consolidated_status\":\"passed\",\"manual\":false,"
+                + "\"error\":null,\"os\":\"Windows 11\",\"breakpointed\":null,\"browser\":\"googlechrome\"}");
+        }
+        return jobs.toString();
+    }
+
+    private static <T> void run(String name, String json, JsonAdapter<T> reflective, JsonAdapter<T> generated) throws IOException {
+        measure(reflective, json, WARMUP_NANOS);
+        measure(generated, json, WARMUP_NANOS);
+
+        double[] reflectiveResult = measure(reflective, json, MEASURE_NANOS);
+        double[] generatedResult = measure(generated, json, MEASURE_NANOS);
+
+        System.out.printf("%-10s reflective: %10.1f ops/s %12.0f bytes/op%n", name, reflectiveResult[0], reflectiveResult[1]);
+        System.out.printf("%-10s generated:  %10.1f ops/s %12.0f bytes/op%n", name, generatedResult[0], generatedResult[1]);
+    }
+
+    /**
+     * @return Operations per second and bytes allocated per operation
+     */
+    private static <T> double[] measure(JsonAdapter<T> adapter, String json, long nanos) throws IOException {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        long operations = 0;
+        long allocatedBefore = threads.getThreadAllocatedBytes(thread);
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            sink += adapter.fromJson(json).hashCode();
+            operations++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < nanos);
+        long allocated = threads.getThreadAllocatedBytes(thread) - allocatedBefore;
+        return new double[]{operations / (elapsed / 1e9), allocated / (double) operations};
+    }
+}
\ No newline at end of file
@@ -0,0 +1,429 @@
+package com.saucelabs.saucerest;
+
+import com.saucelabs.saucerest.model.AbstractModel;
+import com.squareup.moshi.Json;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Generates the Moshi adapters of the response models in {@code com.saucelabs.saucerest.model} and the
+ * {@code GeneratedJsonAdapters} registry that {@link MoshiSingleton} installs.
+ * <br>
+ * A model gets an adapter if it is a top level class with a public no-arg constructor whose JSON fields are all
+ * public and not final. The adapters write fields in the same order as Moshi's reflective adapter, so the JSON
+ * they produce is identical. Run it after changing a model:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.mainClass=com.saucelabs.saucerest.ModelAdapterGenerator -Dexec.classpathScope=test
+ * </pre>
+ * {@code GeneratedJsonAdaptersTest} fails if the checked in adapters are out of date.
+ */
+public class ModelAdapterGenerator {
+    public static final String MODEL_PACKAGE = "com.saucelabs.saucerest.model";
+    public static final String REGISTRY = "GeneratedJsonAdapters";
+    private static final String INDENT = "    ";
+
+    public static void main(String[] args) throws IOException {
+        Path classes = Paths.get(args.length > 0 ? args[0] : "target/classes");
+        Path sources = Paths.get(args.length > 1 ? args[1] : "src/main/java");
+
+        for (Map.Entry<Path, String> entry : generate(classes).entrySet()) {
+            Path file = sources.resolve(entry.getKey());
+            Files.write(file, entry.getValue().getBytes(StandardCharsets.UTF_8));
+            System.out.println("Wrote " + file);
+        }
+    }
+
+    /**
+     * @param classes Directory with the compiled model classes
+     * @return Source of every generated file keyed by its path relative to the source root
+     */
+    public static Map<Path, String> generate(Path classes) throws IOException {
+        Map<Path, String> files = new TreeMap<>();
+        List<Class<?>> models = findModels(classes);
+        for (Class<?> model : models) {
+            files.put(sourcePath(model.getPackage().getName(), adapterName(model)), generateAdapter(model));
+        }
+        files.put(sourcePath(MODEL_PACKAGE, REGISTRY), generateRegistry(models));
+        return files;
+    }
+
+    /**
+     * @return The models that get a generated adapter, sorted by name
+     */
+    public static List<Class<?>> findModels(Path classes) throws IOException {
+        Path root = classes.resolve(MODEL_PACKAGE.replace('.', '/'));
+        List<Class<?>> models = new ArrayList<>();
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : paths.filter(p -> p.toString().endsWith(".class")).sorted().collect(Collectors.toList())) {
+                String name = classes.relativize(path).toString().replace(path.getFileSystem().getSeparator(), ".");
+                name = name.substring(0, name.length() - ".class".length());
+                if (name.contains("$") || name.endsWith("JsonAdapter")) {
+                    continue;
+                }
+                try {
+                    Class<?> clazz = Class.forName(name);
+                    if (isSupported(clazz)) {
+                        models.add(clazz);
+                    }
+                } catch (ClassNotFoundException e) {
+                    throw new IOException("Cannot load " + name, e);
+                }
+            }
+        }
+        models.sort(Comparator.comparing(Class::getName));
+        return models;
+    }
+
+    private static boolean isSupported(Class<?> clazz) {
+        if (clazz.isEnum() || clazz.isInterface() || Modifier.isAbstract(clazz.getModifiers()) || !Modifier.isPublic(clazz.getModifiers())) {
+            return false;
+        }
+        if (clazz.getSuperclass() != Object.class && clazz.getSuperclass() != AbstractModel.class) {
+            return false;
+        }
+        try {
+            if (!Modifier.isPublic(clazz.getDeclaredConstructor().getModifiers())) {
+                return false;
+            }
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+        List<Field> fields = jsonFields(clazz);
+        return fields.stream().anyMatch(f -> f.isAnnotationPresent(Json.class))
+            && fields.stream().allMatch(f -> Modifier.isPublic(f.getModifiers()) && !Modifier.isFinal(f.getModifiers()));
+    }
+
+    private static List<Field> jsonFields(Class<?> clazz) {
+        List<Field> fields = new ArrayList<>();
+        for (Field field : clazz.getDeclaredFields()) {
+            int modifiers = field.getModifiers();
+            Json json = field.getAnnotation(Json.class);
+            if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isSynthetic() && (json == null || !json.ignore())) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    private static String jsonName(Field field) {
+        Json json = field.getAnnotation(Json.class);
+        return json == null || Json.UNSET_NAME.equals(json.name()) ? field.getName() : json.name();
+    }
+
+    public static String adapterName(Class<?> model) {
+        return model.getSimpleName() + "JsonAdapter";
+    }
+
+    private static Path sourcePath(String packageName, String className) {
+        return Paths.get(packageName.replace('.', '/'), className + ".java");
+    }
+
+    private static String generateAdapter(Class<?> model) {
+        String packageName = model.getPackage().getName();
+        String modelName = model.getSimpleName();
+
+        // Moshi's reflective adapter orders fields by JSON name, do the same so the output does not change
+        Map<String, Field> fields = new TreeMap<>();
+        for (Field field : jsonFields(model)) {
+            fields.put(jsonName(field), field);
+        }
+
+        Imports imports = new Imports(packageName);
+        imports.add(model.getName());
+        imports.add("com.squareup.moshi.JsonAdapter");
+        imports.add("com.squareup.moshi.JsonReader");
+        imports.add("com.squareup.moshi.JsonWriter");
+        imports.add("com.squareup.moshi.Moshi");
+        imports.add("java.io.IOException");
+        for (Field field : fields.values()) {
+            imports.addAll(field.getGenericType());
+        }
+
+        Map<String, String> adapterFields = new LinkedHashMap<>();
+        Map<Type, String> adapterNames = new LinkedHashMap<>();
+        for (Field field : fields.values()) {
+            Type type = field.getGenericType();
+            if (!adapterNames.containsKey(type)) {
+                String name = adapterFieldName(type, imports);
+                while (adapterFields.containsKey(name)) {
+                    name = name.replace("Adapter", "") + "_Adapter";
+                }
+                adapterNames.put(type, name);
+                adapterFields.put(name, type.getTypeName());
+            }
+        }
+
+        StringBuilder out = new StringBuilder();
+        out.append("package ").append(packageName).append(";\n\n");
+        out.append(imports.render());
+        out.append("/**\n");
+        out.append(" * Moshi adapter for {@link ").append(modelName).append("}, generated by {@code ModelAdapterGenerator}. Do not edit.\n");
+        out.append(" */\n");
+        out.append("public final class ").append(adapterName(model)).append(" extends JsonAdapter<").append(modelName).append("> {\n");
+
+        out.append(INDENT).append("private static final JsonReader.Options OPTIONS = JsonReader.Options.of(\n");
+        out.append(fields.keySet().stream().map(n -> INDENT + INDENT + quote(n)).collect(Collectors.joining(",\n")));
+        out.append(");\n\n");
+
+        for (Map.Entry<Type, String> adapter : adapterNames.entrySet()) {
+            out.append(INDENT).append("private final JsonAdapter<").append(imports.typeName(adapter.getKey(), true)).append("> ")
+                .append(adapter.getValue()).append(";\n");
+        }
+        out.append("\n");
+
+        out.append(INDENT).append("public ").append(adapterName(model)).append("(Moshi moshi) {\n");
+        for (Map.Entry<Type, String> adapter : adapterNames.entrySet()) {
+            out.append(INDENT).append(INDENT).append(adapter.getValue()).append(" = moshi.adapter(")
+                .append(imports.typeLiteral(adapter.getKey())).append(");\n");
+        }
+        out.append(INDENT).append("}\n\n");
+
+        out.append(INDENT).append("@Override\n");
+        out.append(INDENT).append("public ").append(modelName).append(" fromJson(JsonReader reader) throws IOException {\n");
+        out.append(INDENT).append(INDENT).append(modelName).append(" value = new ").append(modelName).append("();\n");
+        out.append(INDENT).append(INDENT).append("reader.beginObject();\n");
+        out.append(INDENT).append(INDENT).append("while (reader.hasNext()) {\n");
+        out.append(INDENT).append(INDENT).append(INDENT).append("switch (reader.selectName(OPTIONS)) {\n");
+        int index = 0;
+        for (Field field : fields.values()) {
+            out.append(INDENT).append(INDENT).append(INDENT).append(INDENT).append("case ").append(index++).append(":\n");
+            out.append(INDENT).append(INDENT).append(INDENT).append(INDENT).append(INDENT).append("value.").append(field.getName())
+                .append(" = ").append(adapterNames.get(field.getGenericType())).append(".fromJson(reader);\n");
+            out.append(INDENT).append(INDENT).append(INDENT).append(INDENT).append(INDENT).append("break;\n");
+        }
+        out.append(INDENT).append(INDENT).append(INDENT).append(INDENT).append("default:\n");
+        out.append(INDENT).append(INDENT).append(INDENT).append(INDENT).append(INDENT).append("reader.skipName();\n");
+        out.append(INDENT).append(INDENT).append(INDENT).append(INDENT).append(INDENT).append("reader.skipValue();\n");
+        out.append(INDENT).append(INDENT).append(INDENT).append("}\n");
+        out.append(INDENT).append(INDENT).append("}\n");
+        out.append(INDENT).append(INDENT).append("reader.endObject();\n");
+        out.append(INDENT).append(INDENT).append("return value;\n");
+        out.append(INDENT).append("}\n\n");
+
+        out.append(INDENT).append("@Override\n");
+        out.append(INDENT).append("public void toJson(JsonWriter writer, ").append(modelName).append(" value) throws IOException {\n");
+        out.append(INDENT).append(INDENT).append("if (value == null) {\n");
+        out.append(INDENT).append(INDENT).append(INDENT).append("throw new NullPointerException(\"value was null! Wrap in .nullSafe() to write nullable values.\");\n");
+        out.append(INDENT).append(INDENT).append("}\n");
+        out.append(INDENT).append(INDENT).append("writer.beginObject();\n");
+        for (Map.Entry<String, Field> field : fields.entrySet()) {
+            out.append(INDENT).append(INDENT).append("writer.name(").append(quote(field.getKey())).append(");\n");
+            out.append(INDENT).append(INDENT).append(adapterNames.get(field.getValue().getGenericType())).append(".toJson(writer, value.")
+                .append(field.getValue().getName()).append(");\n");
+        }
+        out.append(INDENT).append(INDENT).append("writer.endObject();\n");
+        out.append(INDENT).append("}\n\n");
+
+        out.append(INDENT).append("@Override\n");
+        out.append(INDENT).append("public String toString() {\n");
+        out.append(INDENT).append(INDENT).append("return \"GeneratedJsonAdapter(").append(modelName).append(")\";\n");
+        out.append(INDENT).append("}\n");
+        out.append("}");
+        return out.toString();
+    }
+
+    private static String generateRegistry(List<Class<?>> models) {
+        StringBuilder out = new StringBuilder();
+        out.append("package ").append(MODEL_PACKAGE).append(";\n\n");
+        out.append("import com.squareup.moshi.JsonAdapter;\n");
+        out.append("import com.squareup.moshi.Moshi;\n\n");
+        out.append("import java.util.Collections;\n");
+        out.append("import java.util.HashMap;\n");
+        out.append("import java.util.Map;\n");
+        out.append("import java.util.Set;\n");
+        out.append("import java.util.function.Function;\n\n");
+        out.append("/**\n");
+        out.append(" * Registry of the adapters generated by {@code ModelAdapterGenerator}. Do not edit.\n");
+        out.append(" * <br>\n");
+        out.append(" * {@link #FACTORY} is installed in {@link com.saucelabs.saucerest.MoshiSingleton} and replaces Moshi's reflective\n");
+        out.append(" * adapter for every model listed here.\n");
+        out.append(" */\n");
+        out.append("public final class ").append(REGISTRY).append(" {\n");
+        out.append(INDENT).append("private static final Map<Class<?>, Function<Moshi, JsonAdapter<?>>> ADAPTERS = new HashMap<>();\n\n");
+        out.append(INDENT).append("public static final JsonAdapter.Factory FACTORY = (type, annotations, moshi) -> {\n");
+        out.append(INDENT).append(INDENT).append("if (!annotations.isEmpty()) {\n");
+        out.append(INDENT).append(INDENT).append(INDENT).append("return null;\n");
+        out.append(INDENT).append(INDENT).append("}\n");
+        out.append(INDENT).append(INDENT).append("Function<Moshi, JsonAdapter<?>> adapter = ADAPTERS.get(type);\n");
+        out.append(INDENT).append(INDENT).append("return adapter == null ? null : adapter.apply(moshi).nullSafe();\n");
+        out.append(INDENT).append("};\n\n");
+        out.append(INDENT).append("static {\n");
+        for (Class<?> model : models) {
+            out.append(INDENT).append(INDENT).append("ADAPTERS.put(").append(model.getName()).append(".class, ")
+                .append(model.getPackage().getName()).append('.').append(adapterName(model)).append("::new);\n");
+        }
+        out.append(INDENT).append("}\n\n");
+        out.append(INDENT).append("private ").append(REGISTRY).append("() {\n");
+        out.append(INDENT).append("}\n\n");
+        out.append(INDENT).append("/**\n");
+        out.append(INDENT).append(" * @return The models with a generated adapter\n");
+        out.append(INDENT).append(" */\n");
+        out.append(INDENT).append("public static Set<Class<?>> models() {\n");
+        out.append(INDENT).append(INDENT).append("return Collections.unmodifiableSet(ADAPTERS.keySet());\n");
+        out.append(INDENT).append("}\n");
+        out.append("}");
+        return out.toString();
+    }
+
+    private static String adapterFieldName(Type type, Imports imports) {
+        if (type instanceof Class && ((Class<?>) type).isPrimitive()) {
+            return "primitive" + capitalize(type.getTypeName()) + "Adapter";
+        }
+        return decapitalize(typeWords(type, imports)) + "Adapter";
+    }
+
+    private static String typeWords(Type type, Imports imports) {
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterized = (ParameterizedType) type;
+            StringBuilder words = new StringBuilder(typeWords(parameterized.getRawType(), imports)).append("Of");
+            for (Type argument : parameterized.getActualTypeArguments()) {
+                words.append(typeWords(argument, imports));
+            }
+            return words.toString();
+        }
+        Class<?> clazz = (Class<?>) type;
+        if (clazz.isArray()) {
+            return typeWords(clazz.getComponentType(), imports) + "Array";
+        }
+        return capitalize(clazz.getSimpleName());
+    }
+
+    private static String quote(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    private static String capitalize(String value) {
+        return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+    }
+
+    private static String decapitalize(String value) {
+        return Character.toLowerCase(value.charAt(0)) + value.substring(1);
+    }
+
+    /**
+     * Imports of a generated file. Classes whose simple name is already taken are written fully qualified.
+     */
+    private static final class Imports {
+        private final String packageName;
+        private final Map<String, String> bySimpleName = new TreeMap<>();
+        private final Set<String> imports = new TreeSet<>();
+
+        Imports(String packageName) {
+            this.packageName = packageName;
+        }
+
+        void add(String className) {
+            String simpleName = className.substring(className.lastIndexOf('.') + 1);
+            String existing = bySimpleName.putIfAbsent(simpleName, className);
+            if (existing == null || existing.equals(className)) {
+                String classPackage = className.substring(0, className.lastIndexOf('.'));
+                if (!classPackage.equals(packageName) && !classPackage.equals("java.lang")) {
+                    imports.add(className);
+                }
+            }
+        }
+
+        void addAll(Type type) {
+            if (type instanceof ParameterizedType) {
+                add("com.squareup.moshi.Types");
+                addAll(((ParameterizedType) type).getRawType());
+                for (Type argument : ((ParameterizedType) type).getActualTypeArguments()) {
+                    addAll(argument);
+                }
+            } else if (type instanceof Class) {
+                Class<?> clazz = (Class<?>) type;
+                while (clazz.isArray()) {
+                    clazz = clazz.getComponentType();
+                }
+                if (!clazz.isPrimitive()) {
+                    add(clazz.getEnclosingClass() == null ? clazz.getName() : outermost(clazz).getName());
+                }
+            } else {
+                throw new IllegalArgumentException("Unsupported field type " + type);
+            }
+        }
+
+        String typeName(Type type, boolean boxed) {
+            if (type instanceof ParameterizedType) {
+                ParameterizedType parameterized = (ParameterizedType) type;
+                return typeName(parameterized.getRawType(), true) + Stream.of(parameterized.getActualTypeArguments())
+                    .map(t -> typeName(t, true))
+                    .collect(Collectors.joining(", ", "<", ">"));
+            }
+            Class<?> clazz = (Class<?>) type;
+            if (clazz.isArray()) {
+                return typeName(clazz.getComponentType(), false) + "[]";
+            }
+            if (clazz.isPrimitive()) {
+                return boxed ? box(clazz) : clazz.getName();
+            }
+            Class<?> outer = outermost(clazz);
+            String outerName = outer.getName().equals(bySimpleName.get(outer.getSimpleName())) ? outer.getSimpleName() : outer.getName();
+            return outerName + clazz.getName().substring(outer.getName().length()).replace('$', '.');
+        }
+
+        String typeLiteral(Type type) {
+            if (type instanceof ParameterizedType) {
+                ParameterizedType parameterized = (ParameterizedType) type;
+                return "Types.newParameterizedType(" + typeLiteral(parameterized.getRawType()) + Stream.of(parameterized.getActualTypeArguments())
+                    .map(t -> ", " + typeLiteral(t))
+                    .collect(Collectors.joining()) + ")";
+            }
+            return typeName(type, false) + ".class";
+        }
+
+        String render() {
+            StringBuilder out = new StringBuilder();
+            List<String> other = imports.stream().filter(i -> !i.startsWith("java.")).collect(Collectors.toList());
+            List<String> java = imports.stream().filter(i -> i.startsWith("java.")).collect(Collectors.toList());
+            for (String i : other) {
+                out.append("import ").append(i).append(";\n");
+            }
+            if (!other.isEmpty()) {
+                out.append("\n");
+            }
+            for (String i : java) {
+                out.append("import ").append(i).append(";\n");
+            }
+            if (!java.isEmpty()) {
+                out.append("\n");
+            }
+            return out.toString();
+        }
+
+        private static Class<?> outermost(Class<?> clazz) {
+            while (clazz.getEnclosingClass() != null) {
+                clazz = clazz.getEnclosingClass();
+            }
+            return clazz;
+        }
+
+        private static String box(Class<?> primitive) {
+            if (primitive == int.class) {
+                return "Integer";
+            }
+            if (primitive == char.class) {
+                return "Character";
+            }
+            return capitalize(primitive.getName());
+        }
+    }
+}
\ No newline at end of file
@@ -1,10 +1,22 @@
 package com.saucelabs.saucerest.unit;
 
 import com.saucelabs.saucerest.Helper;
+import com.saucelabs.saucerest.HttpMethod;
+import com.saucelabs.saucerest.RetryBudget;
 import com.saucelabs.saucerest.SauceException;
+import com.saucelabs.saucerest.SauceRESTConfig;
 import com.saucelabs.saucerest.api.AbstractEndpoint;
 import com.saucelabs.saucerest.model.builds.Build;
 import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -16,7 +28,15 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import static com.saucelabs.saucerest.unit.StandInServer.respond;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
 
@@ -106,11 +126,172 @@ public class AbstractEndpointTest {
         assertEquals(1, builds.size());
     }
 
+    @Test
+    void testDeserializeJSONArrayFromResponse() throws IOException {
+        Response response = getResponse("[{\"name\":\"John\",\"age\":30},{\"name\":\"Jane\",\"age\":25}]");
+
+        List<Person> persons = new PersonEndpoint("").publicDeserializeJSONArray(response, Person.class);
+
+        assertAll("persons",
+                () -> assertEquals(2, persons.size()),
+                () -> assertEquals("Jane", persons.get(1).getName())
+        );
+    }
+
+    @Test
+    void testDeserializeJSONObjectWithListOfClassTypesFromResponse() throws IOException {
+        Helper helper = new Helper();
+        Response response = getResponse(helper.getResourceFileAsString("/buildsResponses.json"));
+
+        List<Build> builds = new PersonEndpoint("").publicDeserializeJSONObject(response, Collections.singletonList(Build.class));
+
+        assertEquals(2, builds.size());
+    }
+
+    @Test
+    void testDeserializeJSONObjectFromResponseClosesBody() throws IOException {
+        AtomicBoolean closed = new AtomicBoolean();
+        Buffer json = new Buffer().writeUtf8("{\"name\":\"John\",\"age\":30}");
+        BufferedSource source = Okio.buffer(new ForwardingSource(json) {
+            @Override
+            public void close() throws IOException {
+                closed.set(true);
+                super.close();
+            }
+        });
+        Response response = getResponse(ResponseBody.create(source, MediaType.get("application/json"), json.size()));
+
+        Person person = new PersonEndpoint("").publicDeserializeJSONObject(response, Person.class);
+
+        assertEquals("John", person.getName());
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void testRequestAsyncDeserializesResponse() throws IOException, ExecutionException, InterruptedException {
+        try (StandInServer server = StandInServer.start()
+            .handle("/person", exchange -> respond(exchange, 200, "{\"name\":\"John\",\"age\":30}"))) {
+            PersonEndpoint endpoint = new PersonEndpoint("user", "key", server.getBaseUrl());
+            Person person = endpoint.getPersonAsync().get();
+
+            assertAll("person",
+                    () -> assertEquals("John", person.getName()),
+                    () -> assertEquals(30, person.getAge())
+            );
+        }
+    }
+
+    @Test
+    void testRequestAsyncDeserializesOnCallbackExecutor() throws IOException, ExecutionException, InterruptedException {
+        AtomicInteger executed = new AtomicInteger();
+
+        try (StandInServer server = StandInServer.start()
+            .handle("/person", exchange -> respond(exchange, 200, "{\"name\":\"John\",\"age\":30}"))) {
+            SauceRESTConfig config = new SauceRESTConfig.Builder().setCallbackExecutor(runnable -> {
+                executed.incrementAndGet();
+                runnable.run();
+            }).build();
+            PersonEndpoint endpoint = new PersonEndpoint("user", "key", server.getBaseUrl(), config);
+
+            assertEquals("John", endpoint.getPersonAsync().get().getName());
+            assertEquals(1, executed.get());
+        }
+    }
+
+    @Test
+    void testRequestAsyncCompletesExceptionallyOnNotFound() throws IOException {
+        try (StandInServer server = StandInServer.start().handle("/person", exchange -> respond(exchange, 404, ""))) {
+            PersonEndpoint endpoint = new PersonEndpoint("user", "key", server.getBaseUrl());
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> endpoint.getPersonAsync().get());
+
+            assertTrue(exception.getCause() instanceof SauceException.NotFound);
+        }
+    }
+
+    @Test
+    void testRequestIsRetriedAfterRetryAfter() throws IOException {
+        AtomicInteger calls = new AtomicInteger();
+
+        try (StandInServer server = StandInServer.start().handle("/person", exchange -> {
+            if (calls.getAndIncrement() == 0) {
+                exchange.getResponseHeaders().add("Retry-After", "0");
+                respond(exchange, 503, "");
+            } else {
+                respond(exchange, 200, "{\"name\":\"John\",\"age\":30}");
+            }
+        })) {
+            SauceRESTConfig config = new SauceRESTConfig.Builder().setRetryBudget(RetryBudget.UNLIMITED).build();
+            PersonEndpoint endpoint = new PersonEndpoint("user", "key", server.getBaseUrl(), config);
+
+            assertEquals("John", endpoint.getPerson().getName());
+            assertEquals(2, calls.get());
+        }
+    }
+
+    @Test
+    void testRequestIsNotRetriedWithoutBudget() throws IOException {
+        AtomicInteger calls = new AtomicInteger();
+
+        try (StandInServer server = StandInServer.start().handle("/person", exchange -> {
+            calls.incrementAndGet();
+            respond(exchange, 503, "");
+        })) {
+            SauceRESTConfig config = new SauceRESTConfig.Builder().setRetryBudget(new RetryBudget(0, 0, 0)).build();
+            PersonEndpoint endpoint = new PersonEndpoint("user", "key", server.getBaseUrl(), config);
+
+            assertThrows(RuntimeException.class, endpoint::getPerson);
+            assertEquals(1, calls.get());
+        }
+    }
+
+    @Test
+    void testRunConcurrentlyKeepsOrderBoundsConcurrencyAndReportsFailures() throws IOException {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Integer> inputs = IntStream.range(0, 20).boxed().collect(Collectors.toList());
+
+        List<String> results = new PersonEndpoint("").publicRunConcurrently(inputs, 3, i -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(10);
+                if (i == 7) {
+                    throw new SauceException.NotFound();
+                }
+                return "ok" + i;
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            } finally {
+                running.decrementAndGet();
+            }
+        }, (i, failure) -> failure.getCause().getClass().getSimpleName());
+
+        assertEquals(20, results.size());
+        assertEquals("ok0", results.get(0));
+        assertEquals("NotFound", results.get(7));
+        assertEquals("ok19", results.get(19));
+        assertTrue(maxRunning.get() <= 3, "at most 3 concurrent tasks, was " + maxRunning.get());
+        assertTrue(maxRunning.get() > 1, "tasks run concurrently");
+    }
+
     @Test
     public void testConstructorWithNullCredentials() {
         assertThrows(SauceException.MissingCredentials.class, () -> new PersonEndpoint(null, null, null));
     }
 
+    private static Response getResponse(String json) {
+        return getResponse(ResponseBody.create(json, MediaType.get("application/json")));
+    }
+
+    private static Response getResponse(ResponseBody body) {
+        return new Response.Builder()
+            .request(new Request.Builder().url("https://api.us-west-1.saucelabs.com").build())
+            .protocol(Protocol.HTTP_1_1)
+            .code(200)
+            .message("OK")
+            .body(body)
+            .build();
+    }
+
     public static class Person {
         private String name;
         private int age;
@@ -139,6 +320,10 @@ public class AbstractEndpointTest {
             super(username, accessKey, apiServer);
         }
 
+        public PersonEndpoint(String username, String accessKey, String apiServer, SauceRESTConfig config) {
+            super(username, accessKey, apiServer, config);
+        }
+
         public <T> List<T> publicDeserializeJSONArray(String json, Class<T> clazz) throws IOException {
             return deserializeJSONArray(json, clazz);
         }
@@ -150,5 +335,30 @@ public class AbstractEndpointTest {
         public <T> List<T> publicDeserializeJSONObject(String json, List<Class<? extends T>> clazz) throws IOException {
             return deserializeJSONObject(json, clazz);
         }
+
+        public <T> List<T> publicDeserializeJSONArray(Response response, Class<T> clazz) throws IOException {
+            return deserializeJSONArray(response, clazz);
+        }
+
+        public <T> T publicDeserializeJSONObject(Response response, Class<T> clazz) throws IOException {
+            return deserializeJSONObject(response, clazz);
+        }
+
+        public <T> List<T> publicDeserializeJSONObject(Response response, List<Class<? extends T>> clazz) throws IOException {
+            return deserializeJSONObject(response, clazz);
+        }
+
+        public Person getPerson() throws IOException {
+            return deserializeJSONObject(request(getBaseEndpoint() + "person", HttpMethod.GET), Person.class);
+        }
+
+        public <I, R> List<R> publicRunConcurrently(List<I> inputs, int maxConcurrent, ConcurrentTask<I, R> task,
+                                                    BiFunction<I, IOException, R> onFailure) throws IOException {
+            return runConcurrently(inputs, maxConcurrent, task, onFailure);
+        }
+
+        public CompletableFuture<Person> getPersonAsync() {
+            return deserializeJSONObjectAsync(requestAsync(getBaseEndpoint() + "person", HttpMethod.GET), Person.class);
+        }
     }
 }
\ No newline at end of file
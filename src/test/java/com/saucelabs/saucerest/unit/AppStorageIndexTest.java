@@ -0,0 +1,139 @@
+package com.saucelabs.saucerest.unit;
+
+import com.saucelabs.saucerest.api.AppStorageIndex;
+import com.saucelabs.saucerest.api.StorageEndpoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static com.saucelabs.saucerest.unit.StandInServer.respond;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AppStorageIndexTest {
+    private final List<String> stored = new ArrayList<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private StandInServer server;
+    private StorageEndpoint storage;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        for (int timestamp = 1; timestamp <= 150; timestamp++) {
+            stored.add(0, item(timestamp));
+        }
+
+        server = StandInServer.start().handle("/v1/storage/files", exchange -> {
+            requests.incrementAndGet();
+            Map<String, String> query = new HashMap<>();
+            String rawQuery = exchange.getRequestURI().getQuery();
+            if (rawQuery != null) {
+                for (String parameter : rawQuery.split("&")) {
+                    String[] pair = parameter.split("=", 2);
+                    query.put(pair[0], pair[1]);
+                }
+            }
+            int page = Integer.parseInt(query.getOrDefault("page", "1"));
+            int perPage = Integer.parseInt(query.getOrDefault("per_page", "25"));
+
+            List<String> items;
+            synchronized (stored) {
+                items = stored.stream().skip((long) (page - 1) * perPage).limit(perPage).collect(Collectors.toList());
+            }
+            respond(exchange, 200, "{\"items\":[" + String.join(",", items) + "],\"page\":" + page + ",\"per_page\":" + perPage
+                + ",\"total_items\":" + stored.size() + "}");
+        });
+        storage = new StorageEndpoint("user", "key", server.getBaseUrl());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void testRefreshOnlyListsNewFiles() throws IOException {
+        AppStorageIndex index = new AppStorageIndex(storage);
+
+        assertEquals(150, index.refresh());
+        assertEquals(2, requests.get());
+        assertEquals(150, index.getWatermark());
+
+        synchronized (stored) {
+            stored.add(0, item(151));
+            stored.add(0, item(152));
+        }
+        assertEquals(2, index.refresh());
+
+        assertEquals(3, requests.get());
+        assertEquals(152, index.size());
+        assertEquals(152, index.getWatermark());
+        assertEquals("ID_152", index.getLatest("app.apk").get().id);
+        assertEquals("ID_151", index.getLatest("other.apk").get().id);
+        assertEquals(76, index.getByName("app.apk").size());
+        assertEquals("ID_7", index.getBySha256("SHA_7").get(0).id);
+        assertEquals("ID_150", index.getByGroupId(0).get(0).id);
+        assertEquals(List.of("ID_152", "ID_151", "ID_150"),
+            index.getUploadedSince(150).stream().map(item -> item.id).collect(Collectors.toList()));
+        assertEquals("ID_149", index.getLatest(item -> "149".equals(item.metadata.version)).get().id);
+        assertFalse(index.getById("ID_0").isPresent());
+    }
+
+    @Test
+    public void testRefreshCountsOnlyNewOrChangedFiles() throws IOException {
+        AppStorageIndex index = new AppStorageIndex(storage);
+        index.refresh();
+
+        assertEquals(0, index.refresh());
+
+        synchronized (stored) {
+            stored.set(0, item(150).replace("sha_150", "sha_150_changed"));
+        }
+
+        assertEquals(1, index.refresh());
+        assertEquals("sha_150_changed", index.getById("ID_150").get().sha256);
+        assertEquals(0, index.refresh());
+    }
+
+    @Test
+    public void testRebuildDropsDeletedFiles() throws IOException {
+        AppStorageIndex index = new AppStorageIndex(storage);
+        index.refresh();
+
+        synchronized (stored) {
+            stored.remove(0);
+        }
+
+        assertEquals(149, index.rebuild());
+        assertFalse(index.getById("ID_150").isPresent());
+        assertEquals(149, index.getWatermark());
+    }
+
+    @Test
+    public void testIndexIsPersisted(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("index").resolve("storage.json");
+        new AppStorageIndex(storage, file).refresh();
+        int requestsBeforeReload = requests.get();
+
+        AppStorageIndex reloaded = new AppStorageIndex(storage, file);
+
+        assertEquals(requestsBeforeReload, requests.get());
+        assertEquals(150, reloaded.size());
+        assertEquals(150, reloaded.getWatermark());
+        assertEquals("ID_150", reloaded.getLatest("app.apk").get().id);
+    }
+
+    private static String item(int timestamp) {
+        String name = timestamp % 2 == 0 ? "app.apk" : "other.apk";
+        return "{\"id\":\"ID_" + timestamp + "\",\"name\":\"" + name + "\",\"sha256\":\"sha_" + timestamp + "\",\"group_id\":"
+            + (timestamp % 5) + ",\"upload_timestamp\":" + timestamp + ",\"metadata\":{\"version\":\"" + timestamp + "\"}}";
+    }
+}
\ No newline at end of file
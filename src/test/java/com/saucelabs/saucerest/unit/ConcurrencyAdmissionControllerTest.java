@@ -0,0 +1,119 @@
+package com.saucelabs.saucerest.unit;
+
+import com.saucelabs.saucerest.api.ConcurrencyAdmissionController;
+import com.saucelabs.saucerest.api.ConcurrencyAdmissionController.Permit;
+import com.saucelabs.saucerest.api.ConcurrencyAdmissionController.Pool;
+import com.saucelabs.saucerest.api.ConcurrencyAdmissionController.Usage;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrencyAdmissionControllerTest {
+
+    @Test
+    public void testGrantsOnlyFreeSlots() throws IOException {
+        AtomicReference<Usage> usage = new AtomicReference<>(new Usage(3, 5));
+
+        try (ConcurrencyAdmissionController controller = controller(usage)) {
+            List<CompletableFuture<Permit>> requests = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                requests.add(controller.acquire(Pool.REAL_DEVICES));
+            }
+            assertEquals(0, count(requests), "no permits before the first poll");
+
+            controller.refresh();
+            assertEquals(2, count(requests));
+            assertEquals(2, controller.getWaiting(Pool.REAL_DEVICES));
+
+            // The poll now sees the two granted sessions, no slot is free
+            usage.set(new Usage(5, 5));
+            controller.refresh();
+            assertEquals(2, count(requests));
+
+            requests.get(0).join().release();
+            assertEquals(3, count(requests), "a released permit frees its slot");
+            requests.get(0).join().release();
+            assertEquals(3, count(requests), "releasing twice does nothing");
+            assertEquals(0, controller.getAvailable(Pool.REAL_DEVICES));
+        }
+    }
+
+    @Test
+    public void testGrantedPermitsCountUntilTheyShowInTheUsage() throws IOException {
+        AtomicReference<Usage> usage = new AtomicReference<>(new Usage(0, 2));
+
+        try (ConcurrencyAdmissionController controller = controller(usage)) {
+            controller.refresh();
+            assertTrue(controller.tryAcquire(Pool.REAL_DEVICES).isPresent());
+            assertTrue(controller.tryAcquire(Pool.REAL_DEVICES).isPresent());
+            assertFalse(controller.tryAcquire(Pool.REAL_DEVICES).isPresent());
+
+            // The sessions have not started on Sauce Labs yet, the held permits still count
+            controller.refresh();
+            assertEquals(0, controller.getAvailable(Pool.REAL_DEVICES));
+            assertEquals(2, controller.getHeld(Pool.REAL_DEVICES));
+        }
+    }
+
+    @Test
+    public void testOtherPoolIsIndependent() throws IOException {
+        try (ConcurrencyAdmissionController controller = controller(new AtomicReference<>(new Usage(0, 1)))) {
+            controller.refresh();
+
+            assertTrue(controller.tryAcquire(Pool.REAL_DEVICES).isPresent());
+            assertFalse(controller.tryAcquire(Pool.VIRTUAL_MACHINES).isPresent());
+        }
+    }
+
+    @Test
+    public void testCancelledRequestIsSkipped() throws IOException {
+        try (ConcurrencyAdmissionController controller = controller(new AtomicReference<>(new Usage(0, 1)))) {
+            CompletableFuture<Permit> cancelled = controller.acquire(Pool.REAL_DEVICES);
+            CompletableFuture<Permit> waiting = controller.acquire(Pool.REAL_DEVICES);
+            cancelled.cancel(false);
+
+            controller.refresh();
+
+            assertTrue(waiting.isDone());
+            assertEquals(1, controller.getHeld(Pool.REAL_DEVICES));
+        }
+    }
+
+    @Test
+    public void testCloseCancelsWaitingRequests() {
+        ConcurrencyAdmissionController controller = controller(new AtomicReference<>(new Usage(0, 1)));
+        CompletableFuture<Permit> waiting = controller.acquire(Pool.REAL_DEVICES);
+
+        controller.close();
+
+        assertTrue(waiting.isCancelled());
+        assertThrows(IllegalStateException.class, () -> controller.acquire(Pool.REAL_DEVICES));
+    }
+
+    @Test
+    public void testPollsInBackground() throws Exception {
+        try (ConcurrencyAdmissionController controller = new ConcurrencyAdmissionController(
+            Map.of(Pool.VIRTUAL_MACHINES, () -> new Usage(1, 2)), Duration.ofMillis(10)).start()) {
+            Permit permit = controller.acquire(Pool.VIRTUAL_MACHINES).get(5, TimeUnit.SECONDS);
+
+            assertEquals(Pool.VIRTUAL_MACHINES, permit.getPool());
+        }
+    }
+
+    private static ConcurrencyAdmissionController controller(AtomicReference<Usage> usage) {
+        return new ConcurrencyAdmissionController(Map.of(Pool.REAL_DEVICES, usage::get), Duration.ofMinutes(1));
+    }
+
+    private static long count(List<CompletableFuture<Permit>> requests) {
+        return requests.stream().filter(CompletableFuture::isDone).count();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,142 @@
+package com.saucelabs.saucerest.unit;
+
+import com.saucelabs.saucerest.api.DeviceAvailabilityMonitor;
+import com.saucelabs.saucerest.model.realdevices.AvailableDevices;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DeviceAvailabilityMonitorTest {
+
+    @Test
+    public void testRefreshPublishesChanges() throws IOException {
+        AtomicReference<List<String>> devices = new AtomicReference<>(List.of("iPhone_1", "Pixel_2"));
+        List<String> events = new ArrayList<>();
+
+        try (DeviceAvailabilityMonitor monitor = new DeviceAvailabilityMonitor(() -> new AvailableDevices(devices.get()), Duration.ofMinutes(1))) {
+            monitor.addListener((added, removed) -> events.add(sorted(added) + " " + sorted(removed)));
+            assertNull(monitor.getLastRefresh());
+            assertFalse(monitor.isAvailable("iPhone_1"));
+
+            monitor.refresh();
+            assertTrue(monitor.isAvailable("iPhone_1"));
+            assertTrue(monitor.isAvailable("Pixel_2"));
+            assertNotNull(monitor.getLastRefresh());
+
+            devices.set(List.of("Pixel_2", "Galaxy_3"));
+            monitor.refresh();
+            assertFalse(monitor.isAvailable("iPhone_1"));
+            assertEquals(Set.of("Pixel_2", "Galaxy_3"), monitor.getAvailableDevices());
+
+            monitor.refresh();
+        }
+
+        assertEquals(List.of("[Pixel_2, iPhone_1] []", "[Galaxy_3] [iPhone_1]"), events);
+    }
+
+    @Test
+    public void testFailedRefreshKeepsPreviousSet() throws IOException {
+        AtomicReference<IOException> failure = new AtomicReference<>();
+
+        try (DeviceAvailabilityMonitor monitor = new DeviceAvailabilityMonitor(() -> {
+            if (failure.get() != null) {
+                throw failure.get();
+            }
+            return new AvailableDevices(List.of("iPhone_1"));
+        }, Duration.ofMinutes(1))) {
+            monitor.refresh();
+
+            failure.set(new IOException("unavailable"));
+            assertThrows(IOException.class, monitor::refresh);
+            assertTrue(monitor.isAvailable("iPhone_1"));
+        }
+    }
+
+    @Test
+    public void testRefreshesInBackground() throws InterruptedException {
+        CountDownLatch refreshes = new CountDownLatch(3);
+
+        try (DeviceAvailabilityMonitor monitor = new DeviceAvailabilityMonitor(() -> {
+            refreshes.countDown();
+            return new AvailableDevices(List.of("device" + refreshes.getCount()));
+        }, Duration.ofMillis(10)).start()) {
+            assertTrue(refreshes.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void testConcurrentRefreshesPublishInOrder() throws Exception {
+        CountDownLatch fetching = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger fetches = new AtomicInteger();
+        List<String> events = new CopyOnWriteArrayList<>();
+
+        try (DeviceAvailabilityMonitor monitor = new DeviceAvailabilityMonitor(() -> {
+            if (fetches.incrementAndGet() == 1) {
+                fetching.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return new AvailableDevices(List.of("iPhone_1"));
+            }
+            return new AvailableDevices(List.of("Pixel_2"));
+        }, Duration.ofMinutes(1))) {
+            monitor.addListener((added, removed) -> events.add(sorted(added) + " " + sorted(removed)));
+
+            Thread slow = new Thread(() -> {
+                try {
+                    monitor.refresh();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            slow.start();
+            assertTrue(fetching.await(5, TimeUnit.SECONDS));
+
+            Thread fast = new Thread(() -> {
+                try {
+                    monitor.refresh();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            fast.start();
+            fast.join(200);
+            assertEquals(1, fetches.get());
+
+            release.countDown();
+            slow.join(5000);
+            fast.join(5000);
+
+            assertEquals(Set.of("Pixel_2"), monitor.getAvailableDevices());
+        }
+
+        assertEquals(List.of("[iPhone_1] []", "[Pixel_2] [iPhone_1]"), events);
+    }
+
+    @Test
+    public void testRefreshIntervalMustBePositive() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new DeviceAvailabilityMonitor(() -> new AvailableDevices(List.of()), Duration.ZERO));
+    }
+
+    private static List<String> sorted(Set<String> ids) {
+        List<String> list = new ArrayList<>(ids);
+        list.sort(null);
+        return list;
+    }
+}
\ No newline at end of file
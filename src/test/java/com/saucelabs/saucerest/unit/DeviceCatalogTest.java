@@ -0,0 +1,108 @@
+package com.saucelabs.saucerest.unit;
+
+import com.saucelabs.saucerest.api.DeviceCatalog;
+import com.saucelabs.saucerest.model.realdevices.Device;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DeviceCatalogTest {
+
+    @Test
+    public void testCompoundQuery() {
+        DeviceCatalog catalog = catalog(List.of(
+            device("pixel_6", "ANDROID", "13", 8192, 8, "Google", false, false),
+            device("pixel_3", "ANDROID", "9", 4096, 8, "Google", false, false),
+            device("galaxy_tab", "ANDROID", "12.1", 6144, 8, "Samsung", false, true),
+            device("galaxy_private", "ANDROID", "12", 8192, 8, "Samsung", true, false),
+            device("iphone_14", "IOS", "16.4.1", 6144, 6, "Apple", false, false)));
+
+        DeviceCatalog.Query query = new DeviceCatalog.Query.Builder()
+            .setOs("android")
+            .setOsVersion("12", null)
+            .setRamSize(6000, null)
+            .setPrivate(false)
+            .build();
+
+        assertEquals(List.of("pixel_6", "galaxy_tab"), ids(catalog.find(query)));
+        assertEquals(2, catalog.count(query));
+        assertEquals(List.of("galaxy_tab", "galaxy_private"),
+            ids(catalog.find(new DeviceCatalog.Query.Builder().setManufacturer("samsung").build())));
+        assertEquals(List.of("galaxy_tab", "iphone_14"),
+            ids(catalog.find(new DeviceCatalog.Query.Builder().setManufacturer("Apple", "Samsung").setPrivate(false).build())));
+        assertEquals(List.of("pixel_3"),
+            ids(catalog.find(new DeviceCatalog.Query.Builder().setOsVersion(null, "11").build())));
+        assertEquals(5, catalog.count(new DeviceCatalog.Query.Builder().build()));
+        assertEquals(0, catalog.count(new DeviceCatalog.Query.Builder().setOs("WINDOWS").build()));
+    }
+
+    @Test
+    public void testIncrementalUpdate() {
+        Device pixel = device("pixel_6", "ANDROID", "13", 8192, 8, "Google", false, false);
+        Device iphone = device("iphone_14", "IOS", "16", 6144, 6, "Apple", false, false);
+        DeviceCatalog catalog = catalog(List.of(pixel, iphone));
+
+        Device upgraded = device("pixel_6", "ANDROID", "14", 8192, 8, "Google", false, false);
+        Device galaxy = device("galaxy_s23", "ANDROID", "13", 8192, 8, "Samsung", false, false);
+        Device sameIphone = device("iphone_14", "IOS", "16", 6144, 6, "Apple", false, false);
+
+        assertEquals(2, catalog.update(List.of(upgraded, sameIphone, galaxy)));
+        assertEquals(3, catalog.size());
+        assertSame(sameIphone, catalog.getById("iphone_14").orElseThrow());
+        assertEquals(List.of("galaxy_s23"),
+            ids(catalog.find(new DeviceCatalog.Query.Builder().setOsVersion("13", "13").build())));
+
+        assertEquals(1, catalog.update(List.of(upgraded, sameIphone)));
+        assertFalse(catalog.getById("galaxy_s23").isPresent());
+        assertEquals(0, catalog.count(new DeviceCatalog.Query.Builder().setManufacturer("Samsung").build()));
+        assertEquals(0, catalog.update(List.of(upgraded, sameIphone)));
+    }
+
+    @Test
+    public void testInvertedRangeIsRejected() {
+        DeviceCatalog.Query.Builder builder = new DeviceCatalog.Query.Builder();
+
+        assertThrows(IllegalArgumentException.class, () -> builder.setRamSize(8192, 4096));
+        assertThrows(IllegalArgumentException.class, () -> builder.setOsVersion("14", "12"));
+        assertThrows(IllegalArgumentException.class, () -> builder.setScreenSize(7.0f, 6.1f));
+
+        DeviceCatalog catalog = catalog(List.of(device("pixel_6", "ANDROID", "13", 8192, 8, "Google", false, false)));
+        assertEquals(1, catalog.count(builder.setOsVersion("13", "13.0").setRamSize(8192, 8192).build()));
+    }
+
+    @Test
+    public void testVersionOrder() {
+        List<String> versions = new ArrayList<>(List.of("16.4.1", "9", "12.1", "12", "10.3.4", "16.4"));
+        versions.sort(DeviceCatalog.VERSION_ORDER);
+
+        assertEquals(List.of("9", "10.3.4", "12", "12.1", "16.4", "16.4.1"), versions);
+    }
+
+    private static DeviceCatalog catalog(List<Device> devices) {
+        DeviceCatalog catalog = new DeviceCatalog(() -> devices);
+        catalog.update(devices);
+        return catalog;
+    }
+
+    private static Device device(String id, String os, String osVersion, int ramSize, int cpuCores, String manufacturer,
+                                 boolean isPrivate, boolean isTablet) {
+        Device device = new Device();
+        device.id = id;
+        device.os = os;
+        device.osVersion = osVersion;
+        device.ramSize = ramSize;
+        device.cpuCores = cpuCores;
+        device.manufacturer = List.of(manufacturer);
+        device.isPrivate = isPrivate;
+        device.isTablet = isTablet;
+        return device;
+    }
+
+    private static List<String> ids(List<Device> devices) {
+        return devices.stream().map(device -> device.id).collect(Collectors.toList());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,123 @@
+package com.saucelabs.saucerest.unit;
+
+import com.saucelabs.saucerest.TestAsset;
+import com.saucelabs.saucerest.api.DeviceJobAssetTracker;
+import com.saucelabs.saucerest.model.realdevices.DeviceJob;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DeviceJobAssetTrackerTest {
+
+    @Test
+    public void testPollsOnceForAllAssets() throws Exception {
+        AtomicInteger polls = new AtomicInteger();
+        DeviceJobAssetTracker.JobFetcher fetcher = jobID -> {
+            int poll = polls.incrementAndGet();
+            DeviceJob job = job(jobID);
+            if (poll >= 3) {
+                job.videoUrl = "https://example.com/video.mp4";
+            }
+            if (poll >= 5) {
+                job.networkLogUrl = "https://example.com/network.har";
+                job.requestsUrl = "https://example.com/commands.json";
+            }
+            return job;
+        };
+
+        try (DeviceJobAssetTracker tracker = tracker(fetcher, Duration.ofSeconds(10))) {
+            CompletableFuture<DeviceJob> video = tracker.whenAvailable(TestAsset.VIDEO);
+            CompletableFuture<DeviceJob> har = tracker.whenAvailable(TestAsset.HAR);
+            CompletableFuture<DeviceJob> commands = tracker.whenAvailable(TestAsset.COMMANDS_LOG);
+
+            assertEquals("https://example.com/video.mp4", video.get(5, TimeUnit.SECONDS).videoUrl);
+            assertEquals(3, polls.get(), "video is available before the other assets");
+            assertEquals("https://example.com/network.har", har.get(5, TimeUnit.SECONDS).networkLogUrl);
+            assertEquals("https://example.com/commands.json", commands.get(5, TimeUnit.SECONDS).requestsUrl);
+            assertEquals(5, polls.get());
+
+            // already known from the last poll, no further request
+            assertTrue(tracker.whenAvailable(TestAsset.VIDEO).isDone());
+            assertEquals(5, polls.get());
+        }
+    }
+
+    @Test
+    public void testTimesOutWhenAssetNeverAppears() {
+        try (DeviceJobAssetTracker tracker = tracker(DeviceJobAssetTrackerTest::job, Duration.ofMillis(100))) {
+            TimeoutException e = assertThrows(TimeoutException.class, () -> tracker.await(TestAsset.DEVICE_LOG));
+
+            assertTrue(e.getMessage().contains(TestAsset.DEVICE_LOG.label));
+        }
+    }
+
+    @Test
+    public void testPollIntervalGrows() {
+        AtomicInteger polls = new AtomicInteger();
+        DeviceJobAssetTracker.JobFetcher fetcher = jobID -> {
+            polls.incrementAndGet();
+            return job(jobID);
+        };
+
+        try (DeviceJobAssetTracker tracker = new DeviceJobAssetTracker("JOB_ID", fetcher, Duration.ofMillis(10),
+            Duration.ofMillis(80), Duration.ofMillis(600))) {
+            assertThrows(TimeoutException.class, () -> tracker.await(TestAsset.VIDEO));
+        }
+
+        // a fixed 10ms interval would poll about 60 times
+        assertTrue(polls.get() < 25, "polled " + polls.get() + " times");
+    }
+
+    @Test
+    public void testFailedPollsAreRetried() throws Exception {
+        AtomicInteger polls = new AtomicInteger();
+        DeviceJobAssetTracker.JobFetcher fetcher = jobID -> {
+            if (polls.incrementAndGet() < 3) {
+                throw new IOException("Service unavailable");
+            }
+            DeviceJob job = job(jobID);
+            job.deviceLogUrl = "https://example.com/device.log";
+            return job;
+        };
+
+        try (DeviceJobAssetTracker tracker = tracker(fetcher, Duration.ofSeconds(10))) {
+            assertEquals("https://example.com/device.log", tracker.await(TestAsset.DEVICE_LOG).deviceLogUrl);
+        }
+    }
+
+    @Test
+    public void testCloseCancelsPendingAssets() {
+        DeviceJobAssetTracker tracker = tracker(DeviceJobAssetTrackerTest::job, Duration.ofSeconds(10));
+        CompletableFuture<DeviceJob> video = tracker.whenAvailable(TestAsset.VIDEO);
+
+        tracker.close();
+
+        assertTrue(video.isCancelled());
+        assertThrows(CancellationException.class, video::get);
+    }
+
+    @Test
+    public void testUnsupportedAssetIsRejected() {
+        try (DeviceJobAssetTracker tracker = tracker(DeviceJobAssetTrackerTest::job, Duration.ofSeconds(1))) {
+            assertThrows(IllegalArgumentException.class, () -> tracker.whenAvailable(TestAsset.SELENIUM_LOG));
+        }
+    }
+
+    private static DeviceJobAssetTracker tracker(DeviceJobAssetTracker.JobFetcher fetcher, Duration timeout) {
+        return new DeviceJobAssetTracker("JOB_ID", fetcher, Duration.ofMillis(5), Duration.ofMillis(20), timeout);
+    }
+
+    private static DeviceJob job(String jobID) {
+        DeviceJob job = new DeviceJob();
+        job.id = jobID;
+        return job;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.saucelabs.saucerest.unit;
+
+import com.saucelabs.saucerest.FileDigest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class FileDigestTest {
+
+    @Test
+    public void testSha256OfKnownContent(@TempDir Path tempDir) throws IOException {
+        Path file = Files.write(tempDir.resolve("abc.txt"), "abc".getBytes(StandardCharsets.US_ASCII));
+
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad", FileDigest.sha256(file));
+    }
+
+    @Test
+    public void testSha256OfFileLargerThanBuffer(@TempDir Path tempDir) throws IOException {
+        byte[] content = new byte[3 * 1024 * 1024 + 5];
+        Arrays.fill(content, (byte) 'a');
+        Path file = Files.write(tempDir.resolve("app.ipa"), content);
+
+        assertEquals(FileDigest.toHex(FileDigest.newSha256().digest(content)), FileDigest.sha256(file));
+    }
+
+    @Test
+    public void testSha256OfEmptyFile(@TempDir Path tempDir) throws IOException {
+        Path file = Files.createFile(tempDir.resolve("empty"));
+
+        assertEquals("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855", FileDigest.sha256(file));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+package com.saucelabs.saucerest.unit;
+
+import com.saucelabs.saucerest.Helper;
+import com.saucelabs.saucerest.ModelAdapterGenerator;
+import com.saucelabs.saucerest.MoshiSingleton;
+import com.saucelabs.saucerest.model.GeneratedJsonAdapters;
+import com.saucelabs.saucerest.model.builds.Build;
+import com.saucelabs.saucerest.model.jobs.Job;
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.Moshi;
+import com.squareup.moshi.Types;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GeneratedJsonAdaptersTest {
+    private static final String JOB_JSON = "{\"id\":\"JOB_ID\",\"status\":\"complete\",\"passed\":true,\"creation_time\":1683570254,"
+        + "\"custom-data\":{\"key\":\"value\"},\"tags\":[\"smoke\",\"nightly\"],\"build\":null,\"unknown\":{\"nested\":[1,2]},"
+        + "\"base_config\":{\"platformName\":\"Windows 11\"},\"command_counts\":{\"All\":12,\"Error\":0}}";
+
+    private final Moshi reflective = new Moshi.Builder().build();
+
+    @Test
+    public void testGeneratedAdaptersAreUpToDate() throws IOException {
+        Map<Path, String> generated = ModelAdapterGenerator.generate(Paths.get("target/classes"));
+
+        for (Map.Entry<Path, String> entry : generated.entrySet()) {
+            Path file = Paths.get("src/main/java").resolve(entry.getKey());
+            assertTrue(Files.exists(file), "Missing generated adapter " + file + ", run ModelAdapterGenerator");
+            assertEquals(entry.getValue(), new String(Files.readAllBytes(file), StandardCharsets.UTF_8),
+                file + " is out of date, run ModelAdapterGenerator");
+        }
+    }
+
+    @Test
+    public void testGeneratedAdapterIsUsed() {
+        assertTrue(MoshiSingleton.adapter(Job.class).toString().contains("GeneratedJsonAdapter(Job)"));
+        assertTrue(GeneratedJsonAdapters.models().contains(Build.class));
+    }
+
+    @Test
+    public void testGeneratedAdapterMatchesReflectiveAdapter() throws IOException {
+        Job generatedJob = MoshiSingleton.adapter(Job.class).fromJson(JOB_JSON);
+        Job reflectiveJob = reflective.adapter(Job.class).fromJson(JOB_JSON);
+
+        assertEquals(reflective.adapter(Job.class).toJson(reflectiveJob), MoshiSingleton.adapter(Job.class).toJson(generatedJob));
+        assertEquals("value", generatedJob.customData.get("key"));
+        assertEquals(List.of("smoke", "nightly"), generatedJob.tags);
+        assertEquals(Integer.valueOf(12), generatedJob.commandCounts.all);
+    }
+
+    @Test
+    public void testGeneratedAdapterReadsRecordedResponse() throws IOException {
+        String json = new Helper().getResourceFileAsString("/buildsResponses.json");
+        JsonAdapter<Map<String, List<Build>>> generated = MoshiSingleton.getInstance()
+            .adapter(Types.newParameterizedType(Map.class, String.class, Types.newParameterizedType(List.class, Build.class)));
+        JsonAdapter<Map<String, List<Build>>> reflectiveAdapter = reflective
+            .adapter(Types.newParameterizedType(Map.class, String.class, Types.newParameterizedType(List.class, Build.class)));
+
+        Map<String, List<Build>> builds = generated.fromJson(json);
+
+        assertEquals(2, builds.get("builds").size());
+        assertEquals(reflectiveAdapter.toJson(reflectiveAdapter.fromJson(json)), generated.toJson(builds));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.saucelabs.saucerest.unit;
+
+import com.saucelabs.saucerest.TestAsset;
+import com.saucelabs.saucerest.api.JobsEndpoint;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static com.saucelabs.saucerest.unit.StandInServer.respond;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JobsEndpointTest {
+
+    @Test
+    public void testDownloadJobAssetStreamsToFile(@TempDir Path tempDir) throws IOException {
+        byte[] video = new byte[8 * 1024 * 1024];
+        Arrays.fill(video, (byte) 7);
+
+        try (StandInServer server = StandInServer.start()
+            .handle("/rest/v1/user/jobs/JOB_ID/assets/video.mp4", exchange -> respond(exchange, 200, video))) {
+            JobsEndpoint jobs = new JobsEndpoint("user", "key", server.getBaseUrl());
+            Path path = tempDir.resolve("assets").resolve("video.mp4");
+
+            jobs.downloadJobAsset("JOB_ID", path, TestAsset.VIDEO);
+
+            assertEquals(video.length, Files.size(path));
+            assertArrayEquals(video, Files.readAllBytes(path));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,103 @@
+package com.saucelabs.saucerest.unit;
+
+import com.saucelabs.saucerest.LogEntry;
+import com.saucelabs.saucerest.LogNormalizer;
+import com.saucelabs.saucerest.LogSink;
+import okio.Buffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LogNormalizerTest {
+    private static final String LOG = "[" +
+        "{\"time\":\"12:00:00\",\"level\":\"INFO\",\"message\":\"started\"}," +
+        "\"noise\"," +
+        "{\"time\":\"12:00:01\",\"level\":\"DEBUG\"}," +
+        "null," +
+        "{\"message\":\"session created\",\"extra\":{\"a\":[1,2]},\"time\":\"12:00:02\",\"level\":\"INFO\"}," +
+        "[1,2,3]" +
+        "]";
+    private static final String SEP = System.lineSeparator();
+    private static final String EXPECTED = "12:00:00 INFO started" + SEP + "12:00:02 INFO session created" + SEP;
+
+    @Test
+    public void skipsMalformedEntries() throws IOException {
+        List<LogEntry> entries = new ArrayList<>();
+
+        long count = LogNormalizer.normalize(new Buffer().writeUtf8(LOG), LogSink.toConsumer(entries::add));
+
+        assertEquals(2, count);
+        assertEquals(2, entries.size());
+        assertEquals("started", entries.get(0).getMessage());
+        assertEquals("session created", entries.get(1).getMessage());
+        assertEquals("12:00:02", entries.get(1).getTime());
+    }
+
+    @Test
+    public void writesLinesToOutputStream() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (LogSink sink = LogSink.toOutputStream(out, false)) {
+            LogNormalizer.normalize(new Buffer().writeUtf8(LOG), sink);
+        }
+
+        assertEquals(EXPECTED, out.toString(StandardCharsets.UTF_8.name()));
+    }
+
+    @Test
+    public void writesGzipCompressedFile(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("logs").resolve("appium-server.log.gz");
+
+        try (LogSink sink = LogSink.toFile(file)) {
+            LogNormalizer.normalize(new Buffer().writeUtf8(LOG), sink);
+        }
+
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(Files.readAllBytes(file)))) {
+            assertEquals(EXPECTED, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void writesPlainFile(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("device.log");
+
+        try (LogSink sink = LogSink.toFile(file)) {
+            LogNormalizer.normalize(new Buffer().writeUtf8(LOG), sink);
+        }
+
+        assertEquals(EXPECTED, new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void findStopsAtFirstMatch() throws IOException {
+        Buffer source = new Buffer().writeUtf8(LOG);
+
+        LogEntry entry = LogNormalizer.find(source, e -> "INFO".equals(e.getLevel()));
+
+        assertEquals("started", entry.getMessage());
+        assertTrue(source.size() > 0);
+        assertNull(LogNormalizer.find(new Buffer().writeUtf8(LOG), e -> "ERROR".equals(e.getLevel())));
+    }
+
+    @Test
+    public void emptyLog() throws IOException {
+        List<LogEntry> entries = new ArrayList<>();
+
+        assertEquals(0, LogNormalizer.normalize(new Buffer().writeUtf8("[]"), LogSink.toConsumer(entries::add)));
+        assertEquals(0, entries.size());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.saucelabs.saucerest.unit;
+
+import com.saucelabs.saucerest.MoshiSingleton;
+import com.saucelabs.saucerest.model.builds.Build;
+import com.squareup.moshi.JsonAdapter;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MoshiSingletonTest {
+
+    @Test
+    public void testInstanceIsShared() {
+        assertSame(MoshiSingleton.getInstance(), MoshiSingleton.getInstance());
+    }
+
+    @Test
+    public void testAdaptersAreCached() {
+        assertSame(MoshiSingleton.adapter(Build.class), MoshiSingleton.adapter(Build.class));
+        assertSame(MoshiSingleton.listAdapter(Build.class), MoshiSingleton.listAdapter(Build.class));
+        assertNotSame(MoshiSingleton.adapter(Build.class), MoshiSingleton.listAdapter(Build.class));
+    }
+
+    @Test
+    public void testListAdapterReadsList() throws IOException {
+        JsonAdapter<List<String>> adapter = MoshiSingleton.listAdapter(String.class);
+
+        assertEquals(List.of("a", "b"), adapter.fromJson("[\"a\",\"b\"]"));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,159 @@
+package com.saucelabs.saucerest.unit;
+
+import com.saucelabs.saucerest.api.PageIterator;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PageIteratorTest {
+
+    @Test
+    public void testIteratesAllPages() {
+        List<Integer> source = range(250);
+        List<Integer> skips = new ArrayList<>();
+
+        PageIterator<Integer> iterator = new PageIterator<>((skip, limit) -> {
+            skips.add(skip);
+            return page(source, skip, limit);
+        }, 0, 100, false);
+
+        List<Integer> result = new ArrayList<>();
+        iterator.forEachRemaining(result::add);
+
+        assertEquals(source, result);
+        assertEquals(List.of(0, 100, 200), skips);
+    }
+
+    @Test
+    public void testStopsOnEmptyPage() {
+        List<Integer> source = range(200);
+        AtomicInteger requests = new AtomicInteger();
+
+        PageIterator<Integer> iterator = new PageIterator<>((skip, limit) -> {
+            requests.incrementAndGet();
+            return page(source, skip, limit);
+        }, 0, 100, false);
+
+        assertEquals(200, iterator.stream().count());
+        assertEquals(3, requests.get());
+    }
+
+    @Test
+    public void testPagesReportingMoreAvailable() {
+        List<Integer> source = range(250);
+        List<Integer> skips = new ArrayList<>();
+
+        // The listing caps pages at 40 objects, shorter than the requested page size
+        PageIterator<Integer> iterator = PageIterator.ofPages((skip, limit) -> {
+            skips.add(skip);
+            List<Integer> items = page(source, skip, Math.min(limit, 40));
+            return new PageIterator.Page<>(items, skip + items.size() < source.size());
+        }, 0, 100, true);
+
+        assertEquals(source, iterator.stream().collect(Collectors.toList()));
+        assertEquals(List.of(0, 40, 80, 120, 160, 200, 240), skips);
+    }
+
+    @Test
+    public void testStartsAtSkip() {
+        List<Integer> source = range(30);
+
+        List<Integer> result = new PageIterator<>((skip, limit) -> page(source, skip, limit), 25, 10, false)
+            .stream()
+            .collect(Collectors.toList());
+
+        assertEquals(List.of(25, 26, 27, 28, 29), result);
+    }
+
+    @Test
+    public void testPrefetchReturnsSameItems() {
+        List<Integer> source = range(1234);
+
+        List<Integer> result = new PageIterator<>((skip, limit) -> page(source, skip, limit), 0, 100, true)
+            .stream()
+            .collect(Collectors.toList());
+
+        assertEquals(source, result);
+    }
+
+    @Test
+    public void testPagesAreFetchedLazily() {
+        List<Integer> source = range(1000);
+        AtomicInteger requests = new AtomicInteger();
+
+        try (Stream<Integer> stream = new PageIterator<>((skip, limit) -> {
+            requests.incrementAndGet();
+            return page(source, skip, limit);
+        }, 0, 100, false).stream()) {
+            assertEquals(range(150), stream.limit(150).collect(Collectors.toList()));
+        }
+
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    public void testFailureIsThrownUnchecked() {
+        PageIterator<Integer> iterator = new PageIterator<>((skip, limit) -> {
+            if (skip > 0) {
+                throw new IOException("page failed");
+            }
+            return range(10);
+        }, 0, 10, true);
+
+        for (int i = 0; i < 10; i++) {
+            iterator.next();
+        }
+        UncheckedIOException exception = assertThrows(UncheckedIOException.class, iterator::hasNext);
+        assertEquals("page failed", exception.getCause().getMessage());
+    }
+
+    @Test
+    public void testClosedIteratorIsExhausted() {
+        PageIterator<Integer> iterator = new PageIterator<>((skip, limit) -> range(10), 0, 10, true);
+
+        iterator.next();
+        iterator.close();
+
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testClosingCancelsPrefetchedPage() {
+        List<CompletableFuture<PageIterator.Page<Integer>>> requests = new ArrayList<>();
+        PageIterator<Integer> iterator = PageIterator.ofAsyncPages((skip, limit) -> {
+            CompletableFuture<PageIterator.Page<Integer>> request = new CompletableFuture<>();
+            if (skip == 0) {
+                request.complete(new PageIterator.Page<>(range(10), true));
+            }
+            requests.add(request);
+            return request;
+        }, 0, 10, true);
+
+        iterator.next();
+        assertEquals(2, requests.size());
+        assertFalse(requests.get(1).isDone());
+
+        iterator.close();
+
+        assertTrue(requests.get(1).isCancelled());
+        assertFalse(iterator.hasNext());
+    }
+
+    private static List<Integer> range(int size) {
+        return IntStream.range(0, size).boxed().collect(Collectors.toList());
+    }
+
+    private static List<Integer> page(List<Integer> source, int skip, int limit) {
+        return source.subList(Math.min(skip, source.size()), Math.min(skip + limit, source.size()));
+    }
+}
\ No newline at end of file
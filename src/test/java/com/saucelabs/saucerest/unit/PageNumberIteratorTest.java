@@ -0,0 +1,119 @@
+package com.saucelabs.saucerest.unit;
+
+import com.saucelabs.saucerest.api.PageNumberIterator;
+import com.saucelabs.saucerest.api.PageIterator.Page;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PageNumberIteratorTest {
+    private static final int PER_PAGE = 10;
+
+    @Test
+    public void testRequestsRemainingPagesConcurrentlyWhenTotalIsKnown() {
+        List<Integer> source = range(95);
+        List<Integer> requested = new ArrayList<>();
+
+        PageNumberIterator<Integer> iterator = new PageNumberIterator<>(page -> {
+            requested.add(page);
+            return CompletableFuture.completedFuture(page(source, page, true));
+        }, 1, 4);
+
+        assertEquals(Integer.valueOf(0), iterator.next());
+        assertEquals(List.of(1, 2, 3, 4, 5), requested);
+
+        List<Integer> result = new ArrayList<>(List.of(0));
+        iterator.forEachRemaining(result::add);
+
+        assertEquals(source, result);
+        assertEquals(range(11).subList(1, 11), requested);
+    }
+
+    @Test
+    public void testRequestsPagesOneByOneWithoutTotal() {
+        List<Integer> source = range(25);
+        List<Integer> requested = new ArrayList<>();
+
+        PageNumberIterator<Integer> iterator = new PageNumberIterator<>(page -> {
+            requested.add(page);
+            return CompletableFuture.completedFuture(page(source, page, false));
+        }, 1, 4);
+
+        assertEquals(Integer.valueOf(0), iterator.next());
+        assertEquals(List.of(1), requested);
+
+        assertEquals(24, iterator.stream().count());
+        assertEquals(List.of(1, 2, 3), requested);
+    }
+
+    @Test
+    public void testStartsAtFirstPage() {
+        List<Integer> source = range(35);
+
+        List<Integer> result = new PageNumberIterator<>(page -> CompletableFuture.completedFuture(page(source, page, true)), 3, 2)
+            .stream()
+            .collect(Collectors.toList());
+
+        assertEquals(source.subList(20, 35), result);
+    }
+
+    @Test
+    public void testFailedPageIsThrownAsUncheckedIOException() {
+        List<Integer> source = range(50);
+
+        PageNumberIterator<Integer> iterator = new PageNumberIterator<>(page -> {
+            if (page == 3) {
+                CompletableFuture<Page<Integer>> failed = new CompletableFuture<>();
+                failed.completeExceptionally(new IOException("page 3 failed"));
+                return failed;
+            }
+            return CompletableFuture.completedFuture(page(source, page, true));
+        }, 1, 4);
+
+        UncheckedIOException e = assertThrows(UncheckedIOException.class, () -> iterator.forEachRemaining(item -> {
+        }));
+        assertEquals("page 3 failed", e.getCause().getMessage());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testClosingCancelsPagesInFlight() {
+        List<Integer> source = range(100);
+        Map<Integer, CompletableFuture<Page<Integer>>> pending = new ConcurrentHashMap<>();
+
+        try (Stream<Integer> stream = new PageNumberIterator<Integer>(page -> {
+            if (page == 1) {
+                return CompletableFuture.completedFuture(page(source, page, true));
+            }
+            CompletableFuture<Page<Integer>> future = new CompletableFuture<>();
+            pending.put(page, future);
+            return future;
+        }, 1, 3).stream()) {
+            assertEquals(List.of(0, 1, 2), stream.limit(3).collect(Collectors.toList()));
+        }
+
+        assertEquals(3, pending.size());
+        assertTrue(pending.values().stream().allMatch(CompletableFuture::isCancelled));
+    }
+
+    private static Page<Integer> page(List<Integer> source, int page, boolean withTotal) {
+        int from = Math.min(source.size(), (page - 1) * PER_PAGE);
+        int to = Math.min(source.size(), from + PER_PAGE);
+        return new Page<>(source.subList(from, to), to < source.size(), withTotal ? source.size() : null, PER_PAGE);
+    }
+
+    private static List<Integer> range(int size) {
+        return IntStream.range(0, size).boxed().collect(Collectors.toList());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,231 @@
+package com.saucelabs.saucerest.unit;
+
+import com.google.common.collect.ImmutableMap;
+import com.saucelabs.saucerest.TestAsset;
+import com.saucelabs.saucerest.api.RealDevicesEndpoint;
+import com.saucelabs.saucerest.model.jobs.AssetDownload;
+import com.saucelabs.saucerest.model.realdevices.Entity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static com.saucelabs.saucerest.unit.StandInServer.respond;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RealDevicesEndpointTest {
+    private static final int SCREENSHOTS = 12;
+    private static final int MISSING_SCREENSHOT = 5;
+    private static final int DEVICE_JOBS = 35;
+
+    private final AtomicInteger deviceJobRequests = new AtomicInteger();
+    private volatile int cutOffScreenshot = -1;
+
+    private StandInServer server;
+    private RealDevicesEndpoint realDevices;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = StandInServer.start();
+        String baseUrl = server.getBaseUrl();
+        String screenshots = IntStream.range(0, SCREENSHOTS)
+            .mapToObj(i -> "{\"id\":\"" + i + "\",\"url\":\"" + baseUrl + "screenshots/" + i + "\"}")
+            .collect(Collectors.joining(","));
+        server.handle("/v1/rdc/jobs/JOB_ID", exchange ->
+            respond(exchange, 200, "{\"id\":\"JOB_ID\",\"video_url\":\"" + baseUrl + "assets/video\",\"requests_url\":\""
+                + baseUrl + "assets/commands\",\"framework_log_url\":\"" + baseUrl + "logs/appium\",\"screenshots\":["
+                + screenshots + "]}"));
+        server.handle("/v1/rdc/jobs/NO_VERSION", exchange ->
+            respond(exchange, 200, "{\"id\":\"NO_VERSION\",\"framework_log_url\":\"" + baseUrl + "logs/empty\"}"));
+        server.handle("/v1/rdc/jobs", exchange -> {
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getQuery());
+            int offset = Integer.parseInt(query.get("offset"));
+            int limit = Math.min(Integer.parseInt(query.get("limit")), 10);
+            String entities = IntStream.range(offset, Math.min(offset + limit, DEVICE_JOBS))
+                .mapToObj(i -> "{\"id\":\"job" + (DEVICE_JOBS - i) + "\"}")
+                .collect(Collectors.joining(","));
+            deviceJobRequests.incrementAndGet();
+            respond(exchange, 200, "{\"entities\":[" + entities + "],\"metaData\":{\"limit\":" + limit + ",\"offset\":" + offset
+                + ",\"moreAvailable\":" + (offset + limit < DEVICE_JOBS) + "}}");
+        });
+        server.handle("/logs/appium", exchange -> respond(exchange, 200, appiumLog(true)));
+        server.handle("/logs/empty", exchange -> respond(exchange, 200, appiumLog(false)));
+        server.handle("/assets/", exchange ->
+            respond(exchange, 200, "asset " + exchange.getRequestURI().getPath()));
+        server.handle("/screenshots/", exchange -> {
+            String index = exchange.getRequestURI().getPath().substring("/screenshots/".length());
+            if (Integer.parseInt(index) == MISSING_SCREENSHOT) {
+                respond(exchange, 404, "");
+            } else if (Integer.parseInt(index) == cutOffScreenshot) {
+                exchange.sendResponseHeaders(200, 1024);
+                OutputStream out = exchange.getResponseBody();
+                out.write(screenshot(index));
+                out.flush();
+                // Failing the handler drops the connection in the middle of the screenshot
+                throw new IOException("connection lost");
+            } else {
+                respond(exchange, 200, screenshot(index));
+            }
+        });
+        realDevices = new RealDevicesEndpoint("user", "key", baseUrl);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void testDownloadScreenshotsReportsEachFile(@TempDir Path tempDir) throws IOException {
+        List<AssetDownload> downloads = realDevices.downloadScreenshots("JOB_ID", tempDir.resolve("screenshots"), 4);
+
+        assertEquals(SCREENSHOTS, downloads.size());
+        for (int i = 0; i < SCREENSHOTS; i++) {
+            AssetDownload download = downloads.get(i);
+            assertEquals(i + ".png", download.getAsset());
+            if (i == MISSING_SCREENSHOT) {
+                assertFalse(download.isSuccessful());
+                assertFalse(Files.exists(download.getPath()));
+            } else {
+                assertTrue(download.isSuccessful(), download.toString());
+                assertArrayEquals(screenshot(String.valueOf(i)), Files.readAllBytes(download.getPath()));
+            }
+        }
+    }
+
+    @Test
+    public void testDownloadScreenshotsToZip(@TempDir Path tempDir) throws IOException {
+        Path zipFile = tempDir.resolve("screenshots.zip");
+
+        List<AssetDownload> downloads = realDevices.downloadScreenshotsToZip("JOB_ID", zipFile, 3);
+
+        assertEquals(SCREENSHOTS - 1, downloads.stream().filter(AssetDownload::isSuccessful).count());
+        Map<String, byte[]> entries = new HashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(Files.newInputStream(zipFile))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), zip.readAllBytes());
+            }
+        }
+        assertEquals(SCREENSHOTS - 1, entries.size());
+        assertFalse(entries.containsKey(MISSING_SCREENSHOT + ".png"));
+        assertArrayEquals(screenshot("3"), entries.get("3.png"));
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(List.of(zipFile), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testDownloadScreenshotsToZipCleansUpCutOffScreenshot(@TempDir Path tempDir) throws IOException {
+        cutOffScreenshot = 2;
+        Path zipFile = tempDir.resolve("screenshots.zip");
+
+        List<AssetDownload> downloads = realDevices.downloadScreenshotsToZip("JOB_ID", zipFile, 3);
+
+        assertFalse(downloads.get(2).isSuccessful());
+        assertEquals(SCREENSHOTS - 2, downloads.stream().filter(AssetDownload::isSuccessful).count());
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(List.of(zipFile), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testDownloadAssetsOfJob(@TempDir Path tempDir) throws IOException {
+        List<AssetDownload> downloads = realDevices.downloadAssets("JOB_ID", tempDir,
+            EnumSet.of(TestAsset.VIDEO, TestAsset.COMMANDS_LOG, TestAsset.SCREENSHOTS));
+
+        assertEquals(2 + SCREENSHOTS, downloads.size());
+        assertEquals(TestAsset.VIDEO.label, downloads.get(0).getAsset());
+        assertEquals("asset /assets/video", new String(Files.readAllBytes(tempDir.resolve(TestAsset.VIDEO.label)), StandardCharsets.UTF_8));
+        assertEquals("asset /assets/commands", new String(Files.readAllBytes(tempDir.resolve(TestAsset.COMMANDS_LOG.label)), StandardCharsets.UTF_8));
+        assertEquals(1, downloads.stream().filter(download -> !download.isSuccessful()).count());
+        assertArrayEquals(screenshot("0"), Files.readAllBytes(tempDir.resolve("0.png")));
+    }
+
+    @Test
+    public void testDownloadAppiumLogToFile(@TempDir Path tempDir) throws IOException {
+        realDevices.downloadAppiumLog("JOB_ID", tempDir.toString());
+
+        assertTrue(Files.size(tempDir.resolve(TestAsset.APPIUM_LOG.label)) > 0);
+    }
+
+    @Test
+    public void testFailedJobLookupCreatesNoLogFile(@TempDir Path tempDir) {
+        assertThrows(IOException.class, () -> realDevices.downloadAppiumLog("MISSING", tempDir.toString()));
+
+        assertFalse(Files.exists(tempDir.resolve(TestAsset.APPIUM_LOG.label)));
+    }
+
+    @Test
+    public void testGetAppiumServerVersion() throws IOException {
+        assertEquals("2.0.1", realDevices.getAppiumServerVersion("JOB_ID"));
+        assertNull(realDevices.getAppiumServerVersion("NO_VERSION"));
+    }
+
+    @Test
+    public void testGetAppiumServerVersionsOfManyJobs() throws IOException {
+        Map<String, String> versions = realDevices.getAppiumServerVersions(List.of("JOB_ID", "MISSING", "NO_VERSION", "JOB_ID"), 2);
+
+        assertEquals(List.of("JOB_ID", "NO_VERSION"), List.copyOf(versions.keySet()));
+        assertEquals("2.0.1", versions.get("JOB_ID"));
+        assertNull(versions.get("NO_VERSION"));
+    }
+
+    @Test
+    public void testStreamDeviceJobs() {
+        try (Stream<Entity> jobs = realDevices.streamDeviceJobs(ImmutableMap.of("limit", 25), true)) {
+            List<String> ids = jobs.map(job -> job.id).collect(Collectors.toList());
+
+            assertEquals(DEVICE_JOBS, ids.size());
+            assertEquals("job35", ids.get(0));
+            assertEquals("job1", ids.get(DEVICE_JOBS - 1));
+        }
+        assertEquals(4, deviceJobRequests.get());
+    }
+
+    @Test
+    public void testStreamDeviceJobsSinceLastSeenJob() {
+        try (Stream<Entity> jobs = realDevices.streamDeviceJobs(ImmutableMap.of(), "job22", true)) {
+            assertEquals(List.of("job35", "job34", "job33", "job32", "job31", "job30", "job29", "job28", "job27", "job26",
+                "job25", "job24", "job23"), jobs.map(job -> job.id).collect(Collectors.toList()));
+        }
+        assertEquals(2, deviceJobRequests.get());
+    }
+
+    private static Map<String, String> parseQuery(String query) {
+        Map<String, String> parameters = new HashMap<>();
+        for (String parameter : query.split("&")) {
+            String[] pair = parameter.split("=", 2);
+            parameters.put(pair[0], pair.length > 1 ? pair[1] : "");
+        }
+        return parameters;
+    }
+
+    private static byte[] appiumLog(boolean withVersion) {
+        String entries = IntStream.range(0, 1000)
+            .mapToObj(i -> "{\"time\":\"" + i + "\",\"level\":\"INFO\",\"message\":\""
+                + (withVersion && i == 3 ? "Welcome to Appium v2.0.1" : "line " + i) + "\"}")
+            .collect(Collectors.joining(","));
+        return ("[" + entries + "]").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] screenshot(String index) {
+        return ("PNG screenshot " + index).getBytes(StandardCharsets.UTF_8);
+    }
+}
\ No newline at end of file
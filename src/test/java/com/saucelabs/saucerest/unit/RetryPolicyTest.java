@@ -0,0 +1,205 @@
+package com.saucelabs.saucerest.unit;
+
+import com.saucelabs.saucerest.RetryBudget;
+import com.saucelabs.saucerest.RetryPolicy;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RetryPolicyTest {
+    private static final Request GET = getRequest("GET");
+    private static final Request POST = getRequest("POST");
+    private static final Request DELETE = getRequest("DELETE");
+
+    @Test
+    public void testRetryableResponses() {
+        RetryPolicy policy = RetryPolicy.DEFAULT;
+
+        assertTrue(policy.isRetryable(GET, getResponse(429)));
+        assertTrue(policy.isRetryable(GET, getResponse(500)));
+        assertTrue(policy.isRetryable(GET, getResponse(503)));
+        assertFalse(policy.isRetryable(GET, getResponse(200)));
+        assertFalse(policy.isRetryable(GET, getResponse(404)));
+    }
+
+    @Test
+    public void testRetryableFailures() {
+        RetryPolicy policy = RetryPolicy.DEFAULT;
+
+        assertTrue(policy.isRetryable(GET, new IOException("connection reset")));
+        assertTrue(policy.isRetryable(GET, new SocketTimeoutException("timeout")));
+        assertFalse(policy.isRetryable(GET, new InterruptedIOException("interrupted")));
+    }
+
+    @Test
+    public void testNonIdempotentRequestsAreOnlyRetriedWhenNotSent() {
+        RetryPolicy policy = RetryPolicy.DEFAULT;
+
+        assertFalse(policy.isRetryable(POST, new SocketTimeoutException("timeout")));
+        assertFalse(policy.isRetryable(DELETE, new IOException("connection reset")));
+        assertFalse(policy.isRetryable(POST, getResponse(503)));
+        assertTrue(policy.isRetryable(POST, new ConnectException("connection refused")));
+        assertTrue(policy.isRetryable(DELETE, getResponse(429)));
+    }
+
+    @Test
+    public void testToBuilderKeepsSettings() {
+        RetryPolicy policy = new RetryPolicy.Builder().setMaxRetries(5).setBaseDelay(Duration.ofMillis(10))
+            .setMaxDelay(Duration.ofSeconds(2)).setMaxRetryAfter(Duration.ofSeconds(30)).build();
+
+        RetryPolicy copy = policy.toBuilder().setRetryNonIdempotent(true).build();
+
+        assertEquals(5, copy.getMaxRetries());
+        assertEquals(Duration.ofMillis(10), copy.getBaseDelay());
+        assertEquals(Duration.ofSeconds(2), copy.getMaxDelay());
+        assertEquals(Duration.ofSeconds(30), copy.getMaxRetryAfter());
+        assertTrue(copy.isRetryNonIdempotent());
+        assertFalse(policy.isRetryNonIdempotent());
+    }
+
+    @Test
+    public void testNonIdempotentRequestsAreRetriedWhenOptedIn() {
+        RetryPolicy policy = new RetryPolicy.Builder().setRetryNonIdempotent(true).build();
+
+        assertTrue(policy.isRetryable(POST, new SocketTimeoutException("timeout")));
+        assertTrue(policy.isRetryable(DELETE, getResponse(503)));
+    }
+
+    @Test
+    public void testJitteredDelayStaysWithinBounds() {
+        RetryPolicy policy = new RetryPolicy.Builder()
+            .setBaseDelay(Duration.ofMillis(100))
+            .setMaxDelay(Duration.ofSeconds(2))
+            .build();
+
+        long delay = 0;
+        for (int i = 0; i < 50; i++) {
+            long next = policy.nextDelayMillis(delay, null);
+            assertTrue(next >= 100, "Delay below base: " + next);
+            assertTrue(next <= Math.min(2000, Math.max(delay, 100) * 3), "Delay above bound: " + next);
+            delay = next;
+        }
+    }
+
+    @Test
+    public void testRetryAfterSecondsIsHonored() {
+        RetryPolicy policy = RetryPolicy.DEFAULT;
+
+        long delay = policy.nextDelayMillis(0, getResponse(429, "5"));
+
+        assertTrue(delay >= 5000 && delay <= 5000 + policy.getBaseDelay().toMillis(), "Unexpected delay: " + delay);
+    }
+
+    @Test
+    public void testRetryAfterDateIsHonored() {
+        String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(10));
+
+        long delay = RetryPolicy.DEFAULT.nextDelayMillis(0, getResponse(503, date));
+
+        assertTrue(delay > 8000 && delay <= 10000 + RetryPolicy.DEFAULT.getBaseDelay().toMillis(), "Unexpected delay: " + delay);
+    }
+
+    @Test
+    public void testRetryAfterAboveMaximumIsNotRetried() {
+        RetryPolicy policy = new RetryPolicy.Builder()
+            .setMaxRetryAfter(Duration.ofSeconds(10))
+            .build();
+
+        assertEquals(-1, policy.nextDelayMillis(0, getResponse(429, "3600")));
+    }
+
+    @Test
+    public void testInvalidRetryAfterFallsBackToJitter() {
+        long delay = RetryPolicy.DEFAULT.nextDelayMillis(0, getResponse(503, "soon"));
+
+        assertTrue(delay >= 30 && delay <= 90, "Unexpected delay: " + delay);
+    }
+
+    @Test
+    public void testInvalidPolicyIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new RetryPolicy.Builder().setMaxRetries(-1));
+        assertThrows(IllegalArgumentException.class, () -> new RetryPolicy.Builder()
+            .setBaseDelay(Duration.ofSeconds(2))
+            .setMaxDelay(Duration.ofSeconds(1))
+            .build());
+    }
+
+    @Test
+    public void testRetryBudgetLimitsRetries() {
+        RetryBudget budget = new RetryBudget(0.5, 0, 1);
+
+        assertTrue(budget.tryWithdraw());
+        assertFalse(budget.tryWithdraw());
+
+        budget.deposit();
+        assertFalse(budget.tryWithdraw());
+        budget.deposit();
+        assertTrue(budget.tryWithdraw());
+    }
+
+    @Test
+    public void testUnlimitedRetryBudget() {
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(RetryBudget.UNLIMITED.tryWithdraw());
+        }
+    }
+
+    @Test
+    public void testRetryBudgetIsSharedAcrossThreads() throws InterruptedException {
+        RetryBudget budget = new RetryBudget(0, 0, 100);
+        AtomicInteger granted = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        for (int i = 0; i < 1000; i++) {
+            executor.execute(() -> {
+                if (budget.tryWithdraw()) {
+                    granted.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(100, granted.get());
+    }
+
+    private Response getResponse(int code) {
+        return getResponse(code, null);
+    }
+
+    private Response getResponse(int code, String retryAfter) {
+        Response.Builder builder = new Response.Builder()
+            .request(GET)
+            .protocol(Protocol.HTTP_1_1)
+            .code(code)
+            .message("");
+        if (retryAfter != null) {
+            builder.header("Retry-After", retryAfter);
+        }
+        return builder.build();
+    }
+
+    private static Request getRequest(String method) {
+        return new Request.Builder()
+            .url("https://api.us-west-1.saucelabs.com")
+            .method(method, "POST".equals(method) ? RequestBody.create(new byte[0]) : null)
+            .build();
+    }
+}
@@ -0,0 +1,199 @@
+package com.saucelabs.saucerest.unit;
+
+import com.saucelabs.saucerest.api.SauceConnectEndpoint;
+import com.saucelabs.saucerest.model.sauceconnect.TunnelFleet;
+import com.saucelabs.saucerest.model.sauceconnect.TunnelStopResult;
+import com.sun.net.httpserver.HttpExchange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static com.saucelabs.saucerest.unit.StandInServer.respond;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SauceConnectEndpointTest {
+    private static final int TUNNELS = 20;
+    private static final String GONE_TUNNEL = "tunnel7";
+    private static final String STUCK_TUNNEL = "tunnel9";
+    private static final String REFUSED_TUNNEL = "tunnel15";
+    private static final Instant NOW = Instant.now();
+
+    private final Map<String, Integer> jobsRunning = new ConcurrentHashMap<>();
+    private final Set<String> failing = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private StandInServer server;
+    private SauceConnectEndpoint sauceConnect;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        for (int i = 0; i < TUNNELS; i++) {
+            jobsRunning.put("tunnel" + i, i % 3);
+        }
+        server = StandInServer.start().handle("/rest/v1/user/tunnels", this::handle);
+        sauceConnect = new SauceConnectEndpoint("user", "key", server.getBaseUrl());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void testGetTunnelFleet() throws IOException {
+        TunnelFleet fleet = sauceConnect.getTunnelFleet("user", 4);
+
+        assertEquals(TUNNELS - 1, fleet.getTunnels().size());
+        assertEquals(List.of(GONE_TUNNEL), List.copyOf(fleet.getFailures().keySet()));
+        TunnelFleet.Tunnel tunnel = fleet.getTunnels().get("tunnel5");
+        assertEquals("identifier-5", tunnel.getInformation().tunnelIdentifier);
+        assertEquals(2, tunnel.getJobsRunning());
+        assertTrue(maxInFlight.get() <= 4, "at most 4 concurrent requests, was " + maxInFlight.get());
+        assertTrue(maxInFlight.get() > 1, "requests are sent concurrently");
+    }
+
+    @Test
+    public void testChangesSinceLastSnapshot() throws IOException {
+        TunnelFleet first = sauceConnect.getTunnelFleet();
+        assertEquals(TUNNELS - 1, first.changesSince(null).getAdded().size());
+
+        jobsRunning.put("tunnel1", 10);
+        jobsRunning.remove("tunnel2");
+        jobsRunning.put("tunnel99", 0);
+        TunnelFleet.Changes changes = sauceConnect.getTunnelFleet().changesSince(first);
+
+        assertEquals(List.of("tunnel99"), ids(changes.getAdded()));
+        assertEquals(List.of("tunnel2"), ids(changes.getRemoved()));
+        assertEquals(List.of("tunnel1"), ids(changes.getChanged()));
+        assertEquals(10, changes.getChanged().get(0).getJobsRunning());
+        assertTrue(sauceConnect.getTunnelFleet().changesSince(changes.getFleet()).isEmpty());
+    }
+
+    @Test
+    public void testChangesOfTunnelsFailingInBetweenAreReportedLater() throws IOException {
+        TunnelFleet.Changes first = sauceConnect.getTunnelFleet().changesSince(null);
+
+        // tunnel1 is stopped after being listed, tunnel99 is new but its details are not available yet
+        failing.add("tunnel1");
+        jobsRunning.put("tunnel99", 0);
+        failing.add("tunnel99");
+        TunnelFleet.Changes second = sauceConnect.getTunnelFleet().changesSince(first.getFleet());
+        assertTrue(second.isEmpty());
+
+        jobsRunning.remove("tunnel1");
+        failing.clear();
+        TunnelFleet.Changes third = sauceConnect.getTunnelFleet().changesSince(second.getFleet());
+
+        assertEquals(List.of("tunnel99"), ids(third.getAdded()));
+        assertEquals(List.of("tunnel1"), ids(third.getRemoved()));
+        assertTrue(third.getChanged().isEmpty());
+    }
+
+    @Test
+    public void testPollTunnelFleetReportsChanges() throws Exception {
+        BlockingQueue<TunnelFleet.Changes> reported = new LinkedBlockingQueue<>();
+
+        try (Closeable polling = sauceConnect.pollTunnelFleet(Duration.ofMillis(20), reported::add)) {
+            assertEquals(TUNNELS - 1, reported.poll(5, TimeUnit.SECONDS).getAdded().size());
+
+            jobsRunning.put("tunnel4", 7);
+            TunnelFleet.Changes changes = reported.poll(5, TimeUnit.SECONDS);
+            assertEquals(List.of("tunnel4"), ids(changes.getChanged()));
+        }
+    }
+
+    @Test
+    public void testStopTunnelsDryRun() throws IOException {
+        List<TunnelStopResult> results = sauceConnect.stopTunnels(TunnelFleet.Tunnel::isIdle, true);
+
+        assertEquals(TUNNELS, results.size());
+        assertEquals(Set.of("tunnel0", "tunnel3", "tunnel6", "tunnel9", "tunnel12", "tunnel15", "tunnel18"),
+            outcomes(results, TunnelStopResult.Outcome.WOULD_STOP));
+        assertEquals(Set.of(GONE_TUNNEL), outcomes(results, TunnelStopResult.Outcome.FAILED));
+        assertEquals(TUNNELS, jobsRunning.size(), "no tunnel is stopped in a dry run");
+    }
+
+    @Test
+    public void testStopIdleTunnels() throws IOException {
+        List<TunnelStopResult> results = sauceConnect.stopTunnels("user",
+            tunnel -> tunnel.isIdle() && tunnel.getAge(NOW).toHours() >= 3, false, 2);
+
+        assertEquals(Set.of("tunnel3", "tunnel6", "tunnel12", "tunnel18"),
+            outcomes(results, TunnelStopResult.Outcome.STOPPED));
+        assertEquals(Set.of(GONE_TUNNEL, STUCK_TUNNEL, REFUSED_TUNNEL), outcomes(results, TunnelStopResult.Outcome.FAILED));
+        assertEquals(TUNNELS - 7, outcomes(results, TunnelStopResult.Outcome.SKIPPED).size());
+        assertFalse(jobsRunning.containsKey("tunnel3"));
+        assertTrue(jobsRunning.containsKey("tunnel0"), "tunnel0 is too young");
+        assertTrue(jobsRunning.containsKey(STUCK_TUNNEL));
+        assertTrue(jobsRunning.containsKey(REFUSED_TUNNEL));
+
+        TunnelStopResult stuck = results.stream().filter(result -> STUCK_TUNNEL.equals(result.getTunnelID())).findFirst().get();
+        assertNotNull(stuck.getTunnel());
+        assertNotNull(stuck.getFailure());
+        TunnelStopResult refused = results.stream().filter(result -> REFUSED_TUNNEL.equals(result.getTunnelID())).findFirst().get();
+        assertFalse(refused.getResponse().result);
+        assertNotNull(refused.getFailure());
+        assertTrue(maxInFlight.get() <= 2, "at most 2 concurrent requests, was " + maxInFlight.get());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try {
+            String path = exchange.getRequestURI().getPath().substring("/rest/v1/user/tunnels".length());
+            if (path.isEmpty()) {
+                String ids = jobsRunning.keySet().stream().sorted()
+                    .map(id -> "\"" + id + "\"").collect(Collectors.joining(","));
+                respond(exchange, 200, "[" + ids + "]");
+                return;
+            }
+            Thread.sleep(20);
+            String id = path.substring(1).replace("/num_jobs", "");
+            if (GONE_TUNNEL.equals(id) || failing.contains(id) || !jobsRunning.containsKey(id)) {
+                respond(exchange, 404, "");
+            } else if ("DELETE".equals(exchange.getRequestMethod())) {
+                if (STUCK_TUNNEL.equals(id)) {
+                    respond(exchange, 500, "");
+                } else if (REFUSED_TUNNEL.equals(id)) {
+                    respond(exchange, 200, "{\"result\":false,\"id\":\"" + id + "\",\"jobs_running\":0}");
+                } else {
+                    jobsRunning.remove(id);
+                    respond(exchange, 200, "{\"result\":true,\"id\":\"" + id + "\",\"jobs_running\":0}");
+                }
+            } else if (path.endsWith("/num_jobs")) {
+                respond(exchange, 200, "{\"id\":\"" + id + "\",\"jobs_running\":" + jobsRunning.get(id) + "}");
+            } else {
+                respond(exchange, 200, "{\"id\":\"" + id + "\",\"tunnel_identifier\":\"identifier-" + id.substring("tunnel".length())
+                    + "\",\"status\":\"running\",\"is_ready\":true,\"owner\":\"user\",\"creation_time\":"
+                    + NOW.minus(Duration.ofHours(Integer.parseInt(id.substring("tunnel".length())))).getEpochSecond() + "}");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private static Set<String> outcomes(List<TunnelStopResult> results, TunnelStopResult.Outcome outcome) {
+        return results.stream().filter(result -> result.getOutcome() == outcome)
+            .map(TunnelStopResult::getTunnelID).collect(Collectors.toSet());
+    }
+
+    private static List<String> ids(List<TunnelFleet.Tunnel> tunnels) {
+        return tunnels.stream().map(TunnelFleet.Tunnel::getId).collect(Collectors.toList());
+    }
+}
\ No newline at end of file
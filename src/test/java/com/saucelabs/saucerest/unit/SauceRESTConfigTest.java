@@ -0,0 +1,96 @@
+package com.saucelabs.saucerest.unit;
+
+import com.saucelabs.saucerest.DataCenter;
+import com.saucelabs.saucerest.SauceREST;
+import com.saucelabs.saucerest.SauceRESTConfig;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SauceRESTConfigTest {
+
+    @Test
+    public void testDefaultClientMatchesPreviousSettings() {
+        OkHttpClient client = SauceRESTConfig.DEFAULT.getHttpClient();
+
+        assertAll("default client",
+            () -> assertEquals(300_000, client.connectTimeoutMillis()),
+            () -> assertEquals(300_000, client.readTimeoutMillis()),
+            () -> assertEquals(300_000, client.writeTimeoutMillis()),
+            () -> assertEquals(0, client.callTimeoutMillis())
+        );
+    }
+
+    @Test
+    public void testBuilderAppliesClientSettings() {
+        SauceRESTConfig config = new SauceRESTConfig.Builder()
+            .setMaxRequests(128)
+            .setMaxRequestsPerHost(32)
+            .setConnectTimeout(Duration.ofSeconds(10))
+            .setReadTimeout(Duration.ofSeconds(20))
+            .setWriteTimeout(Duration.ofSeconds(30))
+            .setCallTimeout(Duration.ofSeconds(40))
+            .setProtocols(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1))
+            .build();
+        OkHttpClient client = config.getHttpClient();
+
+        assertAll("configured client",
+            () -> assertEquals(128, client.dispatcher().getMaxRequests()),
+            () -> assertEquals(32, client.dispatcher().getMaxRequestsPerHost()),
+            () -> assertEquals(10_000, client.connectTimeoutMillis()),
+            () -> assertEquals(20_000, client.readTimeoutMillis()),
+            () -> assertEquals(30_000, client.writeTimeoutMillis()),
+            () -> assertEquals(40_000, client.callTimeoutMillis()),
+            () -> assertEquals(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1), client.protocols())
+        );
+    }
+
+    @Test
+    public void testHttpClientIsSharedPerConfig() {
+        SauceRESTConfig config = new SauceRESTConfig.Builder().build();
+
+        assertSame(config.getHttpClient(), config.getHttpClient());
+        assertNotSame(config.getHttpClient(), new SauceRESTConfig.Builder().build().getHttpClient());
+    }
+
+    @Test
+    public void testInjectedHttpClientIsUsed() {
+        OkHttpClient client = new OkHttpClient();
+        SauceRESTConfig config = new SauceRESTConfig.Builder().setHttpClient(client).build();
+
+        assertSame(client, config.getHttpClient());
+    }
+
+    @Test
+    public void testCallbackExecutorDefaultsToDispatcher() {
+        SauceRESTConfig config = new SauceRESTConfig.Builder().build();
+        Executor executor = Runnable::run;
+
+        assertSame(config.getHttpClient().dispatcher().executorService(), config.getCallbackExecutor());
+        assertSame(executor, new SauceRESTConfig.Builder().setCallbackExecutor(executor).build().getCallbackExecutor());
+    }
+
+    @Test
+    public void testSauceRESTUsesConfig() {
+        SauceRESTConfig config = new SauceRESTConfig.Builder().setMaxIdleConnections(20).build();
+        SauceREST sauceREST = new SauceREST("testuser", "testkey", DataCenter.US_WEST, config);
+
+        assertSame(config, sauceREST.getConfig());
+        assertNotSame(SauceRESTConfig.DEFAULT, new SauceREST("testuser", "testkey", DataCenter.US_WEST).getConfig());
+    }
+
+    @Test
+    public void testInvalidValuesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new SauceRESTConfig.Builder().setMaxRequests(0));
+        assertThrows(IllegalArgumentException.class, () -> new SauceRESTConfig.Builder().setMaxRequestsPerHost(0));
+        assertThrows(IllegalArgumentException.class, () -> new SauceRESTConfig.Builder().setMaxIdleConnections(-1));
+        assertThrows(IllegalArgumentException.class, () -> new SauceRESTConfig.Builder().setKeepAliveDuration(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new SauceRESTConfig.Builder().setReadTimeout(Duration.ofSeconds(-1)));
+    }
+}
\ No newline at end of file
@@ -2,11 +2,12 @@ package com.saucelabs.saucerest.unit;
 
 import com.saucelabs.saucerest.DataCenter;
 import com.saucelabs.saucerest.SauceREST;
+import com.saucelabs.saucerest.SauceRESTConfig;
 import com.saucelabs.saucerest.api.*;
+import okhttp3.OkHttpClient;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class SauceRESTTest {
 
@@ -246,4 +247,51 @@ public class SauceRESTTest {
         BuildsEndpoint buildsEndpoint = new BuildsEndpoint("https://eu-central-1.saucelabs.com/rest/v1/builds");
         assertNotNull(buildsEndpoint);
     }
+
+    @Test
+    public void testEndpointsAreCached() {
+        assertSame(sauceREST.getJobsEndpoint(), sauceREST.getJobsEndpoint());
+        assertSame(sauceREST.getJobsEndpoint(DataCenter.EU_CENTRAL), sauceREST.getJobsEndpoint(DataCenter.EU_CENTRAL));
+    }
+
+    @Test
+    public void testEndpointsAreCachedPerDataCenter() {
+        assertNotSame(sauceREST.getJobsEndpoint(DataCenter.US_WEST), sauceREST.getJobsEndpoint(DataCenter.EU_CENTRAL));
+    }
+
+    @Test
+    public void testCloseDropsCachedEndpoints() {
+        SauceREST closeable = new SauceREST("testuser", "testkey", DataCenter.US_WEST);
+        JobsEndpoint jobsEndpoint = closeable.getJobsEndpoint();
+
+        closeable.close();
+
+        assertNotSame(jobsEndpoint, closeable.getJobsEndpoint());
+    }
+
+    @Test
+    public void testCloseReleasesOwnConfig() {
+        SauceREST closeable = new SauceREST("testuser", "testkey", DataCenter.US_WEST);
+        closeable.getJobsEndpoint();
+        OkHttpClient client = closeable.getConfig().getHttpClient();
+
+        closeable.close();
+
+        assertTrue(client.dispatcher().executorService().isShutdown());
+        assertNotSame(client, closeable.getConfig().getHttpClient());
+    }
+
+    @Test
+    public void testCloseLeavesSharedConfigOpen() {
+        SauceRESTConfig config = new SauceRESTConfig.Builder().build();
+        SauceREST first = new SauceREST("testuser", "testkey", DataCenter.US_WEST, config);
+        SauceREST second = new SauceREST("testuser", "testkey", DataCenter.US_WEST, config);
+        second.getJobsEndpoint();
+        OkHttpClient client = config.getHttpClient();
+
+        first.close();
+
+        assertSame(client, config.getHttpClient());
+        assertFalse(client.dispatcher().executorService().isShutdown());
+    }
 }
\ No newline at end of file
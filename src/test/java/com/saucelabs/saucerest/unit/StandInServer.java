@@ -0,0 +1,75 @@
+package com.saucelabs.saucerest.unit;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Local HTTP server standing in for the Sauce Labs API in unit tests. It listens on a free port and serves requests
+ * concurrently. Throwing from a handler drops the connection, which simulates a connection lost mid-response.
+ */
+final class StandInServer implements AutoCloseable {
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    private StandInServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(executor);
+    }
+
+    /**
+     * @return A started server without handlers, requests to unknown paths are answered with 404
+     */
+    static StandInServer start() throws IOException {
+        StandInServer standIn = new StandInServer();
+        standIn.server.start();
+        return standIn;
+    }
+
+    /**
+     * @param path    Path prefix the handler serves
+     * @param handler Handles the requests, e.g. by calling {@link #respond(HttpExchange, int, String)}
+     * @return This server
+     */
+    StandInServer handle(String path, HttpHandler handler) {
+        server.createContext(path, handler);
+        return this;
+    }
+
+    /**
+     * @return URL of the server, ending with a slash, to pass as the base URL of an endpoint
+     */
+    String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/";
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        respond(exchange, status, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Sends the status and the whole body and closes the exchange. An empty body is sent without content.
+     */
+    static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        try {
+            exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+            if (body.length > 0) {
+                exchange.getResponseBody().write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.saucelabs.saucerest.unit;
 
+import com.saucelabs.saucerest.model.storage.GetAppStorageGroupsParameters;
 import com.saucelabs.saucerest.model.storage.StorageParameter;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -37,4 +38,14 @@ public class StorageEndpointParameterTest {
 
         Assertions.assertEquals(5, storageParameter.toMap().get("page"));
     }
+
+    @Test
+    public void groupsPerPageSet() {
+        GetAppStorageGroupsParameters parameters = new GetAppStorageGroupsParameters.Builder()
+            .setPerPage("50")
+            .build();
+
+        Assertions.assertEquals("50", parameters.toMap().get("per_page"));
+        Assertions.assertEquals(1, parameters.getPage());
+    }
 }
\ No newline at end of file
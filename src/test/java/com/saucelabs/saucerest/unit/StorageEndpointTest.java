@@ -0,0 +1,431 @@
+package com.saucelabs.saucerest.unit;
+
+import com.saucelabs.saucerest.FileDigest;
+import com.saucelabs.saucerest.SauceRESTConfig;
+import com.saucelabs.saucerest.api.StorageEndpoint;
+import com.saucelabs.saucerest.model.storage.Item;
+import com.saucelabs.saucerest.model.storage.StorageParameter;
+import com.saucelabs.saucerest.model.storage.UploadFileApp;
+import okhttp3.Dispatcher;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import java.util.stream.Stream;
+
+import static com.saucelabs.saucerest.unit.StandInServer.respond;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StorageEndpointTest {
+
+    @Test
+    public void testUploadFileReportsProgressAndRestartsFailedUpload(@TempDir Path tempDir) throws IOException {
+        byte[] app = new byte[1024 * 1024 + 17];
+        new Random(42).nextBytes(app);
+        Path file = tempDir.resolve("app.apk");
+        Files.write(file, app);
+
+        AtomicInteger uploads = new AtomicInteger();
+        List<Integer> receivedBytes = new CopyOnWriteArrayList<>();
+        StandInServer server = StandInServer.start();
+        server.handle("/v1/storage/upload", exchange -> {
+            try (InputStream body = exchange.getRequestBody()) {
+                receivedBytes.add(body.readAllBytes().length);
+            }
+            if (uploads.incrementAndGet() == 1) {
+                // 429 means the upload was not processed, so it is safe to send it again
+                exchange.getResponseHeaders().add("Retry-After", "0");
+                respond(exchange, 429, "");
+                return;
+            }
+            respond(exchange, 200, "{\"item\":{\"id\":\"FILE_ID\",\"name\":\"app.apk\"}}");
+        });
+
+        try {
+            StorageEndpoint storage = new StorageEndpoint("user", "key", server.getBaseUrl());
+            List<Long> progress = new CopyOnWriteArrayList<>();
+
+            UploadFileApp upload = storage.uploadFile(file.toFile(), "app.apk", "", (bytesSent, totalBytes) -> {
+                assertEquals(app.length, totalBytes);
+                progress.add(bytesSent);
+            });
+
+            assertEquals("FILE_ID", upload.item.id);
+            assertEquals(2, uploads.get());
+            assertTrue(receivedBytes.get(0) > app.length);
+            assertEquals(receivedBytes.get(0), receivedBytes.get(1));
+            assertEquals(2, progress.stream().filter(bytesSent -> bytesSent == 0).count());
+            assertEquals(2, progress.stream().filter(bytesSent -> bytesSent == app.length).count());
+            assertEquals(Long.valueOf(app.length), progress.get(progress.size() - 1));
+        } finally {
+            server.close();
+        }
+    }
+
+    @Test
+    public void testUploadFileRestartsUploadCutOffMidBody(@TempDir Path tempDir) throws IOException {
+        byte[] app = new byte[4 * 1024 * 1024];
+        new Random(7).nextBytes(app);
+        Path file = tempDir.resolve("app.apk");
+        Files.write(file, app);
+
+        AtomicInteger uploads = new AtomicInteger();
+        StandInServer server = StandInServer.start();
+        server.handle("/v1/storage/upload", exchange -> {
+            InputStream body = exchange.getRequestBody();
+            if (uploads.incrementAndGet() == 1) {
+                body.readNBytes(64 * 1024);
+                // Failing the handler drops the connection while the client is still sending the file
+                throw new IOException("connection lost");
+            }
+            body.readAllBytes();
+            respond(exchange, 200, "{\"item\":{\"id\":\"FILE_ID\",\"name\":\"app.apk\"}}");
+        });
+
+        try {
+            StorageEndpoint storage = new StorageEndpoint("user", "key", server.getBaseUrl());
+            List<Long> progress = new CopyOnWriteArrayList<>();
+
+            UploadFileApp upload = storage.uploadFile(file.toFile(), "app.apk", "", (bytesSent, totalBytes) -> progress.add(bytesSent));
+
+            assertEquals("FILE_ID", upload.item.id);
+            assertEquals(2, uploads.get());
+            assertEquals(2, progress.stream().filter(bytesSent -> bytesSent == 0).count());
+            assertEquals(Long.valueOf(app.length), progress.get(progress.size() - 1));
+        } finally {
+            server.close();
+        }
+    }
+
+    @Test
+    public void testUploadFileIfChangedSkipsStoredContent(@TempDir Path tempDir) throws IOException {
+        Path file = Files.write(tempDir.resolve("app.apk"), "stored app".getBytes(StandardCharsets.UTF_8));
+        String sha256 = FileDigest.sha256(file);
+
+        AtomicInteger lookups = new AtomicInteger();
+        AtomicInteger uploads = new AtomicInteger();
+        StandInServer server = StandInServer.start();
+        server.handle("/v1/storage/files", exchange -> {
+            lookups.incrementAndGet();
+            String query = exchange.getRequestURI().getQuery();
+            assertTrue(query.contains("sha256=" + sha256));
+            assertTrue(query.contains("name=app.apk"));
+            respond(exchange, 200, "{\"items\":[{\"id\":\"OLD\",\"name\":\"app.apk\",\"sha256\":\"0000\",\"upload_timestamp\":3},"
+                + "{\"id\":\"FILE_ID\",\"name\":\"app.apk\",\"sha256\":\"" + sha256 + "\",\"upload_timestamp\":2}]}");
+        });
+        server.handle("/v1/storage/upload", exchange -> {
+            uploads.incrementAndGet();
+            respond(exchange, 500, "{}");
+        });
+
+        try {
+            StorageEndpoint storage = new StorageEndpoint("user", "key", server.getBaseUrl());
+
+            Item item = storage.uploadFileIfChanged(file.toFile());
+
+            assertEquals("FILE_ID", item.id);
+            assertEquals(1, lookups.get());
+            assertEquals(0, uploads.get());
+        } finally {
+            server.close();
+        }
+    }
+
+    @Test
+    public void testUploadFileIfChangedUploadsNewContentOnce(@TempDir Path tempDir) throws IOException {
+        Path file = Files.write(tempDir.resolve("app.apk"), "new app".getBytes(StandardCharsets.UTF_8));
+
+        AtomicInteger lookups = new AtomicInteger();
+        AtomicInteger uploads = new AtomicInteger();
+        StandInServer server = StandInServer.start();
+        server.handle("/v1/storage/files", exchange -> {
+            lookups.incrementAndGet();
+            respond(exchange, 200, "{\"items\":[]}");
+        });
+        server.handle("/v1/storage/upload", exchange -> {
+            uploads.incrementAndGet();
+            try (InputStream body = exchange.getRequestBody()) {
+                body.readAllBytes();
+            }
+            respond(exchange, 201, "{\"item\":{\"id\":\"NEW_ID\",\"name\":\"renamed.apk\"}}");
+        });
+
+        try {
+            StorageEndpoint storage = new StorageEndpoint("user", "key", server.getBaseUrl());
+
+            Item first = storage.uploadFileIfChanged(file.toFile(), "renamed.apk", "");
+            Item second = storage.uploadFileIfChanged(file.toFile(), "renamed.apk", "");
+
+            assertEquals("NEW_ID", first.id);
+            assertSame(first, second);
+            assertEquals(1, lookups.get(), "the remembered file is reused without a request");
+            assertEquals(1, uploads.get());
+        } finally {
+            server.close();
+        }
+    }
+
+    @Test
+    public void testUploadFileIfChangedUploadsAgainAfterStoredFileIsDeleted(@TempDir Path tempDir) throws IOException {
+        Path file = Files.write(tempDir.resolve("app.apk"), "new app".getBytes(StandardCharsets.UTF_8));
+
+        AtomicInteger uploads = new AtomicInteger();
+        StandInServer server = StandInServer.start();
+        server.handle("/v1/storage/files", exchange -> {
+            if ("DELETE".equals(exchange.getRequestMethod())) {
+                respond(exchange, 200, "{\"item\":{\"id\":\"ID_1\",\"name\":\"app.apk\"}}");
+            } else {
+                respond(exchange, 200, "{\"items\":[]}");
+            }
+        });
+        server.handle("/v1/storage/upload", exchange -> {
+            int upload = uploads.incrementAndGet();
+            try (InputStream body = exchange.getRequestBody()) {
+                body.readAllBytes();
+            }
+            respond(exchange, 201, "{\"item\":{\"id\":\"ID_" + upload + "\",\"name\":\"app.apk\"}}");
+        });
+
+        try {
+            StorageEndpoint storage = new StorageEndpoint("user", "key", server.getBaseUrl());
+
+            assertEquals("ID_1", storage.uploadFileIfChanged(file.toFile()).id);
+            assertEquals("ID_1", storage.uploadFileIfChanged(file.toFile()).id);
+            storage.deleteFile("ID_1");
+            assertEquals("ID_2", storage.uploadFileIfChanged(file.toFile()).id);
+            assertEquals(2, uploads.get());
+        } finally {
+            server.close();
+        }
+    }
+
+    @Test
+    public void testUploadFileIfChangedRetriesAfterConcurrentUploadFailed(@TempDir Path tempDir) throws Exception {
+        Path file = Files.write(tempDir.resolve("app.apk"), "new app".getBytes(StandardCharsets.UTF_8));
+
+        AtomicInteger uploads = new AtomicInteger();
+        CountDownLatch firstUploadStarted = new CountDownLatch(1);
+        CountDownLatch failFirstUpload = new CountDownLatch(1);
+        StandInServer server = StandInServer.start();
+        server.handle("/v1/storage/files", exchange -> respond(exchange, 200, "{\"items\":[]}"));
+        server.handle("/v1/storage/upload", exchange -> {
+            int upload = uploads.incrementAndGet();
+            try (InputStream body = exchange.getRequestBody()) {
+                body.readAllBytes();
+            }
+            if (upload == 1) {
+                firstUploadStarted.countDown();
+                try {
+                    failFirstUpload.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                respond(exchange, 400, "{}");
+            } else {
+                respond(exchange, 201, "{\"item\":{\"id\":\"ID_" + upload + "\",\"name\":\"app.apk\"}}");
+            }
+        });
+
+        try {
+            StorageEndpoint storage = new StorageEndpoint("user", "key", server.getBaseUrl());
+            CompletableFuture<Item> first = new CompletableFuture<>();
+            CompletableFuture<Item> second = new CompletableFuture<>();
+            Thread firstCaller = startUpload(storage, file, first);
+            assertTrue(firstUploadStarted.await(10, TimeUnit.SECONDS));
+            Thread secondCaller = startUpload(storage, file, second);
+            while (secondCaller.getState() != Thread.State.WAITING && !second.isDone()) {
+                Thread.sleep(5);
+            }
+
+            failFirstUpload.countDown();
+            firstCaller.join(10_000);
+            secondCaller.join(10_000);
+
+            assertTrue(first.isCompletedExceptionally());
+            assertEquals("ID_2", second.get().id);
+            assertEquals(2, uploads.get());
+        } finally {
+            failFirstUpload.countDown();
+            server.close();
+        }
+    }
+
+    private static Thread startUpload(StorageEndpoint storage, Path file, CompletableFuture<Item> result) {
+        Thread thread = new Thread(() -> {
+            try {
+                result.complete(storage.uploadFileIfChanged(file.toFile()));
+            } catch (IOException | RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    @Test
+    public void testDownloadFileResumesCutOffTransferAndVerifiesChecksum(@TempDir Path tempDir) throws IOException {
+        byte[] app = new byte[2 * 1024 * 1024];
+        new Random(7).nextBytes(app);
+        int cutOff = app.length / 3;
+        List<String> ranges = new CopyOnWriteArrayList<>();
+        StandInServer server = startCutOffServer(app, cutOff, ranges);
+
+        try {
+            StorageEndpoint storage = new StorageEndpoint("user", "key", server.getBaseUrl());
+            Path path = tempDir.resolve("downloads").resolve("app.apk");
+
+            storage.downloadFile("FILE_ID", path);
+
+            assertArrayEquals(app, Files.readAllBytes(path));
+            assertEquals(Arrays.asList("null", "bytes=" + cutOff + "-"), ranges);
+            try (Stream<Path> files = Files.list(path.getParent())) {
+                assertEquals(1, files.count());
+            }
+        } finally {
+            server.close();
+        }
+    }
+
+    @Test
+    public void testDownloadFileAsyncResumesOnCallbackExecutor(@TempDir Path tempDir) throws Exception {
+        byte[] app = new byte[2 * 1024 * 1024];
+        new Random(11).nextBytes(app);
+        int cutOff = app.length / 2;
+        List<String> ranges = new CopyOnWriteArrayList<>();
+        StandInServer server = startCutOffServer(app, cutOff, ranges);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        List<String> threads = new CopyOnWriteArrayList<>();
+
+        try {
+            SauceRESTConfig config = new SauceRESTConfig.Builder().setCallbackExecutor(runnable -> executor.execute(() -> {
+                threads.add(Thread.currentThread().getName());
+                runnable.run();
+            })).build();
+            StorageEndpoint storage = new StorageEndpoint("user", "key", server.getBaseUrl(), config);
+            Path path = tempDir.resolve("app.apk");
+
+            storage.downloadFileAsync("FILE_ID", path).get(10, TimeUnit.SECONDS);
+
+            assertArrayEquals(app, Files.readAllBytes(path));
+            assertEquals(Arrays.asList("null", "bytes=" + cutOff + "-"), ranges);
+            assertFalse(threads.isEmpty());
+            assertTrue(threads.stream().noneMatch(thread -> thread.contains("ForkJoinPool")));
+            try (Stream<Path> files = Files.list(tempDir)) {
+                assertEquals(1, files.count());
+            }
+        } finally {
+            executor.shutdownNow();
+            server.close();
+        }
+    }
+
+    /**
+     * Serves FILE_ID with its checksum, dropping the connection after {@code cutOff} bytes unless a range is requested.
+     */
+    private static StandInServer startCutOffServer(byte[] app, int cutOff, List<String> ranges) throws IOException {
+        String sha256 = FileDigest.toHex(FileDigest.newSha256().digest(app));
+        StandInServer server = StandInServer.start();
+        server.handle("/v1/storage/files", exchange ->
+            respond(exchange, 200, "{\"items\":[{\"id\":\"FILE_ID\",\"sha256\":\"" + sha256 + "\"}]}"));
+        server.handle("/v1/storage/download/FILE_ID", exchange -> {
+            String range = exchange.getRequestHeaders().getFirst("Range");
+            ranges.add(String.valueOf(range));
+            exchange.getResponseHeaders().add("ETag", "\"v1\"");
+            if (range == null) {
+                exchange.sendResponseHeaders(200, app.length);
+                OutputStream out = exchange.getResponseBody();
+                out.write(app, 0, cutOff);
+                out.flush();
+                // Closing the exchange before the announced length is written drops the connection
+                exchange.close();
+                return;
+            }
+            int start = Integer.parseInt(range.substring("bytes=".length(), range.length() - 1));
+            exchange.getResponseHeaders().add("Content-Range", "bytes " + start + "-" + (app.length - 1) + "/" + app.length);
+            exchange.sendResponseHeaders(206, app.length - start);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(app, start, app.length - start);
+            }
+        });
+        return server;
+    }
+
+    @Test
+    public void testDownloadFileKeepsExistingFileOnChecksumMismatch(@TempDir Path tempDir) throws IOException {
+        byte[] app = "corrupted app".getBytes(StandardCharsets.UTF_8);
+        StandInServer server = StandInServer.start();
+        server.handle("/v1/storage/download/FILE_ID", exchange -> respond(exchange, 200, app));
+
+        try {
+            StorageEndpoint storage = new StorageEndpoint("user", "key", server.getBaseUrl());
+            Path path = Files.write(tempDir.resolve("app.apk"), "previous app".getBytes(StandardCharsets.UTF_8));
+
+            IOException e = assertThrows(IOException.class, () -> storage.downloadFile("FILE_ID", path, "0000"));
+
+            assertTrue(e.getMessage().contains("Checksum mismatch"));
+            assertEquals("previous app", new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+            try (Stream<Path> files = Files.list(tempDir)) {
+                assertEquals(1, files.count());
+            }
+        } finally {
+            server.close();
+        }
+    }
+
+    @Test
+    public void testClosingFileStreamCancelsPageRequests() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        StandInServer server = StandInServer.start();
+        server.handle("/v1/storage/files", exchange -> {
+            if (!exchange.getRequestURI().getQuery().contains("page=1")) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            respond(exchange, 200, "{\"items\":[{\"id\":\"FILE_ID\",\"name\":\"app.apk\"}],"
+                + "\"links\":{\"next\":\"next\"},\"page\":1,\"per_page\":1,\"total_items\":4}");
+        });
+
+        SauceRESTConfig config = new SauceRESTConfig.Builder().build();
+        try {
+            StorageEndpoint storage = new StorageEndpoint("user", "key", server.getBaseUrl(), config);
+            Dispatcher dispatcher = config.getHttpClient().dispatcher();
+
+            try (Stream<Item> files = storage.streamFiles(new StorageParameter.Builder().build(), 3)) {
+                assertEquals("FILE_ID", files.iterator().next().id);
+                awaitRunningCalls(dispatcher, 3);
+            }
+
+            awaitRunningCalls(dispatcher, 0);
+        } finally {
+            release.countDown();
+            server.close();
+        }
+    }
+
+    private static void awaitRunningCalls(Dispatcher dispatcher, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (dispatcher.runningCallsCount() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, dispatcher.runningCallsCount());
+    }
+}
\ No newline at end of file
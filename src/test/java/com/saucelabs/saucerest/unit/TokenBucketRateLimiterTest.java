@@ -0,0 +1,131 @@
+package com.saucelabs.saucerest.unit;
+
+import com.saucelabs.saucerest.EndpointFamily;
+import com.saucelabs.saucerest.RateLimiter;
+import com.saucelabs.saucerest.SauceRESTConfig;
+import com.saucelabs.saucerest.TokenBucketRateLimiter;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TokenBucketRateLimiterTest {
+
+    @Test
+    public void testBurstIsGrantedImmediately() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter.Builder()
+            .setLimit(EndpointFamily.JOBS, 1, 2)
+            .build();
+
+        assertEquals(0, limiter.reserve(EndpointFamily.JOBS));
+        assertEquals(0, limiter.reserve(EndpointFamily.JOBS));
+        assertTrue(limiter.reserve(EndpointFamily.JOBS) > TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    @Test
+    public void testWaitingRequestsAreQueued() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter.Builder()
+            .setLimit(EndpointFamily.STORAGE, 10, 1)
+            .build();
+
+        limiter.reserve(EndpointFamily.STORAGE);
+        long first = limiter.reserve(EndpointFamily.STORAGE);
+        long second = limiter.reserve(EndpointFamily.STORAGE);
+
+        assertTrue(second > first);
+    }
+
+    @Test
+    public void testFamiliesAreLimitedIndependently() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter.Builder()
+            .setLimit(EndpointFamily.JOBS, 1, 1)
+            .build();
+
+        limiter.reserve(EndpointFamily.JOBS);
+        assertTrue(limiter.reserve(EndpointFamily.JOBS) > 0);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(0, limiter.reserve(EndpointFamily.RDC));
+        }
+        assertEquals(-1, limiter.getRate(EndpointFamily.RDC));
+    }
+
+    @Test
+    public void testDefaultLimitAppliesToOtherFamilies() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter.Builder()
+            .setLimit(EndpointFamily.JOBS, 5, 5)
+            .setDefaultLimit(2, 1)
+            .build();
+
+        assertEquals(5, limiter.getRate(EndpointFamily.JOBS));
+        assertEquals(2, limiter.getRate(EndpointFamily.PLATFORM));
+    }
+
+    @Test
+    public void testRemainingHeaderCapsTokens() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter.Builder()
+            .setLimit(EndpointFamily.JOBS, 10, 10)
+            .build();
+
+        limiter.update(EndpointFamily.JOBS, getResponse(200, "X-Ratelimit-Remaining", "0", "X-Ratelimit-Reset", "60"));
+
+        assertTrue(limiter.reserve(EndpointFamily.JOBS) > 0);
+        assertTrue(limiter.getRate(EndpointFamily.JOBS) < 10);
+    }
+
+    @Test
+    public void testRetryAfterPausesBucket() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter.Builder()
+            .setLimit(EndpointFamily.RDC, 10, 10)
+            .build();
+
+        limiter.update(EndpointFamily.RDC, getResponse(429, "Retry-After", "3"));
+
+        assertTrue(limiter.reserve(EndpointFamily.RDC) > TimeUnit.SECONDS.toNanos(2));
+    }
+
+    @Test
+    public void testRetryAfterDatePausesBucket() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter.Builder()
+            .setLimit(EndpointFamily.RDC, 10, 10)
+            .build();
+        String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(5));
+
+        limiter.update(EndpointFamily.RDC, getResponse(429, "Retry-After", date));
+
+        assertTrue(limiter.reserve(EndpointFamily.RDC) > TimeUnit.SECONDS.toNanos(2));
+    }
+
+    @Test
+    public void testInvalidLimitIsRejected() {
+        TokenBucketRateLimiter.Builder builder = new TokenBucketRateLimiter.Builder();
+
+        assertThrows(IllegalArgumentException.class, () -> builder.setLimit(EndpointFamily.JOBS, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> builder.setDefaultLimit(1, 0));
+    }
+
+    @Test
+    public void testConfigDefaultsToNoLimit() {
+        assertSame(RateLimiter.NONE, SauceRESTConfig.DEFAULT.getRateLimiter());
+        assertEquals(0, RateLimiter.NONE.reserve(EndpointFamily.JOBS));
+    }
+
+    private Response getResponse(int code, String... headers) {
+        Response.Builder builder = new Response.Builder()
+            .request(new Request.Builder().url("https://api.us-west-1.saucelabs.com").build())
+            .protocol(Protocol.HTTP_1_1)
+            .code(code)
+            .message("");
+        for (int i = 0; i < headers.length; i += 2) {
+            builder.header(headers[i], headers[i + 1]);
+        }
+        return builder.build();
+    }
+}
\ No newline at end of file